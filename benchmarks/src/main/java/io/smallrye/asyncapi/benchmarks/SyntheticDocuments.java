@@ -0,0 +1,145 @@
+/*
+ * Copyright 2019 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.smallrye.asyncapi.benchmarks;
+
+import java.io.IOException;
+
+import io.smallrye.asyncapi.core.api.constants.AsyncApiConstants;
+import io.smallrye.asyncapi.core.api.models.AsyncAPIImpl;
+import io.smallrye.asyncapi.core.api.models.ComponentsImpl;
+import io.smallrye.asyncapi.core.api.models.channel.ChannelItemImpl;
+import io.smallrye.asyncapi.core.api.models.info.InfoImpl;
+import io.smallrye.asyncapi.core.api.models.message.MessageImpl;
+import io.smallrye.asyncapi.core.api.models.operation.OperationImpl;
+import io.smallrye.asyncapi.core.api.models.schema.SchemaImpl;
+import io.smallrye.asyncapi.core.runtime.AsyncApiFormat;
+import io.smallrye.asyncapi.core.runtime.io.AsyncApiSerializer;
+import io.smallrye.asyncapi.spec.annotations.schema.SchemaType;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+import io.smallrye.asyncapi.spec.models.Components;
+import io.smallrye.asyncapi.spec.models.channel.ChannelItem;
+import io.smallrye.asyncapi.spec.models.message.Message;
+import io.smallrye.asyncapi.spec.models.operation.Operation;
+import io.smallrye.asyncapi.spec.models.schema.Schema;
+
+/**
+ * Creates synthetic AsyncAPI documents of a given size.
+ */
+public final class SyntheticDocuments {
+
+    /**
+     * Prefix of the channel names, followed by the index of the channel.
+     */
+    public static final String CHANNEL_PREFIX = "channel-";
+
+    private static final int PROPERTIES_PER_SCHEMA = 8;
+
+    private SyntheticDocuments() {
+    }
+
+    /**
+     * Create a document with the given number of channels and component schemas. Two documents created with different
+     * prefixes share half of their channels and schemas, so merging them both overrides and appends entries.
+     *
+     * @param prefix prefix of the titles and descriptions
+     * @param offset index of the first channel and schema
+     * @param size number of channels and schemas
+     * @return the document
+     */
+    public static AsyncAPI document(String prefix, int offset, int size) {
+        AsyncAPI aai = new AsyncAPIImpl();
+        aai.setAsyncapi(AsyncApiConstants.ASYNC_API_VERSION);
+
+        InfoImpl info = new InfoImpl();
+        info.setTitle(prefix + " API");
+        info.setVersion("1.0");
+        aai.setInfo(info);
+
+        Components components = new ComponentsImpl();
+        aai.setComponents(components);
+
+        for (int i = offset; i < offset + size; i++) {
+            String name = "Type" + i;
+            components.addSchema(name, schema(prefix, name));
+            aai.addChannelItem(CHANNEL_PREFIX + i, channel(prefix, CHANNEL_PREFIX + i, name));
+        }
+
+        return aai;
+    }
+
+    /**
+     * Create a document whose JSON serialization has roughly the given size.
+     *
+     * @param prefix prefix of the titles and descriptions
+     * @param bytes the approximate size of the serialized document
+     * @return the document
+     * @throws IOException Errors in serializing the sample used for sizing
+     */
+    public static AsyncAPI documentOfSize(String prefix, long bytes) throws IOException {
+        return document(prefix, 0, sizeOf(prefix, bytes));
+    }
+
+    /**
+     * Compute the number of channels and schemas of a document whose JSON serialization has roughly the given size.
+     *
+     * @param prefix prefix of the titles and descriptions
+     * @param bytes the approximate size of the serialized document
+     * @return the number of channels and schemas to pass to {@link #document(String, int, int)}
+     * @throws IOException Errors in serializing the sample used for sizing
+     */
+    public static int sizeOf(String prefix, long bytes) throws IOException {
+        int sample = 100;
+        long sampleBytes = AsyncApiSerializer.serializeToBytes(document(prefix, 0, sample), AsyncApiFormat.JSON).length;
+        return (int) Math.max(1, bytes * sample / sampleBytes);
+    }
+
+    private static Schema schema(String prefix, String name) {
+        Schema schema = new SchemaImpl(name);
+        schema.setTitle(name);
+        schema.setDescription(prefix + " " + name);
+        schema.setType(SchemaType.OBJECT);
+
+        for (int p = 0; p < PROPERTIES_PER_SCHEMA; p++) {
+            Schema property = new SchemaImpl();
+            property.setType(p % 2 == 0 ? SchemaType.STRING : SchemaType.INTEGER);
+            property.setDescription(prefix + " property " + p);
+            schema.addProperty("property" + p, property);
+            schema.addRequired("property" + p);
+        }
+
+        return schema;
+    }
+
+    private static ChannelItem channel(String prefix, String channelName, String typeName) {
+        Schema payload = new SchemaImpl();
+        payload.setRef(AsyncApiConstants.REF_PREFIX_SCHEMA + typeName);
+
+        Message message = new MessageImpl();
+        message.setName(typeName + "Message");
+        message.setPayload(payload);
+
+        Operation operation = new OperationImpl();
+        operation.setOperationId(channelName);
+        operation.setDescription(prefix + " " + channelName);
+        operation.setMessage(message);
+
+        ChannelItem channelItem = new ChannelItemImpl();
+        channelItem.setChannel(channelName);
+        channelItem.setDescription(prefix + " " + channelName);
+        channelItem.setPublish(operation);
+        return channelItem;
+    }
+}
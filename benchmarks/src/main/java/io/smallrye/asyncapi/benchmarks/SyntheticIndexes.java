@@ -0,0 +1,175 @@
+/*
+ * Copyright 2019 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.smallrye.asyncapi.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+/**
+ * Creates Jandex indexes of synthetic, annotated classes of a given size.
+ * <p>
+ * Nine out of ten classes are payload types sharing a common envelope base class, each referencing another payload
+ * type. The remaining classes declare one {@code @ChannelItem} method per payload type, publishing a message with the
+ * payload type as its schema implementation. Scanning such an index registers one channel and one schema per payload
+ * type, and resolves the shared base class for each of them.
+ */
+public final class SyntheticIndexes {
+
+    private static final String MODEL_PACKAGE = "synthetic/model/";
+
+    private static final String API_PACKAGE = "synthetic/api/";
+
+    private static final String ENVELOPE = MODEL_PACKAGE + "Envelope";
+
+    private static final String AUDIT = MODEL_PACKAGE + "Audit";
+
+    private static final String CHANNEL_ITEM = "Lio/smallrye/asyncapi/spec/annotations/channel/ChannelItem;";
+
+    private static final String OPERATION = "Lio/smallrye/asyncapi/spec/annotations/operation/Operation;";
+
+    private static final String MESSAGE = "Lio/smallrye/asyncapi/spec/annotations/message/Message;";
+
+    private static final String SCHEMA = "Lio/smallrye/asyncapi/spec/annotations/schema/Schema;";
+
+    private static final int PAYLOADS_PER_API = 9;
+
+    private SyntheticIndexes() {
+    }
+
+    /**
+     * Create an index of the given number of classes.
+     *
+     * @param classes number of classes, at least 10
+     * @return the index
+     */
+    public static Index index(int classes) {
+        int apis = Math.max(1, classes / (PAYLOADS_PER_API + 1));
+        int payloads = apis * PAYLOADS_PER_API;
+
+        Indexer indexer = new Indexer();
+        index(indexer, audit());
+        index(indexer, envelope());
+
+        for (int i = 0; i < payloads; i++) {
+            index(indexer, payload(i));
+        }
+        for (int a = 0; a < apis; a++) {
+            index(indexer, api(a));
+        }
+
+        return indexer.complete();
+    }
+
+    private static void index(Indexer indexer, byte[] bytes) {
+        try {
+            indexer.index(new ByteArrayInputStream(bytes));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] audit() {
+        ClassWriter writer = start(AUDIT, "java/lang/Object", Opcodes.ACC_PUBLIC);
+        field(writer, "createdBy", "Ljava/lang/String;", null);
+        field(writer, "createdAt", "Ljava/util/Date;", null);
+        field(writer, "modifiedBy", "Ljava/lang/String;", null);
+        field(writer, "modifiedAt", "Ljava/util/Date;", null);
+        return end(writer);
+    }
+
+    private static byte[] envelope() {
+        ClassWriter writer = start(ENVELOPE, "java/lang/Object", Opcodes.ACC_PUBLIC | Opcodes.ACC_ABSTRACT);
+        field(writer, "id", "Ljava/lang/String;", null);
+        field(writer, "source", "Ljava/net/URI;", null);
+        field(writer, "timestamp", "J", null);
+        field(writer, "audit", "L" + AUDIT + ";", null);
+        return end(writer);
+    }
+
+    private static byte[] payload(int i) {
+        ClassWriter writer = start(payloadName(i), ENVELOPE, Opcodes.ACC_PUBLIC);
+        field(writer, "name", "Ljava/lang/String;", null);
+        field(writer, "count", "I", null);
+        field(writer, "amount", "Ljava/math/BigDecimal;", null);
+        field(writer, "tags", "Ljava/util/List;", "Ljava/util/List<Ljava/lang/String;>;");
+        field(writer, "attributes", "Ljava/util/Map;", "Ljava/util/Map<Ljava/lang/String;Ljava/lang/Integer;>;");
+        if (i > 0) {
+            field(writer, "related", "L" + payloadName(i / 2) + ";", null);
+        }
+        return end(writer);
+    }
+
+    private static byte[] api(int a) {
+        ClassWriter writer = start(API_PACKAGE + "Api" + a, "java/lang/Object",
+                Opcodes.ACC_PUBLIC | Opcodes.ACC_ABSTRACT);
+
+        for (int p = 0; p < PAYLOADS_PER_API; p++) {
+            int i = a * PAYLOADS_PER_API + p;
+            MethodVisitor method = writer.visitMethod(Opcodes.ACC_PUBLIC | Opcodes.ACC_ABSTRACT, "publish" + i,
+                    "()V", null, null);
+
+            AnnotationVisitor channelItem = method.visitAnnotation(CHANNEL_ITEM, true);
+            channelItem.visit("channel", "channel-" + i);
+            channelItem.visit("description", "Channel " + i);
+
+            AnnotationVisitor operation = channelItem.visitAnnotation("publish", OPERATION);
+            operation.visit("operationId", "publish" + i);
+
+            AnnotationVisitor message = operation.visitAnnotation("message", MESSAGE);
+            message.visit("name", "Message" + i);
+            message.visit("contentType", "application/json");
+
+            AnnotationVisitor payload = message.visitAnnotation("payload", SCHEMA);
+            payload.visit("implementation", Type.getObjectType(payloadName(i)));
+
+            payload.visitEnd();
+            message.visitEnd();
+            operation.visitEnd();
+            channelItem.visitEnd();
+            method.visitEnd();
+        }
+
+        return end(writer);
+    }
+
+    private static String payloadName(int i) {
+        return MODEL_PACKAGE + "Payload" + i;
+    }
+
+    private static ClassWriter start(String name, String superName, int access) {
+        ClassWriter writer = new ClassWriter(0);
+        writer.visit(Opcodes.V1_8, access | Opcodes.ACC_SUPER, name, null, superName, null);
+        return writer;
+    }
+
+    private static void field(ClassWriter writer, String name, String descriptor, String signature) {
+        writer.visitField(Opcodes.ACC_PRIVATE, name, descriptor, signature, null).visitEnd();
+    }
+
+    private static byte[] end(ClassWriter writer) {
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2019 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.smallrye.asyncapi.benchmarks.filter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.asyncapi.benchmarks.SyntheticDocuments;
+import io.smallrye.asyncapi.core.api.util.FilterUtil;
+import io.smallrye.asyncapi.spec.AASFilter;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+import io.smallrye.asyncapi.spec.models.channel.ChannelItem;
+import io.smallrye.asyncapi.spec.models.schema.Schema;
+
+/**
+ * Measures {@link FilterUtil#applyFilter(AASFilter, AsyncAPI)} with a filter touching every schema and channel item,
+ * like a filter adding descriptions or removing internal channels would. The description of every schema is replaced
+ * and every tenth channel item is removed.
+ * <p>
+ * Filtering modifies the document, so every invocation filters a new document. Creating it is measured on its own by
+ * {@link #create()}, the time spent filtering is the difference between {@link #filter()} and {@link #create()}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilterBenchmark {
+
+    private static final String PREFIX = "document";
+
+    private static final AASFilter FILTER = new AASFilter() {
+        @Override
+        public Schema filterSchema(Schema schema) {
+            schema.setDescription("filtered");
+            return schema;
+        }
+
+        @Override
+        public ChannelItem filterChannelItem(ChannelItem channelItem) {
+            int index = Integer.parseInt(channelItem.getChannel()
+                    .substring(SyntheticDocuments.CHANNEL_PREFIX.length()));
+            return index % 10 == 0 ? null : channelItem;
+        }
+    };
+
+    @Param({ "1024", "1048576" })
+    long bytes;
+
+    int size;
+
+    @Setup(Level.Trial)
+    public void computeSize() throws IOException {
+        size = SyntheticDocuments.sizeOf(PREFIX, bytes);
+    }
+
+    @Benchmark
+    public AsyncAPI create() {
+        return SyntheticDocuments.document(PREFIX, 0, size);
+    }
+
+    @Benchmark
+    public AsyncAPI filter() {
+        return FilterUtil.applyFilter(FILTER, SyntheticDocuments.document(PREFIX, 0, size));
+    }
+}
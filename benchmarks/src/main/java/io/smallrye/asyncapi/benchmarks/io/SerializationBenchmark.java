@@ -0,0 +1,88 @@
+/*
+ * Copyright 2019 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.smallrye.asyncapi.benchmarks.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.asyncapi.benchmarks.SyntheticDocuments;
+import io.smallrye.asyncapi.core.runtime.AsyncApiFormat;
+import io.smallrye.asyncapi.core.runtime.io.AsyncApiParser;
+import io.smallrye.asyncapi.core.runtime.io.AsyncApiSerializer;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+
+/**
+ * Measures {@link AsyncApiSerializer} and {@link AsyncApiParser} for JSON and YAML with documents from 1 KB up to
+ * 50 MB.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SerializationBenchmark {
+
+    @Param({ "1024", "1048576", "52428800" })
+    long bytes;
+
+    AsyncAPI document;
+
+    byte[] json;
+
+    byte[] yaml;
+
+    @Setup(Level.Trial)
+    public void createDocument() throws IOException {
+        document = SyntheticDocuments.documentOfSize("document", bytes);
+        json = AsyncApiSerializer.serializeToBytes(document, AsyncApiFormat.JSON);
+        yaml = AsyncApiSerializer.serializeToBytes(document, AsyncApiFormat.YAML);
+    }
+
+    @Benchmark
+    public byte[] serializeJson() throws IOException {
+        return AsyncApiSerializer.serializeToBytes(document, AsyncApiFormat.JSON);
+    }
+
+    @Benchmark
+    public byte[] serializeYaml() throws IOException {
+        return AsyncApiSerializer.serializeToBytes(document, AsyncApiFormat.YAML);
+    }
+
+    @Benchmark
+    public AsyncAPI parseJson() throws IOException {
+        return AsyncApiParser.parse(new ByteArrayInputStream(json), AsyncApiFormat.JSON);
+    }
+
+    @Benchmark
+    public AsyncAPI parseYaml() throws IOException {
+        return AsyncApiParser.parse(new ByteArrayInputStream(yaml), AsyncApiFormat.YAML);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2019 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.smallrye.asyncapi.benchmarks.merge;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.asyncapi.benchmarks.SyntheticDocuments;
+import io.smallrye.asyncapi.core.api.util.MergeUtil;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+
+/**
+ * Compares {@link MergeUtil} with the former {@link IntrospectorMergeUtil}, merging two overlapping documents as done by
+ * the merge phases of {@link io.smallrye.asyncapi.core.api.AsyncApiDocument}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MergeBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    int size;
+
+    AsyncAPI document1;
+
+    AsyncAPI document2;
+
+    @Setup(Level.Invocation)
+    public void createDocuments() {
+        // Merging modifies the first document, so both have to be created for each invocation
+        document1 = SyntheticDocuments.document("first", 0, size);
+        document2 = SyntheticDocuments.document("second", size / 2, size);
+    }
+
+    @Benchmark
+    public AsyncAPI methodHandles() {
+        return MergeUtil.merge(document1, document2);
+    }
+
+    @Benchmark
+    public AsyncAPI introspector() {
+        return IntrospectorMergeUtil.merge(document1, document2);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2019 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.smallrye.asyncapi.benchmarks.scan;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.jandex.Index;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.asyncapi.benchmarks.SyntheticIndexes;
+import io.smallrye.asyncapi.core.api.AsyncApiConfig;
+import io.smallrye.asyncapi.core.runtime.scanner.AnnotationScannerExtension;
+import io.smallrye.asyncapi.core.runtime.scanner.AsyncApiAnnotationScanner;
+import io.smallrye.asyncapi.core.runtime.scanner.FilteredIndexView;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+
+/**
+ * Measures {@link AsyncApiAnnotationScanner#scan(String...)} over indexes created by {@link SyntheticIndexes}. A cold
+ * scan starts from a fresh {@link FilteredIndexView}, like a build does. A warm scan reuses the view of the previous
+ * scan and its cached filter decisions, like repeated scans of an unchanged index in development mode.
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScanBenchmark {
+
+    @Param({ "100", "1000", "10000", "50000" })
+    int classes;
+
+    @Param({ "false", "true" })
+    boolean parallel;
+
+    Index index;
+
+    AsyncApiConfig config;
+
+    FilteredIndexView view;
+
+    @Setup(Level.Trial)
+    public void createIndex() {
+        index = SyntheticIndexes.index(classes);
+        boolean scanParallel = parallel;
+        config = new AsyncApiConfig() {
+            @Override
+            public boolean scanParallel() {
+                return scanParallel;
+            }
+        };
+        view = new FilteredIndexView(index, config);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 10)
+    public AsyncAPI coldScan() {
+        return scan(new FilteredIndexView(index, config));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public AsyncAPI warmScan() {
+        return scan(view);
+    }
+
+    private AsyncAPI scan(FilteredIndexView indexView) {
+        return new AsyncApiAnnotationScanner(config, getClass().getClassLoader(), indexView,
+                Collections.singletonList(new AnnotationScannerExtension() {
+                })).scan();
+    }
+}
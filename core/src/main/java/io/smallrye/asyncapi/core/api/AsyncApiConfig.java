@@ -134,6 +134,19 @@ public interface AsyncApiConfig {
         return null;
     }
 
+    default boolean scanParallel() {
+        return false;
+    }
+
+    default int scanParallelism() {
+        return Runtime.getRuntime()
+                .availableProcessors();
+    }
+
+    default boolean scanParallelSharedSchemaRegistry() {
+        return false;
+    }
+
     enum OperationIdStrategy {
         METHOD,
         CLASS_METHOD,
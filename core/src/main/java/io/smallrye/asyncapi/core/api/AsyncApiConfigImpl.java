@@ -82,6 +82,12 @@ public class AsyncApiConfigImpl implements AsyncApiConfig {
 
     private OperationIdStrategy operationIdStrategy;
 
+    private Boolean scanParallel;
+
+    private Integer scanParallelism;
+
+    private Boolean scanParallelSharedSchemaRegistry;
+
     public static AsyncApiConfig fromConfig(Config config) {
         return new AsyncApiConfigImpl(config);
     }
@@ -192,7 +198,7 @@ public class AsyncApiConfigImpl implements AsyncApiConfig {
             List<String[]> servers = new ArrayList<>();
 
             getConfig().getPropertyNames().forEach(s -> {
-                if (s.startsWith(AASConfig.SERVER)){
+                if (s.startsWith(AASConfig.SERVER)) {
                     String[] server = new String[3];
 
                     String tmp = s.substring(AASConfig.SERVER.length());
@@ -367,6 +373,45 @@ public class AsyncApiConfigImpl implements AsyncApiConfig {
         return null;
     }
 
+    /**
+     * @see AsyncApiConfig#scanParallel()
+     */
+    @Override
+    public boolean scanParallel() {
+        if (scanParallel == null) {
+            scanParallel = getConfig().getOptionalValue(AsyncApiConstants.SCAN_PARALLEL, Boolean.class)
+                    .orElse(false);
+        }
+        return scanParallel;
+    }
+
+    /**
+     * @see AsyncApiConfig#scanParallelism()
+     */
+    @Override
+    public int scanParallelism() {
+        if (scanParallelism == null) {
+            scanParallelism = getConfig().getOptionalValue(AsyncApiConstants.SCAN_PARALLELISM, Integer.class)
+                    .filter(parallelism -> parallelism > 0)
+                    .orElse(Runtime.getRuntime()
+                            .availableProcessors());
+        }
+        return scanParallelism;
+    }
+
+    /**
+     * @see AsyncApiConfig#scanParallelSharedSchemaRegistry()
+     */
+    @Override
+    public boolean scanParallelSharedSchemaRegistry() {
+        if (scanParallelSharedSchemaRegistry == null) {
+            scanParallelSharedSchemaRegistry = getConfig()
+                    .getOptionalValue(AsyncApiConstants.SCAN_PARALLEL_SHARED_SCHEMA_REGISTRY, Boolean.class)
+                    .orElse(false);
+        }
+        return scanParallelSharedSchemaRegistry;
+    }
+
     /**
      * getConfig().getOptionalValue(key) can return "" if optional {@link Converter}s are used. Enforce a null value if
      * we get an empty string back.
@@ -17,6 +17,7 @@ package io.smallrye.asyncapi.core.api;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 import io.smallrye.asyncapi.core.api.constants.AsyncApiConstants;
 import io.smallrye.asyncapi.core.api.models.AsyncAPIImpl;
@@ -24,46 +25,143 @@ import io.smallrye.asyncapi.core.api.models.info.InfoImpl;
 import io.smallrye.asyncapi.core.api.util.ConfigUtil;
 import io.smallrye.asyncapi.core.api.util.FilterUtil;
 import io.smallrye.asyncapi.core.api.util.MergeUtil;
+import io.smallrye.asyncapi.core.runtime.io.ReferenceResolver;
 import io.smallrye.asyncapi.spec.AASFilter;
 import io.smallrye.asyncapi.spec.models.AsyncAPI;
 
 /**
- * Holds the final AsyncAPI document produced during the startup of the app.
+ * A document session, holding the inputs and the final AsyncAPI document produced from them.
  * <p>
- * Note that the model must be initialized first!
+ * Every caller creates its own session, so documents for several deployments, builds or tests may be produced
+ * concurrently. A session itself is meant to be used by a single thread. Note that the model must be initialized first!
  */
 public class AsyncApiDocument {
 
-    public static final AsyncApiDocument INSTANCE = new AsyncApiDocument();
+    /**
+     * The phases the final document is produced in, in order of execution.
+     */
+    public enum Phase {
+
+        /**
+         * Use the model provided by the AASModelReader.
+         */
+        READER {
+            @Override
+            AsyncAPI apply(final AsyncApiDocument document, final AsyncAPI model) {
+                return document.readerModel;
+            }
+        },
+
+        /**
+         * Merge any static AsyncAPI file packaged in the app.
+         */
+        STATIC_FILE {
+            @Override
+            AsyncAPI apply(final AsyncApiDocument document, final AsyncAPI model) {
+                return MergeUtil.mergeObjects(model, document.staticFileModel);
+            }
+        },
+
+        /**
+         * Merge the model created by scanning the annotations.
+         */
+        ANNOTATIONS {
+            @Override
+            AsyncAPI apply(final AsyncApiDocument document, final AsyncAPI model) {
+                return MergeUtil.mergeObjects(model, document.annotationsModel);
+            }
+        },
+
+        /**
+         * Filter the model via the configured AASFilters.
+         */
+        FILTER {
+            @Override
+            AsyncAPI apply(final AsyncApiDocument document, final AsyncAPI model) {
+                return document.filterModel(model);
+            }
+        },
+
+        /**
+         * Default to an empty document and provide missing required elements.
+         */
+        DEFAULTS {
+            @Override
+            AsyncAPI apply(final AsyncApiDocument document, AsyncAPI model) {
+                if (model == null) {
+                    model = new AsyncAPIImpl();
+                    model.setAsyncapi(AsyncApiConstants.ASYNC_API_VERSION);
+                }
+
+                if (model.getInfo() == null) {
+                    model.setInfo(new InfoImpl());
+                }
+                if (model.getInfo().getTitle() == null) {
+                    model.getInfo().setTitle((document.archiveName == null ? "Generated" : document.archiveName) + " API");
+                }
+                if (model.getInfo().getVersion() == null) {
+                    model.getInfo().setVersion("1.0");
+                }
+
+                if (model.getDefaultContentType() == null) {
+                    model.setDefaultContentType("application/json");
+                }
+                return model;
+            }
+        },
+
+        /**
+         * Use Config values to add Servers (global, pathItem, operation).
+         */
+        CONFIG {
+            @Override
+            AsyncAPI apply(final AsyncApiDocument document, final AsyncAPI model) {
+                ConfigUtil.applyConfig(document.config, model);
+                return model;
+            }
+        };
+
+        abstract AsyncAPI apply(final AsyncApiDocument document, AsyncAPI model);
+    }
 
-    private transient AsyncApiConfig config;
+    private AsyncApiConfig config;
 
-    public transient AsyncAPI annotationsModel;
+    private AsyncAPI annotationsModel;
 
-    public transient AsyncAPI readerModel;
+    private AsyncAPI readerModel;
 
-    public transient AsyncAPI staticFileModel;
+    private AsyncAPI staticFileModel;
 
-    private transient List<AASFilter> filters = new ArrayList<>();
+    private final List<AASFilter> filters = new ArrayList<>();
 
-    private transient String archiveName;
+    private String archiveName;
 
-    private transient AsyncAPI model;
+    private Instrumentation instrumentation = Instrumentation.DISABLED;
+
+    private volatile AsyncAPI model;
+
+    private volatile ReferenceResolver referenceResolver;
 
     public AsyncApiDocument() {
     }
 
     /**
-     * @return the final AsyncAPI document produced during the startup of the app
+     * @param config the configuration of this session
+     */
+    public AsyncApiDocument(final AsyncApiConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * @return the final AsyncAPI document produced by this session
      * @throws IllegalStateException If the final model is not initialized yet
      */
     public AsyncAPI get() {
-        synchronized (INSTANCE) {
-            if (this.model == null) {
-                throw ApiMessages.msg.modelNotInitialized();
-            }
-            return this.model;
+        AsyncAPI result = this.model;
+        if (result == null) {
+            throw ApiMessages.msg.modelNotInitialized();
         }
+        return result;
     }
 
     /**
@@ -72,106 +170,118 @@ public class AsyncApiDocument {
      * @param model AsyncAPI model instance
      */
     public void set(final AsyncAPI model) {
-        synchronized (INSTANCE) {
-            this.model = model;
-        }
+        this.model = model;
+        this.referenceResolver = null;
     }
 
     /**
-     * Reset the holder.
+     * Reset the session, so it can be used to produce another document.
      */
     public void reset() {
-        synchronized (INSTANCE) {
-            this.model = null;
-            clear();
+        this.model = null;
+        this.referenceResolver = null;
+        clear();
+    }
+
+    /**
+     * Consumers of the final document resolve its references through this resolver, which indexes the components once
+     * per document instead of on every lookup.
+     *
+     * @return the resolver of the references of the final AsyncAPI document
+     * @throws IllegalStateException If the final model is not initialized yet
+     */
+    public ReferenceResolver getReferenceResolver() {
+        AsyncAPI result = get();
+        ReferenceResolver resolver = this.referenceResolver;
+        if (resolver == null || resolver.getModel() != result) {
+            resolver = ReferenceResolver.of(result);
+            this.referenceResolver = resolver;
         }
+        return resolver;
     }
 
     /**
      * @return {@code true} if model initialized
      */
     public boolean isSet() {
-        synchronized (INSTANCE) {
-            return this.model != null;
-        }
+        return this.model != null;
     }
 
-    public synchronized void config(final AsyncApiConfig config) {
-        set(() -> this.config = config);
+    public AsyncApiDocument config(final AsyncApiConfig config) {
+        checkNotInitialized();
+        this.config = config;
+        return this;
     }
 
-    public void modelFromAnnotations(final AsyncAPI model) {
-        set(() -> this.annotationsModel = model);
+    public AsyncApiDocument modelFromAnnotations(final AsyncAPI model) {
+        checkNotInitialized();
+        this.annotationsModel = model;
+        return this;
     }
 
-    public void modelFromReader(final AsyncAPI model) {
-        set(() -> this.readerModel = model);
+    public AsyncApiDocument modelFromReader(final AsyncAPI model) {
+        checkNotInitialized();
+        this.readerModel = model;
+        return this;
     }
 
-    public void modelFromStaticFile(final AsyncAPI model) {
-        set(() -> this.staticFileModel = model);
+    public AsyncApiDocument modelFromStaticFile(final AsyncAPI model) {
+        checkNotInitialized();
+        this.staticFileModel = model;
+        return this;
     }
 
-    public void filter(final AASFilter filter) {
+    public AsyncApiDocument filter(final AASFilter filter) {
+        checkNotInitialized();
         if (filter != null) {
-            set(() -> this.filters.add(filter));
+            this.filters.add(filter);
         }
+        return this;
     }
 
-    public void archiveName(String archiveName) {
-        set(() -> this.archiveName = archiveName);
+    public AsyncApiDocument archiveName(String archiveName) {
+        checkNotInitialized();
+        this.archiveName = archiveName;
+        return this;
     }
 
-    public void initialize() {
-        synchronized (INSTANCE) {
-
-            if (model != null) {
-                throw ApiMessages.msg.modelAlreadyInitialized();
-            }
-            // Check all the required parts are set
-            if (config == null) {
-                throw ApiMessages.msg.configMustBeSet();
-            }
-
-            // Phase 1: Use AASModelReader
-            AsyncAPI merged = readerModel;
-
-            // Phase 2: Merge any static AsyncAPI file packaged in the app
-            merged = MergeUtil.mergeObjects(merged, staticFileModel);
-
-            // Phase 3: Merge annotations
-            merged = MergeUtil.mergeObjects(merged, annotationsModel);
-
-            // Phase 4: Filter model via AASFilter
-            merged = filterModel(merged);
-
-            // Phase 5: Default empty document if model == null
-            if (merged == null) {
-                merged = new AsyncAPIImpl();
-                merged.setAsyncapi(AsyncApiConstants.ASYNC_API_VERSION);
-            }
+    /**
+     * @param instrumentation records the time and allocation of each {@link Phase phase}
+     * @return this session
+     */
+    public AsyncApiDocument instrumentation(final Instrumentation instrumentation) {
+        checkNotInitialized();
+        this.instrumentation = instrumentation;
+        return this;
+    }
 
-            // Phase 6: Provide missing required elements using defaults
-            if (merged.getInfo() == null) {
-                merged.setInfo(new InfoImpl());
-            }
-            if (merged.getInfo().getTitle() == null) {
-                merged.getInfo().setTitle((archiveName == null ? "Generated" : archiveName) + " API");
-            }
-            if (merged.getInfo().getVersion() == null) {
-                merged.getInfo().setVersion("1.0");
-            }
+    /**
+     * Produce the final document by running all {@link Phase phases} in order.
+     *
+     * @return the final AsyncAPI document
+     */
+    public AsyncAPI initialize() {
+        checkNotInitialized();
+        // Check all the required parts are set
+        if (config == null) {
+            throw ApiMessages.msg.configMustBeSet();
+        }
 
-            if (merged.getDefaultContentType() == null) {
-                merged.setDefaultContentType("application/json");
+        AsyncAPI merged = null;
+        for (Phase phase : Phase.values()) {
+            Instrumentation.Measurement measurement = instrumentation
+                    .start(Instrumentation.PHASE_DOCUMENT_PREFIX + phase.name().toLowerCase(Locale.ROOT));
+            try {
+                merged = phase.apply(this, merged);
+            } finally {
+                measurement.close();
             }
+        }
 
-            // Phase 7: Use Config values to add Servers (global, pathItem, operation)
-            ConfigUtil.applyConfig(config, merged);
+        model = merged;
+        clear();
 
-            model = merged;
-            clear();
-        }
+        return merged;
     }
 
     /**
@@ -181,21 +291,12 @@ public class AsyncApiDocument {
      * @param model
      */
     private AsyncAPI filterModel(AsyncAPI model) {
-        if (model == null || filters.isEmpty()) {
-            return model;
-        }
-        for (AASFilter filter : filters) {
-            model = FilterUtil.applyFilter(filter, model);
-        }
-        return model;
+        return FilterUtil.applyFilters(filters, model);
     }
 
-    private void set(Runnable action) {
-        synchronized (INSTANCE) {
-            if (model != null) {
-                throw ApiMessages.msg.modelAlreadyInitialized();
-            }
-            action.run();
+    private void checkNotInitialized() {
+        if (model != null) {
+            throw ApiMessages.msg.modelAlreadyInitialized();
         }
     }
 
@@ -206,5 +307,6 @@ public class AsyncApiDocument {
         this.staticFileModel = null;
         this.filters.clear();
         this.archiveName = null;
+        this.instrumentation = Instrumentation.DISABLED;
     }
 }
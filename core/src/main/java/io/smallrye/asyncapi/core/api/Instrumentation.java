@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.api;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Collects timings and counters while an AsyncAPI document is produced.
+ * <p>
+ * A phase is measured from {@link #start(String)} until the returned {@link Measurement} is closed, which has to happen
+ * on the same thread. Besides the wall-clock time the bytes allocated by that thread are recorded where the JVM supports
+ * it; work a phase hands off to other threads is not included in its allocation. Phases started several times are
+ * summed up. All methods may be called concurrently.
+ */
+public class Instrumentation {
+
+    /**
+     * An instrumentation recording nothing.
+     */
+    public static final Instrumentation DISABLED = new Instrumentation(false);
+
+    public static final String PHASE_STATIC_FILE = "parse.static-file";
+
+    public static final String PHASE_DEFINITIONS = "scan.definitions";
+
+    public static final String PHASE_CUSTOM_SCHEMAS = "scan.custom-schemas";
+
+    public static final String PHASE_CLASS_SCHEMAS = "scan.class-schemas";
+
+    public static final String PHASE_SCANNER_PREFIX = "scan.";
+
+    public static final String PHASE_DOCUMENT_PREFIX = "document.";
+
+    public static final String PHASE_SERIALIZE_PREFIX = "serialize.";
+
+    public static final String COUNTER_CLASSES = "classes";
+
+    public static final String COUNTER_SCHEMAS = "schemas";
+
+    public static final String COUNTER_CHANNELS = "channels";
+
+    private static final Measurement NO_MEASUREMENT = () -> {
+    };
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final boolean enabled;
+
+    private final Map<String, PhaseStatistics> phases = new LinkedHashMap<>();
+
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    public Instrumentation() {
+        this(true);
+    }
+
+    private Instrumentation(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Starts measuring a phase.
+     *
+     * @param phase name of the phase
+     * @return the measurement, to be closed at the end of the phase
+     */
+    public Measurement start(String phase) {
+        if (!enabled) {
+            return NO_MEASUREMENT;
+        }
+        long startTime = System.nanoTime();
+        long startAllocation = allocatedBytes();
+        return () -> {
+            long allocation = allocatedBytes();
+            record(phase, System.nanoTime() - startTime,
+                    startAllocation < 0 || allocation < 0 ? -1 : allocation - startAllocation);
+        };
+    }
+
+    /**
+     * Adds to a counter.
+     *
+     * @param counter name of the counter
+     * @param delta the value to add
+     */
+    public void count(String counter, long delta) {
+        if (enabled) {
+            counters.computeIfAbsent(counter, c -> new LongAdder()).add(delta);
+        }
+    }
+
+    private void record(String phase, long wallTime, long allocation) {
+        synchronized (phases) {
+            phases.computeIfAbsent(phase, p -> new PhaseStatistics()).add(wallTime, allocation);
+        }
+    }
+
+    /**
+     * @return a snapshot of the phases in the order they were first started
+     */
+    public Map<String, PhaseStatistics> getPhases() {
+        Map<String, PhaseStatistics> snapshot = new LinkedHashMap<>();
+        synchronized (phases) {
+            phases.forEach((name, statistics) -> snapshot.put(name, statistics.copy()));
+        }
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * @return a snapshot of the counters
+     */
+    public Map<String, Long> getCounters() {
+        Map<String, Long> snapshot = new LinkedHashMap<>();
+        counters.forEach((name, value) -> snapshot.put(name, value.sum()));
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * Writes the phases and counters as JSON report.
+     *
+     * @param writer the target, which is not closed
+     * @throws IOException Errors in writing the report
+     */
+    public void writeReport(Writer writer) throws IOException {
+        try (JsonGenerator generator = new JsonFactory().createGenerator(writer)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartObject();
+
+            generator.writeObjectFieldStart("phases");
+            for (Map.Entry<String, PhaseStatistics> phase : getPhases().entrySet()) {
+                generator.writeObjectFieldStart(phase.getKey());
+                generator.writeNumberField("count", phase.getValue().getCount());
+                generator.writeNumberField("wallTimeMillis", phase.getValue().getWallTimeNanos() / 1_000_000d);
+                generator.writeNumberField("allocatedBytes", phase.getValue().getAllocatedBytes());
+                generator.writeEndObject();
+            }
+            generator.writeEndObject();
+
+            generator.writeObjectFieldStart("counters");
+            for (Map.Entry<String, Long> counter : getCounters().entrySet()) {
+                generator.writeNumberField(counter.getKey(), counter.getValue());
+            }
+            generator.writeEndObject();
+
+            generator.writeEndObject();
+        }
+    }
+
+    private static long allocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+            if (threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+                return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * A running measurement of a phase. It is closed in a {@code finally} block rather than by a try-with-resources
+     * statement, whose resource would never be referenced.
+     */
+    @FunctionalInterface
+    public interface Measurement extends AutoCloseable {
+
+        /**
+         * Ends the phase and records it.
+         */
+        @Override
+        void close();
+    }
+
+    /**
+     * Accumulated measurements of a phase.
+     */
+    public static final class PhaseStatistics {
+
+        private long count;
+
+        private long wallTimeNanos;
+
+        private long allocatedBytes;
+
+        void add(long wallTime, long allocation) {
+            count++;
+            wallTimeNanos += wallTime;
+            if (allocation < 0 || allocatedBytes < 0) {
+                allocatedBytes = -1;
+            } else {
+                allocatedBytes += allocation;
+            }
+        }
+
+        PhaseStatistics copy() {
+            PhaseStatistics copy = new PhaseStatistics();
+            copy.count = count;
+            copy.wallTimeNanos = wallTimeNanos;
+            copy.allocatedBytes = allocatedBytes;
+            return copy;
+        }
+
+        /**
+         * @return how often the phase was measured
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * @return the summed up wall-clock time in nanoseconds
+         */
+        public long getWallTimeNanos() {
+            return wallTimeNanos;
+        }
+
+        /**
+         * @return the summed up bytes allocated by the measuring thread, {@code -1} if unsupported by the JVM
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+    }
+}
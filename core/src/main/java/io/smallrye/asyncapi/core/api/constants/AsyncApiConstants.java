@@ -76,6 +76,13 @@ public final class AsyncApiConstants {
 
     public static final String OPERATION_ID_STRAGEGY = AASConfig.EXTENSIONS_PREFIX + VENDOR_NAME + "operationIdStrategy";
 
+    public static final String SCAN_PARALLEL = AASConfig.EXTENSIONS_PREFIX + VENDOR_NAME + "scan.parallel";
+
+    public static final String SCAN_PARALLELISM = AASConfig.EXTENSIONS_PREFIX + VENDOR_NAME + "scan.parallelism";
+
+    public static final String SCAN_PARALLEL_SHARED_SCHEMA_REGISTRY = AASConfig.EXTENSIONS_PREFIX + VENDOR_NAME
+            + "scan.parallel.shared-schema-registry";
+
     /**
      * Set of classes which should never be scanned, regardless of user configuration.
      */
@@ -33,6 +33,8 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
 
     private String location;
 
+    private String ref;
+
     /**
      * @see Parameter#getName()
      */
@@ -96,4 +98,20 @@ public class ParameterImpl extends ExtensibleImpl<Parameter> implements Paramete
     public void setLocation(final String location) {
         this.location = location;
     }
+
+    /**
+     * @see Parameter#getRef()
+     */
+    @Override
+    public String getRef() {
+        return ref;
+    }
+
+    /**
+     * @see Parameter#setRef(String ref)
+     */
+    @Override
+    public void setRef(final String ref) {
+        this.ref = ref;
+    }
 }
@@ -15,8 +15,31 @@
  */
 package io.smallrye.asyncapi.core.api.util;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
 import io.smallrye.asyncapi.spec.AASFilter;
 import io.smallrye.asyncapi.spec.models.AsyncAPI;
+import io.smallrye.asyncapi.spec.models.Components;
+import io.smallrye.asyncapi.spec.models.channel.ChannelItem;
+import io.smallrye.asyncapi.spec.models.channel.Channels;
+import io.smallrye.asyncapi.spec.models.message.Message;
+import io.smallrye.asyncapi.spec.models.message.MessageTrait;
+import io.smallrye.asyncapi.spec.models.operation.Operation;
+import io.smallrye.asyncapi.spec.models.operation.OperationTrait;
+import io.smallrye.asyncapi.spec.models.parameter.Parameter;
+import io.smallrye.asyncapi.spec.models.parameter.Parameters;
+import io.smallrye.asyncapi.spec.models.schema.Schema;
+import io.smallrye.asyncapi.spec.models.security.SecurityScheme;
+import io.smallrye.asyncapi.spec.models.server.Server;
+import io.smallrye.asyncapi.spec.models.tag.Tag;
 
 public class FilterUtil {
 
@@ -31,6 +54,246 @@ public class FilterUtil {
      * @return Filtered AsyncAPI model
      */
     public static final AsyncAPI applyFilter(AASFilter filter, AsyncAPI model) {
-        return null;
+        return applyFilters(Collections.singletonList(filter), model);
+    }
+
+    /**
+     * Apply the given filters to the given model. The model tree is walked only once, children before their parent.
+     * At each node all filters are applied in the given order, until one of them removes the node. Nodes referenced
+     * more than once in the tree are filtered only once. Finally {@link AASFilter#filterAsyncAPI(AsyncAPI)} is called
+     * for every filter.
+     *
+     * @param filters the filters to apply
+     * @param model AsyncAPI model
+     * @return Filtered AsyncAPI model
+     */
+    public static final AsyncAPI applyFilters(List<AASFilter> filters, AsyncAPI model) {
+        if (model == null || filters.isEmpty()) {
+            return model;
+        }
+
+        new FilterVisitor(filters).visitAsyncAPI(model);
+
+        return model;
+    }
+
+    /**
+     * Walks the model tree once, applying all filters at each node.
+     */
+    private static class FilterVisitor {
+
+        private final List<AASFilter> filters;
+
+        /**
+         * Result of every node visited so far. A node currently being visited maps to itself.
+         */
+        private final Map<Object, Object> visited = new IdentityHashMap<>();
+
+        FilterVisitor(List<AASFilter> filters) {
+            this.filters = filters;
+        }
+
+        void visitAsyncAPI(AsyncAPI model) {
+            filterList(model.getServers(), this::visitServer, model::setServers);
+
+            Channels channels = model.getChannels();
+            if (channels != null) {
+                filterMap(channels.getChannels(), this::visitChannelItem, channels::setChannels);
+            }
+
+            Components components = model.getComponents();
+            if (components != null) {
+                filterMap(components.getSchemas(), this::visitSchema, components::setSchemas);
+                filterMap(components.getMessages(), this::visitMessage, components::setMessages);
+                filterMap(components.getSecuritySchemes(), this::visitSecurityScheme, components::setSecuritySchemes);
+                filterMap(components.getParameters(), this::visitParameter, components::setParameters);
+                filterMap(components.getMessageTraits(), this::visitMessageTrait, components::setMessageTraits);
+                filterMap(components.getOperationTraits(), this::visitOperationTrait, components::setOperationTraits);
+            }
+
+            filterList(model.getTags(), this::visitTag, model::setTags);
+
+            for (AASFilter filter : filters) {
+                filter.filterAsyncAPI(model);
+            }
+        }
+
+        private Server visitServer(Server server) {
+            return visit(server, s -> apply(s, AASFilter::filterServer));
+        }
+
+        private Tag visitTag(Tag tag) {
+            return visit(tag, t -> apply(t, AASFilter::filterTag));
+        }
+
+        private SecurityScheme visitSecurityScheme(SecurityScheme securityScheme) {
+            return visit(securityScheme, s -> apply(s, AASFilter::filterSecurityScheme));
+        }
+
+        private ChannelItem visitChannelItem(ChannelItem channelItem) {
+            return visit(channelItem, c -> {
+                filterChild(c.getSubscribe(), this::visitOperation, c::setSubscribe);
+                filterChild(c.getPublish(), this::visitOperation, c::setPublish);
+
+                Parameters parameters = c.getParameters();
+                if (parameters != null) {
+                    filterList(parameters.getValue(), this::visitParameter, parameters::setValue);
+                }
+
+                return apply(c, AASFilter::filterChannelItem);
+            });
+        }
+
+        /**
+         * Operations cannot be filtered themselves, only their messages, tags and traits.
+         */
+        private Operation visitOperation(Operation operation) {
+            return visit(operation, o -> {
+                filterChild(o.getMessage(), this::visitMessage, o::setMessage);
+                filterList(o.getTags(), this::visitTag, o::setTags);
+                filterList(o.getOperationTraits(), this::visitOperationTrait, o::setOperationTraits);
+                return o;
+            });
+        }
+
+        /**
+         * Operation traits cannot be filtered themselves, only their messages and tags.
+         */
+        private OperationTrait visitOperationTrait(OperationTrait operationTrait) {
+            return visit(operationTrait, o -> {
+                filterChild(o.getMessage(), this::visitMessage, o::setMessage);
+                filterList(o.getTags(), this::visitTag, o::setTags);
+                return o;
+            });
+        }
+
+        /**
+         * Parameters cannot be filtered themselves, only their schemas.
+         */
+        private Parameter visitParameter(Parameter parameter) {
+            return visit(parameter, p -> {
+                filterChild(p.getSchema(), this::visitSchema, p::setSchema);
+                return p;
+            });
+        }
+
+        private Message visitMessage(Message message) {
+            return visit(message, m -> {
+                filterChild(m.getHeaders(), this::visitSchema, m::setHeaders);
+                filterChild(m.getPayload(), this::visitSchema, m::setPayload);
+                filterList(m.getTags(), this::visitTag, m::setTags);
+                filterList(m.getTraits(), this::visitMessageTrait, m::setTraits);
+                return apply(m, AASFilter::filterMessage);
+            });
+        }
+
+        /**
+         * Message traits cannot be filtered themselves, only their headers and tags.
+         */
+        private MessageTrait visitMessageTrait(MessageTrait messageTrait) {
+            return visit(messageTrait, m -> {
+                filterChild(m.getHeaders(), this::visitSchema, m::setHeaders);
+                filterList(m.getTags(), this::visitTag, m::setTags);
+                return m;
+            });
+        }
+
+        private Schema visitSchema(Schema schema) {
+            return visit(schema, s -> {
+                filterMap(s.getProperties(), this::visitSchema, s::setProperties);
+                filterChild(s.getAdditionalPropertiesSchema(), this::visitSchema, s::setAdditionalPropertiesSchema);
+                filterChild(s.getItems(), this::visitSchema, s::setItems);
+                filterList(s.getAllOf(), this::visitSchema, s::setAllOf);
+                filterList(s.getOneOf(), this::visitSchema, s::setOneOf);
+                filterList(s.getAnyOf(), this::visitSchema, s::setAnyOf);
+                filterChild(s.getNot(), this::visitSchema, s::setNot);
+                filterChild(s.getConstant(), this::visitSchema, s::setConstant);
+                return apply(s, AASFilter::filterSchema);
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T visit(T node, UnaryOperator<T> action) {
+            if (node == null) {
+                return null;
+            }
+            if (visited.containsKey(node)) {
+                return (T) visited.get(node);
+            }
+
+            visited.put(node, node);
+            T result = action.apply(node);
+            visited.put(node, result);
+
+            return result;
+        }
+
+        private <T> T apply(T node, BiFunction<AASFilter, T, T> filterMethod) {
+            for (AASFilter filter : filters) {
+                node = filterMethod.apply(filter, node);
+                if (node == null) {
+                    break;
+                }
+            }
+            return node;
+        }
+
+        /**
+         * Filter the values of a map, passing a copy without removed values to the setter if any value changed.
+         */
+        private static <T> void filterMap(Map<String, T> map, UnaryOperator<T> visitor, Consumer<Map<String, T>> setter) {
+            if (map == null) {
+                return;
+            }
+
+            Map<String, T> result = new LinkedHashMap<>(map.size());
+            boolean changed = false;
+
+            for (Map.Entry<String, T> entry : map.entrySet()) {
+                T value = visitor.apply(entry.getValue());
+                if (value != null) {
+                    result.put(entry.getKey(), value);
+                }
+                changed |= value != entry.getValue();
+            }
+
+            if (changed) {
+                setter.accept(result);
+            }
+        }
+
+        /**
+         * Filter the elements of a list, passing a copy without removed elements to the setter if any element changed.
+         */
+        private static <T> void filterList(List<T> list, UnaryOperator<T> visitor, Consumer<List<T>> setter) {
+            if (list == null) {
+                return;
+            }
+
+            List<T> result = new ArrayList<>(list.size());
+            boolean changed = false;
+
+            for (T element : list) {
+                T value = visitor.apply(element);
+                if (value != null) {
+                    result.add(value);
+                }
+                changed |= value != element;
+            }
+
+            if (changed) {
+                setter.accept(result);
+            }
+        }
+
+        /**
+         * Filter a single child node, passing the result to the setter if it changed.
+         */
+        private static <T> void filterChild(T child, UnaryOperator<T> visitor, Consumer<T> setter) {
+            T value = visitor.apply(child);
+            if (value != child) {
+                setter.accept(value);
+            }
+        }
     }
 }
@@ -15,13 +15,7 @@
  */
 package io.smallrye.asyncapi.core.api.util;
 
-import java.beans.IntrospectionException;
-import java.beans.Introspector;
-import java.beans.PropertyDescriptor;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -29,8 +23,6 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
-import org.jboss.logging.Logger;
-
 import io.smallrye.asyncapi.core.api.models.ModelImpl;
 import io.smallrye.asyncapi.spec.models.AsyncAPI;
 import io.smallrye.asyncapi.spec.models.Constructible;
@@ -43,14 +35,6 @@ import io.smallrye.asyncapi.spec.models.tag.Tag;
 
 public class MergeUtil {
 
-    private static final Logger LOG = Logger.getLogger(MergeUtil.class);
-
-    private static final Set<String> EXCLUDED_PROPERTIES = new HashSet<>();
-    static {
-        EXCLUDED_PROPERTIES.add("class");
-        EXCLUDED_PROPERTIES.add("asyncapi");
-    }
-
     private MergeUtil() {
     }
 
@@ -91,58 +75,28 @@ public class MergeUtil {
             return object2;
         }
 
-        PropertyDescriptor[] descriptors = new PropertyDescriptor[0];
-        try {
-            descriptors = Introspector.getBeanInfo(object1.getClass()).getPropertyDescriptors();
-        } catch (IntrospectionException e) {
-            UtilLogging.logger.failedToIntrospectBeanInfo(object1.getClass(), e);
-        }
-
-        for (PropertyDescriptor descriptor : descriptors) {
-            if (EXCLUDED_PROPERTIES.contains(descriptor.getName())) {
-                continue;
-            }
-            Class ptype = descriptor.getPropertyType();
-            Method writeMethod = descriptor.getWriteMethod();
-            if (writeMethod != null) {
-                if (Constructible.class.isAssignableFrom(ptype)) {
-                    try {
-                        Object val1 = descriptor.getReadMethod().invoke(object1);
-                        Object val2 = descriptor.getReadMethod().invoke(object2);
-                        Object newValue = mergeObjects(val1, val2);
-                        if (newValue != null) {
-                            writeMethod.invoke(object1, newValue);
-                        }
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-                        throw new RuntimeException(e);
+        for (PropertyAccessor accessor : PropertyAccessor.of(object1.getClass())) {
+            switch (accessor.kind()) {
+                case CONSTRUCTIBLE: {
+                    Object newValue = mergeObjects(accessor.get(object1), accessor.get(object2));
+                    if (newValue != null) {
+                        accessor.set(object1, newValue);
                     }
-                } else if (Map.class.isAssignableFrom(ptype)) {
-                    try {
-                        Map values1 = (Map) descriptor.getReadMethod().invoke(object1);
-                        Map values2 = (Map) descriptor.getReadMethod().invoke(object2);
-                        Map newValues = mergeMaps(values1, values2);
-                        writeMethod.invoke(object1, newValues);
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-                        throw new RuntimeException(e);
-                    }
-                } else if (List.class.isAssignableFrom(ptype)) {
-                    try {
-                        List values1 = (List) descriptor.getReadMethod().invoke(object1);
-                        List values2 = (List) descriptor.getReadMethod().invoke(object2);
-                        List newValues = mergeLists(values1, values2).orElse(null);
-                        writeMethod.invoke(object1, newValues);
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-                        throw new RuntimeException(e);
-                    }
-                } else {
-                    try {
-                        Object newValue = descriptor.getReadMethod().invoke(object2);
-                        if (newValue != null) {
-                            writeMethod.invoke(object1, newValue);
-                        }
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-                        throw new RuntimeException(e);
+                    break;
+                }
+                case MAP:
+                    accessor.set(object1, mergeMaps((Map) accessor.get(object1), (Map) accessor.get(object2)));
+                    break;
+                case LIST:
+                    accessor.set(object1, mergeLists((List) accessor.get(object1), (List) accessor.get(object2))
+                            .orElse(null));
+                    break;
+                default: {
+                    Object newValue = accessor.get(object2);
+                    if (newValue != null) {
+                        accessor.set(object1, newValue);
                     }
+                    break;
                 }
             }
         }
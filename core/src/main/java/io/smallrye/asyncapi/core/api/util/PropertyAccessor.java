@@ -0,0 +1,150 @@
+/*
+ * Copyright 2019 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.smallrye.asyncapi.core.api.util;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.smallrye.asyncapi.spec.models.Constructible;
+
+/**
+ * Accessor of a single bean property used by {@link MergeUtil}. The accessors of a class are resolved once, using the
+ * bean {@link Introspector}, and cached as {@link MethodHandle}s, so merging does not rely on reflection afterwards.
+ */
+final class PropertyAccessor {
+
+    /**
+     * How a property is merged.
+     */
+    enum Kind {
+        CONSTRUCTIBLE,
+        MAP,
+        LIST,
+        VALUE
+    }
+
+    private static final Set<String> EXCLUDED_PROPERTIES = Collections
+            .unmodifiableSet(new HashSet<>(Arrays.asList("class", "asyncapi")));
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<PropertyAccessor[]> ACCESSORS = new ClassValue<PropertyAccessor[]>() {
+        @Override
+        protected PropertyAccessor[] computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    private final Kind kind;
+
+    private final MethodHandle getter;
+
+    private final MethodHandle setter;
+
+    private PropertyAccessor(Kind kind, MethodHandle getter, MethodHandle setter) {
+        this.kind = kind;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    /**
+     * @param type the class of the merged objects
+     * @return the accessors of all writable properties of the class, in the order reported by the {@link Introspector}
+     */
+    static PropertyAccessor[] of(Class<?> type) {
+        return ACCESSORS.get(type);
+    }
+
+    Kind kind() {
+        return kind;
+    }
+
+    Object get(Object target) {
+        try {
+            return (Object) getter.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new RuntimeException(t);
+        }
+    }
+
+    void set(Object target, Object value) {
+        try {
+            setter.invokeExact(target, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new RuntimeException(t);
+        }
+    }
+
+    private static PropertyAccessor[] resolve(Class<?> type) {
+        PropertyDescriptor[] descriptors = new PropertyDescriptor[0];
+        try {
+            descriptors = Introspector.getBeanInfo(type).getPropertyDescriptors();
+        } catch (IntrospectionException e) {
+            UtilLogging.logger.failedToIntrospectBeanInfo(type, e);
+        }
+
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        List<PropertyAccessor> accessors = new ArrayList<>(descriptors.length);
+
+        for (PropertyDescriptor descriptor : descriptors) {
+            Method readMethod = descriptor.getReadMethod();
+            Method writeMethod = descriptor.getWriteMethod();
+
+            if (EXCLUDED_PROPERTIES.contains(descriptor.getName()) || readMethod == null || writeMethod == null) {
+                continue;
+            }
+
+            try {
+                accessors.add(new PropertyAccessor(kindOf(descriptor.getPropertyType()),
+                        lookup.unreflect(readMethod).asType(GETTER_TYPE),
+                        lookup.unreflect(writeMethod).asType(SETTER_TYPE)));
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        return accessors.toArray(new PropertyAccessor[0]);
+    }
+
+    private static Kind kindOf(Class<?> propertyType) {
+        if (Constructible.class.isAssignableFrom(propertyType)) {
+            return Kind.CONSTRUCTIBLE;
+        } else if (Map.class.isAssignableFrom(propertyType)) {
+            return Kind.MAP;
+        } else if (List.class.isAssignableFrom(propertyType)) {
+            return Kind.LIST;
+        }
+        return Kind.VALUE;
+    }
+}
@@ -16,9 +16,8 @@
 package io.smallrye.asyncapi.core.runtime;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.microprofile.config.Config;
@@ -60,42 +59,42 @@ public class AsyncApiProcessor {
     }
 
     public static AsyncAPI bootstrap(AsyncApiConfig config, IndexView index, ClassLoader classLoader) {
-        List<AsyncApiStaticFile> staticfiles = loadAsyncApiStaticFiles(classLoader);
-        return bootstrap(config, index, classLoader, staticfiles.toArray(new AsyncApiStaticFile[] {}));
+        AsyncAPI staticModel;
+        try {
+            staticModel = AsyncApiStaticFiles.parse(AsyncApiStaticFiles.find(classLoader));
+        } catch (IOException e) {
+            throw new AsyncApiRuntimeException(e);
+        }
+        return bootstrap(config, index, classLoader, staticModel);
     }
 
     public static AsyncAPI bootstrap(AsyncApiConfig config, IndexView index, ClassLoader classLoader,
             AsyncApiStaticFile... staticFiles) {
-        AsyncApiDocument.INSTANCE.reset();
+        return bootstrap(config, index, classLoader, modelFromStaticFiles(staticFiles));
+    }
+
+    private static AsyncAPI bootstrap(AsyncApiConfig config, IndexView index, ClassLoader classLoader,
+            AsyncAPI staticModel) {
+        AsyncApiDocument document = new AsyncApiDocument();
 
         // Set the config
         if (config != null) {
-            AsyncApiDocument.INSTANCE.config(config);
-        }
-        // Load all static files
-        if (staticFiles != null && staticFiles.length > 0) {
-            for (AsyncApiStaticFile staticFile : staticFiles) {
-                AsyncApiDocument.INSTANCE.modelFromStaticFile(modelFromStaticFile(staticFile));
-            }
+            document.config(config);
         }
+        // Merged model of all static files
+        document.modelFromStaticFile(staticModel);
         // Scan annotations
         if (config != null && index != null) {
             AsyncAPI model = modelFromAnnotations(config, classLoader, index);
-            AsyncApiDocument.INSTANCE.modelFromAnnotations(model);
+            document.modelFromAnnotations(model);
         }
         // Filter and model
         if (config != null && classLoader != null) {
-            AsyncApiDocument.INSTANCE.modelFromReader(modelFromReader(config, classLoader));
-            AsyncApiDocument.INSTANCE.filter(getFilter(config, classLoader));
+            document.modelFromReader(modelFromReader(config, classLoader));
+            document.filter(getFilter(config, classLoader));
         }
 
-        AsyncApiDocument.INSTANCE.initialize();
-
-        AsyncAPI asyncAPI = AsyncApiDocument.INSTANCE.get();
-
-        AsyncApiDocument.INSTANCE.reset();
-
-        return asyncAPI;
+        return document.initialize();
     }
 
     /**
@@ -117,6 +116,21 @@ public class AsyncApiProcessor {
         }
     }
 
+    /**
+     * Parse the content of the static files in parallel and merge the resulting models in the given order. Note that this
+     * method does NOT close the resources in the static files. The caller is responsible for that.
+     *
+     * @param staticFiles the static files to be parsed
+     * @return the merged model, or null if there are no static files
+     * @see AsyncApiStaticFiles#merge(List, java.util.function.Function)
+     */
+    public static AsyncAPI modelFromStaticFiles(AsyncApiStaticFile... staticFiles) {
+        if (staticFiles == null) {
+            return null;
+        }
+        return AsyncApiStaticFiles.merge(Arrays.asList(staticFiles), AsyncApiProcessor::modelFromStaticFile);
+    }
+
     /**
      * Create an {@link AsyncAPI} model by scanning the deployment for relevant JAX-RS and
      * AsyncAPI annotations. If scanning is disabled, this method returns null. If scanning
@@ -194,27 +208,4 @@ public class AsyncApiProcessor {
             throw new AsyncApiRuntimeException(e);
         }
     }
-
-    private static List<AsyncApiStaticFile> loadAsyncApiStaticFiles(ClassLoader classLoader) {
-        List<AsyncApiStaticFile> apiStaticFiles = new ArrayList<>();
-
-        loadAsyncApiStaticFile(apiStaticFiles, classLoader, "/META-INF/asyncapi.yaml", AsyncApiFormat.YAML);
-        loadAsyncApiStaticFile(apiStaticFiles, classLoader, "/WEB-INF/classes/META-INF/asyncapi.yaml", AsyncApiFormat.YAML);
-        loadAsyncApiStaticFile(apiStaticFiles, classLoader, "/META-INF/asyncapi.yml", AsyncApiFormat.YAML);
-        loadAsyncApiStaticFile(apiStaticFiles, classLoader, "/WEB-INF/classes/META-INF/asyncapi.yml", AsyncApiFormat.YAML);
-        loadAsyncApiStaticFile(apiStaticFiles, classLoader, "/META-INF/asyncapi.json", AsyncApiFormat.JSON);
-        loadAsyncApiStaticFile(apiStaticFiles, classLoader, "/WEB-INF/classes/META-INF/asyncapi.json", AsyncApiFormat.JSON);
-
-        return apiStaticFiles;
-    }
-
-    private static List<AsyncApiStaticFile> loadAsyncApiStaticFile(List<AsyncApiStaticFile> apiStaticFiles,
-            ClassLoader classLoader,
-            String path, AsyncApiFormat format) {
-        InputStream staticStream = classLoader.getResourceAsStream(path);
-        if (staticStream != null) {
-            apiStaticFiles.add(new AsyncApiStaticFile(staticStream, format));
-        }
-        return apiStaticFiles;
-    }
 }
@@ -0,0 +1,230 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime;
+
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import io.smallrye.asyncapi.core.api.util.MergeUtil;
+import io.smallrye.asyncapi.core.runtime.io.AsyncApiParser;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+
+/**
+ * Finds the static AsyncAPI files of an application and merges them into a single model.
+ * <p>
+ * Every archive may contribute static files, each a fragment of the final document: the files listed in
+ * {@link #FILE_NAMES}, and every JSON or YAML file in one of the {@link #DIRECTORIES}. The fragments are parsed in
+ * parallel and merged by a balanced tree reduction, i.e. neighbouring fragments are merged pairwise, then their results
+ * and so on. Since the merge is associative, the result is the same as merging the fragments one after the other in
+ * the order they were found.
+ */
+public class AsyncApiStaticFiles {
+
+    /**
+     * The names of the static files, in the order they are merged.
+     */
+    public static final List<String> FILE_NAMES = Collections.unmodifiableList(Arrays.asList("META-INF/asyncapi.yaml",
+            "WEB-INF/classes/META-INF/asyncapi.yaml", "META-INF/asyncapi.yml", "WEB-INF/classes/META-INF/asyncapi.yml",
+            "META-INF/asyncapi.json", "WEB-INF/classes/META-INF/asyncapi.json"));
+
+    /**
+     * The directories containing static files, merged after the files of {@link #FILE_NAMES} in the order of their names.
+     */
+    public static final List<String> DIRECTORIES = Collections
+            .unmodifiableList(Arrays.asList("META-INF/asyncapi", "WEB-INF/classes/META-INF/asyncapi"));
+
+    private AsyncApiStaticFiles() {
+    }
+
+    /**
+     * Determine the format of a static file by its extension.
+     *
+     * @param fileName the name of the file
+     * @return the format, or null if the file is not a JSON or YAML file
+     */
+    public static AsyncApiFormat formatOf(String fileName) {
+        String name = fileName.toLowerCase();
+        if (name.endsWith(".yaml") || name.endsWith(".yml")) {
+            return AsyncApiFormat.YAML;
+        }
+        if (name.endsWith(".json")) {
+            return AsyncApiFormat.JSON;
+        }
+        return null;
+    }
+
+    /**
+     * Find the static files of all archives visible to the given class loader, in the order of {@link #FILE_NAMES} and
+     * {@link #DIRECTORIES}, and for each name in the order of the class path. A directory is only found in a jar if the
+     * jar contains an entry for the directory itself, as jars usually do.
+     *
+     * @param classLoader the class loader
+     * @return the URLs of the static files
+     * @throws IOException if an archive cannot be read
+     */
+    public static List<URL> find(ClassLoader classLoader) throws IOException {
+        List<URL> staticFiles = new ArrayList<>();
+
+        for (String fileName : FILE_NAMES) {
+            staticFiles.addAll(Collections.list(classLoader.getResources(fileName)));
+        }
+
+        for (String directory : DIRECTORIES) {
+            Enumeration<URL> urls = classLoader.getResources(directory);
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                String base = url.toExternalForm()
+                        .endsWith("/") ? url.toExternalForm() : url.toExternalForm() + '/';
+
+                for (String fileName : list(url)) {
+                    staticFiles.add(new URL(base + fileName));
+                }
+            }
+        }
+
+        return staticFiles;
+    }
+
+    /**
+     * List the names of the static files in a directory of the file system or of a jar.
+     */
+    private static List<String> list(URL directory) throws IOException {
+        if ("file".equals(directory.getProtocol())) {
+            try (Stream<Path> files = Files.list(Paths.get(directory.toURI()))) {
+                return files.filter(Files::isRegularFile)
+                        .map(file -> file.getFileName()
+                                .toString())
+                        .filter(fileName -> formatOf(fileName) != null)
+                        .sorted()
+                        .collect(Collectors.toList());
+            } catch (URISyntaxException e) {
+                throw new IOException(e);
+            }
+        }
+
+        URLConnection connection = directory.openConnection();
+        if (!(connection instanceof JarURLConnection)) {
+            return Collections.emptyList();
+        }
+
+        // Do not share the jar file with the class loader, it is closed below
+        connection.setUseCaches(false);
+        JarURLConnection jarConnection = (JarURLConnection) connection;
+        String prefix = jarConnection.getEntryName()
+                .endsWith("/") ? jarConnection.getEntryName() : jarConnection.getEntryName() + '/';
+
+        try (JarFile jar = jarConnection.getJarFile()) {
+            return jar.stream()
+                    .map(JarEntry::getName)
+                    .filter(name -> name.startsWith(prefix) && name.indexOf('/', prefix.length()) < 0)
+                    .map(name -> name.substring(prefix.length()))
+                    .filter(fileName -> formatOf(fileName) != null)
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Parse the static files at the given URLs and merge them.
+     *
+     * @param staticFiles the URLs of the static files in the order they are merged
+     * @return the merged model, or null if there are no static files
+     * @throws AsyncApiRuntimeException if a static file cannot be read
+     */
+    public static AsyncAPI parse(List<URL> staticFiles) {
+        return merge(staticFiles, url -> {
+            try {
+                return AsyncApiParser.parse(url);
+            } catch (IOException e) {
+                throw new AsyncApiRuntimeException(e);
+            }
+        });
+    }
+
+    /**
+     * Parse the given static files in parallel and merge the resulting models by a balanced tree reduction.
+     *
+     * @param staticFiles the static files in the order they are merged
+     * @param parser parses a single static file
+     * @param <T> the type of the static files
+     * @return the merged model, or null if there are no static files
+     */
+    public static <T> AsyncAPI merge(List<T> staticFiles, Function<T, AsyncAPI> parser) {
+        if (staticFiles.isEmpty()) {
+            return null;
+        }
+        if (staticFiles.size() == 1) {
+            return parser.apply(staticFiles.get(0));
+        }
+        return ForkJoinPool.commonPool()
+                .invoke(new MergeTask<>(staticFiles, parser, 0, staticFiles.size()));
+    }
+
+    /**
+     * Parses the static files in a range, merging the halves of the range after they have been parsed concurrently.
+     */
+    private static final class MergeTask<T> extends RecursiveTask<AsyncAPI> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<T> staticFiles;
+
+        private final transient Function<T, AsyncAPI> parser;
+
+        private final int from;
+
+        private final int to;
+
+        MergeTask(List<T> staticFiles, Function<T, AsyncAPI> parser, int from, int to) {
+            this.staticFiles = staticFiles;
+            this.parser = parser;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected AsyncAPI compute() {
+            if (to - from == 1) {
+                return parser.apply(staticFiles.get(from));
+            }
+
+            int middle = (from + to) >>> 1;
+            MergeTask<T> first = new MergeTask<>(staticFiles, parser, from, middle);
+            first.fork();
+            AsyncAPI second = new MergeTask<>(staticFiles, parser, middle, to).compute();
+
+            return MergeUtil.merge(first.join(), second);
+        }
+    }
+}
@@ -20,6 +20,7 @@ import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
@@ -36,6 +37,10 @@ import io.smallrye.asyncapi.spec.models.schema.Schema;
  */
 public class AsyncApiParser {
 
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+
+    private static final ObjectMapper YAML_MAPPER = new ObjectMapper(new YAMLFactory());
+
     /**
      * Parses the resource found at the given URL. This method accepts resources either in JSON or YAML format. It will parse
      * the input and, assuming it
@@ -74,7 +79,8 @@ public class AsyncApiParser {
     }
 
     /**
-     * Parses the resource found at the given stream. The format of the stream must be specified.
+     * Parses the resource found at the given stream. The format of the stream must be specified. The document is read
+     * token by token, channels and components are built entry by entry instead of from a tree of the whole document.
      *
      * @param stream InputStream containing an AsyncAPI document
      * @param format Format of the stream
@@ -82,17 +88,16 @@ public class AsyncApiParser {
      * @throws IOException Errors in reading the stream
      */
     public static final AsyncAPI parse(InputStream stream, AsyncApiFormat format) throws IOException {
-        ObjectMapper mapper;
-        if (format == AsyncApiFormat.JSON) {
-            mapper = new ObjectMapper();
-        } else {
-            mapper = new ObjectMapper(new YAMLFactory());
-        }
-        JsonNode tree = mapper.readTree(stream);
+        ObjectMapper mapper = format == AsyncApiFormat.JSON ? JSON_MAPPER : YAML_MAPPER;
+
+        try (JsonParser parser = mapper.getFactory().createParser(stream)) {
+            parser.nextToken();
 
-        AsyncApiParser parser = new AsyncApiParser(tree);
+            AsyncAPI aai = new AsyncAPIImpl();
+            DefinitionReader.processDefinition(aai, parser);
 
-        return parser.parse();
+            return aai;
+        }
     }
 
     /**
@@ -103,29 +108,7 @@ public class AsyncApiParser {
      * @throws IOException Errors in reading the String
      */
     public static final Schema parseSchema(String schemaJson) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        JsonNode tree = mapper.readTree(schemaJson);
+        JsonNode tree = JSON_MAPPER.readTree(schemaJson);
         return SchemaReader.readSchema(tree);
     }
-
-    private final JsonNode tree;
-
-    /**
-     * Constructor.
-     *
-     * @param tree JsonNode
-     */
-    public AsyncApiParser(JsonNode tree) {
-        this.tree = tree;
-    }
-
-    /**
-     * Parses the json tree into an AsyncAPI data model.
-     */
-    private AsyncAPI parse() {
-        AsyncAPI aai = new AsyncAPIImpl();
-        DefinitionReader.processDefinition(aai, tree);
-
-        return aai;
-    }
 }
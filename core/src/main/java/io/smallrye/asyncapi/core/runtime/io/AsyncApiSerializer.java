@@ -15,11 +15,18 @@
  */
 package io.smallrye.asyncapi.core.runtime.io;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
 
@@ -27,8 +34,18 @@ import io.smallrye.asyncapi.core.runtime.AsyncApiFormat;
 import io.smallrye.asyncapi.core.runtime.io.definition.DefinitionWriter;
 import io.smallrye.asyncapi.spec.models.AsyncAPI;
 
+/**
+ * Serializes an AsyncAPI model to JSON or YAML. The model is streamed token by token to a {@link JsonGenerator}, no
+ * intermediate JSON tree or String is built.
+ */
 public class AsyncApiSerializer {
 
+    private static final JsonFactory JSON_FACTORY = new ObjectMapper().getFactory();
+
+    private static final JsonFactory YAML_FACTORY = new ObjectMapper(new YAMLFactory()
+            .enable(YAMLGenerator.Feature.ALWAYS_QUOTE_NUMBERS_AS_STRINGS)
+            .enable(YAMLGenerator.Feature.SPLIT_LINES)).getFactory();
+
     private AsyncApiSerializer() {
     }
 
@@ -41,24 +58,83 @@ public class AsyncApiSerializer {
      * @throws IOException Errors in processing the JSON
      */
     public static final String serialize(AsyncAPI asyncAPI, AsyncApiFormat format) throws IOException {
-        try {
-            ObjectNode tree = JsonUtil.objectNode();
-            DefinitionWriter.writeAsyncAPI(tree, asyncAPI);
+        StringWriter writer = new StringWriter();
+        serialize(asyncAPI, format, writer);
+        return writer.toString();
+    }
 
-            if (format == AsyncApiFormat.JSON) {
-                return new ObjectMapper().writerWithDefaultPrettyPrinter()
-                        .writeValueAsString(tree);
-            }
+    /**
+     * Serializes the given AsyncAPI object into either JSON or YAML and returns it as UTF-8 encoded bytes.
+     *
+     * @param asyncAPI the AsyncAPI object
+     * @param format the serialization format
+     * @return AsyncAPI object as UTF-8 encoded bytes
+     * @throws IOException Errors in processing the JSON
+     */
+    public static final byte[] serializeToBytes(AsyncAPI asyncAPI, AsyncApiFormat format) throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        serialize(asyncAPI, format, stream);
+        return stream.toByteArray();
+    }
 
-            YAMLFactory factory = new YAMLFactory();
-            factory.enable(YAMLGenerator.Feature.ALWAYS_QUOTE_NUMBERS_AS_STRINGS);
-            factory.enable(YAMLGenerator.Feature.SPLIT_LINES);
+    /**
+     * Serializes the given AsyncAPI object into either JSON or YAML and writes it UTF-8 encoded to the stream. The
+     * stream is flushed, but not closed.
+     *
+     * @param asyncAPI the AsyncAPI object
+     * @param format the serialization format
+     * @param stream the target stream
+     * @throws IOException Errors in writing the stream
+     */
+    public static final void serialize(AsyncAPI asyncAPI, AsyncApiFormat format, OutputStream stream)
+            throws IOException {
+        try (JsonGenerator generator = factory(format).createGenerator(stream, JsonEncoding.UTF8)) {
+            serialize(asyncAPI, format, generator);
+        }
+    }
 
-            return new ObjectMapper(factory).writer()
-                    .writeValueAsString(tree);
+    /**
+     * Serializes the given AsyncAPI object into either JSON or YAML and writes it UTF-8 encoded to the channel. The
+     * channel is not closed.
+     *
+     * @param asyncAPI the AsyncAPI object
+     * @param format the serialization format
+     * @param channel the target channel
+     * @throws IOException Errors in writing the channel
+     */
+    public static final void serialize(AsyncAPI asyncAPI, AsyncApiFormat format, WritableByteChannel channel)
+            throws IOException {
+        serialize(asyncAPI, format, Channels.newOutputStream(channel));
+    }
 
-        } catch (JsonProcessingException e) {
-            throw new IOException(e);
+    /**
+     * Serializes the given AsyncAPI object into either JSON or YAML and writes it to the writer. The writer is flushed,
+     * but not closed.
+     *
+     * @param asyncAPI the AsyncAPI object
+     * @param format the serialization format
+     * @param writer the target writer
+     * @throws IOException Errors in writing the writer
+     */
+    public static final void serialize(AsyncAPI asyncAPI, AsyncApiFormat format, Writer writer) throws IOException {
+        try (JsonGenerator generator = factory(format).createGenerator(writer)) {
+            serialize(asyncAPI, format, generator);
+        }
+    }
+
+    private static void serialize(AsyncAPI asyncAPI, AsyncApiFormat format, JsonGenerator generator)
+            throws IOException {
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        if (format == AsyncApiFormat.JSON) {
+            generator.useDefaultPrettyPrinter();
         }
+
+        generator.writeStartObject();
+        DefinitionWriter.writeAsyncAPI(generator, asyncAPI);
+        generator.writeEndObject();
+    }
+
+    private static JsonFactory factory(AsyncApiFormat format) {
+        return format == AsyncApiFormat.JSON ? JSON_FACTORY : YAML_FACTORY;
     }
 }
@@ -33,4 +33,10 @@ interface IoMessages {
 
     @Message(id = 3002, value = "Invalid file extension for URL (expected json, yaml, or yml): %s")
     IOException invalidFileExtension(String url);
+
+    @Message(id = 3003, value = "Reference %s cannot be resolved")
+    IllegalArgumentException unresolvedReference(String ref);
+
+    @Message(id = 3004, value = "References form a cycle: %s")
+    IllegalStateException referenceCycle(String refs);
 }
@@ -15,15 +15,19 @@
  */
 package io.smallrye.asyncapi.core.runtime.io;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -47,6 +51,26 @@ public class JsonUtil {
     private JsonUtil() {
     }
 
+    /**
+     * Key the given models by the name of the property they are written to. As for the properties of a json tree, a
+     * model replaces a preceding model of the same name at the position of the preceding one, so a generator never
+     * writes the same property twice. Null models are skipped.
+     *
+     * @param models the models to write
+     * @param propertyName returns the name of the property of a model
+     * @param <T> Type of the models
+     * @return the models to write, in the order to write them
+     */
+    public static <T> Collection<T> uniqueProperties(Collection<T> models, Function<T, String> propertyName) {
+        Map<String, T> properties = new LinkedHashMap<>();
+        for (T model : models) {
+            if (model != null) {
+                properties.put(propertyName.apply(model), model);
+            }
+        }
+        return properties.values();
+    }
+
     /**
      * Extract a string property from the given json tree. Returns null if no property exists or is not a text node.
      *
@@ -66,33 +90,36 @@ public class JsonUtil {
     /**
      * Sets the value of a property for a given json node. If the value is null, then the property is not written.
      *
-     * @param node ObjectNode
+     * @param generator the json generator
      * @param propertyName Property to be set
      * @param propertyValue Value to be set
+     * @throws IOException Errors in writing the property
      */
-    public static void stringProperty(ObjectNode node, String propertyName, String propertyValue) {
+    public static void stringProperty(JsonGenerator generator, String propertyName, String propertyValue) throws IOException {
         if (propertyValue == null) {
             return;
         }
         if (propertyName == null) {
             return;
         }
-        node.set(propertyName, factory.textNode(propertyValue));
+        generator.writeStringField(propertyName, propertyValue);
     }
 
     /**
      * Sets the value of a property for a given json node. If the value is null, then the property is not written.
      *
-     * @param node ObjectNode
+     * @param generator the json generator
      * @param propertyName Property to be set
      * @param propertyValue Value to be set
      * @param <E> Type of the property value
+     * @throws IOException Errors in writing the property
      */
-    public static <E extends Enum<E>> void enumProperty(ObjectNode node, String propertyName, E propertyValue) {
+    public static <E extends Enum<E>> void enumProperty(JsonGenerator generator, String propertyName, E propertyValue)
+            throws IOException {
         if (propertyValue == null) {
             return;
         }
-        node.set(propertyName, factory.textNode(propertyValue.toString()));
+        generator.writeStringField(propertyName, propertyValue.toString());
     }
 
     /**
@@ -113,15 +140,17 @@ public class JsonUtil {
     /**
      * Sets the value of a property for a given json node. If the value is null, then the property is not written.
      *
-     * @param node ObjectNode
+     * @param generator the json generator
      * @param propertyName Property to be set
      * @param propertyValue Boolean value to be set
+     * @throws IOException Errors in writing the property
      */
-    public static void booleanProperty(ObjectNode node, String propertyName, Boolean propertyValue) {
+    public static void booleanProperty(JsonGenerator generator, String propertyName, Boolean propertyValue)
+            throws IOException {
         if (propertyValue == null) {
             return;
         }
-        node.set(propertyName, factory.booleanNode(propertyValue));
+        generator.writeBooleanField(propertyName, propertyValue);
     }
 
     /**
@@ -142,15 +171,16 @@ public class JsonUtil {
     /**
      * Sets the value of a property for a given json node. If the value is null, then the property is not written.
      *
-     * @param node ObjectNode
+     * @param generator the json generator
      * @param propertyName Property to be set
      * @param propertyValue Integer value to be set
+     * @throws IOException Errors in writing the property
      */
-    public static void intProperty(ObjectNode node, String propertyName, Integer propertyValue) {
+    public static void intProperty(JsonGenerator generator, String propertyName, Integer propertyValue) throws IOException {
         if (propertyValue == null) {
             return;
         }
-        node.set(propertyName, factory.numberNode(propertyValue));
+        generator.writeNumberField(propertyName, propertyValue);
     }
 
     /**
@@ -171,18 +201,21 @@ public class JsonUtil {
     /**
      * Sets the value of a property for a given json node. If the value is null, then the property is not written.
      *
-     * @param node ObjectNode
+     * @param generator the json generator
      * @param propertyName Property to be set
      * @param propertyValue BigDecimal value to be set
+     * @throws IOException Errors in writing the property
      */
-    public static void bigDecimalProperty(ObjectNode node, String propertyName, BigDecimal propertyValue) {
+    public static void bigDecimalProperty(JsonGenerator generator, String propertyName, BigDecimal propertyValue)
+            throws IOException {
         if (propertyValue == null) {
             return;
         }
+        generator.writeFieldName(propertyName);
         if (isIntegerValue(propertyValue)) {
-            node.set(propertyName, factory.numberNode(propertyValue.toBigInteger()));
+            generator.writeNumber(propertyValue.toBigInteger());
         } else {
-            node.set(propertyName, factory.numberNode(propertyValue));
+            generator.writeNumber(propertyValue);
         }
     }
 
@@ -15,14 +15,14 @@
  */
 package io.smallrye.asyncapi.core.runtime.io;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.List;
 import java.util.Map;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 
 public class ObjectWriter {
 
@@ -30,137 +30,116 @@ public class ObjectWriter {
     }
 
     /**
-     * Writes an array of strings to the parent node.
+     * Writes an array of strings to the generator.
      *
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param models list of Strings
      * @param propertyName the name of the node
+     * @throws IOException Errors in writing the JSON
      */
-    public static void writeStringArray(ObjectNode parent, List<String> models, String propertyName) {
+    public static void writeStringArray(JsonGenerator generator, List<String> models, String propertyName)
+            throws IOException {
         if (models == null) {
             return;
         }
-        ArrayNode node = parent.putArray(propertyName);
+        generator.writeArrayFieldStart(propertyName);
         for (String model : models) {
-            node.add(model);
+            generator.writeString(model);
         }
+        generator.writeEndArray();
     }
 
     /**
-     * Writes an array of objects to the parent node.
+     * Writes an array of objects to the generator.
      *
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param models list of objects
      * @param propertyName the name of the node
+     * @throws IOException Errors in writing the JSON
      */
-    public static void writeObjectArray(ObjectNode parent, List<Object> models, String propertyName) {
+    public static void writeObjectArray(JsonGenerator generator, List<Object> models, String propertyName)
+            throws IOException {
         if (models == null) {
             return;
         }
-        ArrayNode node = parent.putArray(propertyName);
+        generator.writeArrayFieldStart(propertyName);
         for (Object model : models) {
-            addObject(node, model);
+            writeValue(generator, model);
         }
+        generator.writeEndArray();
     }
 
     /**
-     * Writes a map of strings to the parent node.
+     * Writes a map of strings to the generator.
      *
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param models map of strings
      * @param propertyName name of the node
+     * @throws IOException Errors in writing the JSON
      */
-    public static void writeStringMap(ObjectNode parent, Map<String, String> models, String propertyName) {
+    public static void writeStringMap(JsonGenerator generator, Map<String, String> models, String propertyName)
+            throws IOException {
         if (models == null) {
             return;
         }
-        ObjectNode node = parent.putObject(propertyName);
+        generator.writeObjectFieldStart(propertyName);
         for (Map.Entry<String, String> entry : models.entrySet()) {
-            node.put(entry.getKey(), entry.getValue());
+            generator.writeStringField(entry.getKey(), entry.getValue());
         }
+        generator.writeEndObject();
     }
 
     /**
      * Write an object to json
      *
-     * @param node the json node
+     * @param generator the json generator
      * @param key key
      * @param value value
+     * @throws IOException Errors in writing the JSON
      */
-    public static void writeObject(ObjectNode node, String key, Object value) {
+    public static void writeObject(JsonGenerator generator, String key, Object value) throws IOException {
         if (value == null) {
             return;
         }
-        if (value instanceof String) {
-            node.put(key, (String) value);
-        } else if (value instanceof JsonNode) {
-            node.set(key, (JsonNode) value);
-        } else if (value instanceof BigDecimal) {
-            node.put(key, (BigDecimal) value);
-        } else if (value instanceof BigInteger) {
-            node.put(key, new BigDecimal((BigInteger) value));
-        } else if (value instanceof Boolean) {
-            node.put(key, (Boolean) value);
-        } else if (value instanceof Double) {
-            node.put(key, (Double) value);
-        } else if (value instanceof Float) {
-            node.put(key, (Float) value);
-        } else if (value instanceof Integer) {
-            node.put(key, (Integer) value);
-        } else if (value instanceof Long) {
-            node.put(key, (Long) value);
-        } else if (value instanceof List) {
-            ArrayNode array = node.putArray(key);
-            for (Object valueItem : List.class.cast(value)) {
-                addObject(array, valueItem);
-            }
-        } else if (value instanceof Map) {
-            ObjectNode objNode = node.putObject(key);
-            @SuppressWarnings("unchecked")
-            Map<String, Object> values = (Map<String, Object>) value;
-            for (Map.Entry<String, Object> entry : values.entrySet()) {
-                String propertyName = entry.getKey();
-                writeObject(objNode, propertyName, entry.getValue());
-            }
-        } else {
-            node.put(key, (String) null);
-        }
+        generator.writeFieldName(key);
+        writeValue(generator, value);
     }
 
-    private static void addObject(ArrayNode node, Object value) {
+    private static void writeValue(JsonGenerator generator, Object value) throws IOException {
         if (value instanceof String) {
-            node.add((String) value);
+            generator.writeString((String) value);
         } else if (value instanceof JsonNode) {
-            node.add((JsonNode) value);
+            generator.writeTree((JsonNode) value);
         } else if (value instanceof BigDecimal) {
-            node.add((BigDecimal) value);
+            generator.writeNumber((BigDecimal) value);
         } else if (value instanceof BigInteger) {
-            node.add(new BigDecimal((BigInteger) value));
+            generator.writeNumber(new BigDecimal((BigInteger) value));
         } else if (value instanceof Boolean) {
-            node.add((Boolean) value);
+            generator.writeBoolean((Boolean) value);
         } else if (value instanceof Double) {
-            node.add((Double) value);
+            generator.writeNumber((Double) value);
         } else if (value instanceof Float) {
-            node.add((Float) value);
+            generator.writeNumber((Float) value);
         } else if (value instanceof Integer) {
-            node.add((Integer) value);
+            generator.writeNumber((Integer) value);
         } else if (value instanceof Long) {
-            node.add((Long) value);
+            generator.writeNumber((Long) value);
         } else if (value instanceof List) {
-            ArrayNode array = node.addArray();
+            generator.writeStartArray();
             for (Object valueItem : List.class.cast(value)) {
-                addObject(array, valueItem);
+                writeValue(generator, valueItem);
             }
+            generator.writeEndArray();
         } else if (value instanceof Map) {
-            ObjectNode objNode = node.addObject();
+            generator.writeStartObject();
             @SuppressWarnings("unchecked")
             Map<String, Object> values = (Map<String, Object>) value;
             for (Map.Entry<String, Object> entry : values.entrySet()) {
-                String propertyName = entry.getKey();
-                writeObject(objNode, propertyName, entry.getValue());
+                writeObject(generator, entry.getKey(), entry.getValue());
             }
+            generator.writeEndObject();
         } else {
-            node.add((String) null);
+            generator.writeNull();
         }
     }
 }
@@ -0,0 +1,457 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.io;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+import io.smallrye.asyncapi.core.api.models.parameter.ParameterImpl;
+import io.smallrye.asyncapi.core.runtime.io.components.ComponentsConstant;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+import io.smallrye.asyncapi.spec.models.Components;
+import io.smallrye.asyncapi.spec.models.Reference;
+import io.smallrye.asyncapi.spec.models.channel.ChannelItem;
+import io.smallrye.asyncapi.spec.models.channel.Channels;
+import io.smallrye.asyncapi.spec.models.message.Message;
+import io.smallrye.asyncapi.spec.models.message.MessageTrait;
+import io.smallrye.asyncapi.spec.models.operation.Operation;
+import io.smallrye.asyncapi.spec.models.operation.OperationTrait;
+import io.smallrye.asyncapi.spec.models.parameter.Parameter;
+import io.smallrye.asyncapi.spec.models.parameter.Parameters;
+import io.smallrye.asyncapi.spec.models.schema.Schema;
+
+/**
+ * Resolves the <code>$ref</code> properties of a model against its {@link Components}. The components are indexed by
+ * their JSON pointer (e.g. <code>#/components/schemas/Payload</code>) once, when the resolver is created, and every
+ * reference is followed only once, so that resolving a reference again is a single lookup.
+ * <p>
+ * A reference may point to a component that is a reference itself; such chains are followed to the first component
+ * that is not. A short name not containing a <code>/</code> is expanded to the component of the same kind, e.g.
+ * <code>Payload</code> of a schema to <code>#/components/schemas/Payload</code>.
+ * <p>
+ * Parameters are the only components carrying their own name, so a parameter referring to another one is resolved to
+ * the parameter it points to, but dereferenced to a copy of it named like the referring parameter.
+ * <p>
+ * The resolver reflects the components at the time it was created. It may be used by several threads, as long as the
+ * model is not modified.
+ */
+public class ReferenceResolver {
+
+    private static final String COMPONENTS_PREFIX = "#/components/";
+
+    private final AsyncAPI model;
+
+    /**
+     * The components by their JSON pointer.
+     */
+    private final Map<String, Object> index;
+
+    /**
+     * The component a reference resolves to, after following all references.
+     */
+    private final Map<String, Object> resolved = new ConcurrentHashMap<>();
+
+    private ReferenceResolver(AsyncAPI model) {
+        this.model = model;
+        this.index = new HashMap<>();
+
+        Components components = model.getComponents();
+        if (components != null) {
+            index(ComponentsConstant.PROP_SCHEMAS, components.getSchemas());
+            index(ComponentsConstant.PROP_MESSAGES, components.getMessages());
+            index(ComponentsConstant.PROP_PARAMETERS, components.getParameters());
+            index(ComponentsConstant.PROP_SECURITY_SCHEMES, components.getSecuritySchemes());
+            index(ComponentsConstant.PROP_OPERATION_TRAITS, components.getOperationTraits());
+            index(ComponentsConstant.PROP_MESSAGE_TRAITS, components.getMessageTraits());
+        }
+    }
+
+    /**
+     * Create a resolver for the components of the given model.
+     *
+     * @param model AsyncAPI model
+     * @return the resolver
+     */
+    public static ReferenceResolver of(AsyncAPI model) {
+        return new ReferenceResolver(model);
+    }
+
+    /**
+     * @return the model whose components this resolver resolves references against
+     */
+    public AsyncAPI getModel() {
+        return model;
+    }
+
+    private void index(String kind, Map<String, ?> components) {
+        if (components != null) {
+            components.forEach((name, component) -> index.put(pointer(kind, name), component));
+        }
+    }
+
+    /**
+     * The JSON pointer of a component, escaping <code>~</code> and <code>/</code> in its name as defined by
+     * <a href="https://tools.ietf.org/html/rfc6901">RFC6901</a>.
+     *
+     * @param kind the kind of component, e.g. {@link ComponentsConstant#PROP_SCHEMAS}
+     * @param name the name of the component
+     * @return the JSON pointer
+     */
+    public static String pointer(String kind, String name) {
+        return COMPONENTS_PREFIX + kind + '/' + name.replace("~", "~0")
+                .replace("/", "~1");
+    }
+
+    /**
+     * Get the component with the given JSON pointer, without following its reference if any.
+     *
+     * @param pointer the JSON pointer, e.g. <code>#/components/messages/Greeting</code>
+     * @return the component, or <code>null</code> if there is none
+     */
+    public Object get(String pointer) {
+        return index.get(pointer);
+    }
+
+    /**
+     * @return the JSON pointers of all components known to this resolver
+     */
+    public Set<String> getPointers() {
+        return Collections.unmodifiableSet(index.keySet());
+    }
+
+    /**
+     * Resolve the given schema.
+     *
+     * @param schema the schema
+     * @return the schema referenced by the given schema, or the given schema if it is not a reference
+     * @throws IllegalArgumentException if a reference cannot be resolved
+     * @throws IllegalStateException if the references form a cycle
+     */
+    public Schema resolve(Schema schema) {
+        return resolve(schema, ComponentsConstant.PROP_SCHEMAS, Schema.class);
+    }
+
+    /**
+     * Resolve the given message.
+     *
+     * @param message the message
+     * @return the message referenced by the given message, or the given message if it is not a reference
+     * @throws IllegalArgumentException if a reference cannot be resolved
+     * @throws IllegalStateException if the references form a cycle
+     */
+    public Message resolve(Message message) {
+        return resolve(message, ComponentsConstant.PROP_MESSAGES, Message.class);
+    }
+
+    /**
+     * Resolve the given message trait.
+     *
+     * @param messageTrait the message trait
+     * @return the message trait referenced by the given one, or the given one if it is not a reference
+     * @throws IllegalArgumentException if a reference cannot be resolved
+     * @throws IllegalStateException if the references form a cycle
+     */
+    public MessageTrait resolve(MessageTrait messageTrait) {
+        return resolve(messageTrait, ComponentsConstant.PROP_MESSAGE_TRAITS, MessageTrait.class);
+    }
+
+    /**
+     * Resolve the given operation trait.
+     *
+     * @param operationTrait the operation trait
+     * @return the operation trait referenced by the given one, or the given one if it is not a reference
+     * @throws IllegalArgumentException if a reference cannot be resolved
+     * @throws IllegalStateException if the references form a cycle
+     */
+    public OperationTrait resolve(OperationTrait operationTrait) {
+        return resolve(operationTrait, ComponentsConstant.PROP_OPERATION_TRAITS, OperationTrait.class);
+    }
+
+    /**
+     * Resolve the given parameter.
+     *
+     * @param parameter the parameter
+     * @return the parameter referenced by the given parameter, or the given parameter if it is not a reference
+     * @throws IllegalArgumentException if a reference cannot be resolved
+     * @throws IllegalStateException if the references form a cycle
+     */
+    public Parameter resolve(Parameter parameter) {
+        return resolve(parameter, ComponentsConstant.PROP_PARAMETERS, Parameter.class);
+    }
+
+    private <T extends Reference<T>> T resolve(T node, String kind, Class<T> type) {
+        if (node == null || node.getRef() == null) {
+            return node;
+        }
+
+        String ref = expand(node.getRef(), kind);
+        Object target = resolved.get(ref);
+
+        if (target == null) {
+            target = follow(ref, kind, type);
+            resolved.putIfAbsent(ref, target);
+        } else if (!type.isInstance(target)) {
+            // The pointer was resolved before to a component of another kind
+            throw IoMessages.msg.unresolvedReference(ref);
+        }
+
+        return type.cast(target);
+    }
+
+    /**
+     * Follow a reference and the references of the components it points to until a component is not a reference.
+     */
+    private <T extends Reference<T>> T follow(String ref, String kind, Class<T> type) {
+        Set<String> chain = new LinkedHashSet<>();
+
+        while (true) {
+            if (!chain.add(ref)) {
+                throw IoMessages.msg.referenceCycle(String.join(" -> ", chain) + " -> " + ref);
+            }
+
+            Object component = index.get(ref);
+            if (!type.isInstance(component)) {
+                throw IoMessages.msg.unresolvedReference(ref);
+            }
+
+            T target = type.cast(component);
+            if (target.getRef() == null) {
+                return target;
+            }
+
+            ref = expand(target.getRef(), kind);
+        }
+    }
+
+    private static String expand(String ref, String kind) {
+        return ref.indexOf('/') < 0 ? pointer(kind, ref) : ref;
+    }
+
+    /**
+     * Replace every reference in the model by the component it points to. Components referenced more than once are
+     * shared, not copied, except for parameters, which are copied to keep their names. A reference to a component that
+     * (indirectly) contains the reference itself is kept, so that
+     * the model does not contain a cycle afterwards and can still be serialized.
+     *
+     * @return the model
+     * @throws IllegalArgumentException if a reference cannot be resolved
+     * @throws IllegalStateException if the references form a cycle
+     */
+    public AsyncAPI dereference() {
+        new Dereferencer().visitAsyncAPI(model);
+        return model;
+    }
+
+    /**
+     * Walks the model tree once, depth first, replacing references by their resolved components. A component is only
+     * substituted once it has been visited completely, which is what keeps the model acyclic.
+     */
+    private class Dereferencer {
+
+        /**
+         * Whether the walk of a node has been completed, <code>false</code> while it is being visited.
+         */
+        private final Map<Object, Boolean> visited = new IdentityHashMap<>();
+
+        void visitAsyncAPI(AsyncAPI model) {
+            Channels channels = model.getChannels();
+            if (channels != null && channels.getChannels() != null) {
+                channels.getChannels()
+                        .values()
+                        .forEach(this::visitChannelItem);
+            }
+
+            Components components = model.getComponents();
+            if (components != null) {
+                replaceValues(components.getSchemas(), this::visitSchema, components::setSchemas);
+                replaceValues(components.getMessages(), this::visitMessage, components::setMessages);
+                replaceValues(components.getOperationTraits(), this::visitOperationTrait,
+                        components::setOperationTraits);
+                replaceValues(components.getMessageTraits(), this::visitMessageTrait, components::setMessageTraits);
+                replaceValues(components.getParameters(), this::visitParameter, components::setParameters);
+            }
+        }
+
+        private void visitChannelItem(ChannelItem channelItem) {
+            visit(channelItem, c -> {
+                visitOperation(c.getSubscribe());
+                visitOperation(c.getPublish());
+
+                Parameters parameters = c.getParameters();
+                if (parameters != null) {
+                    replaceElements(parameters.getValue(), this::visitParameter, parameters::setValue);
+                }
+            });
+        }
+
+        private void visitOperation(Operation operation) {
+            visit(operation, o -> {
+                replace(o.getMessage(), this::visitMessage, o::setMessage);
+                replaceElements(o.getOperationTraits(), this::visitOperationTrait, o::setOperationTraits);
+            });
+        }
+
+        /**
+         * A parameter cannot contain a reference to itself, so its target is always visited completely.
+         */
+        private Parameter visitParameter(Parameter parameter) {
+            Parameter target = resolve(parameter);
+            visit(target, p -> replace(p.getSchema(), this::visitSchema, p::setSchema));
+
+            if (target == parameter) {
+                return parameter;
+            }
+
+            Parameter copy = new ParameterImpl();
+            copy.setName(parameter.getName());
+            copy.setDescription(target.getDescription());
+            copy.setSchema(target.getSchema());
+            copy.setLocation(target.getLocation());
+            copy.setExtensions(target.getExtensions());
+            return copy;
+        }
+
+        private OperationTrait visitOperationTrait(OperationTrait operationTrait) {
+            OperationTrait target = resolve(operationTrait);
+            return substitute(operationTrait, target, visit(target, t -> {
+                replace(t.getMessage(), this::visitMessage, t::setMessage);
+            }));
+        }
+
+        private MessageTrait visitMessageTrait(MessageTrait messageTrait) {
+            MessageTrait target = resolve(messageTrait);
+            return substitute(messageTrait, target, visit(target, t -> {
+                replace(t.getHeaders(), this::visitSchema, t::setHeaders);
+            }));
+        }
+
+        private Message visitMessage(Message message) {
+            Message target = resolve(message);
+            return substitute(message, target, visit(target, m -> {
+                replace(m.getHeaders(), this::visitSchema, m::setHeaders);
+                replace(m.getPayload(), this::visitSchema, m::setPayload);
+                replaceElements(m.getTraits(), this::visitMessageTrait, m::setTraits);
+            }));
+        }
+
+        private Schema visitSchema(Schema schema) {
+            Schema target = resolve(schema);
+            return substitute(schema, target, visit(target, s -> {
+                replaceValues(s.getProperties(), this::visitSchema, s::setProperties);
+                replace(s.getAdditionalPropertiesSchema(), this::visitSchema, s::setAdditionalPropertiesSchema);
+                replace(s.getItems(), this::visitSchema, s::setItems);
+                replaceElements(s.getAllOf(), this::visitSchema, s::setAllOf);
+                replaceElements(s.getOneOf(), this::visitSchema, s::setOneOf);
+                replaceElements(s.getAnyOf(), this::visitSchema, s::setAnyOf);
+                replace(s.getNot(), this::visitSchema, s::setNot);
+                replace(s.getConstant(), this::visitSchema, s::setConstant);
+            }));
+        }
+
+        /**
+         * Visit a node unless it has been visited before.
+         *
+         * @return whether the walk of the node has been completed, <code>false</code> if it is still being visited
+         */
+        private <T> boolean visit(T node, Consumer<T> action) {
+            if (node == null) {
+                return true;
+            }
+
+            Boolean completed = visited.get(node);
+            if (completed != null) {
+                return completed;
+            }
+
+            visited.put(node, Boolean.FALSE);
+            action.accept(node);
+            visited.put(node, Boolean.TRUE);
+
+            return true;
+        }
+
+        /**
+         * The node to replace a reference by: the target, unless it is still being visited, which means that it
+         * contains the reference.
+         */
+        private <T> T substitute(T node, T target, boolean completed) {
+            return completed ? target : node;
+        }
+
+        private <T> void replace(T child, UnaryOperator<T> visitor, Consumer<T> setter) {
+            if (child != null) {
+                T value = visitor.apply(child);
+                if (value != child) {
+                    setter.accept(value);
+                }
+            }
+        }
+
+        /**
+         * Replace the elements of a list, passing a copy to the setter if any element changed.
+         */
+        private <T> void replaceElements(List<T> list, UnaryOperator<T> visitor, Consumer<List<T>> setter) {
+            if (list == null) {
+                return;
+            }
+
+            List<T> result = new ArrayList<>(list.size());
+            boolean changed = false;
+
+            for (T element : list) {
+                T value = visitor.apply(element);
+                result.add(value);
+                changed |= value != element;
+            }
+
+            if (changed) {
+                setter.accept(result);
+            }
+        }
+
+        /**
+         * Replace the values of a map, passing a copy to the setter if any value changed.
+         */
+        private <T> void replaceValues(Map<String, T> map, UnaryOperator<T> visitor, Consumer<Map<String, T>> setter) {
+            if (map == null) {
+                return;
+            }
+
+            Map<String, T> result = new LinkedHashMap<>(map.size());
+            boolean changed = false;
+
+            for (Map.Entry<String, T> entry : map.entrySet()) {
+                T value = visitor.apply(entry.getValue());
+                result.put(entry.getKey(), value);
+                changed |= value != entry.getValue();
+            }
+
+            if (changed) {
+                setter.accept(result);
+            }
+        }
+    }
+}
@@ -15,7 +15,9 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.bindings;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.core.runtime.io.bindings.amqp.channel.AMQPChannelBindingWriter;
@@ -27,14 +29,14 @@ public class ChannelBindingsWriter {
     public ChannelBindingsWriter() {
     }
 
-    public static void writeChannelBindings(ObjectNode parent, ChannelBindings model) {
+    public static void writeChannelBindings(JsonGenerator generator, ChannelBindings model) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = JsonUtil.objectNode();
-        parent.set(ChannelBindingsConstants.PROP_BINDINGS, node);
+        generator.writeObjectFieldStart(ChannelBindingsConstants.PROP_BINDINGS);
 
-        AMQPChannelBindingWriter.writeAMQPChannelBinding(node, model.getAMQPBinding());
-        WebSocketChannelBindingWriter.writeWebSocketChannelBinding(node, model.getWebSocketBinding());
+        AMQPChannelBindingWriter.writeAMQPChannelBinding(generator, model.getAMQPBinding());
+        WebSocketChannelBindingWriter.writeWebSocketChannelBinding(generator, model.getWebSocketBinding());
+        generator.writeEndObject();
     }
 }
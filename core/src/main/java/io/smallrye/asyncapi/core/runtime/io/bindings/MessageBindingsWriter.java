@@ -15,7 +15,9 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.bindings;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.core.runtime.io.bindings.amqp.message.AMQPMessageBindingWriter;
@@ -29,16 +31,16 @@ public class MessageBindingsWriter {
     public MessageBindingsWriter() {
     }
 
-    public static void writeMessageBindings(final ObjectNode parent, final MessageBindings model) {
+    public static void writeMessageBindings(final JsonGenerator generator, final MessageBindings model) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = JsonUtil.objectNode();
-        parent.set(MessageBindingsConstants.PROP_BINDINGS, node);
+        generator.writeObjectFieldStart(MessageBindingsConstants.PROP_BINDINGS);
 
-        AMQPMessageBindingWriter.writeAMQPMessageBinding(node, model.getAMQPBinding());
-        HTTPMessageBindingWriter.writeHTTPMessageBinding(node, model.getHTTPBinding());
-        KafkaMessageBindingWriter.writeKafkaMessageBinding(node, model.getKafkaBinding());
-        MQTTMessageBindingWriter.writeMQTTMessageBinding(node, model.getMQTTBinding());
+        AMQPMessageBindingWriter.writeAMQPMessageBinding(generator, model.getAMQPBinding());
+        HTTPMessageBindingWriter.writeHTTPMessageBinding(generator, model.getHTTPBinding());
+        KafkaMessageBindingWriter.writeKafkaMessageBinding(generator, model.getKafkaBinding());
+        MQTTMessageBindingWriter.writeMQTTMessageBinding(generator, model.getMQTTBinding());
+        generator.writeEndObject();
     }
 }
@@ -15,7 +15,9 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.bindings;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.core.runtime.io.bindings.amqp.operation.AMQPOperationBindingWriter;
@@ -29,16 +31,16 @@ public class OperationBindingWriter {
     public OperationBindingWriter() {
     }
 
-    public static void writeOperationBindings(final ObjectNode parent, final OperationBindings model) {
+    public static void writeOperationBindings(final JsonGenerator generator, final OperationBindings model) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = JsonUtil.objectNode();
-        parent.set(OperationBindingsConstants.PROP_BINDINGS, node);
+        generator.writeObjectFieldStart(OperationBindingsConstants.PROP_BINDINGS);
 
-        AMQPOperationBindingWriter.writeAMQPOperationBinding(node, model.getAMQPBinding());
-        HTTPOperationBindingWriter.writeHTTPOperationBinding(node, model.getHTTPBinding());
-        KafkaOperationBindingWriter.writeKafkaOperationBinding(node, model.getKafkaBinding());
-        MQTTOperationBindingWriter.writeMQTTOperationBinding(node, model.getMQTTBinding());
+        AMQPOperationBindingWriter.writeAMQPOperationBinding(generator, model.getAMQPBinding());
+        HTTPOperationBindingWriter.writeHTTPOperationBinding(generator, model.getHTTPBinding());
+        KafkaOperationBindingWriter.writeKafkaOperationBinding(generator, model.getKafkaBinding());
+        MQTTOperationBindingWriter.writeMQTTOperationBinding(generator, model.getMQTTBinding());
+        generator.writeEndObject();
     }
 }
@@ -15,7 +15,9 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.bindings;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.core.runtime.io.bindings.mqtt.server.MQTTServerBindingWriter;
@@ -26,13 +28,13 @@ public class ServerBindingsWriter {
     public ServerBindingsWriter() {
     }
 
-    public static void writeServerBindings(final ObjectNode parent, final ServerBindings model) {
+    public static void writeServerBindings(final JsonGenerator generator, final ServerBindings model) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = JsonUtil.objectNode();
-        parent.set(ServerBindingsConstants.PROP_BINDINGS, node);
+        generator.writeObjectFieldStart(ServerBindingsConstants.PROP_BINDINGS);
 
-        MQTTServerBindingWriter.writeMQTTServerBinding(node, model.getMQTTBinding());
+        MQTTServerBindingWriter.writeMQTTServerBinding(generator, model.getMQTTBinding());
+        generator.writeEndObject();
     }
 }
@@ -15,7 +15,9 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.bindings.amqp.channel;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.core.runtime.io.bindings.ChannelBindingsConstants;
@@ -26,16 +28,16 @@ public class AMQPChannelBindingWriter {
     public AMQPChannelBindingWriter() {
     }
 
-    public static void writeAMQPChannelBinding(ObjectNode parent, AMQPChannelBinding model) {
+    public static void writeAMQPChannelBinding(JsonGenerator generator, AMQPChannelBinding model) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = JsonUtil.objectNode();
-        parent.set(ChannelBindingsConstants.PROP_AMQP_BINDING, node);
+        generator.writeObjectFieldStart(ChannelBindingsConstants.PROP_AMQP_BINDING);
 
-        JsonUtil.stringProperty(node, AMQPChannelBindingConstants.PROP_IS, model.getIs());
-        ExchangeWriter.writeExchange(node, model.getExchange());
-        QueueWriter.writeQueue(node, model.getQueue());
-        JsonUtil.stringProperty(node, AMQPChannelBindingConstants.PROP_BINDING_VERSION, model.getBindingVersion());
+        JsonUtil.stringProperty(generator, AMQPChannelBindingConstants.PROP_IS, model.getIs());
+        ExchangeWriter.writeExchange(generator, model.getExchange());
+        QueueWriter.writeQueue(generator, model.getQueue());
+        JsonUtil.stringProperty(generator, AMQPChannelBindingConstants.PROP_BINDING_VERSION, model.getBindingVersion());
+        generator.writeEndObject();
     }
 }
@@ -15,7 +15,9 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.bindings.amqp.channel;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.spec.models.binding.amqp.Exchange;
@@ -25,19 +27,20 @@ public class ExchangeWriter {
     public ExchangeWriter() {
     }
 
-    public static void writeExchange(ObjectNode parent, Exchange model) {
+    public static void writeExchange(JsonGenerator generator, Exchange model) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = JsonUtil.objectNode();
-        parent.set(AMQPChannelBindingConstants.PROP_EXCHANGE, node);
+        generator.writeObjectFieldStart(AMQPChannelBindingConstants.PROP_EXCHANGE);
 
-        JsonUtil.stringProperty(node, AMQPChannelBindingConstants.PROP_NAME, model.getName());
+        JsonUtil.stringProperty(generator, AMQPChannelBindingConstants.PROP_NAME, model.getName());
         if (model.getExchangeType() != null && !model.getExchangeType().toString().equals("")) {
-            JsonUtil.stringProperty(node, AMQPChannelBindingConstants.PROP_EXCHANGE_TYPE, model.getExchangeType().toString());
+            JsonUtil.stringProperty(generator, AMQPChannelBindingConstants.PROP_EXCHANGE_TYPE,
+                    model.getExchangeType().toString());
         }
-        JsonUtil.booleanProperty(node, AMQPChannelBindingConstants.PROP_DURABLE, model.isDurable());
-        JsonUtil.booleanProperty(node, AMQPChannelBindingConstants.PROP_AUTO_DELETE, model.isAutoDelete());
-        JsonUtil.stringProperty(node, AMQPChannelBindingConstants.PROP_VIRTUAL_HOST, model.getVirtualHost());
+        JsonUtil.booleanProperty(generator, AMQPChannelBindingConstants.PROP_DURABLE, model.isDurable());
+        JsonUtil.booleanProperty(generator, AMQPChannelBindingConstants.PROP_AUTO_DELETE, model.isAutoDelete());
+        JsonUtil.stringProperty(generator, AMQPChannelBindingConstants.PROP_VIRTUAL_HOST, model.getVirtualHost());
+        generator.writeEndObject();
     }
 }
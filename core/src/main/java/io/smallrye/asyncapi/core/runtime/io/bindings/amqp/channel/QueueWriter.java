@@ -15,7 +15,9 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.bindings.amqp.channel;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.spec.models.binding.amqp.Queue;
@@ -25,17 +27,17 @@ public class QueueWriter {
     public QueueWriter() {
     }
 
-    public static void writeQueue(ObjectNode parent, Queue model) {
+    public static void writeQueue(JsonGenerator generator, Queue model) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = JsonUtil.objectNode();
-        parent.set(AMQPChannelBindingConstants.PROP_QUEUE, node);
+        generator.writeObjectFieldStart(AMQPChannelBindingConstants.PROP_QUEUE);
 
-        JsonUtil.stringProperty(node, AMQPChannelBindingConstants.PROP_NAME, model.getName());
-        JsonUtil.booleanProperty(node, AMQPChannelBindingConstants.PROP_DURABLE, model.getDurable());
-        JsonUtil.booleanProperty(node, AMQPChannelBindingConstants.PROP_EXCLUSIVE, model.isExclusive());
-        JsonUtil.booleanProperty(node, AMQPChannelBindingConstants.PROP_AUTO_DELETE, model.isAutoDelete());
-        JsonUtil.stringProperty(node, AMQPChannelBindingConstants.PROP_VIRTUAL_HOST, model.getVirtualHost());
+        JsonUtil.stringProperty(generator, AMQPChannelBindingConstants.PROP_NAME, model.getName());
+        JsonUtil.booleanProperty(generator, AMQPChannelBindingConstants.PROP_DURABLE, model.getDurable());
+        JsonUtil.booleanProperty(generator, AMQPChannelBindingConstants.PROP_EXCLUSIVE, model.isExclusive());
+        JsonUtil.booleanProperty(generator, AMQPChannelBindingConstants.PROP_AUTO_DELETE, model.isAutoDelete());
+        JsonUtil.stringProperty(generator, AMQPChannelBindingConstants.PROP_VIRTUAL_HOST, model.getVirtualHost());
+        generator.writeEndObject();
     }
 }
@@ -15,7 +15,9 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.bindings.amqp.message;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.core.runtime.io.bindings.ChannelBindingsConstants;
@@ -26,15 +28,15 @@ public class AMQPMessageBindingWriter {
     public AMQPMessageBindingWriter() {
     }
 
-    public static void writeAMQPMessageBinding(ObjectNode parent, AMQPMessageBinding model) {
+    public static void writeAMQPMessageBinding(JsonGenerator generator, AMQPMessageBinding model) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = JsonUtil.objectNode();
-        parent.set(ChannelBindingsConstants.PROP_AMQP_BINDING, node);
+        generator.writeObjectFieldStart(ChannelBindingsConstants.PROP_AMQP_BINDING);
 
-        JsonUtil.stringProperty(node, AMQPMessageBindingConstant.PROP_CONTENT_ENCODING, model.getContentEncoding());
-        JsonUtil.stringProperty(node, AMQPMessageBindingConstant.PROP_MESSAGE_TYPE, model.getMessageType());
-        JsonUtil.stringProperty(node, AMQPMessageBindingConstant.PROP_BINDING_VERSION, model.getBindingVersion());
+        JsonUtil.stringProperty(generator, AMQPMessageBindingConstant.PROP_CONTENT_ENCODING, model.getContentEncoding());
+        JsonUtil.stringProperty(generator, AMQPMessageBindingConstant.PROP_MESSAGE_TYPE, model.getMessageType());
+        JsonUtil.stringProperty(generator, AMQPMessageBindingConstant.PROP_BINDING_VERSION, model.getBindingVersion());
+        generator.writeEndObject();
     }
 }
@@ -15,10 +15,10 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.bindings.amqp.operation;
 
+import java.io.IOException;
 import java.util.List;
 
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.core.runtime.io.bindings.OperationBindingsConstants;
@@ -29,39 +29,41 @@ public class AMQPOperationBindingWriter {
     public AMQPOperationBindingWriter() {
     }
 
-    public static void writeAMQPOperationBinding(ObjectNode parent, AMQPOperationBinding model) {
+    public static void writeAMQPOperationBinding(JsonGenerator generator, AMQPOperationBinding model) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = JsonUtil.objectNode();
-        parent.set(OperationBindingsConstants.PROP_AMQP_BINDING, node);
+        generator.writeObjectFieldStart(OperationBindingsConstants.PROP_AMQP_BINDING);
 
-        JsonUtil.intProperty(node, AMQPOperationBindingConstants.PROP_EXPIRATION, model.getExpiration());
-        JsonUtil.stringProperty(node, AMQPOperationBindingConstants.PROP_USER_ID, model.getUserId());
+        JsonUtil.intProperty(generator, AMQPOperationBindingConstants.PROP_EXPIRATION, model.getExpiration());
+        JsonUtil.stringProperty(generator, AMQPOperationBindingConstants.PROP_USER_ID, model.getUserId());
 
         List<String> cc = model.getCc();
         if (cc != null) {
-            ArrayNode ccArray = node.putArray(AMQPOperationBindingConstants.PROP_CC);
+            generator.writeArrayFieldStart(AMQPOperationBindingConstants.PROP_CC);
             for (String ccValue : cc) {
-                ccArray.add(ccValue);
+                generator.writeString(ccValue);
             }
+            generator.writeEndArray();
         }
 
-        JsonUtil.intProperty(node, AMQPOperationBindingConstants.PROP_PRIORITY, model.getPriority());
-        JsonUtil.intProperty(node, AMQPOperationBindingConstants.PROP_DELIVERY_MODE, model.getDeliveryMode());
-        JsonUtil.booleanProperty(node, AMQPOperationBindingConstants.PROP_MANDATORY, model.isMandatory());
+        JsonUtil.intProperty(generator, AMQPOperationBindingConstants.PROP_PRIORITY, model.getPriority());
+        JsonUtil.intProperty(generator, AMQPOperationBindingConstants.PROP_DELIVERY_MODE, model.getDeliveryMode());
+        JsonUtil.booleanProperty(generator, AMQPOperationBindingConstants.PROP_MANDATORY, model.isMandatory());
 
         List<String> bcc = model.getBcc();
         if (bcc != null) {
-            ArrayNode bccArray = node.putArray(AMQPOperationBindingConstants.PROP_BCC);
+            generator.writeArrayFieldStart(AMQPOperationBindingConstants.PROP_BCC);
             for (String bccValue : bcc) {
-                bccArray.add(bccValue);
+                generator.writeString(bccValue);
             }
+            generator.writeEndArray();
         }
 
-        JsonUtil.stringProperty(node, AMQPOperationBindingConstants.PROP_REPLY_TO, model.getReplyTo());
-        JsonUtil.booleanProperty(node, AMQPOperationBindingConstants.PROP_TIME_STAMP, model.getTimeStamp());
-        JsonUtil.booleanProperty(node, AMQPOperationBindingConstants.PROP_ACK, model.getAck());
-        JsonUtil.stringProperty(node, AMQPOperationBindingConstants.PROP_BINDING_VERSION, model.getBindingVersion());
+        JsonUtil.stringProperty(generator, AMQPOperationBindingConstants.PROP_REPLY_TO, model.getReplyTo());
+        JsonUtil.booleanProperty(generator, AMQPOperationBindingConstants.PROP_TIME_STAMP, model.getTimeStamp());
+        JsonUtil.booleanProperty(generator, AMQPOperationBindingConstants.PROP_ACK, model.getAck());
+        JsonUtil.stringProperty(generator, AMQPOperationBindingConstants.PROP_BINDING_VERSION, model.getBindingVersion());
+        generator.writeEndObject();
     }
 }
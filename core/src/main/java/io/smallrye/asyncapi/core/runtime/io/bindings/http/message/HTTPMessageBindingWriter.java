@@ -15,7 +15,9 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.bindings.http.message;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.core.runtime.io.bindings.MessageBindingsConstants;
@@ -27,14 +29,14 @@ public class HTTPMessageBindingWriter {
     public HTTPMessageBindingWriter() {
     }
 
-    public static void writeHTTPMessageBinding(ObjectNode parent, HTTPMessageBinding model) {
+    public static void writeHTTPMessageBinding(JsonGenerator generator, HTTPMessageBinding model) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = JsonUtil.objectNode();
-        parent.set(MessageBindingsConstants.PROP_HTTP_BINDING, node);
+        generator.writeObjectFieldStart(MessageBindingsConstants.PROP_HTTP_BINDING);
 
-        SchemaWriter.writeSchema(node, model.getHeaders(), HTTPMessageBindingConstant.PROP_HEADERS);
-        JsonUtil.stringProperty(node, HTTPMessageBindingConstant.PROP_BINDING_VERSION, model.getBindingVersion());
+        SchemaWriter.writeSchema(generator, model.getHeaders(), HTTPMessageBindingConstant.PROP_HEADERS);
+        JsonUtil.stringProperty(generator, HTTPMessageBindingConstant.PROP_BINDING_VERSION, model.getBindingVersion());
+        generator.writeEndObject();
     }
 }
@@ -15,7 +15,9 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.bindings.http.operation;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.core.runtime.io.bindings.OperationBindingsConstants;
@@ -28,16 +30,16 @@ public class HTTPOperationBindingWriter {
     public HTTPOperationBindingWriter() {
     }
 
-    public static void writeHTTPOperationBinding(ObjectNode parent, HTTPOperationBinding model) {
+    public static void writeHTTPOperationBinding(JsonGenerator generator, HTTPOperationBinding model) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = JsonUtil.objectNode();
-        parent.set(OperationBindingsConstants.PROP_HTTP_BINDING, node);
+        generator.writeObjectFieldStart(OperationBindingsConstants.PROP_HTTP_BINDING);
 
-        JsonUtil.stringProperty(node, HTTPOperationBindingConstant.PROP_TYPE, model.getType());
-        JsonUtil.stringProperty(node, HTTPOperationBindingConstant.PROP_METHOD, model.getMethod().toString());
-        SchemaWriter.writeSchema(node, model.getQuery(), HTTPOperationBindingConstant.PROP_QUERY);
-        JsonUtil.stringProperty(node, HTTPMessageBindingConstant.PROP_BINDING_VERSION, model.getBindingVersion());
+        JsonUtil.stringProperty(generator, HTTPOperationBindingConstant.PROP_TYPE, model.getType());
+        JsonUtil.stringProperty(generator, HTTPOperationBindingConstant.PROP_METHOD, model.getMethod().toString());
+        SchemaWriter.writeSchema(generator, model.getQuery(), HTTPOperationBindingConstant.PROP_QUERY);
+        JsonUtil.stringProperty(generator, HTTPMessageBindingConstant.PROP_BINDING_VERSION, model.getBindingVersion());
+        generator.writeEndObject();
     }
 }
@@ -15,7 +15,9 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.bindings.kafka.message;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.core.runtime.io.bindings.MessageBindingsConstants;
@@ -27,15 +29,15 @@ public class KafkaMessageBindingWriter {
     public KafkaMessageBindingWriter() {
     }
 
-    public static void writeKafkaMessageBinding(ObjectNode parent, KafkaMessageBinding model) {
+    public static void writeKafkaMessageBinding(JsonGenerator generator, KafkaMessageBinding model) throws IOException {
         if (model == null) {
             return;
         }
 
-        ObjectNode node = JsonUtil.objectNode();
-        parent.set(MessageBindingsConstants.PROP_KAFKA_BINDING, node);
+        generator.writeObjectFieldStart(MessageBindingsConstants.PROP_KAFKA_BINDING);
 
-        SchemaWriter.writeSchema(node, model.getKey(), KafkaMessageBindingConstant.PROP_KEY);
-        JsonUtil.stringProperty(node, KafkaMessageBindingConstant.PROP_BINDING_VERSION, model.getBindingVersion());
+        SchemaWriter.writeSchema(generator, model.getKey(), KafkaMessageBindingConstant.PROP_KEY);
+        JsonUtil.stringProperty(generator, KafkaMessageBindingConstant.PROP_BINDING_VERSION, model.getBindingVersion());
+        generator.writeEndObject();
     }
 }
@@ -15,7 +15,9 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.bindings.kafka.operation;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.core.runtime.io.bindings.OperationBindingsConstants;
@@ -28,16 +30,16 @@ public class KafkaOperationBindingWriter {
     public KafkaOperationBindingWriter() {
     }
 
-    public static void writeKafkaOperationBinding(ObjectNode parent, KafkaOperationBinding model) {
+    public static void writeKafkaOperationBinding(JsonGenerator generator, KafkaOperationBinding model) throws IOException {
         if (model == null) {
             return;
         }
 
-        ObjectNode node = JsonUtil.objectNode();
-        parent.set(OperationBindingsConstants.PROP_KAFKA_BINDING, node);
+        generator.writeObjectFieldStart(OperationBindingsConstants.PROP_KAFKA_BINDING);
 
-        SchemaWriter.writeSchema(node, model.getGroupId(), KafkaOperationBindingConstant.PROP_GROUP_ID);
-        SchemaWriter.writeSchema(node, model.getClientId(), KafkaOperationBindingConstant.PROP_CLIENT_ID);
-        JsonUtil.stringProperty(node, KafkaMessageBindingConstant.PROP_BINDING_VERSION, model.getBindingVersion());
+        SchemaWriter.writeSchema(generator, model.getGroupId(), KafkaOperationBindingConstant.PROP_GROUP_ID);
+        SchemaWriter.writeSchema(generator, model.getClientId(), KafkaOperationBindingConstant.PROP_CLIENT_ID);
+        JsonUtil.stringProperty(generator, KafkaMessageBindingConstant.PROP_BINDING_VERSION, model.getBindingVersion());
+        generator.writeEndObject();
     }
 }
@@ -15,7 +15,9 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.bindings.mqtt.message;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.core.runtime.io.bindings.MessageBindingsConstants;
@@ -27,14 +29,14 @@ public class MQTTMessageBindingWriter {
     public MQTTMessageBindingWriter() {
     }
 
-    public static void writeMQTTMessageBinding(ObjectNode parent, MQTTMessageBinding model) {
+    public static void writeMQTTMessageBinding(JsonGenerator generator, MQTTMessageBinding model) throws IOException {
         if (model == null) {
             return;
         }
 
-        ObjectNode node = JsonUtil.objectNode();
-        parent.set(MessageBindingsConstants.PROP_MQTT_BINDING, node);
+        generator.writeObjectFieldStart(MessageBindingsConstants.PROP_MQTT_BINDING);
 
-        JsonUtil.stringProperty(node, KafkaMessageBindingConstant.PROP_BINDING_VERSION, model.getBindingVersion());
+        JsonUtil.stringProperty(generator, KafkaMessageBindingConstant.PROP_BINDING_VERSION, model.getBindingVersion());
+        generator.writeEndObject();
     }
 }
@@ -15,7 +15,9 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.bindings.mqtt.operation;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.core.runtime.io.bindings.OperationBindingsConstants;
@@ -26,16 +28,16 @@ public class MQTTOperationBindingWriter {
     public MQTTOperationBindingWriter() {
     }
 
-    public static void writeMQTTOperationBinding(ObjectNode parent, MQTTOperationBinding model) {
+    public static void writeMQTTOperationBinding(JsonGenerator generator, MQTTOperationBinding model) throws IOException {
         if (model == null) {
             return;
         }
 
-        ObjectNode node = JsonUtil.objectNode();
-        parent.set(OperationBindingsConstants.PROP_MQTT_BINDING, node);
+        generator.writeObjectFieldStart(OperationBindingsConstants.PROP_MQTT_BINDING);
 
-        JsonUtil.intProperty(node, MQTTOperationBindingConstant.PROP_QOS, model.getQos());
-        JsonUtil.booleanProperty(node, MQTTOperationBindingConstant.PROP_RETAIN, model.getRetain());
-        JsonUtil.stringProperty(node, MQTTOperationBindingConstant.PROP_BINDING_VERSION, model.getBindingVersion());
+        JsonUtil.intProperty(generator, MQTTOperationBindingConstant.PROP_QOS, model.getQos());
+        JsonUtil.booleanProperty(generator, MQTTOperationBindingConstant.PROP_RETAIN, model.getRetain());
+        JsonUtil.stringProperty(generator, MQTTOperationBindingConstant.PROP_BINDING_VERSION, model.getBindingVersion());
+        generator.writeEndObject();
     }
 }
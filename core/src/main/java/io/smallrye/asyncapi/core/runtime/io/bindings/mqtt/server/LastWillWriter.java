@@ -15,7 +15,9 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.bindings.mqtt.server;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.spec.models.binding.mqtt.LastWill;
@@ -25,17 +27,17 @@ public class LastWillWriter {
     public LastWillWriter() {
     }
 
-    public static void writeLastWill(ObjectNode parent, LastWill model) {
+    public static void writeLastWill(JsonGenerator generator, LastWill model) throws IOException {
         if (model == null) {
             return;
         }
 
-        ObjectNode node = JsonUtil.objectNode();
-        parent.set(MQTTServerBindingConstant.PROP_LAST_WILL, node);
+        generator.writeObjectFieldStart(MQTTServerBindingConstant.PROP_LAST_WILL);
 
-        JsonUtil.stringProperty(node, MQTTServerBindingConstant.PROP_TOPIC, model.getTopic());
-        JsonUtil.intProperty(node, MQTTServerBindingConstant.PROP_QOS, model.getQos());
-        JsonUtil.stringProperty(node, MQTTServerBindingConstant.PROP_MESSAGE, model.getMessage());
-        JsonUtil.booleanProperty(node, MQTTServerBindingConstant.PROP_RETAIN, model.isRetain());
+        JsonUtil.stringProperty(generator, MQTTServerBindingConstant.PROP_TOPIC, model.getTopic());
+        JsonUtil.intProperty(generator, MQTTServerBindingConstant.PROP_QOS, model.getQos());
+        JsonUtil.stringProperty(generator, MQTTServerBindingConstant.PROP_MESSAGE, model.getMessage());
+        JsonUtil.booleanProperty(generator, MQTTServerBindingConstant.PROP_RETAIN, model.isRetain());
+        generator.writeEndObject();
     }
 }
@@ -15,7 +15,9 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.bindings.mqtt.server;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.core.runtime.io.bindings.OperationBindingsConstants;
@@ -26,17 +28,17 @@ public class MQTTServerBindingWriter {
     public MQTTServerBindingWriter() {
     }
 
-    public static void writeMQTTServerBinding(ObjectNode parent, MQTTServerBinding model) {
+    public static void writeMQTTServerBinding(JsonGenerator generator, MQTTServerBinding model) throws IOException {
         if (model == null) {
             return;
         }
 
-        ObjectNode node = JsonUtil.objectNode();
-        parent.set(OperationBindingsConstants.PROP_MQTT_BINDING, node);
+        generator.writeObjectFieldStart(OperationBindingsConstants.PROP_MQTT_BINDING);
 
-        JsonUtil.stringProperty(node, MQTTServerBindingConstant.PROP_CLIENT_ID, model.getClientId());
-        JsonUtil.booleanProperty(node, MQTTServerBindingConstant.PROP_CLEAN_SESSION, model.getCleanSession());
-        LastWillWriter.writeLastWill(node, model.getLastWill());
-        JsonUtil.stringProperty(node, MQTTServerBindingConstant.PROP_BINDING_VERSION, model.getBindingVersion());
+        JsonUtil.stringProperty(generator, MQTTServerBindingConstant.PROP_CLIENT_ID, model.getClientId());
+        JsonUtil.booleanProperty(generator, MQTTServerBindingConstant.PROP_CLEAN_SESSION, model.getCleanSession());
+        LastWillWriter.writeLastWill(generator, model.getLastWill());
+        JsonUtil.stringProperty(generator, MQTTServerBindingConstant.PROP_BINDING_VERSION, model.getBindingVersion());
+        generator.writeEndObject();
     }
 }
@@ -15,7 +15,9 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.bindings.ws;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.core.runtime.io.bindings.ChannelBindingsConstants;
@@ -27,16 +29,16 @@ public class WebSocketChannelBindingWriter {
     public WebSocketChannelBindingWriter() {
     }
 
-    public static void writeWebSocketChannelBinding(ObjectNode parent, WebSocketChannelBinding model) {
+    public static void writeWebSocketChannelBinding(JsonGenerator generator, WebSocketChannelBinding model) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = JsonUtil.objectNode();
-        parent.set(ChannelBindingsConstants.PROP_WS_BINDING, node);
+        generator.writeObjectFieldStart(ChannelBindingsConstants.PROP_WS_BINDING);
 
-        JsonUtil.stringProperty(node, WebSocketChannelBindingConstant.PROP_METHOD, model.getMethod());
-        SchemaWriter.writeSchema(node, model.getQuery(), WebSocketChannelBindingConstant.PROP_QUERY);
-        SchemaWriter.writeSchema(node, model.getHeaders(), WebSocketChannelBindingConstant.PROP_HEADERS);
-        JsonUtil.stringProperty(node, WebSocketChannelBindingConstant.PROP_BINDING_VERSION, model.getBindingVersion());
+        JsonUtil.stringProperty(generator, WebSocketChannelBindingConstant.PROP_METHOD, model.getMethod());
+        SchemaWriter.writeSchema(generator, model.getQuery(), WebSocketChannelBindingConstant.PROP_QUERY);
+        SchemaWriter.writeSchema(generator, model.getHeaders(), WebSocketChannelBindingConstant.PROP_HEADERS);
+        JsonUtil.stringProperty(generator, WebSocketChannelBindingConstant.PROP_BINDING_VERSION, model.getBindingVersion());
+        generator.writeEndObject();
     }
 }
@@ -15,12 +15,15 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.channels;
 
+import java.io.IOException;
 import java.util.Iterator;
 
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.MethodInfo;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 
 import io.smallrye.asyncapi.core.api.models.channel.ChannelItemImpl;
@@ -127,6 +130,37 @@ public class ChannelsReader {
         return channels;
     }
 
+    /**
+     * Reads the channels from a parser positioned at the start of the channels object. Every channel item is read into
+     * a JSON tree of its own, so the channels are never held in memory as a whole.
+     *
+     * @param parser the json parser
+     * @return Channels model
+     * @throws IOException Errors in reading the JSON
+     */
+    public static Channels readChannelItems(final JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            JsonNode node = parser.readValueAsTree();
+            return readChannelItems(node);
+        }
+
+        IoLogging.logger.jsonNodeMap("ChannelItem");
+
+        Channels channels = new ChannelsImpl();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if (ExtensionConstant.isExtensionField(fieldName)) {
+                parser.skipChildren();
+            } else {
+                JsonNode varNode = parser.readValueAsTree();
+                channels.addChannel(fieldName, readChannelItem(varNode, fieldName));
+            }
+        }
+
+        return channels;
+    }
+
     private static ChannelItem readChannelItem(JsonNode node, String name) {
         if (node == null) {
             return null;
@@ -15,10 +15,9 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.channels;
 
-import java.util.Map;
-import java.util.Set;
+import java.io.IOException;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.core.runtime.io.bindings.ChannelBindingsWriter;
@@ -37,31 +36,34 @@ public class ChannelsWriter {
     /**
      * Writes the {@link Contact} model to the JSON tree.
      *
-     * @param node the parent json node
+     * @param generator the json generator
      * @param channels the Channels model
+     * @throws IOException Errors in writing the JSON
      */
-    public static void writeChannel(ObjectNode node, Channels channels) {
+    public static void writeChannel(JsonGenerator generator, Channels channels) throws IOException {
         if (channels == null || channels.getChannels() == null) {
             return;
         }
-        ObjectNode variablesNode = node.putObject(DefinitionConstant.PROP_CHANNELS);
+        generator.writeObjectFieldStart(DefinitionConstant.PROP_CHANNELS);
 
-        Set<Map.Entry<String, ChannelItem>> entrySet = channels.getChannels().entrySet();
-        for (Map.Entry<String, ChannelItem> entry : entrySet) {
-            writeChannelToNode(variablesNode, entry.getValue());
+        for (ChannelItem channelItem : JsonUtil.uniqueProperties(channels.getChannels().values(),
+                ChannelItem::getChannel)) {
+            writeChannelToNode(generator, channelItem);
         }
+        generator.writeEndObject();
     }
 
-    private static void writeChannelToNode(ObjectNode parent, ChannelItem model) {
+    private static void writeChannelToNode(JsonGenerator generator, ChannelItem model) throws IOException {
         if (model == null) {
             return;
         }
 
-        ObjectNode node = parent.putObject(model.getChannel());
-        JsonUtil.stringProperty(node, ChannelsConstants.PROP_DESCRIPTION, model.getDescription());
-        OperationWriter.writePublish(node, model.getPublish());
-        OperationWriter.writeSubscribe(node, model.getSubscribe());
-        ParameterWriter.writeParameters(node, model.getParameters());
-        ChannelBindingsWriter.writeChannelBindings(node, model.getBindings());
+        generator.writeObjectFieldStart(model.getChannel());
+        JsonUtil.stringProperty(generator, ChannelsConstants.PROP_DESCRIPTION, model.getDescription());
+        OperationWriter.writePublish(generator, model.getPublish());
+        OperationWriter.writeSubscribe(generator, model.getSubscribe());
+        ParameterWriter.writeParameters(generator, model.getParameters());
+        ChannelBindingsWriter.writeChannelBindings(generator, model.getBindings());
+        generator.writeEndObject();
     }
 }
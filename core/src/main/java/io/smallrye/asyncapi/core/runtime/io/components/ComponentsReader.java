@@ -15,6 +15,7 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.components;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -23,10 +24,14 @@ import java.util.Optional;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationValue;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.smallrye.asyncapi.core.api.models.ComponentsImpl;
 import io.smallrye.asyncapi.core.runtime.io.IoLogging;
+import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.core.runtime.io.message.MessageReader;
 import io.smallrye.asyncapi.core.runtime.io.message.MessageTraitReader;
 import io.smallrye.asyncapi.core.runtime.io.operation.OperationTraitReader;
@@ -35,8 +40,10 @@ import io.smallrye.asyncapi.core.runtime.io.schema.SchemaReader;
 import io.smallrye.asyncapi.core.runtime.io.securityscheme.SecuritySchemesReader;
 import io.smallrye.asyncapi.core.runtime.scanner.spi.AnnotationScannerContext;
 import io.smallrye.asyncapi.spec.models.Components;
+import io.smallrye.asyncapi.spec.models.message.Message;
 import io.smallrye.asyncapi.spec.models.message.MessageTrait;
 import io.smallrye.asyncapi.spec.models.operation.OperationTrait;
+import io.smallrye.asyncapi.spec.models.schema.Schema;
 
 public class ComponentsReader {
 
@@ -111,4 +118,40 @@ public class ComponentsReader {
 
         return components;
     }
+
+    /**
+     * Reads the components from a parser positioned at the start of the components object. Messages and schemas are
+     * streamed entry by entry, all other components are read as JSON trees.
+     *
+     * @param parser the json parser
+     * @return Components model
+     * @throws IOException Errors in reading the JSON
+     */
+    public static Components readComponents(final JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            JsonNode node = parser.readValueAsTree();
+            return readComponents(node);
+        }
+
+        ObjectNode node = JsonUtil.objectNode();
+        Map<String, Message> messages = null;
+        Map<String, Schema> schemas = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if (ComponentsConstant.PROP_MESSAGES.equals(fieldName)) {
+                messages = MessageReader.readMessages(parser);
+            } else if (ComponentsConstant.PROP_SCHEMAS.equals(fieldName)) {
+                schemas = SchemaReader.readSchemas(parser).orElse(null);
+            } else {
+                node.set(fieldName, parser.readValueAsTree());
+            }
+        }
+
+        Components components = readComponents(node);
+        components.setMessages(messages);
+        components.setSchemas(schemas);
+
+        return components;
+    }
 }
@@ -15,11 +15,12 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.components;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.definition.DefinitionConstant;
 import io.smallrye.asyncapi.core.runtime.io.extension.ExtensionWriter;
@@ -40,26 +41,28 @@ public class ComponentsWriter {
     /**
      * Writes the given model.
      *
-     * @param parent the json node
+     * @param generator the json generator
      * @param model the AsyncAPI model
+     * @throws IOException Errors in writing the JSON
      */
-    public static void writeComponents(ObjectNode parent, Components model) {
+    public static void writeComponents(JsonGenerator generator, Components model) throws IOException {
         if (model == null) {
             return;
         }
-        if (parent == null) {
+        if (generator == null) {
             return;
         }
 
-        ObjectNode node = parent.putObject(DefinitionConstant.PROP_COMPONENTS);
+        generator.writeObjectFieldStart(DefinitionConstant.PROP_COMPONENTS);
 
-        MessageWriter.writeMessages(node, model.getMessages());
-        SecuritySchemesWriter.writeSecuritySchemes(node, model.getSecuritySchemes());
-        ParameterWriter.writeParameters(node, model.getParameters());
-        SchemaWriter.writeSchemas(node, model.getSchemas());
-        OperationTraitWriter.writeOperationTraits(node, getOperationTraits(model));
-        MessageTraitWriter.writeComponentsMessageTraits(node, getMessageTraits(model));
-        ExtensionWriter.writeExtensions(node, model);
+        MessageWriter.writeMessages(generator, model.getMessages());
+        SecuritySchemesWriter.writeSecuritySchemes(generator, model.getSecuritySchemes());
+        ParameterWriter.writeParameters(generator, model.getParameters());
+        SchemaWriter.writeSchemas(generator, model.getSchemas());
+        OperationTraitWriter.writeOperationTraits(generator, getOperationTraits(model));
+        MessageTraitWriter.writeComponentsMessageTraits(generator, getMessageTraits(model));
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
     }
 
     private static List<OperationTrait> getOperationTraits(Components model) {
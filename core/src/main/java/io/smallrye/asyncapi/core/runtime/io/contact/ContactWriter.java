@@ -15,7 +15,9 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.contact;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.core.runtime.io.extension.ExtensionWriter;
@@ -35,20 +37,21 @@ public class ContactWriter {
     /**
      * Writes the {@link Contact} model to the JSON tree.
      *
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param model the Contact model
+     * @throws IOException Errors in writing the JSON
      */
-    public static void writeContact(ObjectNode parent, Contact model) {
+    public static void writeContact(JsonGenerator generator, Contact model) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = JsonUtil.objectNode();
-        parent.set(InfoConstant.PROP_CONTACT, node);
+        generator.writeObjectFieldStart(InfoConstant.PROP_CONTACT);
 
-        JsonUtil.stringProperty(node, ContactConstant.PROP_NAME, model.getName());
-        JsonUtil.stringProperty(node, ContactConstant.PROP_URL, model.getUrl());
-        JsonUtil.stringProperty(node, ContactConstant.PROP_EMAIL, model.getEmail());
-        ExtensionWriter.writeExtensions(node, model);
+        JsonUtil.stringProperty(generator, ContactConstant.PROP_NAME, model.getName());
+        JsonUtil.stringProperty(generator, ContactConstant.PROP_URL, model.getUrl());
+        JsonUtil.stringProperty(generator, ContactConstant.PROP_EMAIL, model.getEmail());
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
     }
 
 }
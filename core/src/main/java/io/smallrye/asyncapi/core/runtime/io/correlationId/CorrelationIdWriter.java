@@ -15,7 +15,9 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.correlationId;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.core.runtime.io.message.MessageConstant;
@@ -29,16 +31,18 @@ public class CorrelationIdWriter {
     /**
      * Writes the {@link CorrelationID} model to the JSON tree.
      *
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param model the CorrelationID model
+     * @throws IOException Errors in writing the JSON
      */
-    public static void writeCorrelationID(ObjectNode parent, CorrelationID model) {
+    public static void writeCorrelationID(JsonGenerator generator, CorrelationID model) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = parent.putObject(MessageConstant.PROP_CORRELATION_ID);
+        generator.writeObjectFieldStart(MessageConstant.PROP_CORRELATION_ID);
 
-        JsonUtil.stringProperty(node, CorrelationIdConstant.PROP_DESCRIPTION, model.getDescription());
-        JsonUtil.stringProperty(node, CorrelationIdConstant.PROP_LOCATION, model.getLocation());
+        JsonUtil.stringProperty(generator, CorrelationIdConstant.PROP_DESCRIPTION, model.getDescription());
+        JsonUtil.stringProperty(generator, CorrelationIdConstant.PROP_LOCATION, model.getLocation());
+        generator.writeEndObject();
     }
 }
@@ -15,10 +15,16 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.definition;
 
+import java.io.IOException;
+
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.ClassInfo;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.smallrye.asyncapi.core.runtime.io.IoLogging;
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
@@ -33,6 +39,8 @@ import io.smallrye.asyncapi.core.runtime.io.tag.TagReader;
 import io.smallrye.asyncapi.core.runtime.scanner.spi.AnnotationScannerContext;
 import io.smallrye.asyncapi.core.runtime.util.JandexUtil;
 import io.smallrye.asyncapi.spec.models.AsyncAPI;
+import io.smallrye.asyncapi.spec.models.Components;
+import io.smallrye.asyncapi.spec.models.channel.Channels;
 
 /**
  * Reading the OpenAPIDefinition from an annotation or json
@@ -88,6 +96,41 @@ public class DefinitionReader {
         ExtensionReader.readExtensions(node, asyncAPI);
     }
 
+    /**
+     * Reads a AsyncAPI document from a parser positioned at its first token. Channels and components are streamed
+     * entry by entry, so the document is never held in memory as a complete JSON tree.
+     *
+     * @param asyncAPI the AsyncAPI model
+     * @param parser the Json parser
+     * @throws IOException Errors in reading the JSON
+     */
+    public static void processDefinition(final AsyncAPI asyncAPI, final JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            JsonNode node = parser.readValueAsTree();
+            processDefinition(asyncAPI, node == null ? MissingNode.getInstance() : node);
+            return;
+        }
+
+        ObjectNode node = JsonUtil.objectNode();
+        Channels channels = null;
+        Components components = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if (DefinitionConstant.PROP_CHANNELS.equals(fieldName)) {
+                channels = ChannelsReader.readChannelItems(parser);
+            } else if (DefinitionConstant.PROP_COMPONENTS.equals(fieldName)) {
+                components = ComponentsReader.readComponents(parser);
+            } else {
+                node.set(fieldName, parser.readValueAsTree());
+            }
+        }
+
+        processDefinition(asyncAPI, node);
+        asyncAPI.setChannels(channels);
+        asyncAPI.setComponents(components);
+    }
+
     // helper methods for scanners
     public static AnnotationInstance getDefinitionAnnotation(final ClassInfo targetClass) {
         return JandexUtil.getClassAnnotation(targetClass, DefinitionConstant.DOTNAME_ASYNC_API);
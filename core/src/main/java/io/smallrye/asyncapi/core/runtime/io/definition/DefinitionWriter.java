@@ -15,7 +15,9 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.definition;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.core.runtime.io.channels.ChannelsWriter;
@@ -40,19 +42,20 @@ public class DefinitionWriter {
     /**
      * Writes the given model.
      *
-     * @param node the json node
+     * @param generator the json generator
      * @param model the AsyncAPI model
+     * @throws IOException Errors in writing the JSON
      */
-    public static void writeAsyncAPI(ObjectNode node, AsyncAPI model) {
-        JsonUtil.stringProperty(node, DefinitionConstant.PROP_ASYNCAPI, model.getAsyncapi());
-        JsonUtil.stringProperty(node, DefinitionConstant.PROP_CONTENT_TYPE, model.getDefaultContentType());
-        InfoWriter.writeInfo(node, model.getInfo());
-        ServerWriter.writeServers(node, model.getServers());
-        ChannelsWriter.writeChannel(node, model.getChannels());
-        ExternalDocsWriter.writeExternalDocumentation(node, model.getExternalDocs());
-        JsonUtil.stringProperty(node, DefinitionConstant.PROP_IDENTIFIER, model.getIdentifier());
-        ComponentsWriter.writeComponents(node, model.getComponents());
-        TagWriter.writeTags(node, model.getTags());
-        ExtensionWriter.writeExtensions(node, model);
+    public static void writeAsyncAPI(JsonGenerator generator, AsyncAPI model) throws IOException {
+        JsonUtil.stringProperty(generator, DefinitionConstant.PROP_ASYNCAPI, model.getAsyncapi());
+        JsonUtil.stringProperty(generator, DefinitionConstant.PROP_CONTENT_TYPE, model.getDefaultContentType());
+        InfoWriter.writeInfo(generator, model.getInfo());
+        ServerWriter.writeServers(generator, model.getServers());
+        ChannelsWriter.writeChannel(generator, model.getChannels());
+        ExternalDocsWriter.writeExternalDocumentation(generator, model.getExternalDocs());
+        JsonUtil.stringProperty(generator, DefinitionConstant.PROP_IDENTIFIER, model.getIdentifier());
+        ComponentsWriter.writeComponents(generator, model.getComponents());
+        TagWriter.writeTags(generator, model.getTags());
+        ExtensionWriter.writeExtensions(generator, model);
     }
 }
@@ -15,9 +15,10 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.extension;
 
+import java.io.IOException;
 import java.util.Map;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.ObjectWriter;
 import io.smallrye.asyncapi.spec.models.Extensible;
@@ -30,10 +31,11 @@ public class ExtensionWriter {
     /**
      * Writes extensions to the JSON tree.
      *
-     * @param node the json node
+     * @param generator the json generator
      * @param model the Extensible model
+     * @throws IOException Errors in writing the JSON
      */
-    public static void writeExtensions(ObjectNode node, Extensible<?> model) {
+    public static void writeExtensions(JsonGenerator generator, Extensible<?> model) throws IOException {
         Map<String, Object> extensions = model.getExtensions();
         if (extensions == null || extensions.isEmpty()) {
             return;
@@ -44,7 +46,7 @@ public class ExtensionWriter {
                 key = ExtensionConstant.EXTENSION_PROPERTY_PREFIX + key;
             }
             Object value = entry.getValue();
-            ObjectWriter.writeObject(node, key, value);
+            ObjectWriter.writeObject(generator, key, value);
         }
     }
 
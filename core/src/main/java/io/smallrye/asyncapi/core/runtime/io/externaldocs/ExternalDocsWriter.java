@@ -15,7 +15,9 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.externaldocs;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.core.runtime.io.extension.ExtensionWriter;
@@ -29,17 +31,19 @@ public class ExternalDocsWriter {
     /**
      * Writes the {@link ExternalDocumentation} model to the JSON tree.
      *
-     * @param parent the parent json model
+     * @param generator the json generator
      * @param model the ExternalDocumentation model
+     * @throws IOException Errors in writing the JSON
      */
-    public static void writeExternalDocumentation(ObjectNode parent, ExternalDocumentation model) {
+    public static void writeExternalDocumentation(JsonGenerator generator, ExternalDocumentation model) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = parent.putObject(ExternalDocsConstant.PROP_EXTERNAL_DOCS);
+        generator.writeObjectFieldStart(ExternalDocsConstant.PROP_EXTERNAL_DOCS);
 
-        JsonUtil.stringProperty(node, ExternalDocsConstant.PROP_DESCRIPTION, model.getDescription());
-        JsonUtil.stringProperty(node, ExternalDocsConstant.PROP_URL, model.getUrl());
-        ExtensionWriter.writeExtensions(node, model);
+        JsonUtil.stringProperty(generator, ExternalDocsConstant.PROP_DESCRIPTION, model.getDescription());
+        JsonUtil.stringProperty(generator, ExternalDocsConstant.PROP_URL, model.getUrl());
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
     }
 }
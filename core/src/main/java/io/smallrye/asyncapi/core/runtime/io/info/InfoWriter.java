@@ -15,7 +15,9 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.info;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.core.runtime.io.contact.ContactWriter;
@@ -36,21 +38,23 @@ public class InfoWriter {
     /**
      * Writes the {@link Info} model to the JSON tree.
      *
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param model the Info model
+     * @throws IOException Errors in writing the JSON
      */
-    public static void writeInfo(ObjectNode parent, Info model) {
+    public static void writeInfo(JsonGenerator generator, Info model) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = parent.putObject(DefinitionConstant.PROP_INFO);
+        generator.writeObjectFieldStart(DefinitionConstant.PROP_INFO);
 
-        JsonUtil.stringProperty(node, InfoConstant.PROP_TITLE, model.getTitle());
-        JsonUtil.stringProperty(node, InfoConstant.PROP_DESCRIPTION, model.getDescription());
-        JsonUtil.stringProperty(node, InfoConstant.PROP_TERMS_OF_SERVICE, model.getTermsOfService());
-        ContactWriter.writeContact(node, model.getContact());
-        LicenseWriter.writeLicense(node, model.getLicense());
-        JsonUtil.stringProperty(node, InfoConstant.PROP_VERSION, model.getVersion());
-        ExtensionWriter.writeExtensions(node, model);
+        JsonUtil.stringProperty(generator, InfoConstant.PROP_TITLE, model.getTitle());
+        JsonUtil.stringProperty(generator, InfoConstant.PROP_DESCRIPTION, model.getDescription());
+        JsonUtil.stringProperty(generator, InfoConstant.PROP_TERMS_OF_SERVICE, model.getTermsOfService());
+        ContactWriter.writeContact(generator, model.getContact());
+        LicenseWriter.writeLicense(generator, model.getLicense());
+        JsonUtil.stringProperty(generator, InfoConstant.PROP_VERSION, model.getVersion());
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
     }
 }
@@ -15,7 +15,9 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.license;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.core.runtime.io.extension.ExtensionWriter;
@@ -35,17 +37,19 @@ public class LicenseWriter {
     /**
      * Writes the {@link License} model to the JSON tree.
      *
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param model the License model
+     * @throws IOException Errors in writing the JSON
      */
-    public static void writeLicense(ObjectNode parent, License model) {
+    public static void writeLicense(JsonGenerator generator, License model) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = parent.putObject(InfoConstant.PROP_LICENSE);
+        generator.writeObjectFieldStart(InfoConstant.PROP_LICENSE);
 
-        JsonUtil.stringProperty(node, LicenseConstant.PROP_NAME, model.getName());
-        JsonUtil.stringProperty(node, LicenseConstant.PROP_URL, model.getUrl());
-        ExtensionWriter.writeExtensions(node, model);
+        JsonUtil.stringProperty(generator, LicenseConstant.PROP_NAME, model.getName());
+        JsonUtil.stringProperty(generator, LicenseConstant.PROP_URL, model.getUrl());
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
     }
 }
@@ -15,6 +15,7 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.message;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -26,6 +27,8 @@ import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.MethodInfo;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 
 import io.smallrye.asyncapi.core.api.models.message.MessageImpl;
@@ -122,6 +125,36 @@ public class MessageReader {
         return message;
     }
 
+    /**
+     * Reads the {@link Message} AsyncAPI nodes from a parser positioned at the start of the messages object. Every
+     * message is read into a JSON tree of its own.
+     *
+     * @param parser the json parser
+     * @return Map of Message model
+     * @throws IOException Errors in reading the JSON
+     */
+    public static Map<String, Message> readMessages(final JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            JsonNode node = parser.readValueAsTree();
+            return readMessages(node);
+        }
+        IoLogging.logger.singleJsonNode("Message");
+
+        HashMap<String, Message> messages = new HashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if (ExtensionConstant.isExtensionField(fieldName)) {
+                parser.skipChildren();
+            } else {
+                JsonNode varNode = parser.readValueAsTree();
+                messages.put(fieldName, readMessage(varNode));
+            }
+        }
+
+        return messages;
+    }
+
     public static Map<String, Message> readMessages(final JsonNode node) {
         if (node == null) {
             return null;
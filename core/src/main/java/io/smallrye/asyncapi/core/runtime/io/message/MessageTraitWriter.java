@@ -15,10 +15,10 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.message;
 
+import java.io.IOException;
 import java.util.List;
 
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.core.runtime.io.Referenceable;
@@ -39,67 +39,74 @@ public class MessageTraitWriter {
     /**
      * Writes the {@link MessageTrait} model to the JSON tree.
      *
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param messageTraits the MessageTrait model
+     * @throws IOException Errors in writing the JSON
      */
-    public static void writeMessageTraits(ObjectNode parent, List<MessageTrait> messageTraits) {
+    public static void writeMessageTraits(JsonGenerator generator, List<MessageTrait> messageTraits) throws IOException {
         if (messageTraits == null || messageTraits.size() == 0) {
             return;
         }
 
-        ArrayNode array = parent.putArray(MessageConstant.PROP_TRAITS);
+        generator.writeArrayFieldStart(MessageConstant.PROP_TRAITS);
 
         for (MessageTrait messageTrait : messageTraits) {
-            ObjectNode messageTraitNode = array.addObject();
+            generator.writeStartObject();
 
-            writeMessageTraitsToNode(messageTraitNode, messageTrait);
+            writeMessageTraitsToNode(generator, messageTrait);
+            generator.writeEndObject();
         }
+        generator.writeEndArray();
     }
 
-    private static void writeMessageTraitsToNode(ObjectNode node, MessageTrait model) {
+    private static void writeMessageTraitsToNode(JsonGenerator generator, MessageTrait model) throws IOException {
         if (model == null) {
             return;
         }
 
         if (StringUtil.isNotEmpty(model.getRef())) {
-            JsonUtil.stringProperty(node, Referenceable.PROP_$REF, model.getRef());
+            JsonUtil.stringProperty(generator, Referenceable.PROP_$REF, model.getRef());
             return;
         }
 
-        SchemaWriter.writeSchema(node, model.getHeaders(), MessageConstant.PROP_HEADERS);
-        CorrelationIdWriter.writeCorrelationID(node, model.getCorrelationID());
-        JsonUtil.stringProperty(node, MessageConstant.PROP_SCHEMA_FORMAT, model.getSchemaFormat());
-        JsonUtil.stringProperty(node, MessageConstant.PROP_CONTENT_TYPE, model.getContentType());
-        JsonUtil.stringProperty(node, MessageConstant.PROP_NAME, model.getName());
-        JsonUtil.stringProperty(node, MessageConstant.PROP_TITLE, model.getTitle());
-        JsonUtil.stringProperty(node, MessageConstant.PROP_SUMMARY, model.getSummary());
-        JsonUtil.stringProperty(node, MessageConstant.PROP_DESCRIPTION, model.getDescription());
-        JsonUtil.stringProperty(node, MessageConstant.PROP_REF, model.getRef());
+        SchemaWriter.writeSchema(generator, model.getHeaders(), MessageConstant.PROP_HEADERS);
+        CorrelationIdWriter.writeCorrelationID(generator, model.getCorrelationID());
+        JsonUtil.stringProperty(generator, MessageConstant.PROP_SCHEMA_FORMAT, model.getSchemaFormat());
+        JsonUtil.stringProperty(generator, MessageConstant.PROP_CONTENT_TYPE, model.getContentType());
+        JsonUtil.stringProperty(generator, MessageConstant.PROP_NAME, model.getName());
+        JsonUtil.stringProperty(generator, MessageConstant.PROP_TITLE, model.getTitle());
+        JsonUtil.stringProperty(generator, MessageConstant.PROP_SUMMARY, model.getSummary());
+        JsonUtil.stringProperty(generator, MessageConstant.PROP_DESCRIPTION, model.getDescription());
+        JsonUtil.stringProperty(generator, MessageConstant.PROP_REF, model.getRef());
 
         List<String> examples = model.getExample();
         if (examples != null) {
-            ArrayNode exampleArray = node.putArray(MessageConstant.PROP_EXAMPLE);
+            generator.writeArrayFieldStart(MessageConstant.PROP_EXAMPLE);
             for (String exampleValue : examples) {
-                exampleArray.add(exampleValue);
+                generator.writeString(exampleValue);
             }
+            generator.writeEndArray();
         }
 
-        MessageBindingsWriter.writeMessageBindings(node, model.getBindings());
-        TagWriter.writeTags(node, model.getTags());
-        ExtensionWriter.writeExtensions(node, model);
+        MessageBindingsWriter.writeMessageBindings(generator, model.getBindings());
+        TagWriter.writeTags(generator, model.getTags());
+        ExtensionWriter.writeExtensions(generator, model);
     }
 
-    public static void writeComponentsMessageTraits(ObjectNode parent, List<MessageTrait> messageTraits) {
+    public static void writeComponentsMessageTraits(JsonGenerator generator, List<MessageTrait> messageTraits)
+            throws IOException {
         if (messageTraits == null || messageTraits.size() == 0) {
             return;
         }
 
-        ObjectNode node = parent.putObject(ComponentsConstant.PROP_MESSAGE_TRAITS);
+        generator.writeObjectFieldStart(ComponentsConstant.PROP_MESSAGE_TRAITS);
 
         for (MessageTrait messageTrait : messageTraits) {
-            ObjectNode messageTraitNode = node.putObject(messageTrait.getName());
+            generator.writeObjectFieldStart(messageTrait.getName());
 
-            writeMessageTraitsToNode(messageTraitNode, messageTrait);
+            writeMessageTraitsToNode(generator, messageTrait);
+            generator.writeEndObject();
         }
+        generator.writeEndObject();
     }
 }
@@ -15,9 +15,10 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.message;
 
+import java.io.IOException;
 import java.util.Map;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.core.runtime.io.Referenceable;
@@ -36,65 +37,69 @@ public class MessageWriter {
     public MessageWriter() {
     }
 
-    public static void writeMessages(ObjectNode parent, Map<String, Message> messages) {
+    public static void writeMessages(JsonGenerator generator, Map<String, Message> messages) throws IOException {
         if (messages == null || messages.size() == 0) {
             return;
         }
 
-        ObjectNode node = parent.putObject(ComponentsConstant.PROP_MESSAGES);
+        generator.writeObjectFieldStart(ComponentsConstant.PROP_MESSAGES);
 
-        for (Map.Entry<String, Message> entry : messages.entrySet()) {
-            writeMessageToNode(node, entry.getValue());
+        for (Message message : JsonUtil.uniqueProperties(messages.values(), Message::getName)) {
+            writeMessageToNode(generator, message);
         }
+        generator.writeEndObject();
     }
 
     /**
      * Writes the {@link Message} model to the JSON tree.
      *
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param model the Message model
+     * @throws IOException Errors in writing the JSON
      */
-    private static void writeMessageToNode(ObjectNode parent, Message model) {
+    private static void writeMessageToNode(JsonGenerator generator, Message model) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = parent.putObject(model.getName());
+        generator.writeObjectFieldStart(model.getName());
 
         if (StringUtil.isNotEmpty(model.getRef())) {
-            JsonUtil.stringProperty(node, Referenceable.PROP_$REF, model.getRef());
-            return;
+            JsonUtil.stringProperty(generator, Referenceable.PROP_$REF, model.getRef());
+        } else {
+            fillMessage(model, generator);
         }
-        fillMessage(model, node);
+        generator.writeEndObject();
     }
 
-    public static void writeMessage(ObjectNode parent, Message model) {
+    public static void writeMessage(JsonGenerator generator, Message model) throws IOException {
         if (model == null) {
             return;
         }
 
-        ObjectNode node = parent.putObject(OperationConstant.PROP_MESSAGE);
+        generator.writeObjectFieldStart(OperationConstant.PROP_MESSAGE);
 
         if (StringUtil.isNotEmpty(model.getRef())) {
-            JsonUtil.stringProperty(node, Referenceable.PROP_$REF, model.getRef());
-            return;
+            JsonUtil.stringProperty(generator, Referenceable.PROP_$REF, model.getRef());
+        } else {
+            fillMessage(model, generator);
         }
-        fillMessage(model, node);
+        generator.writeEndObject();
     }
 
-    private static void fillMessage(final Message model, final ObjectNode node) {
-        SchemaWriter.writeSchema(node, model.getHeaders(), MessageConstant.PROP_HEADERS);
-        SchemaWriter.writeSchema(node, model.getPayload(), MessageConstant.PROP_PAYLOAD);
-        CorrelationIdWriter.writeCorrelationID(node, model.getCorrelationID());
-        JsonUtil.stringProperty(node, MessageConstant.PROP_SCHEMA_FORMAT, model.getSchemaFormat());
-        JsonUtil.stringProperty(node, MessageConstant.PROP_CONTENT_TYPE, model.getContentType());
-        JsonUtil.stringProperty(node, MessageConstant.PROP_NAME, model.getName());
-        JsonUtil.stringProperty(node, MessageConstant.PROP_TITLE, model.getTitle());
-        JsonUtil.stringProperty(node, MessageConstant.PROP_SUMMARY, model.getSummary());
-        JsonUtil.stringProperty(node, MessageConstant.PROP_DESCRIPTION, model.getDescription());
-        TagWriter.writeTags(node, model.getTags());
-        MessageBindingsWriter.writeMessageBindings(node, model.getBindings());
-        MessageTraitWriter.writeMessageTraits(node, model.getTraits());
-        JsonUtil.stringProperty(node, MessageConstant.PROP_REF, model.getRef());
-        ExtensionWriter.writeExtensions(node, model);
+    private static void fillMessage(final Message model, final JsonGenerator generator) throws IOException {
+        SchemaWriter.writeSchema(generator, model.getHeaders(), MessageConstant.PROP_HEADERS);
+        SchemaWriter.writeSchema(generator, model.getPayload(), MessageConstant.PROP_PAYLOAD);
+        CorrelationIdWriter.writeCorrelationID(generator, model.getCorrelationID());
+        JsonUtil.stringProperty(generator, MessageConstant.PROP_SCHEMA_FORMAT, model.getSchemaFormat());
+        JsonUtil.stringProperty(generator, MessageConstant.PROP_CONTENT_TYPE, model.getContentType());
+        JsonUtil.stringProperty(generator, MessageConstant.PROP_NAME, model.getName());
+        JsonUtil.stringProperty(generator, MessageConstant.PROP_TITLE, model.getTitle());
+        JsonUtil.stringProperty(generator, MessageConstant.PROP_SUMMARY, model.getSummary());
+        JsonUtil.stringProperty(generator, MessageConstant.PROP_DESCRIPTION, model.getDescription());
+        TagWriter.writeTags(generator, model.getTags());
+        MessageBindingsWriter.writeMessageBindings(generator, model.getBindings());
+        MessageTraitWriter.writeMessageTraits(generator, model.getTraits());
+        JsonUtil.stringProperty(generator, MessageConstant.PROP_REF, model.getRef());
+        ExtensionWriter.writeExtensions(generator, model);
     }
 }
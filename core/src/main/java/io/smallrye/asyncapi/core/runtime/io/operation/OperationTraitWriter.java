@@ -15,10 +15,10 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.operation;
 
+import java.io.IOException;
 import java.util.List;
 
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.core.runtime.io.Referenceable;
@@ -36,39 +36,41 @@ public class OperationTraitWriter {
     public OperationTraitWriter() {
     }
 
-    public static void writeOperationTraits(ObjectNode parent, List<OperationTrait> operationTraits) {
+    public static void writeOperationTraits(JsonGenerator generator, List<OperationTrait> operationTraits) throws IOException {
         if (operationTraits == null || operationTraits.size() == 0) {
             return;
         }
 
-        ArrayNode array = parent.putArray(MessageConstant.PROP_TRAITS);
+        generator.writeArrayFieldStart(MessageConstant.PROP_TRAITS);
 
         for (OperationTrait operationTrait : operationTraits) {
-            ObjectNode operationTraitNode = array.addObject();
+            generator.writeStartObject();
 
-            writeOperationTraitToNode(operationTraitNode, operationTrait);
+            writeOperationTraitToNode(generator, operationTrait);
+            generator.writeEndObject();
         }
+        generator.writeEndArray();
     }
 
-    public static void writeOperationTraitToNode(ObjectNode node, OperationTrait model) {
+    public static void writeOperationTraitToNode(JsonGenerator generator, OperationTrait model) throws IOException {
         if (model == null) {
             return;
         }
 
         if (StringUtil.isNotEmpty(model.getRef())) {
-            JsonUtil.stringProperty(node, Referenceable.PROP_$REF, model.getRef());
+            JsonUtil.stringProperty(generator, Referenceable.PROP_$REF, model.getRef());
             return;
         }
 
-        JsonUtil.stringProperty(node, OperationConstant.PROP_OPERATION_ID, model.getOperationId());
-        JsonUtil.stringProperty(node, OperationConstant.PROP_SUMMARY, model.getSummary());
-        JsonUtil.stringProperty(node, OperationConstant.PROP_DESCRIPTION, model.getDescription());
-        TagWriter.writeTags(node, model.getTags());
-        OperationBindingWriter.writeOperationBindings(node, model.getBindings());
-        MessageWriter.writeMessage(node, model.getMessage());
-        ExternalDocsWriter.writeExternalDocumentation(node, model.getExternalDocumentation());
+        JsonUtil.stringProperty(generator, OperationConstant.PROP_OPERATION_ID, model.getOperationId());
+        JsonUtil.stringProperty(generator, OperationConstant.PROP_SUMMARY, model.getSummary());
+        JsonUtil.stringProperty(generator, OperationConstant.PROP_DESCRIPTION, model.getDescription());
+        TagWriter.writeTags(generator, model.getTags());
+        OperationBindingWriter.writeOperationBindings(generator, model.getBindings());
+        MessageWriter.writeMessage(generator, model.getMessage());
+        ExternalDocsWriter.writeExternalDocumentation(generator, model.getExternalDocumentation());
 
-        ExtensionWriter.writeExtensions(node, model);
+        ExtensionWriter.writeExtensions(generator, model);
     }
 
 }
@@ -15,7 +15,9 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.operation;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.core.runtime.io.bindings.OperationBindingWriter;
@@ -31,33 +33,35 @@ public class OperationWriter {
     public OperationWriter() {
     }
 
-    public static void writeSubscribe(ObjectNode parent, Operation model) {
+    public static void writeSubscribe(JsonGenerator generator, Operation model) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = parent.putObject(ChannelsConstants.PROP_SUBSCRIBE);
+        generator.writeObjectFieldStart(ChannelsConstants.PROP_SUBSCRIBE);
 
-        writeOperation(model, node);
+        writeOperation(model, generator);
+        generator.writeEndObject();
     }
 
-    public static void writePublish(ObjectNode parent, Operation model) {
+    public static void writePublish(JsonGenerator generator, Operation model) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = parent.putObject(ChannelsConstants.PROP_PUBLISH);
+        generator.writeObjectFieldStart(ChannelsConstants.PROP_PUBLISH);
 
-        writeOperation(model, node);
+        writeOperation(model, generator);
+        generator.writeEndObject();
     }
 
-    private static void writeOperation(final Operation model, final ObjectNode node) {
-        JsonUtil.stringProperty(node, OperationConstant.PROP_OPERATION_ID, model.getOperationId());
-        JsonUtil.stringProperty(node, OperationConstant.PROP_SUMMARY, model.getSummary());
-        JsonUtil.stringProperty(node, OperationConstant.PROP_DESCRIPTION, model.getDescription());
-        TagWriter.writeTags(node, model.getTags());
-        OperationBindingWriter.writeOperationBindings(node, model.getBindings());
-        OperationTraitWriter.writeOperationTraits(node, model.getOperationTraits());
-        MessageWriter.writeMessage(node, model.getMessage());
-        ExternalDocsWriter.writeExternalDocumentation(node, model.getExternalDocumentation());
-        ExtensionWriter.writeExtensions(node, model);
+    private static void writeOperation(final Operation model, final JsonGenerator generator) throws IOException {
+        JsonUtil.stringProperty(generator, OperationConstant.PROP_OPERATION_ID, model.getOperationId());
+        JsonUtil.stringProperty(generator, OperationConstant.PROP_SUMMARY, model.getSummary());
+        JsonUtil.stringProperty(generator, OperationConstant.PROP_DESCRIPTION, model.getDescription());
+        TagWriter.writeTags(generator, model.getTags());
+        OperationBindingWriter.writeOperationBindings(generator, model.getBindings());
+        OperationTraitWriter.writeOperationTraits(generator, model.getOperationTraits());
+        MessageWriter.writeMessage(generator, model.getMessage());
+        ExternalDocsWriter.writeExternalDocumentation(generator, model.getExternalDocumentation());
+        ExtensionWriter.writeExtensions(generator, model);
     }
 }
@@ -30,6 +30,7 @@ import io.smallrye.asyncapi.core.api.models.parameter.ParameterImpl;
 import io.smallrye.asyncapi.core.api.models.parameter.ParametersImpl;
 import io.smallrye.asyncapi.core.runtime.io.IoLogging;
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
+import io.smallrye.asyncapi.core.runtime.io.Referenceable;
 import io.smallrye.asyncapi.core.runtime.io.schema.SchemaFactory;
 import io.smallrye.asyncapi.core.runtime.io.schema.SchemaReader;
 import io.smallrye.asyncapi.core.runtime.scanner.spi.AnnotationScannerContext;
@@ -141,6 +142,7 @@ public class ParameterReader {
         parameter.setDescription(JsonUtil.stringProperty(node, ParameterConstant.PROP_DESCRIPTION));
         parameter.setSchema(SchemaReader.readSchema(node.get(ParameterConstant.PROP_SCHEMA)));
         parameter.setLocation(JsonUtil.stringProperty(node, ParameterConstant.PROP_LOCATION));
+        parameter.setRef(JsonUtil.stringProperty(node, Referenceable.PROP_$REF));
 
         return parameter;
     }
@@ -15,13 +15,16 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.parameter;
 
+import java.io.IOException;
 import java.util.Map;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
+import io.smallrye.asyncapi.core.runtime.io.Referenceable;
 import io.smallrye.asyncapi.core.runtime.io.channels.ChannelsConstants;
 import io.smallrye.asyncapi.core.runtime.io.schema.SchemaWriter;
+import io.smallrye.asyncapi.core.runtime.util.StringUtil;
 import io.smallrye.asyncapi.spec.models.parameter.Parameter;
 import io.smallrye.asyncapi.spec.models.parameter.Parameters;
 
@@ -30,49 +33,60 @@ public class ParameterWriter {
     public ParameterWriter() {
     }
 
-    public static void writeParameters(ObjectNode parent, Map<String, Parameter> models) {
+    public static void writeParameters(JsonGenerator generator, Map<String, Parameter> models) throws IOException {
         if (models == null) {
             return;
         }
-        ObjectNode node = parent.putObject(ChannelsConstants.PROP_PARAMETERS);
+        generator.writeObjectFieldStart(ChannelsConstants.PROP_PARAMETERS);
 
-        for (Map.Entry<String, Parameter> entry : models.entrySet()) {
-            writeParameter(node, entry.getValue());
+        for (Parameter model : JsonUtil.uniqueProperties(models.values(), Parameter::getName)) {
+            writeParameter(generator, model);
         }
+        generator.writeEndObject();
     }
 
     /**
      * Writes a list of {@link Parameter} to the JSON tree.
      *
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param models list of Parameter models
+     * @throws IOException Errors in writing the JSON
      */
-    public static void writeParameters(ObjectNode parent, Parameters models) {
+    public static void writeParameters(JsonGenerator generator, Parameters models) throws IOException {
         if (models == null || models.getValue() == null) {
             return;
         }
-        ObjectNode node = parent.putObject(ChannelsConstants.PROP_PARAMETERS);
+        generator.writeObjectFieldStart(ChannelsConstants.PROP_PARAMETERS);
 
-        for (Parameter model : models.getValue()) {
-            writeParameter(node, model);
+        for (Parameter model : JsonUtil.uniqueProperties(models.getValue(), Parameter::getName)) {
+            writeParameter(generator, model);
         }
+        generator.writeEndObject();
     }
 
     /**
      * Writes a {@link Parameter} into the JSON parent.
      *
-     * @param parent
+     * @param generator the json generator
      * @param model
+     * @throws IOException Errors in writing the JSON
      */
-    private static void writeParameter(ObjectNode parent, Parameter model) {
+    private static void writeParameter(JsonGenerator generator, Parameter model) throws IOException {
         if (model == null) {
             return;
         }
 
-        ObjectNode node = parent.putObject(model.getName());
+        generator.writeObjectFieldStart(model.getName());
 
-        JsonUtil.stringProperty(node, ParameterConstant.PROP_DESCRIPTION, model.getDescription());
-        SchemaWriter.writeSchema(node.putObject(ParameterConstant.PROP_SCHEMA), model.getSchema());
-        JsonUtil.stringProperty(node, ParameterConstant.PROP_LOCATION, model.getLocation());
+        if (StringUtil.isNotEmpty(model.getRef())) {
+            JsonUtil.stringProperty(generator, Referenceable.PROP_$REF, model.getRef());
+        } else {
+            JsonUtil.stringProperty(generator, ParameterConstant.PROP_DESCRIPTION, model.getDescription());
+            generator.writeObjectFieldStart(ParameterConstant.PROP_SCHEMA);
+            SchemaWriter.writeSchema(generator, model.getSchema());
+            generator.writeEndObject();
+            JsonUtil.stringProperty(generator, ParameterConstant.PROP_LOCATION, model.getLocation());
+        }
+        generator.writeEndObject();
     }
 }
@@ -117,7 +117,7 @@ public class SchemaFactory {
      * @return a reference to the registered schema or the input schema when registration is not allowed/possible
      */
     public static Schema schemaRegistration(final AnnotationScannerContext context, Type type, Schema schema) {
-        SchemaRegistry schemaRegistry = SchemaRegistry.currentInstance();
+        SchemaRegistry schemaRegistry = context.getSchemaRegistry();
 
         if (allowRegistration(context, schemaRegistry, type, schema)) {
             schema = schemaRegistry.register(type, schema);
@@ -442,7 +442,7 @@ public class SchemaFactory {
             boolean schemaReferenceSupported) {
         AnnotationScanner annotationScanner = CurrentScannerInfo.getCurrentAnnotationScanner();
 
-        SchemaRegistry schemaRegistry = SchemaRegistry.currentInstance();
+        SchemaRegistry schemaRegistry = context.getSchemaRegistry();
 
         if (schemaReferenceSupported && schemaRegistry.hasRef(ctype)) {
             return schemaRegistry.lookupRef(ctype);
@@ -17,6 +17,7 @@ package io.smallrye.asyncapi.core.runtime.io.schema;
 
 import static io.smallrye.asyncapi.core.runtime.io.JsonUtil.readObject;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -29,6 +30,8 @@ import java.util.Optional;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationValue;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 
@@ -89,6 +92,30 @@ public class SchemaReader {
         return Optional.empty();
     }
 
+    /**
+     * Reads the {@link Schema} AsyncAPI nodes from a parser positioned at the start of the schemas object. Every schema
+     * is read into a JSON tree of its own.
+     *
+     * @param parser the json parser
+     * @return Map of Schema model
+     * @throws IOException Errors in reading the JSON
+     */
+    public static Optional<Map<String, Schema>> readSchemas(final JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            JsonNode node = parser.readValueAsTree();
+            return readSchemas(node);
+        }
+
+        Map<String, Schema> models = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            JsonNode childNode = parser.readValueAsTree();
+            models.put(fieldName, readSchema(childNode));
+        }
+        return Optional.of(models);
+    }
+
     /**
      * Reads the {@link Schema} AsyncAPI nodes.
      *
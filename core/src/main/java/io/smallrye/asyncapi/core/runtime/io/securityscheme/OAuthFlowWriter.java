@@ -15,7 +15,9 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.securityscheme;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.spec.models.security.OAuthFlow;
@@ -26,29 +28,32 @@ public class OAuthFlowWriter {
     public OAuthFlowWriter() {
     }
 
-    public static void writeOAuthFlows(ObjectNode parent, OAuthFlows model) {
+    public static void writeOAuthFlows(JsonGenerator generator, OAuthFlows model) throws IOException {
         if (model == null) {
             return;
         }
 
-        ObjectNode node = parent.putObject(SecuritySchemesConstant.PROP_FLOWS);
+        generator.writeObjectFieldStart(SecuritySchemesConstant.PROP_FLOWS);
 
-        writeOAuthFlowToNode(node, SecuritySchemesConstant.PROP_IMPLICIT, model.getImplicit());
-        writeOAuthFlowToNode(node, SecuritySchemesConstant.PROP_PASSWORD, model.getPassword());
-        writeOAuthFlowToNode(node, SecuritySchemesConstant.PROP_CLIENT_CREDENTIALS, model.getClientCredentials());
-        writeOAuthFlowToNode(node, SecuritySchemesConstant.PROP_AUTHORIZATION_CODE, model.getAuthorizationCode());
+        writeOAuthFlowToNode(generator, SecuritySchemesConstant.PROP_IMPLICIT, model.getImplicit());
+        writeOAuthFlowToNode(generator, SecuritySchemesConstant.PROP_PASSWORD, model.getPassword());
+        writeOAuthFlowToNode(generator, SecuritySchemesConstant.PROP_CLIENT_CREDENTIALS, model.getClientCredentials());
+        writeOAuthFlowToNode(generator, SecuritySchemesConstant.PROP_AUTHORIZATION_CODE, model.getAuthorizationCode());
+        generator.writeEndObject();
     }
 
-    private static void writeOAuthFlowToNode(final ObjectNode parent, final String attribute, final OAuthFlow model) {
+    private static void writeOAuthFlowToNode(final JsonGenerator generator, final String attribute, final OAuthFlow model)
+            throws IOException {
         if (model == null) {
             return;
         }
 
-        ObjectNode node = parent.putObject(attribute);
+        generator.writeObjectFieldStart(attribute);
 
-        JsonUtil.stringProperty(node, SecuritySchemesConstant.PROP_AUTHORIZATION_URL, model.getAuthorizationUrl());
-        JsonUtil.stringProperty(node, SecuritySchemesConstant.PROP_TOKEN_URL, model.getTokenUrl());
-        JsonUtil.stringProperty(node, SecuritySchemesConstant.PROP_REFRESH_URL, model.getRefreshUrl());
-        OAuthScopeWriter.writeOAuthScopes(node, model.getScopes());
+        JsonUtil.stringProperty(generator, SecuritySchemesConstant.PROP_AUTHORIZATION_URL, model.getAuthorizationUrl());
+        JsonUtil.stringProperty(generator, SecuritySchemesConstant.PROP_TOKEN_URL, model.getTokenUrl());
+        JsonUtil.stringProperty(generator, SecuritySchemesConstant.PROP_REFRESH_URL, model.getRefreshUrl());
+        OAuthScopeWriter.writeOAuthScopes(generator, model.getScopes());
+        generator.writeEndObject();
     }
 }
@@ -15,9 +15,10 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.securityscheme;
 
+import java.io.IOException;
 import java.util.List;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.spec.models.security.OAuthScope;
@@ -27,22 +28,23 @@ public class OAuthScopeWriter {
     public OAuthScopeWriter() {
     }
 
-    public static void writeOAuthScopes(ObjectNode parent, List<OAuthScope> model) {
-        if (parent == null || model == null) {
+    public static void writeOAuthScopes(JsonGenerator generator, List<OAuthScope> model) throws IOException {
+        if (generator == null || model == null) {
             return;
         }
 
-        ObjectNode node = parent.putObject(SecuritySchemesConstant.PROP_SCOPES);
+        generator.writeObjectFieldStart(SecuritySchemesConstant.PROP_SCOPES);
         for (OAuthScope scope : model) {
-            writeOAuthScopeToNode(node, scope);
+            writeOAuthScopeToNode(generator, scope);
         }
+        generator.writeEndObject();
     }
 
-    private static void writeOAuthScopeToNode(final ObjectNode node, final OAuthScope model) {
-        if (node == null || model == null) {
+    private static void writeOAuthScopeToNode(final JsonGenerator generator, final OAuthScope model) throws IOException {
+        if (generator == null || model == null) {
             return;
         }
 
-        JsonUtil.stringProperty(node, model.getName(), model.getDescription());
+        JsonUtil.stringProperty(generator, model.getName(), model.getDescription());
     }
 }
@@ -15,10 +15,10 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.securityscheme;
 
+import java.io.IOException;
 import java.util.Map;
-import java.util.Set;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.core.runtime.io.components.ComponentsConstant;
@@ -29,48 +29,51 @@ public class SecuritySchemesWriter {
     public SecuritySchemesWriter() {
     }
 
-    public static void writeSecuritySchemes(ObjectNode parent, Map<String, SecurityScheme> securitySchemes) {
+    public static void writeSecuritySchemes(JsonGenerator generator, Map<String, SecurityScheme> securitySchemes)
+            throws IOException {
         if (securitySchemes == null) {
             return;
         }
-        ObjectNode node = parent.putObject(ComponentsConstant.PROP_SECURITY_SCHEMES);
+        generator.writeObjectFieldStart(ComponentsConstant.PROP_SECURITY_SCHEMES);
 
-        Set<Map.Entry<String, SecurityScheme>> entrySet = securitySchemes.entrySet();
-        for (Map.Entry<String, SecurityScheme> entry : entrySet) {
-            writeSecuritySchemeToNode(node, entry.getValue());
+        for (SecurityScheme securityScheme : JsonUtil.uniqueProperties(securitySchemes.values(),
+                SecuritySchemesWriter::propertyName)) {
+            writeSecuritySchemeToNode(generator, securityScheme);
         }
+        generator.writeEndObject();
     }
 
-    private static void writeSecuritySchemeToNode(ObjectNode parent, SecurityScheme model) {
+    private static void writeSecuritySchemeToNode(JsonGenerator generator, SecurityScheme model) throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node;
 
+        generator.writeObjectFieldStart(propertyName(model));
+
+        if (model.getType() != null) {
+            JsonUtil.stringProperty(generator, SecuritySchemesConstant.PROP_TYPE, model.getType().toString());
+        }
+        JsonUtil.stringProperty(generator, SecuritySchemesConstant.PROP_DESCRIPTION, model.getDescription());
+        if (model.getIn() != null && model.getIn().toString() != "") {
+            JsonUtil.stringProperty(generator, SecuritySchemesConstant.PROP_IN, model.getIn().toString());
+        }
+        JsonUtil.stringProperty(generator, SecuritySchemesConstant.PROP_SCHEME, model.getScheme());
+        JsonUtil.stringProperty(generator, SecuritySchemesConstant.PROP_BEARER_FORMAT, model.getBearerFormat());
+        JsonUtil.stringProperty(generator, SecuritySchemesConstant.PROP_OPENID_CONNECT_URL, model.getOpenIdConnectUrl());
+        OAuthFlowWriter.writeOAuthFlows(generator, model.getFlows());
+        generator.writeEndObject();
+    }
+
+    private static String propertyName(SecurityScheme model) {
         switch (model.getType()) {
             case APIKEY:
-                node = parent.putObject("apiKey");
-                break;
+                return "apiKey";
             case OAUTH2:
-                node = parent.putObject("supportedOauthFlows");
-                break;
+                return "supportedOauthFlows";
             case OPENIDCONNECT:
-                node = parent.putObject("openIdConnectWellKnown");
-                break;
+                return "openIdConnectWellKnown";
             default:
-                node = parent.putObject(model.getType().toString());
-        }
-
-        if (model.getType() != null) {
-            JsonUtil.stringProperty(node, SecuritySchemesConstant.PROP_TYPE, model.getType().toString());
-        }
-        JsonUtil.stringProperty(node, SecuritySchemesConstant.PROP_DESCRIPTION, model.getDescription());
-        if (model.getIn() != null && model.getIn().toString() != "") {
-            JsonUtil.stringProperty(node, SecuritySchemesConstant.PROP_IN, model.getIn().toString());
+                return model.getType().toString();
         }
-        JsonUtil.stringProperty(node, SecuritySchemesConstant.PROP_SCHEME, model.getScheme());
-        JsonUtil.stringProperty(node, SecuritySchemesConstant.PROP_BEARER_FORMAT, model.getBearerFormat());
-        JsonUtil.stringProperty(node, SecuritySchemesConstant.PROP_OPENID_CONNECT_URL, model.getOpenIdConnectUrl());
-        OAuthFlowWriter.writeOAuthFlows(node, model.getFlows());
     }
 }
@@ -15,9 +15,10 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.server;
 
+import java.io.IOException;
 import java.util.List;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.core.runtime.io.bindings.ServerBindingsWriter;
@@ -40,30 +41,33 @@ public class ServerWriter {
     /**
      * Writes the {@link Server} model array to the JSON tree.
      *
-     * @param parent the json node
+     * @param generator the json generator
      * @param servers list of Server models
+     * @throws IOException Errors in writing the JSON
      */
-    public static void writeServers(ObjectNode parent, List<Server> servers) {
+    public static void writeServers(JsonGenerator generator, List<Server> servers) throws IOException {
         if (servers == null) {
             return;
         }
-        ObjectNode node = parent.putObject(DefinitionConstant.PROP_SERVERS);
+        generator.writeObjectFieldStart(DefinitionConstant.PROP_SERVERS);
 
         for (Server server : servers) {
-            if (server != null){
-                ObjectNode jsonNode = node.putObject(server.getName());
-                writeServerToNode(jsonNode, server);
+            if (server != null) {
+                generator.writeObjectFieldStart(server.getName());
+                writeServerToNode(generator, server);
+                generator.writeEndObject();
             }
         }
+        generator.writeEndObject();
     }
 
-    private static void writeServerToNode(ObjectNode node, Server model) {
-        JsonUtil.stringProperty(node, ServerConstant.PROP_URL, model.getUrl());
-        JsonUtil.stringProperty(node, ServerConstant.PROP_PROTOCOL, model.getProtocol());
-        JsonUtil.stringProperty(node, ServerConstant.PROP_DESCRIPTION, model.getDescription());
-        ServerVariableWriter.writeServerVariables(node, model.getVariables());
-        SecurityRequirementWriter.writeSecurityRequirements(node, model.getSecurityRequirements());
-        ServerBindingsWriter.writeServerBindings(node, model.getServerBindings());
-        ExtensionWriter.writeExtensions(node, model);
+    private static void writeServerToNode(JsonGenerator generator, Server model) throws IOException {
+        JsonUtil.stringProperty(generator, ServerConstant.PROP_URL, model.getUrl());
+        JsonUtil.stringProperty(generator, ServerConstant.PROP_PROTOCOL, model.getProtocol());
+        JsonUtil.stringProperty(generator, ServerConstant.PROP_DESCRIPTION, model.getDescription());
+        ServerVariableWriter.writeServerVariables(generator, model.getVariables());
+        SecurityRequirementWriter.writeSecurityRequirements(generator, model.getSecurityRequirements());
+        ServerBindingsWriter.writeServerBindings(generator, model.getServerBindings());
+        ExtensionWriter.writeExtensions(generator, model);
     }
 }
@@ -15,12 +15,12 @@
  */
 package io.smallrye.asyncapi.core.runtime.io.servervariable;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import io.smallrye.asyncapi.core.runtime.io.JsonUtil;
 import io.smallrye.asyncapi.core.runtime.io.extension.ExtensionWriter;
@@ -40,51 +40,58 @@ public class ServerVariableWriter {
     /**
      * Writes the {@link ServerVariable} model to the JSON tree.
      *
-     * @param serverNode the json node
+     * @param generator the json generator
      * @param variables map of ServerVariable models
+     * @throws IOException Errors in writing the JSON
      */
-    public static void writeServerVariables(ObjectNode serverNode, Map<String, ServerVariable> variables) {
+    public static void writeServerVariables(JsonGenerator generator, Map<String, ServerVariable> variables) throws IOException {
         if (variables == null) {
             return;
         }
-        ObjectNode variablesNode = serverNode.putObject(ServerConstant.PROP_VARIABLES);
+        generator.writeObjectFieldStart(ServerConstant.PROP_VARIABLES);
 
         Set<Map.Entry<String, ServerVariable>> entrySet = variables.entrySet();
         for (Map.Entry<String, ServerVariable> entry : entrySet) {
-            writeServerVariable(variablesNode, entry.getValue(), entry.getKey());
+            writeServerVariable(generator, entry.getValue(), entry.getKey());
         }
+        generator.writeEndObject();
     }
 
     /**
      * Writes a {@link ServerVariable} to the JSON tree.
      *
-     * @param parent the parent json node
+     * @param generator the json generator
      * @param model the ServerVariable model
      * @param variableName the node name
+     * @throws IOException Errors in writing the JSON
      */
-    public static void writeServerVariable(ObjectNode parent, ServerVariable model, String variableName) {
+    public static void writeServerVariable(JsonGenerator generator, ServerVariable model, String variableName)
+            throws IOException {
         if (model == null) {
             return;
         }
-        ObjectNode node = parent.putObject(variableName);
-        JsonUtil.stringProperty(node, ServerVariableConstant.PROP_DEFAULT, model.getDefaultValue());
-        JsonUtil.stringProperty(node, ServerVariableConstant.PROP_DESCRIPTION, model.getDescription());
+        generator.writeObjectFieldStart(variableName);
+        JsonUtil.stringProperty(generator, ServerVariableConstant.PROP_DEFAULT, model.getDefaultValue());
+        JsonUtil.stringProperty(generator, ServerVariableConstant.PROP_DESCRIPTION, model.getDescription());
 
         List<String> enumeration = model.getEnumeration();
         if (enumeration != null) {
-            ArrayNode enumArray = node.putArray(ServerVariableConstant.PROP_ENUM);
+            generator.writeArrayFieldStart(ServerVariableConstant.PROP_ENUM);
             for (String enumValue : enumeration) {
-                enumArray.add(enumValue);
+                generator.writeString(enumValue);
             }
+            generator.writeEndArray();
         }
 
         List<String> examples = model.getExamples();
         if (examples != null) {
-            ArrayNode exampleArray = node.putArray(ServerVariableConstant.PROP_EXAMPLES);
+            generator.writeArrayFieldStart(ServerVariableConstant.PROP_EXAMPLES);
             for (String exampleValue : examples) {
-                exampleArray.add(exampleValue);
+                generator.writeString(exampleValue);
             }
+            generator.writeEndArray();
         }
-        ExtensionWriter.writeExtensions(node, model);
+        ExtensionWriter.writeExtensions(generator, model);
+        generator.writeEndObject();
     }
 }
@@ -21,13 +21,18 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Type;
 
 import io.smallrye.asyncapi.core.api.AsyncApiConfig;
+import io.smallrye.asyncapi.core.api.Instrumentation;
 import io.smallrye.asyncapi.core.api.constants.AsyncApiConstants;
 import io.smallrye.asyncapi.core.api.models.AsyncAPIImpl;
 import io.smallrye.asyncapi.core.api.util.ClassLoaderUtil;
@@ -37,9 +42,11 @@ import io.smallrye.asyncapi.core.runtime.io.definition.DefinitionConstant;
 import io.smallrye.asyncapi.core.runtime.io.definition.DefinitionReader;
 import io.smallrye.asyncapi.core.runtime.io.schema.SchemaConstant;
 import io.smallrye.asyncapi.core.runtime.io.schema.SchemaFactory;
+import io.smallrye.asyncapi.core.runtime.scanner.dataobject.PropertyModelCache;
 import io.smallrye.asyncapi.core.runtime.scanner.spi.AnnotationScanner;
 import io.smallrye.asyncapi.core.runtime.scanner.spi.AnnotationScannerContext;
 import io.smallrye.asyncapi.core.runtime.scanner.spi.AnnotationScannerFactory;
+import io.smallrye.asyncapi.core.runtime.util.TypeHierarchy;
 import io.smallrye.asyncapi.spec.models.AsyncAPI;
 
 /**
@@ -92,6 +99,17 @@ public class AsyncApiAnnotationScanner {
      */
     public AsyncApiAnnotationScanner(AsyncApiConfig config, ClassLoader loader, IndexView index,
             List<AnnotationScannerExtension> extensions) {
+        this(config, loader, index, extensions, new Instrumentation());
+    }
+
+    /**
+     * @param config AsyncApiConfig instance
+     * @param index IndexView of deployment
+     * @param extensions A set of extensions to scanning
+     * @param instrumentation records timings and counters of the scan
+     */
+    public AsyncApiAnnotationScanner(AsyncApiConfig config, ClassLoader loader, IndexView index,
+            List<AnnotationScannerExtension> extensions, Instrumentation instrumentation) {
         FilteredIndexView filteredIndexView;
 
         if (index instanceof FilteredIndexView) {
@@ -101,7 +119,7 @@ public class AsyncApiAnnotationScanner {
         }
 
         this.annotationScannerContext = new AnnotationScannerContext(filteredIndexView, loader, extensions, config,
-                new AsyncAPIImpl());
+                new AsyncAPIImpl(), instrumentation);
         this.annotationScannerFactory = new AnnotationScannerFactory(loader);
     }
 
@@ -116,20 +134,105 @@ public class AsyncApiAnnotationScanner {
         AsyncAPI asyncAPI = scanOKProfileAsyncApiAnnotations();
 
         // Now load all entry points with SPI and scan those
-        List<AnnotationScanner> annotationScanners = annotationScannerFactory.getAnnotationScanners();
-        for (AnnotationScanner annotationScanner : annotationScanners) {
-            if (filter == null || filter.length == 0 || Arrays.asList(filter)
-                    .contains(annotationScanner.getName())) {
+        asyncAPI = scan(getAnnotationScanners(filter), asyncAPI);
 
-                ScannerLogging.logger.scanning(annotationScanner.getName());
-                CurrentScannerInfo.register(annotationScanner);
-                asyncAPI = annotationScanner.scan(annotationScannerContext, asyncAPI);
+        countModel(asyncAPI);
+        logStatistics();
+        return asyncAPI;
+    }
+
+    /**
+     * Scan the deployment like {@link #scan(String...)}, but one annotated class at a time, keeping what each class
+     * contributes to the model in the given state. Classes that did not change since the previous scan with the same
+     * state, and do not depend on a changed class, are not scanned again. All classes are scanned if one of the scanners
+     * does not support incremental scans.
+     *
+     * @param state the results of the previous scan, updated by this scan
+     * @param changedClasses names of the classes changed, added or removed since the previous scan, or null if unknown
+     * @param filter Filter to only include certain scanners. Based on the scanner name. (JAX-RS, Spring, Vert.x)
+     * @return AsyncAPI generated from scanning annotations
+     */
+    public AsyncAPI scanIncrementally(IncrementalScanState state, Set<DotName> changedClasses, String... filter) {
+        AsyncAPI asyncAPI = scanOKProfileAsyncApiAnnotations();
+
+        List<AnnotationScanner> annotationScanners = getAnnotationScanners(filter);
+        Optional<AnnotationScanner> unsupported = annotationScanners.stream()
+                .filter(annotationScanner -> !annotationScanner.supportsIncrementalScan())
+                .findFirst();
+
+        if (unsupported.isPresent()) {
+            ScannerLogging.logger.incrementalScanUnsupported(unsupported.get()
+                    .getName());
+            state.clear();
+            asyncAPI = scan(annotationScanners, asyncAPI);
+        } else {
+            Instrumentation.Measurement measurement = instrumentation()
+                    .start(Instrumentation.PHASE_SCANNER_PREFIX + "incremental");
+            try {
+                asyncAPI = new IncrementalAnnotationScan(annotationScannerContext, state).scan(annotationScanners,
+                        changedClasses, asyncAPI);
+            } finally {
+                measurement.close();
             }
         }
 
+        countModel(asyncAPI);
+        logStatistics();
+        return asyncAPI;
+    }
+
+    private List<AnnotationScanner> getAnnotationScanners(String... filter) {
+        return annotationScannerFactory.getAnnotationScanners()
+                .stream()
+                .filter(annotationScanner -> filter == null || filter.length == 0 || Arrays.asList(filter)
+                        .contains(annotationScanner.getName()))
+                .collect(Collectors.toList());
+    }
+
+    private AsyncAPI scan(List<AnnotationScanner> annotationScanners, AsyncAPI asyncAPI) {
+        AsyncApiConfig config = annotationScannerContext.getAsyncApiConfig();
+        if (config.scanParallel()) {
+            return new ParallelAnnotationScan(annotationScannerContext, config.scanParallelism(),
+                    config.scanParallelSharedSchemaRegistry()).scan(annotationScanners, asyncAPI);
+        }
+
+        for (AnnotationScanner annotationScanner : annotationScanners) {
+            ScannerLogging.logger.scanning(annotationScanner.getName());
+            CurrentScannerInfo.register(annotationScanner);
+            Instrumentation.Measurement measurement = instrumentation()
+                    .start(Instrumentation.PHASE_SCANNER_PREFIX + annotationScanner.getName());
+            try {
+                asyncAPI = annotationScanner.scan(annotationScannerContext, asyncAPI);
+            } finally {
+                measurement.close();
+            }
+        }
         return asyncAPI;
     }
 
+    private Instrumentation instrumentation() {
+        return annotationScannerContext.getInstrumentation();
+    }
+
+    private void countModel(AsyncAPI asyncAPI) {
+        if (asyncAPI.getChannels() != null && asyncAPI.getChannels().getChannels() != null) {
+            instrumentation().count(Instrumentation.COUNTER_CHANNELS, asyncAPI.getChannels().getChannels().size());
+        }
+        if (asyncAPI.getComponents() != null && asyncAPI.getComponents().getSchemas() != null) {
+            instrumentation().count(Instrumentation.COUNTER_SCHEMAS, asyncAPI.getComponents().getSchemas().size());
+        }
+    }
+
+    private void logStatistics() {
+        TypeHierarchy typeHierarchy = annotationScannerContext.getTypeHierarchy();
+        ScannerLogging.logger.typeHierarchyStatistics(typeHierarchy.getHits(), typeHierarchy.getMisses(),
+                typeHierarchy.getHitRate() * 100, typeHierarchy.getClassLoaderLookups());
+
+        PropertyModelCache propertyModelCache = annotationScannerContext.getPropertyModelCache();
+        ScannerLogging.logger.propertyModelStatistics(propertyModelCache.getHits(), propertyModelCache.getMisses(),
+                propertyModelCache.getHitRate() * 100);
+    }
+
     private AsyncAPI scanOKProfileAsyncApiAnnotations() {
 
         // Initialize a new AAI document.  Even if nothing is found, this will be returned.
@@ -141,13 +244,28 @@ public class AsyncApiAnnotationScanner {
                 annotationScannerContext.getIndex());
 
         // Register custom schemas if available
-        getCustomSchemaRegistry(annotationScannerContext.getAsyncApiConfig()).registerCustomSchemas(schemaRegistry);
+        Instrumentation.Measurement customSchemas = instrumentation().start(Instrumentation.PHASE_CUSTOM_SCHEMAS);
+        try {
+            getCustomSchemaRegistry(annotationScannerContext.getAsyncApiConfig()).registerCustomSchemas(schemaRegistry);
+        } finally {
+            customSchemas.close();
+        }
 
         // Find all AsyncAPI annotations at the package level
         ScannerLogging.logger.scanning("AsyncAPI");
-        processAsyncAPIDefinitions(annotationScannerContext, asyncAPI);
+        Instrumentation.Measurement definitions = instrumentation().start(Instrumentation.PHASE_DEFINITIONS);
+        try {
+            processAsyncAPIDefinitions(annotationScannerContext, asyncAPI);
+        } finally {
+            definitions.close();
+        }
 
-        processClassSchemas(annotationScannerContext);
+        Instrumentation.Measurement classSchemas = instrumentation().start(Instrumentation.PHASE_CLASS_SCHEMAS);
+        try {
+            processClassSchemas(annotationScannerContext);
+        } finally {
+            classSchemas.close();
+        }
 
         return asyncAPI;
     }
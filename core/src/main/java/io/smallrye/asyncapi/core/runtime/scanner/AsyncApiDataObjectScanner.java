@@ -31,6 +31,7 @@ import org.jboss.jandex.Indexer;
 import org.jboss.jandex.PrimitiveType;
 import org.jboss.jandex.Type;
 
+import io.smallrye.asyncapi.core.api.Instrumentation;
 import io.smallrye.asyncapi.core.api.models.schema.SchemaImpl;
 import io.smallrye.asyncapi.core.runtime.io.schema.SchemaFactory;
 import io.smallrye.asyncapi.core.runtime.scanner.dataobject.AnnotationTargetProcessor;
@@ -224,10 +225,11 @@ public class AsyncApiDataObjectScanner {
     private void depthFirstGraphSearch() {
         while (!objectStack.isEmpty()) {
             DataObjectDeque.PathEntry currentPathEntry = objectStack.pop();
+            context.getInstrumentation().count(Instrumentation.COUNTER_CLASSES, 1);
 
             Type currentType = currentPathEntry.getClazzType();
 
-            if (SchemaRegistry.hasSchema(currentType, null)) {
+            if (SchemaRegistry.hasSchema(context, currentType, null)) {
                 // This type has already been scanned and registered, don't do it again!
                 continue;
             }
@@ -255,7 +257,7 @@ public class AsyncApiDataObjectScanner {
                 AnnotationTarget reference = currentPathEntry.getAnnotationTarget();
 
                 // Get all fields *including* inherited.
-                Map<String, TypeResolver> properties = TypeResolver.getAllFields(index, ignoreResolver, currentType,
+                Map<String, TypeResolver> properties = TypeResolver.getAllFields(context, ignoreResolver, currentType,
                         currentClass,
                         reference);
 
@@ -287,9 +289,9 @@ public class AsyncApiDataObjectScanner {
                 this.rootSchema = enclosingSchema;
             }
 
-            if (SchemaRegistry.hasSchema(currentType, null)) {
+            if (SchemaRegistry.hasSchema(context, currentType, null)) {
                 // Replace the registered schema if one is present
-                SchemaRegistry.currentInstance().register(currentType, enclosingSchema);
+                context.getSchemaRegistry().register(currentType, enclosingSchema);
             }
         }
     }
@@ -308,7 +310,7 @@ public class AsyncApiDataObjectScanner {
     }
 
     private void resolveSpecial(DataObjectDeque.PathEntry root, Type type) {
-        Map<String, TypeResolver> fieldResolution = TypeResolver.getAllFields(index, ignoreResolver, type, rootClassInfo,
+        Map<String, TypeResolver> fieldResolution = TypeResolver.getAllFields(context, ignoreResolver, type, rootClassInfo,
                 root.getAnnotationTarget());
         rootSchema = preProcessSpecial(type, fieldResolution.values().iterator().next(), root);
     }
@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.scanner;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+
+/**
+ * Computes fingerprints of the classes of an index, so that the contribution of a class to an incremental scan can be
+ * validated against a later index without knowing which classes changed in between.
+ * <p>
+ * The fingerprint of a class covers its name, modifiers, super types, type parameters, fields and methods, including all
+ * annotations. The fingerprint of a set of classes combines the fingerprints of its classes in the order of their names,
+ * with classes missing from the index contributing a fingerprint of their own. Fingerprints are memoized, so instances
+ * are meant to be used for a single scan and are not safe for concurrent use.
+ */
+class ClassFingerprints {
+
+    private static final long ABSENT = 0;
+
+    private final IndexView index;
+
+    private final Map<DotName, Long> fingerprints = new HashMap<>();
+
+    ClassFingerprints(IndexView index) {
+        this.index = index;
+    }
+
+    /**
+     * @param classes names of classes
+     * @return the combined fingerprint of the given classes
+     */
+    long of(Collection<DotName> classes) {
+        List<DotName> sorted = new ArrayList<>(classes);
+        sorted.sort(Comparator.comparing(DotName::toString));
+
+        MessageDigest digest = newDigest();
+        for (DotName className : sorted) {
+            update(digest, className.toString());
+            update(digest, Long.toHexString(of(className)));
+        }
+        return toLong(digest.digest());
+    }
+
+    private long of(DotName className) {
+        Long fingerprint = fingerprints.get(className);
+        if (fingerprint == null) {
+            ClassInfo classInfo = index.getClassByName(className);
+            fingerprint = classInfo != null ? fingerprint(classInfo) : ABSENT;
+            fingerprints.put(className, fingerprint);
+        }
+        return fingerprint;
+    }
+
+    private static long fingerprint(ClassInfo classInfo) {
+        MessageDigest digest = newDigest();
+        update(digest, classInfo.name().toString());
+        update(digest, Integer.toHexString(classInfo.flags()));
+        update(digest, String.valueOf(classInfo.superClassType()));
+        update(digest, String.valueOf(classInfo.interfaceTypes()));
+        update(digest, String.valueOf(classInfo.typeParameters()));
+        update(digest, classInfo.classAnnotations());
+
+        for (FieldInfo field : classInfo.fields()) {
+            update(digest, field.name());
+            update(digest, Integer.toHexString(field.flags()));
+            update(digest, String.valueOf(field.type()));
+            update(digest, field.annotations());
+        }
+
+        for (MethodInfo method : classInfo.methods()) {
+            update(digest, method.name());
+            update(digest, Integer.toHexString(method.flags()));
+            update(digest, String.valueOf(method.parameters()));
+            update(digest, String.valueOf(method.returnType()));
+            update(digest, String.valueOf(method.typeParameters()));
+            update(digest, String.valueOf(method.defaultValue()));
+            update(digest, method.annotations());
+        }
+
+        long fingerprint = toLong(digest.digest());
+        // Reserved for missing classes
+        return fingerprint != ABSENT ? fingerprint : 1;
+    }
+
+    private static void update(MessageDigest digest, Collection<AnnotationInstance> annotations) {
+        for (AnnotationInstance annotation : annotations) {
+            update(digest, String.valueOf(annotation.target()));
+            update(digest, annotation.toString());
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static long toLong(byte[] bytes) {
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = value << 8 | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every implementation of the Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
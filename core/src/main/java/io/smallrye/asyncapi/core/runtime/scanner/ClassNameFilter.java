@@ -0,0 +1,237 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.scanner;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.jboss.jandex.DotName;
+
+import io.smallrye.asyncapi.core.api.AsyncApiConfig;
+
+/**
+ * Decides which classes are scanned, according to the scan class and package patterns of the configuration. The
+ * decisions are cached per class name.
+ * <p>
+ * Instances are safe for concurrent use, so a filter can be shared by the views of several indexes and by the tasks
+ * indexing a class path.
+ */
+public class ClassNameFilter {
+
+    private final Pattern scanClasses;
+
+    private final Pattern scanPackages;
+
+    private final Pattern scanExcludeClasses;
+
+    private final Pattern scanExcludePackages;
+
+    private final NameMatcher scanClassesMatcher;
+
+    private final NameMatcher scanPackagesMatcher;
+
+    private final NameMatcher scanExcludeClassesMatcher;
+
+    private final NameMatcher scanExcludePackagesMatcher;
+
+    private final Map<DotName, Boolean> decisions;
+
+    /**
+     * @param config the config
+     */
+    public ClassNameFilter(AsyncApiConfig config) {
+        scanClasses = config.scanClasses();
+        scanPackages = config.scanPackages();
+        scanExcludeClasses = config.scanExcludeClasses();
+        scanExcludePackages = config.scanExcludePackages();
+
+        scanClassesMatcher = NameMatcher.of(scanClasses);
+        scanPackagesMatcher = NameMatcher.of(scanPackages);
+        scanExcludeClassesMatcher = NameMatcher.of(scanExcludeClasses);
+        scanExcludePackagesMatcher = NameMatcher.of(scanExcludePackages);
+
+        decisions = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns true if the class name should be included in the index (is either included or
+     * not excluded).
+     *
+     * @param className the name of the class
+     * @return true if the inclusion/exclusion configuration allows scanning of the class name
+     */
+    public boolean accepts(DotName className) {
+        Boolean accept = decisions.get(className);
+        if (accept == null) {
+            accept = decide(className);
+            decisions.put(className, accept);
+        }
+        return accept;
+    }
+
+    private boolean decide(DotName className) {
+        final boolean accept;
+        final MatchHandler match = new MatchHandler(className);
+
+        if (match.isQualifiedNameExcluded()) {
+            /*
+             * A FQCN or pattern that *fully* matched the FQCN was given in
+             * `mp.asyncapi.scan.exclude.classes`.
+             */
+            accept = false;
+        } else if (match.isQualifiedNameIncluded()) {
+            /*
+             * A FQCN or pattern that *fully* matched the FQCN was given in
+             * `mp.asyncapi.scan.classes`.
+             */
+            accept = true;
+        } else if (match.isSimpleNameExcluded()) {
+            /*
+             * A pattern or partial class name was given in `mp.asyncapi.scan.exclude.classes`
+             * where the matching part of the configuration ends with the simple class name
+             * *AND* no match exists for the simple class name in `mp.asyncapi.scan.classes`
+             * with a more complete package specified.
+             */
+            accept = false;
+        } else if (match.isSimpleNameIncluded()) {
+            /*
+             * A pattern or partial class name was given in `mp.asyncapi.scan.classes`
+             * where the matching part of the configuration ends with the simple class name
+             */
+            accept = true;
+        } else if (match.isPackageExcluded()) {
+            /*
+             * A package or package pattern given in `mp.asyncapi.scan.exclude.packages`
+             * matches the start of the FQCN's package and a more complete match in
+             * `mp.asyncapi.scan.packages` was not given.
+             */
+            accept = false;
+        } else if (match.isPackageIncluded()) {
+            /*
+             * A package or package pattern given in `mp.asyncapi.scan.packages`
+             * matches the start of the FQCN's package.
+             */
+            accept = true;
+        } else if (match.isImpliedInclusion()) {
+            /*
+             * No value has been specified for either `mp.asyncapi.scan.classes`
+             * or `mp.asyncapi.scan.packages`.
+             */
+            accept = true;
+        } else {
+            /*
+             * A value is specified for `mp.asyncapi.scan.classes` or `mp.asyncapi.scan.packages`
+             * which does not match this FQCN in any way.
+             */
+            accept = false;
+        }
+
+        return accept;
+    }
+
+    class MatchHandler {
+        final DotName className;
+
+        final String fqcn;
+
+        final String simpleName;
+
+        final String packageName;
+
+        final String classExclGroup;
+
+        final String classInclGroup;
+
+        final String pkgExclGroup;
+
+        final String pkgInclGroup;
+
+        public MatchHandler(DotName className) {
+            this.className = className;
+            this.fqcn = className.toString();
+            this.simpleName = className.withoutPackagePrefix();
+            final int index = fqcn.lastIndexOf('.');
+            this.packageName = index > -1 ? fqcn.substring(0, index) : "";
+
+            this.classExclGroup = scanExcludeClassesMatcher.matchingGroup(fqcn);
+            this.classInclGroup = scanClassesMatcher.matchingGroup(fqcn);
+            this.pkgExclGroup = scanExcludePackagesMatcher.matchingGroup(packageName);
+            this.pkgInclGroup = scanPackagesMatcher.matchingGroup(packageName);
+        }
+
+        public boolean isQualifiedNameExcluded() {
+            return fqcn.equals(classExclGroup);
+        }
+
+        public boolean isQualifiedNameIncluded() {
+            return fqcn.equals(classInclGroup);
+        }
+
+        public boolean isSimpleNameExcluded() {
+            if (classExclGroup.endsWith(simpleName)) {
+                if (isSimpleNameIncluded()) {
+                    return classExclGroup.length() >= classInclGroup.length();
+                }
+                return true;
+            }
+            return false;
+        }
+
+        public boolean isSimpleNameIncluded() {
+            return classInclGroup.endsWith(simpleName);
+        }
+
+        public boolean isPackageExcluded() {
+            if (pkgExclGroup.isEmpty()) {
+                return false;
+            }
+            if (packageName.equals(pkgExclGroup)) {
+                return true;
+            }
+            if (packageName.startsWith(pkgExclGroup)) {
+                if (isPackageIncluded()) {
+                    return (pkgExclGroup.length() >= pkgInclGroup.length());
+                }
+                return true;
+            }
+            return false;
+        }
+
+        public boolean isPackageIncluded() {
+            if (pkgInclGroup.isEmpty()) {
+                return false;
+            }
+            if (packageName.equals(pkgInclGroup)) {
+                return true;
+            }
+            return packageName.startsWith(pkgInclGroup);
+        }
+
+        public boolean isImpliedInclusion() {
+            return (scanClasses == null || scanClasses.pattern()
+                    .isEmpty()) && (scanPackages == null
+                            || scanPackages.pattern()
+                                    .isEmpty());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ClassNameFilter{" + "scanClasses=" + scanClasses + ", scanPackages=" + scanPackages + ", scanExcludeClasses="
+                + scanExcludeClasses + ", scanExcludePackages=" + scanExcludePackages + '}';
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.scanner;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
+
+/**
+ * A view of a {@link FilteredIndexView} that only returns the annotations of a single class, so that scanners report
+ * what this class contributes to the model. Classes are still looked up in the whole index, and the names of all classes
+ * looked up are recorded as dependencies of the scoped class. The types of the super types, fields and methods of the
+ * scoped class are recorded as well, since scanners may derive schemas from the name of a type without looking it up.
+ * <p>
+ * Instances are not safe for concurrent use.
+ */
+class ClassScopedIndexView extends FilteredIndexView {
+
+    private final ClassInfo scope;
+
+    private final Set<DotName> dependencies = new HashSet<>();
+
+    ClassScopedIndexView(FilteredIndexView view, ClassInfo scope) {
+        super(view);
+        this.scope = scope;
+        dependencies.add(scope.name());
+
+        if (scope.superClassType() != null) {
+            addDependencies(scope.superClassType());
+        }
+        scope.interfaceTypes()
+                .forEach(this::addDependencies);
+        for (FieldInfo field : scope.fields()) {
+            addDependencies(field.type());
+        }
+        for (MethodInfo method : scope.methods()) {
+            addDependencies(method.returnType());
+            method.parameters()
+                    .forEach(this::addDependencies);
+        }
+    }
+
+    private void addDependencies(Type type) {
+        switch (type.kind()) {
+            case CLASS:
+                dependencies.add(type.name());
+                break;
+            case PARAMETERIZED_TYPE:
+                dependencies.add(type.name());
+                type.asParameterizedType()
+                        .arguments()
+                        .forEach(this::addDependencies);
+                break;
+            case ARRAY:
+                addDependencies(type.asArrayType()
+                        .component());
+                break;
+            case WILDCARD_TYPE:
+                addDependencies(type.asWildcardType()
+                        .extendsBound());
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public ClassInfo getClassByName(DotName className) {
+        dependencies.add(className);
+        return super.getClassByName(className);
+    }
+
+    @Override
+    public Collection<AnnotationInstance> getAnnotations(DotName annotationName) {
+        List<AnnotationInstance> annotations = scope.annotations().get(annotationName);
+        return annotations != null ? Collections.unmodifiableList(annotations) : Collections.emptyList();
+    }
+
+    /**
+     * @return the scoped class and the names of all classes looked up in this view
+     */
+    Set<DotName> getDependencies() {
+        return dependencies;
+    }
+}
@@ -0,0 +1,362 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.scanner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jboss.jandex.CompositeIndex;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+
+import io.smallrye.asyncapi.core.api.AsyncApiConfig;
+import io.smallrye.asyncapi.core.api.constants.AsyncApiConstants;
+
+/**
+ * Creates the index to scan for applications bootstrapped without a build-time index, such as plain Java services
+ * calling {@link io.smallrye.asyncapi.core.runtime.AsyncApiProcessor#bootstrap(AsyncApiConfig, IndexView)}.
+ * <p>
+ * The directories and jars of the application and the jars of its dependencies are indexed concurrently on a dedicated
+ * {@link ForkJoinPool}, the class files of a directory in chunks of their own. The configuration is applied while
+ * indexing: dependencies are skipped according to {@link AsyncApiConfig#scanDependenciesDisable()} and
+ * {@link AsyncApiConfig#scanDependenciesJars()}, and only classes accepted by the scan package and class patterns are
+ * indexed. The indexes of all entries are combined in the given order, so for classes found more than once the first
+ * one wins, as for a class loader.
+ * <p>
+ * A jar containing a <code>META-INF/jandex.idx</code> is not indexed, its index is read instead and filtered by the
+ * same patterns. If a cache directory is given, the index of every other jar is written to the cache, keyed by the
+ * hash of the jar and of the patterns, and read from there as long as neither changes. Cache files are written
+ * atomically, so processes may share a cache directory.
+ */
+public class ClasspathIndexer {
+
+    private static final String JANDEX_INDEX = "META-INF/jandex.idx";
+
+    private static final String CACHE_SUFFIX = ".idx";
+
+    private static final int CACHE_VERSION = 1;
+
+    private static final int CHUNK_SIZE = 256;
+
+    private final AsyncApiConfig config;
+
+    private final Path cacheDirectory;
+
+    private final ClassNameFilter filter;
+
+    private final String filterKey;
+
+    private final LongAdder fromJandexIndex = new LongAdder();
+
+    private final LongAdder fromCache = new LongAdder();
+
+    private final LongAdder indexed = new LongAdder();
+
+    /**
+     * Creates an indexer without a cache.
+     *
+     * @param config the configuration
+     */
+    public ClasspathIndexer(AsyncApiConfig config) {
+        this(config, null);
+    }
+
+    /**
+     * @param config the configuration
+     * @param cacheDirectory the directory of the cached jar indexes, or null to index every jar without a
+     *        <code>META-INF/jandex.idx</code>
+     */
+    public ClasspathIndexer(AsyncApiConfig config, Path cacheDirectory) {
+        this.config = config;
+        this.cacheDirectory = cacheDirectory;
+        this.filter = new ClassNameFilter(config);
+        this.filterKey = CACHE_VERSION + "|" + config.scanClasses() + "|" + config.scanPackages() + "|"
+                + config.scanExcludeClasses() + "|" + config.scanExcludePackages();
+    }
+
+    /**
+     * Index the given class path entries.
+     *
+     * @param application the directories and jars of the application, always indexed
+     * @param dependencies the jars of the dependencies, indexed unless excluded by the configuration
+     * @return the combined index
+     * @throws UncheckedIOException if an entry cannot be read
+     */
+    public IndexView index(List<Path> application, List<Path> dependencies) {
+        List<Path> entries = new ArrayList<>(application);
+        for (Path dependency : dependencies) {
+            if (acceptJarForScanning(dependency)) {
+                entries.add(dependency);
+            }
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(config.scanParallelism());
+        try {
+            List<ForkJoinTask<IndexView>> tasks = entries.stream()
+                    .map(entry -> pool.submit(() -> index(entry)))
+                    .collect(Collectors.toList());
+
+            List<IndexView> indexes = new ArrayList<>(tasks.size());
+            for (ForkJoinTask<IndexView> task : tasks) {
+                indexes.add(task.join());
+            }
+
+            ScannerLogging.logger.indexedClassPath(entries.size(), fromJandexIndex.sum(), fromCache.sum(), indexed.sum());
+            return CompositeIndex.create(indexes);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * @return the number of jars whose <code>META-INF/jandex.idx</code> was read
+     */
+    long getFromJandexIndex() {
+        return fromJandexIndex.sum();
+    }
+
+    /**
+     * @return the number of jars whose index was read from the cache
+     */
+    long getFromCache() {
+        return fromCache.sum();
+    }
+
+    /**
+     * @return the number of directories and jars whose classes were indexed
+     */
+    long getIndexed() {
+        return indexed.sum();
+    }
+
+    /**
+     * Returns true if the given jar of a dependency should be indexed along with the classes of the application.
+     *
+     * @param jar the jar of the dependency
+     */
+    private boolean acceptJarForScanning(Path jar) {
+        if (config.scanDependenciesDisable()) {
+            return false;
+        }
+        return config.scanDependenciesJars()
+                .isEmpty()
+                || config.scanDependenciesJars()
+                        .contains(jar.getFileName()
+                                .toString());
+    }
+
+    /**
+     * Returns true if the class file with the given path, relative to the root of its directory or jar, should be
+     * indexed.
+     */
+    private boolean acceptClassForScanning(String path) {
+        if (!path.endsWith(AsyncApiConstants.CLASS_SUFFIX) || path.endsWith("module-info.class")) {
+            return false;
+        }
+        String className = path.substring(0, path.length() - AsyncApiConstants.CLASS_SUFFIX.length())
+                .replace('/', '.');
+        return filter.accepts(DotName.createSimple(className));
+    }
+
+    private IndexView index(Path entry) {
+        try {
+            if (Files.isDirectory(entry)) {
+                return indexDirectory(entry);
+            }
+            return indexJar(entry);
+        } catch (IOException e) {
+            throw ScannerMessages.msg.failedToIndex(entry, e);
+        }
+    }
+
+    private IndexView indexDirectory(Path directory) throws IOException {
+        List<Path> classFiles;
+        try (Stream<Path> files = Files.walk(directory)) {
+            classFiles = files.filter(Files::isRegularFile)
+                    .filter(file -> acceptClassForScanning(directory.relativize(file)
+                            .toString()
+                            .replace(file.getFileSystem()
+                                    .getSeparator(), "/")))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+
+        indexed.increment();
+        return new DirectoryTask(classFiles, 0, classFiles.size()).invoke();
+    }
+
+    /**
+     * Indexes the class files in a range, splitting the range into chunks indexed concurrently.
+     */
+    private static final class DirectoryTask extends RecursiveTask<IndexView> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<Path> classFiles;
+
+        private final int from;
+
+        private final int to;
+
+        DirectoryTask(List<Path> classFiles, int from, int to) {
+            this.classFiles = classFiles;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected IndexView compute() {
+            if (to - from <= CHUNK_SIZE) {
+                Indexer indexer = new Indexer();
+                for (Path classFile : classFiles.subList(from, to)) {
+                    try (InputStream stream = Files.newInputStream(classFile)) {
+                        indexer.index(stream);
+                    } catch (IOException e) {
+                        throw ScannerMessages.msg.failedToIndex(classFile, e);
+                    }
+                }
+                return indexer.complete();
+            }
+
+            int middle = (from + to) >>> 1;
+            DirectoryTask first = new DirectoryTask(classFiles, from, middle);
+            first.fork();
+            IndexView second = new DirectoryTask(classFiles, middle, to).compute();
+
+            return CompositeIndex.create(first.join(), second);
+        }
+    }
+
+    private IndexView indexJar(Path jar) throws IOException {
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            JarEntry jandexIndex = jarFile.getJarEntry(JANDEX_INDEX);
+            if (jandexIndex != null) {
+                try (InputStream stream = jarFile.getInputStream(jandexIndex)) {
+                    Index index = new IndexReader(stream).read();
+                    fromJandexIndex.increment();
+                    return new FilteredIndexView(index, filter);
+                } catch (IOException | RuntimeException e) {
+                    // Corrupt or written by a newer Jandex, index the classes instead
+                }
+            }
+
+            Path cacheFile = cacheDirectory != null ? cacheDirectory.resolve(hash(jar) + CACHE_SUFFIX) : null;
+            if (cacheFile != null && Files.isRegularFile(cacheFile)) {
+                try (InputStream stream = Files.newInputStream(cacheFile)) {
+                    Index index = new IndexReader(stream).read();
+                    fromCache.increment();
+                    return index;
+                } catch (IOException | RuntimeException e) {
+                    // Corrupt or outdated, index the classes again
+                }
+            }
+
+            Indexer indexer = new Indexer();
+            List<JarEntry> classEntries = jarFile.stream()
+                    .filter(entry -> !entry.isDirectory() && acceptClassForScanning(entry.getName()))
+                    .collect(Collectors.toList());
+            for (JarEntry classEntry : classEntries) {
+                try (InputStream stream = jarFile.getInputStream(classEntry)) {
+                    indexer.index(stream);
+                }
+            }
+            Index index = indexer.complete();
+            indexed.increment();
+
+            if (cacheFile != null) {
+                write(cacheFile, index);
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Write the index to a temporary file first and move it to the cache file, so that concurrent readers never see a
+     * partially written file.
+     */
+    private static void write(Path cacheFile, Index index) {
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            Path temporary = Files.createTempFile(cacheFile.getParent(), cacheFile.getFileName()
+                    .toString(), ".tmp");
+            try {
+                try (OutputStream out = Files.newOutputStream(temporary)) {
+                    new IndexWriter(out).write(index);
+                }
+                try {
+                    Files.move(temporary, cacheFile, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temporary, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException e) {
+            ScannerLogging.logger.failedToWriteIndexCache(cacheFile, e);
+        }
+    }
+
+    /**
+     * @return the hash of the content of the jar and of the configuration applied while indexing it
+     */
+    private String hash(Path jar) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        digest.update(filterKey.getBytes(StandardCharsets.UTF_8));
+        byte[] buffer = new byte[8192];
+        try (InputStream stream = Files.newInputStream(jar)) {
+            int read;
+            while ((read = stream.read(buffer)) > 0) {
+                digest.update(buffer, 0, read);
+            }
+        }
+
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16))
+                    .append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.scanner;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jboss.jandex.Type;
+
+import io.smallrye.asyncapi.core.api.constants.AsyncApiConstants;
+import io.smallrye.asyncapi.core.api.models.schema.SchemaImpl;
+import io.smallrye.asyncapi.core.runtime.util.ModelUtil;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+import io.smallrye.asyncapi.spec.models.Components;
+import io.smallrye.asyncapi.spec.models.schema.Schema;
+
+/**
+ * A {@link SchemaRegistry} shared by scanner tasks running concurrently. It starts with the entries of a parent
+ * registry, registrations are atomic per type and every task obtains the same reference for a type. The registry is its
+ * own fork, so it is passed to every task as it is.
+ * <p>
+ * Since the order of registrations depends on thread timing, schema names are not derived when a type is registered.
+ * The references handed out point to the name base of their type until {@link #complete(AsyncAPI)} resolves the names:
+ * the name bases are processed in alphabetical order, and types sharing a name base are numbered in the order of their
+ * {@link SchemaRegistry.TypeKey#canonicalName() canonical names}. The schemas are added to the model in the same order.
+ * The result is the same for every scan, though names and order may differ from a sequential scan, where the type
+ * registered first gets the plain name.
+ * <p>
+ * The first schema registered for a type is kept, later registrations of the same type obtain its reference but do not
+ * replace its schema. Tasks registering the same type concurrently are expected to produce equivalent schemas.
+ */
+final class ConcurrentSchemaRegistry extends SchemaRegistry {
+
+    private final SchemaRegistry parent;
+
+    private final ConcurrentMap<TypeKey, Entry> entries;
+
+    /**
+     * @param parent the registry to start with, updated by {@link #complete(AsyncAPI)}
+     */
+    ConcurrentSchemaRegistry(SchemaRegistry parent) {
+        super(parent.index);
+        this.parent = parent;
+        this.entries = new ConcurrentHashMap<>();
+
+        parent.getEntries()
+                .forEach((key, info) -> entries.put(key, new Entry(info)));
+    }
+
+    /**
+     * A registered type. The schema is the only state changing after registration, and only from <code>null</code> to
+     * the schema registered first.
+     */
+    private static final class Entry {
+        /**
+         * The entry of the parent registry this entry started with, or <code>null</code> if registered concurrently.
+         */
+        final GeneratedSchemaInfo inherited;
+
+        final String nameBase;
+
+        final Schema schemaRef;
+
+        volatile Schema schema;
+
+        /**
+         * Set the schema of a type registered by reference only, keeping the schema registered first.
+         */
+        synchronized void setSchemaIfAbsent(Schema schema) {
+            if (this.schema == null) {
+                this.schema = schema;
+            }
+        }
+
+        Entry(GeneratedSchemaInfo inherited) {
+            this.inherited = inherited;
+            this.nameBase = inherited.name;
+            this.schemaRef = inherited.schemaRef;
+            this.schema = inherited.schema;
+        }
+
+        Entry(String nameBase, Schema schema) {
+            this.inherited = null;
+            this.nameBase = nameBase;
+            this.schemaRef = new SchemaImpl();
+            this.schemaRef.setRef(AsyncApiConstants.REF_PREFIX_SCHEMA + nameBase);
+            this.schema = schema;
+        }
+    }
+
+    /**
+     * Registrations of concurrent tasks never conflict, so every task uses this registry instead of a fork. The schemas
+     * are added to the model by {@link #complete(AsyncAPI)} rather than to the partial model of a task.
+     *
+     * @param partial the model of the task, not used
+     * @return this registry
+     */
+    @Override
+    SchemaRegistry fork(AsyncAPI partial) {
+        return this;
+    }
+
+    /**
+     * @param fork a registry returned by {@link #fork(AsyncAPI)}
+     * @return whether the given registry is this registry, whose changes need not be applied
+     */
+    @Override
+    boolean join(SchemaRegistry fork) {
+        return fork == this;
+    }
+
+    /**
+     * Not supported, since the names of the types registered in this registry are only resolved on completion.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    SchemaRegistry record(AsyncAPI partial) {
+        throw ScannerMessages.msg.sharedRegistryNotRecordable();
+    }
+
+    /**
+     * Register the provided {@link Schema} for the provided {@link Type}, unless a schema has already been registered for
+     * the type.
+     *
+     * @param entityType the type the {@link Schema} applies to
+     * @param schema {@link Schema} to add to the registry
+     * @return the reference to the registered {@link Schema}
+     */
+    @Override
+    public Schema register(Type entityType, Schema schema) {
+        return register(new TypeKey(entityType), schema, null);
+    }
+
+    /**
+     * Register the schema unless the type is already registered. Only a type registered by reference, which does not
+     * have a schema yet, obtains the schema, so that the first registration wins.
+     */
+    @Override
+    Schema register(TypeKey key, Schema schema, String schemaName) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            Entry registered = new Entry(deriveNameBase(key, schemaName), schema);
+            entry = entries.putIfAbsent(key, registered);
+            if (entry == null) {
+                return registered.schemaRef;
+            }
+        }
+        entry.setSchemaIfAbsent(schema);
+        return entry.schemaRef;
+    }
+
+    @Override
+    Schema registerReference(TypeKey key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            Entry registered = new Entry(deriveNameBase(key, null), null);
+            entry = entries.putIfAbsent(key, registered);
+            if (entry == null) {
+                return registered.schemaRef;
+            }
+        }
+        return entry.schemaRef;
+    }
+
+    @Override
+    Schema lookupRef(TypeKey key) {
+        return lookup(key).schemaRef;
+    }
+
+    @Override
+    Schema lookupSchema(TypeKey key) {
+        return lookup(key).schema;
+    }
+
+    @Override
+    boolean hasRef(TypeKey key) {
+        return entries.containsKey(key);
+    }
+
+    @Override
+    boolean hasSchema(TypeKey key) {
+        Entry entry = entries.get(key);
+        return entry != null && entry.schema != null;
+    }
+
+    private Entry lookup(TypeKey key) {
+        Entry entry = entries.get(key);
+
+        if (entry == null) {
+            throw ScannerMessages.msg.notRegistered(key.getType()
+                    .name());
+        }
+
+        return entry;
+    }
+
+    /**
+     * Resolve the names of the types registered concurrently and add their schemas to the given model and their entries
+     * to the parent registry. Schemas replaced for entries of the parent registry are updated in both. Must only be called
+     * once all tasks sharing this registry have completed.
+     *
+     * @param aai the model to add the schemas to
+     */
+    void complete(AsyncAPI aai) {
+        Map<String, List<Map.Entry<TypeKey, Entry>>> byNameBase = new TreeMap<>();
+        List<Map.Entry<TypeKey, GeneratedSchemaInfo>> replaced = new ArrayList<>();
+
+        for (Map.Entry<TypeKey, GeneratedSchemaInfo> inherited : parent.getEntries()
+                .entrySet()) {
+            Entry entry = entries.get(inherited.getKey());
+            if (entry.schema != entry.inherited.schema) {
+                replaced.add(new AbstractMap.SimpleImmutableEntry<>(inherited.getKey(),
+                        new GeneratedSchemaInfo(entry.inherited.name, entry.schema, entry.schemaRef)));
+            }
+        }
+
+        for (Map.Entry<TypeKey, Entry> registered : entries.entrySet()) {
+            if (registered.getValue().inherited == null) {
+                byNameBase.computeIfAbsent(registered.getValue().nameBase, nameBase -> new ArrayList<>())
+                        .add(registered);
+            }
+        }
+
+        for (Map.Entry<TypeKey, GeneratedSchemaInfo> entry : replaced) {
+            add(aai, entry.getKey(), entry.getValue());
+        }
+
+        Set<String> names = new HashSet<>(parent.getNames());
+        Comparator<Map.Entry<TypeKey, Entry>> byCanonicalName = Comparator.comparing(entry -> entry.getKey()
+                .canonicalName());
+
+        for (List<Map.Entry<TypeKey, Entry>> registeredTypes : byNameBase.values()) {
+            registeredTypes.sort(byCanonicalName);
+
+            for (Map.Entry<TypeKey, Entry> registered : registeredTypes) {
+                Entry entry = registered.getValue();
+                String name = uniqueName(entry.nameBase, names);
+                names.add(name);
+                entry.schemaRef.setRef(AsyncApiConstants.REF_PREFIX_SCHEMA + name);
+
+                add(aai, registered.getKey(), new GeneratedSchemaInfo(name, entry.schema, entry.schemaRef));
+            }
+        }
+
+        ScannerLogging.logger.sharedRegistryCompleted(entries.size() - parent.getEntries()
+                .size() + replaced.size());
+    }
+
+    private void add(AsyncAPI aai, TypeKey key, GeneratedSchemaInfo info) {
+        parent.add(key, info);
+
+        if (info.schema != null) {
+            Components components = ModelUtil.components(aai);
+            components.addSchema(info.name, info.schema);
+        }
+    }
+}
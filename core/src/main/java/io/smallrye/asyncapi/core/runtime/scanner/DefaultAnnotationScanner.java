@@ -16,6 +16,7 @@
 
 package io.smallrye.asyncapi.core.runtime.scanner;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -26,6 +27,7 @@ import org.jboss.jandex.MethodInfo;
 
 import io.smallrye.asyncapi.core.runtime.scanner.spi.AbstractAnnotationScanner;
 import io.smallrye.asyncapi.core.runtime.scanner.spi.AnnotationScannerContext;
+import io.smallrye.asyncapi.core.runtime.scanner.spi.ScanTask;
 import io.smallrye.asyncapi.spec.models.AsyncAPI;
 
 public class DefaultAnnotationScanner extends AbstractAnnotationScanner {
@@ -51,6 +53,22 @@ public class DefaultAnnotationScanner extends AbstractAnnotationScanner {
         return aai;
     }
 
+    @Override
+    public boolean supportsParallelScan() {
+        return true;
+    }
+
+    @Override
+    public List<ScanTask> getScanTasks(final AnnotationScannerContext context) {
+        return Arrays.asList(this::processChannelsMethods, this::processMessagesMethod, this::processParametersMethod,
+                this::processSecuritySchemesClass, this::processMessageTraitMethod, this::processOperationTraitMethod);
+    }
+
+    @Override
+    public boolean supportsIncrementalScan() {
+        return true;
+    }
+
     private void processChannelsMethods(final AnnotationScannerContext context, final AsyncAPI aai) {
         getChannelsMethods(context.getIndex())
                 .forEach(methodInfo -> processChannelItem(context, methodInfo, aai.getChannels()));
@@ -15,10 +15,12 @@
  */
 package io.smallrye.asyncapi.core.runtime.scanner;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget;
@@ -32,25 +34,34 @@ public class FilteredIndexView implements IndexView {
 
     private final IndexView delegate;
 
-    private final Pattern scanClasses;
+    private final ClassNameFilter filter;
 
-    private final Pattern scanPackages;
-
-    private final Pattern scanExcludeClasses;
-
-    private final Pattern scanExcludePackages;
+    private final Map<DotName, Collection<AnnotationInstance>> filteredAnnotations = new ConcurrentHashMap<>();
 
     /**
      * @param delegate the original (to be wrapped) index
      * @param config the config
      */
     public FilteredIndexView(IndexView delegate, AsyncApiConfig config) {
-        this.delegate = delegate;
+        this(delegate, new ClassNameFilter(config));
+    }
+
+    /**
+     * Creates a view of the same index sharing the filter of the given view.
+     *
+     * @param view the view to copy
+     */
+    FilteredIndexView(FilteredIndexView view) {
+        this(view.delegate, view.filter);
+    }
 
-        scanClasses = config.scanClasses();
-        scanPackages = config.scanPackages();
-        scanExcludeClasses = config.scanExcludeClasses();
-        scanExcludePackages = config.scanExcludePackages();
+    /**
+     * @param delegate the original (to be wrapped) index
+     * @param filter the filter deciding which classes are visible, possibly shared with other views
+     */
+    public FilteredIndexView(IndexView delegate, ClassNameFilter filter) {
+        this.delegate = delegate;
+        this.filter = filter;
     }
 
     /**
@@ -61,158 +72,17 @@ public class FilteredIndexView implements IndexView {
      * @return true if the inclusion/exclusion configuration allows scanning of the class name
      */
     public boolean accepts(DotName className) {
-        final boolean accept;
-        final MatchHandler match = new MatchHandler(className);
-
-        if (match.isQualifiedNameExcluded()) {
-            /*
-             * A FQCN or pattern that *fully* matched the FQCN was given in
-             * `mp.asyncapi.scan.exclude.classes`.
-             */
-            accept = false;
-        } else if (match.isQualifiedNameIncluded()) {
-            /*
-             * A FQCN or pattern that *fully* matched the FQCN was given in
-             * `mp.asyncapi.scan.classes`.
-             */
-            accept = true;
-        } else if (match.isSimpleNameExcluded()) {
-            /*
-             * A pattern or partial class name was given in `mp.asyncapi.scan.exclude.classes`
-             * where the matching part of the configuration ends with the simple class name
-             * *AND* no match exists for the simple class name in `mp.asyncapi.scan.classes`
-             * with a more complete package specified.
-             */
-            accept = false;
-        } else if (match.isSimpleNameIncluded()) {
-            /*
-             * A pattern or partial class name was given in `mp.asyncapi.scan.classes`
-             * where the matching part of the configuration ends with the simple class name
-             */
-            accept = true;
-        } else if (match.isPackageExcluded()) {
-            /*
-             * A package or package pattern given in `mp.asyncapi.scan.exclude.packages`
-             * matches the start of the FQCN's package and a more complete match in
-             * `mp.asyncapi.scan.packages` was not given.
-             */
-            accept = false;
-        } else if (match.isPackageIncluded()) {
-            /*
-             * A package or package pattern given in `mp.asyncapi.scan.packages`
-             * matches the start of the FQCN's package.
-             */
-            accept = true;
-        } else if (match.isImpliedInclusion()) {
-            /*
-             * No value has been specified for either `mp.asyncapi.scan.classes`
-             * or `mp.asyncapi.scan.packages`.
-             */
-            accept = true;
-        } else {
-            /*
-             * A value is specified for `mp.asyncapi.scan.classes` or `mp.asyncapi.scan.packages`
-             * which does not match this FQCN in any way.
-             */
-            accept = false;
-        }
-
-        return accept;
+        return filter.accepts(className);
     }
 
-    class MatchHandler {
-        final DotName className;
-
-        final String fqcn;
-
-        final String simpleName;
-
-        final String packageName;
-
-        final String classExclGroup;
-
-        final String classInclGroup;
-
-        final String pkgExclGroup;
-
-        final String pkgInclGroup;
-
-        public MatchHandler(DotName className) {
-            this.className = className;
-            this.fqcn = className.toString();
-            this.simpleName = className.withoutPackagePrefix();
-            final int index = fqcn.lastIndexOf('.');
-            this.packageName = index > -1 ? fqcn.substring(0, index) : "";
-
-            this.classExclGroup = matchingGroup(fqcn, scanExcludeClasses);
-            this.classInclGroup = matchingGroup(fqcn, scanClasses);
-            this.pkgExclGroup = matchingGroup(packageName, scanExcludePackages);
-            this.pkgInclGroup = matchingGroup(packageName, scanPackages);
-        }
-
-        public boolean isQualifiedNameExcluded() {
-            return fqcn.equals(classExclGroup);
-        }
-
-        public boolean isQualifiedNameIncluded() {
-            return fqcn.equals(classInclGroup);
-        }
-
-        public boolean isSimpleNameExcluded() {
-            if (classExclGroup.endsWith(simpleName)) {
-                if (isSimpleNameIncluded()) {
-                    return classExclGroup.length() >= classInclGroup.length();
-                }
-                return true;
-            }
-            return false;
-        }
-
-        public boolean isSimpleNameIncluded() {
-            return classInclGroup.endsWith(simpleName);
-        }
-
-        public boolean isPackageExcluded() {
-            if (pkgExclGroup.isEmpty()) {
-                return false;
-            }
-            if (packageName.equals(pkgExclGroup)) {
-                return true;
+    private Collection<ClassInfo> filter(Collection<ClassInfo> classes) {
+        List<ClassInfo> accepted = new ArrayList<>(classes.size());
+        for (ClassInfo classInfo : classes) {
+            if (accepts(classInfo.name())) {
+                accepted.add(classInfo);
             }
-            if (packageName.startsWith(pkgExclGroup)) {
-                if (isPackageIncluded()) {
-                    return (pkgExclGroup.length() >= pkgInclGroup.length());
-                }
-                return true;
-            }
-            return false;
-        }
-
-        public boolean isPackageIncluded() {
-            if (pkgInclGroup.isEmpty()) {
-                return false;
-            }
-            if (packageName.equals(pkgInclGroup)) {
-                return true;
-            }
-            return packageName.startsWith(pkgInclGroup);
-        }
-
-        public boolean isImpliedInclusion() {
-            return (scanClasses == null || scanClasses.pattern()
-                    .isEmpty()) && (scanPackages == null
-                            || scanPackages.pattern()
-                                    .isEmpty());
-        }
-    }
-
-    String matchingGroup(String value, Pattern pattern) {
-        if (pattern == null || pattern.pattern()
-                .isEmpty() || value.isEmpty()) {
-            return "";
         }
-        Matcher m = pattern.matcher(value);
-        return m.find() ? m.group() : "";
+        return accepted;
     }
 
     /**
@@ -220,10 +90,7 @@ public class FilteredIndexView implements IndexView {
      */
     @Override
     public Collection<ClassInfo> getKnownClasses() {
-        return this.delegate.getKnownClasses()
-                .stream()
-                .filter(ci -> accepts(ci.name()))
-                .collect(Collectors.toList());
+        return filter(this.delegate.getKnownClasses());
     }
 
     /**
@@ -243,10 +110,7 @@ public class FilteredIndexView implements IndexView {
      */
     @Override
     public Collection<ClassInfo> getKnownDirectSubclasses(DotName className) {
-        return this.delegate.getKnownDirectSubclasses(className)
-                .stream()
-                .filter(ci -> accepts(ci.name()))
-                .collect(Collectors.toList());
+        return filter(this.delegate.getKnownDirectSubclasses(className));
     }
 
     /**
@@ -254,10 +118,7 @@ public class FilteredIndexView implements IndexView {
      */
     @Override
     public Collection<ClassInfo> getAllKnownSubclasses(DotName className) {
-        return this.delegate.getAllKnownSubclasses(className)
-                .stream()
-                .filter(ci -> accepts(ci.name()))
-                .collect(Collectors.toList());
+        return filter(this.delegate.getAllKnownSubclasses(className));
     }
 
     /**
@@ -265,10 +126,7 @@ public class FilteredIndexView implements IndexView {
      */
     @Override
     public Collection<ClassInfo> getKnownDirectImplementors(DotName className) {
-        return this.delegate.getKnownDirectImplementors(className)
-                .stream()
-                .filter(ci -> accepts(ci.name()))
-                .collect(Collectors.toList());
+        return filter(this.delegate.getKnownDirectImplementors(className));
     }
 
     /**
@@ -276,10 +134,7 @@ public class FilteredIndexView implements IndexView {
      */
     @Override
     public Collection<ClassInfo> getAllKnownImplementors(DotName interfaceName) {
-        return this.delegate.getAllKnownImplementors(interfaceName)
-                .stream()
-                .filter(ci -> accepts(ci.name()))
-                .collect(Collectors.toList());
+        return filter(this.delegate.getAllKnownImplementors(interfaceName));
     }
 
     /**
@@ -287,39 +142,54 @@ public class FilteredIndexView implements IndexView {
      */
     @Override
     public Collection<AnnotationInstance> getAnnotations(DotName annotationName) {
-        Collection<AnnotationInstance> annotations = this.delegate.getAnnotations(annotationName);
-        if (annotations != null && !annotations.isEmpty()) {
-            return annotations.stream()
-                    .filter(ai -> {
-                        AnnotationTarget target = ai.target();
-                        switch (target.kind()) {
-                            case CLASS:
-                                return accepts(target.asClass()
-                                        .name());
-                            case FIELD:
-                                return accepts(target.asField()
-                                        .declaringClass()
-                                        .name());
-                            case METHOD:
-                                return accepts(target.asMethod()
-                                        .declaringClass()
-                                        .name());
-                            case METHOD_PARAMETER:
-                                return accepts(target.asMethodParameter()
-                                        .method()
-                                        .declaringClass()
-                                        .name());
-                            case TYPE:
-                                // TODO properly handle filtering of "type" annotation targets
-                                return true;
-                            default:
-                                return false;
-                        }
-                    })
-                    .collect(Collectors.toList());
-        } else {
+        Collection<AnnotationInstance> filtered = filteredAnnotations.get(annotationName);
+        if (filtered == null) {
+            filtered = filterAnnotations(this.delegate.getAnnotations(annotationName));
+            if (filtered != null) {
+                filteredAnnotations.put(annotationName, filtered);
+            }
+        }
+        return filtered;
+    }
+
+    private Collection<AnnotationInstance> filterAnnotations(Collection<AnnotationInstance> annotations) {
+        if (annotations == null || annotations.isEmpty()) {
             return annotations;
         }
+        List<AnnotationInstance> accepted = new ArrayList<>(annotations.size());
+        for (AnnotationInstance annotation : annotations) {
+            if (accepts(annotation.target())) {
+                accepted.add(annotation);
+            }
+        }
+        return Collections.unmodifiableList(accepted);
+    }
+
+    private boolean accepts(AnnotationTarget target) {
+        switch (target.kind()) {
+            case CLASS:
+                return accepts(target.asClass()
+                        .name());
+            case FIELD:
+                return accepts(target.asField()
+                        .declaringClass()
+                        .name());
+            case METHOD:
+                return accepts(target.asMethod()
+                        .declaringClass()
+                        .name());
+            case METHOD_PARAMETER:
+                return accepts(target.asMethodParameter()
+                        .method()
+                        .declaringClass()
+                        .name());
+            case TYPE:
+                // Like the other annotations of a class, its type annotations are filtered by the class
+                return accepts(target.asType()
+                        .enclosingTarget());
+            default:
+                return false;
+        }
     }
 
     /**
@@ -332,7 +202,6 @@ public class FilteredIndexView implements IndexView {
 
     @Override
     public String toString() {
-        return "FilteredIndexView{" + "delegate=" + delegate + ", scanClasses=" + scanClasses + ", scanPackages=" + scanPackages
-                + ", scanExcludeClasses=" + scanExcludeClasses + ", scanExcludePackages=" + scanExcludePackages + '}';
+        return "FilteredIndexView{" + "delegate=" + delegate + ", filter=" + filter + '}';
     }
 }
@@ -0,0 +1,221 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.scanner;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+
+import io.smallrye.asyncapi.core.api.AsyncApiConfig;
+import io.smallrye.asyncapi.core.api.models.AsyncAPIImpl;
+import io.smallrye.asyncapi.core.runtime.AsyncApiFormat;
+import io.smallrye.asyncapi.core.runtime.io.AsyncApiParser;
+import io.smallrye.asyncapi.core.runtime.io.AsyncApiSerializer;
+import io.smallrye.asyncapi.core.runtime.io.CurrentScannerInfo;
+import io.smallrye.asyncapi.core.runtime.scanner.IncrementalScanState.Contribution;
+import io.smallrye.asyncapi.core.runtime.scanner.spi.AnnotationScanner;
+import io.smallrye.asyncapi.core.runtime.scanner.spi.AnnotationScannerContext;
+import io.smallrye.asyncapi.core.runtime.scanner.spi.ScanTask;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+import io.smallrye.asyncapi.spec.models.Components;
+
+/**
+ * Executes scanners one class at a time, reusing what unchanged classes contributed to the model in the previous scan.
+ * <p>
+ * Every annotated class is scanned against a {@link ClassScopedIndexView} into a partial model of its own, recording the
+ * changes it applies to the {@link SchemaRegistry}. The partial models are merged in the order of the class names, so
+ * the resulting model does not depend on which classes were scanned again. A class is scanned again if it or any class
+ * it looked up changed, or if the schemas registered before it were named differently than in the previous scan. If
+ * the changed classes are unknown, e.g. for a state read from a file, a class is scanned again if the fingerprint of the
+ * classes it looked up changed. All classes are scanned again if the scanners or the configuration relevant to them
+ * changed.
+ */
+class IncrementalAnnotationScan {
+
+    private final AnnotationScannerContext context;
+
+    private final IncrementalScanState state;
+
+    IncrementalAnnotationScan(final AnnotationScannerContext context, final IncrementalScanState state) {
+        this.context = context;
+        this.state = state;
+    }
+
+    /**
+     * Execute the given scanners.
+     *
+     * @param annotationScanners the scanners, all supporting incremental scans
+     * @param changedClasses the classes changed, added or removed since the previous scan, or null if unknown
+     * @param aai the model created by the scan so far
+     * @return the resulting AsyncAPI model
+     */
+    AsyncAPI scan(final List<AnnotationScanner> annotationScanners, final Set<DotName> changedClasses, AsyncAPI aai) {
+        String key = key(annotationScanners);
+        Map<DotName, Contribution> previous = key.equals(state.getKey()) ? state.getContributions() : new HashMap<>();
+
+        List<ScannerTask> classTasks = new ArrayList<>();
+        for (AnnotationScanner annotationScanner : annotationScanners) {
+            ScannerLogging.logger.scanning(annotationScanner.getName());
+            CurrentScannerInfo.register(annotationScanner);
+            for (ScanTask task : annotationScanner.getGlobalScanTasks(context)) {
+                task.scan(context, aai);
+            }
+            for (ScanTask task : annotationScanner.getClassScanTasks(context)) {
+                classTasks.add(new ScannerTask(annotationScanner, task));
+            }
+        }
+
+        SchemaRegistry schemaRegistry = context.getSchemaRegistry();
+        ClassFingerprints fingerprints = new ClassFingerprints(context.getIndex());
+        Map<DotName, Contribution> contributions = new HashMap<>();
+        int scanned = 0;
+        int reused = 0;
+
+        for (ClassInfo classInfo : annotatedClasses()) {
+            Contribution contribution = previous.get(classInfo.name());
+
+            if (contribution != null && unchanged(contribution, changedClasses, fingerprints)
+                    && reuse(contribution, schemaRegistry, aai)) {
+                reused++;
+            } else {
+                contribution = scan(classInfo, classTasks, schemaRegistry, fingerprints, aai);
+                scanned++;
+            }
+
+            if (contribution != null) {
+                contributions.put(classInfo.name(), contribution);
+            }
+        }
+
+        state.update(key, contributions, scanned, reused);
+        ScannerLogging.logger.scannedIncrementally(scanned, reused);
+        return aai;
+    }
+
+    /**
+     * @return identifies the given scanners and the configuration relevant to the classes they scan
+     */
+    private String key(final List<AnnotationScanner> annotationScanners) {
+        StringBuilder key = new StringBuilder();
+        for (AnnotationScanner annotationScanner : annotationScanners) {
+            key.append(annotationScanner.getIncrementalScanKey(context)).append('\n');
+        }
+
+        AsyncApiConfig config = context.getAsyncApiConfig();
+        key.append(config.scanPackages()).append('\n')
+                .append(config.scanClasses()).append('\n')
+                .append(config.scanExcludePackages()).append('\n')
+                .append(config.scanExcludeClasses()).append('\n')
+                .append(config.customSchemaRegistryClass()).append('\n')
+                .append(new TreeMap<>(config.getSchemas())).append('\n')
+                .append(config.getOperationIdStrategy()).append('\n')
+                .append(config.applicationPathDisable());
+        return key.toString();
+    }
+
+    private static boolean unchanged(final Contribution contribution, final Set<DotName> changedClasses,
+            final ClassFingerprints fingerprints) {
+        if (changedClasses != null) {
+            return !contribution.dependsOn(changedClasses);
+        }
+        return contribution.fingerprint == fingerprints.of(contribution.dependencies);
+    }
+
+    /**
+     * @return the accepted classes of the index carrying any annotation, ordered by name
+     */
+    private Iterable<ClassInfo> annotatedClasses() {
+        Map<String, ClassInfo> classes = new TreeMap<>();
+        for (ClassInfo classInfo : context.getIndex().getKnownClasses()) {
+            if (!classInfo.annotations().isEmpty()) {
+                // CompositeIndex instances may return duplicates
+                classes.putIfAbsent(classInfo.name().toString(), classInfo);
+            }
+        }
+        return classes.values();
+    }
+
+    private boolean reuse(final Contribution contribution, final SchemaRegistry schemaRegistry, final AsyncAPI aai) {
+        AsyncAPI partial;
+        try {
+            partial = AsyncApiParser.parse(new ByteArrayInputStream(contribution.model), AsyncApiFormat.JSON);
+        } catch (IOException e) {
+            return false;
+        }
+        Components components = partial.getComponents();
+        SchemaRegistry.Recording recording = components != null && components.getSchemas() != null
+                ? contribution.recording.withSchemas(components.getSchemas())
+                : contribution.recording;
+        if (!schemaRegistry.replay(recording)) {
+            return false;
+        }
+        ParallelAnnotationScan.merge(partial, aai);
+        return true;
+    }
+
+    /**
+     * Scan a single class, merging its partial model into the resulting model.
+     *
+     * @return the contribution of the class, or null if it cannot be reused by a later scan
+     */
+    private Contribution scan(final ClassInfo classInfo, final List<ScannerTask> classTasks,
+            final SchemaRegistry schemaRegistry, final ClassFingerprints fingerprints, final AsyncAPI aai) {
+        AsyncAPI partial = new AsyncAPIImpl();
+        ClassScopedIndexView index = new ClassScopedIndexView(context.getIndex(), classInfo);
+        SchemaRegistry recording = schemaRegistry.record(partial);
+        AnnotationScannerContext classContext = new AnnotationScannerContext(context, index, partial, recording);
+
+        for (ScannerTask classTask : classTasks) {
+            CurrentScannerInfo.register(classTask.annotationScanner);
+            classTask.task.scan(classContext, partial);
+        }
+
+        byte[] model;
+        try {
+            model = AsyncApiSerializer.serializeToBytes(partial, AsyncApiFormat.JSON);
+        } catch (IOException e) {
+            model = null;
+        }
+
+        ParallelAnnotationScan.merge(partial, aai);
+
+        if (model == null) {
+            return null;
+        }
+        Set<DotName> dependencies = index.getDependencies();
+        return new Contribution(model, recording.getRecording(), dependencies, fingerprints.of(dependencies));
+    }
+
+    private static class ScannerTask {
+
+        final AnnotationScanner annotationScanner;
+
+        final ScanTask task;
+
+        ScannerTask(final AnnotationScanner annotationScanner, final ScanTask task) {
+            this.annotationScanner = annotationScanner;
+            this.task = task;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.scanner;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.jandex.DotName;
+
+/**
+ * The results of an incremental scan by {@link AsyncApiAnnotationScanner#scanIncrementally(IncrementalScanState, Set,
+ * String...)}, kept between scans of the same deployment. For every scanned class it holds what the class contributed to
+ * the model and the classes it depends on, so that the next scan only has to scan classes that changed or depend on a
+ * changed class.
+ * <p>
+ * The results can be written to a file by {@link #write(Path)} and read back by {@link #read(Path)}, so that a later
+ * build can reuse them. Since such a build does not know which classes changed, every class is then validated against
+ * a fingerprint of the classes it depends on.
+ * <p>
+ * Instances are not safe for concurrent scans.
+ */
+public class IncrementalScanState {
+
+    private Map<DotName, Contribution> contributions = new HashMap<>();
+
+    private String key = "";
+
+    private int scannedClasses;
+
+    private int reusedClasses;
+
+    /**
+     * Discards all results, so that the next scan scans every class.
+     */
+    public void clear() {
+        contributions = new HashMap<>();
+        key = "";
+    }
+
+    /**
+     * Writes the results in a compact binary format. Classes whose contribution cannot be written are scanned again by a
+     * scan using the state read back.
+     *
+     * @param out the target, which is not closed
+     * @throws IOException Errors in writing the results
+     */
+    public void write(OutputStream out) throws IOException {
+        IncrementalScanStateFormat.write(this, out);
+    }
+
+    /**
+     * Reads results written by {@link #write(OutputStream)}. Results written by another version of the format are
+     * discarded.
+     *
+     * @param in the source, which is not closed
+     * @return the state read
+     * @throws IOException Errors in reading the results, or if the source was not written by {@link #write(OutputStream)}
+     */
+    public static IncrementalScanState read(InputStream in) throws IOException {
+        return IncrementalScanStateFormat.read(in);
+    }
+
+    /**
+     * Writes the results to the given file. The results are written to a temporary file first and moved to the given
+     * file, so that concurrent readers never see a partially written file. A failure is logged and leaves the file as it
+     * was, so that the next scan falls back to validating or scanning every class.
+     *
+     * @param file the target file
+     */
+    public void write(Path file) {
+        try {
+            Path directory = file.toAbsolutePath()
+                    .getParent();
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, file.getFileName()
+                    .toString(), ".tmp");
+            try {
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temporary))) {
+                    write(out);
+                }
+                try {
+                    Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException e) {
+            ScannerLogging.logger.failedToWriteScanCache(file, e);
+        }
+    }
+
+    /**
+     * Reads results written by {@link #write(Path)}.
+     *
+     * @param file the source file
+     * @return the state read, or null if the file does not exist or cannot be read, e.g. since it is corrupt
+     */
+    public static IncrementalScanState read(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return read(in);
+        } catch (IOException | RuntimeException e) {
+            ScannerLogging.logger.ignoringScanCache(file, e);
+            return null;
+        }
+    }
+
+    /**
+     * @return number of classes scanned by the last scan
+     */
+    public int getScannedClasses() {
+        return scannedClasses;
+    }
+
+    /**
+     * @return number of classes whose contribution was reused by the last scan
+     */
+    public int getReusedClasses() {
+        return reusedClasses;
+    }
+
+    Map<DotName, Contribution> getContributions() {
+        return contributions;
+    }
+
+    /**
+     * @return identifies the scanners and the configuration the contributions were scanned with
+     */
+    String getKey() {
+        return key;
+    }
+
+    void update(String key, Map<DotName, Contribution> contributions, int scannedClasses, int reusedClasses) {
+        this.key = key;
+        this.contributions = contributions;
+        this.scannedClasses = scannedClasses;
+        this.reusedClasses = reusedClasses;
+    }
+
+    /**
+     * What a single class contributed to the model.
+     */
+    static final class Contribution {
+
+        /**
+         * The partial model of the class serialized as JSON, since the model objects of a scan may be modified by merges
+         * and filters afterwards.
+         */
+        final byte[] model;
+
+        final SchemaRegistry.Recording recording;
+
+        final Set<DotName> dependencies;
+
+        /**
+         * The fingerprint of the dependencies, as computed by {@link ClassFingerprints#of(java.util.Collection)}.
+         */
+        final long fingerprint;
+
+        Contribution(byte[] model, SchemaRegistry.Recording recording, Set<DotName> dependencies, long fingerprint) {
+            this.model = model;
+            this.recording = recording;
+            this.dependencies = dependencies;
+            this.fingerprint = fingerprint;
+        }
+
+        boolean dependsOn(Set<DotName> classes) {
+            return !Collections.disjoint(dependencies, classes);
+        }
+    }
+}
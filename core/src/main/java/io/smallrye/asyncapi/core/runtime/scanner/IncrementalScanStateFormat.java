@@ -0,0 +1,328 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.scanner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.jboss.jandex.ArrayType;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.ParameterizedType;
+import org.jboss.jandex.Type;
+import org.jboss.jandex.WildcardType;
+
+import io.smallrye.asyncapi.core.api.constants.AsyncApiConstants;
+import io.smallrye.asyncapi.core.api.models.schema.SchemaImpl;
+import io.smallrye.asyncapi.core.runtime.scanner.IncrementalScanState.Contribution;
+import io.smallrye.asyncapi.core.runtime.scanner.SchemaRegistry.Change;
+import io.smallrye.asyncapi.core.runtime.scanner.SchemaRegistry.GeneratedSchemaInfo;
+import io.smallrye.asyncapi.core.runtime.scanner.SchemaRegistry.Recording;
+import io.smallrye.asyncapi.core.runtime.scanner.SchemaRegistry.TypeKey;
+import io.smallrye.asyncapi.spec.models.schema.Schema;
+
+/**
+ * The binary format of an {@link IncrementalScanState}, compressed with GZIP.
+ * <p>
+ * After a header of magic number, version and key of the state, every contribution is written as a separate record,
+ * preceded by a marker byte. A record holds the name of the contributing class, its partial model, the fingerprint and
+ * names of its dependencies and the recording of its schema registry. Schemas registered by a class are only written by
+ * name, since they are part of its partial model. Contributions referring to types that cannot be created by Jandex,
+ * such as type variables, are not written.
+ */
+class IncrementalScanStateFormat {
+
+    private static final int MAGIC = 0x53414943;
+
+    private static final int VERSION = 1;
+
+    private static final byte END = 0;
+
+    private static final byte CONTRIBUTION = 1;
+
+    private static final byte CLASS = 0;
+
+    private static final byte PRIMITIVE = 1;
+
+    private static final byte VOID = 2;
+
+    private static final byte ARRAY = 3;
+
+    private static final byte PARAMETERIZED = 4;
+
+    private static final byte WILDCARD = 5;
+
+    private static final byte NULL = 6;
+
+    private IncrementalScanStateFormat() {
+    }
+
+    static void write(IncrementalScanState state, OutputStream out) throws IOException {
+        GZIPOutputStream gzip = new GZIPOutputStream(out);
+        DataOutputStream data = new DataOutputStream(gzip);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        writeString(data, state.getKey());
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        for (Map.Entry<DotName, Contribution> entry : state.getContributions().entrySet()) {
+            buffer.reset();
+            try {
+                writeContribution(new DataOutputStream(buffer), entry.getKey(), entry.getValue());
+            } catch (UnsupportedTypeException e) {
+                continue;
+            }
+            data.writeByte(CONTRIBUTION);
+            buffer.writeTo(data);
+        }
+
+        data.writeByte(END);
+        data.flush();
+        gzip.finish();
+    }
+
+    static IncrementalScanState read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new GZIPInputStream(in));
+        if (data.readInt() != MAGIC) {
+            throw ScannerMessages.msg.notAScanCache();
+        }
+
+        IncrementalScanState state = new IncrementalScanState();
+        if (data.readInt() != VERSION) {
+            return state;
+        }
+        String key = readString(data);
+
+        Map<DotName, Contribution> contributions = new HashMap<>();
+        byte marker;
+        while ((marker = data.readByte()) == CONTRIBUTION) {
+            DotName className = DotName.createSimple(readString(data));
+            contributions.put(className, readContribution(data));
+        }
+        if (marker != END) {
+            throw ScannerMessages.msg.notAScanCache();
+        }
+
+        state.update(key, contributions, 0, 0);
+        return state;
+    }
+
+    private static void writeContribution(DataOutputStream data, DotName className, Contribution contribution)
+            throws IOException {
+        writeString(data, className.toString());
+        data.writeInt(contribution.model.length);
+        data.write(contribution.model);
+        data.writeLong(contribution.fingerprint);
+
+        data.writeInt(contribution.dependencies.size());
+        for (DotName dependency : contribution.dependencies) {
+            writeString(data, dependency.toString());
+        }
+
+        data.writeInt(contribution.recording.observed.size());
+        for (Map.Entry<TypeKey, GeneratedSchemaInfo> entry : contribution.recording.observed.entrySet()) {
+            writeType(data, entry.getKey().getType());
+            writeInfo(data, entry.getValue());
+        }
+
+        data.writeInt(contribution.recording.changes.size());
+        for (Change change : contribution.recording.changes) {
+            writeType(data, change.key.getType());
+            writeNullableString(data, change.nameBase);
+            writeString(data, change.name);
+            writeInfo(data, change.info);
+        }
+    }
+
+    private static Contribution readContribution(DataInputStream data) throws IOException {
+        byte[] model = new byte[data.readInt()];
+        data.readFully(model);
+        long fingerprint = data.readLong();
+
+        int dependencyCount = data.readInt();
+        Set<DotName> dependencies = new HashSet<>();
+        for (int i = 0; i < dependencyCount; i++) {
+            dependencies.add(DotName.createSimple(readString(data)));
+        }
+
+        int observedCount = data.readInt();
+        Map<TypeKey, GeneratedSchemaInfo> observed = new LinkedHashMap<>();
+        for (int i = 0; i < observedCount; i++) {
+            observed.put(new TypeKey(readType(data)), readInfo(data));
+        }
+
+        int changeCount = data.readInt();
+        List<Change> changes = new ArrayList<>();
+        for (int i = 0; i < changeCount; i++) {
+            TypeKey key = new TypeKey(readType(data));
+            String nameBase = readNullableString(data);
+            String name = readString(data);
+            changes.add(new Change(key, nameBase, name, readInfo(data)));
+        }
+
+        return new Contribution(model, new Recording(observed, changes), dependencies, fingerprint);
+    }
+
+    private static void writeInfo(DataOutputStream data, GeneratedSchemaInfo info) throws IOException {
+        data.writeBoolean(info != null);
+        if (info != null) {
+            writeString(data, info.name);
+            data.writeBoolean(info.schema != null);
+        }
+    }
+
+    /**
+     * A registered schema is only a placeholder, to be replaced by the schema of the same name in the partial model of
+     * the contribution by {@link Recording#withSchemas(Map)}.
+     */
+    private static GeneratedSchemaInfo readInfo(DataInputStream data) throws IOException {
+        if (!data.readBoolean()) {
+            return null;
+        }
+        String name = readString(data);
+        Schema schema = data.readBoolean() ? new SchemaImpl() : null;
+        Schema schemaRef = new SchemaImpl();
+        schemaRef.setRef(AsyncApiConstants.REF_PREFIX_SCHEMA + name);
+        return new GeneratedSchemaInfo(name, schema, schemaRef);
+    }
+
+    private static void writeType(DataOutputStream data, Type type) throws IOException {
+        if (type == null) {
+            data.writeByte(NULL);
+            return;
+        }
+
+        switch (type.kind()) {
+            case CLASS:
+                data.writeByte(CLASS);
+                writeString(data, type.name().toString());
+                break;
+            case PRIMITIVE:
+                data.writeByte(PRIMITIVE);
+                writeString(data, type.name().toString());
+                break;
+            case VOID:
+                data.writeByte(VOID);
+                break;
+            case ARRAY:
+                ArrayType arrayType = type.asArrayType();
+                data.writeByte(ARRAY);
+                data.writeInt(arrayType.dimensions());
+                writeType(data, arrayType.component());
+                break;
+            case PARAMETERIZED_TYPE:
+                ParameterizedType parameterizedType = type.asParameterizedType();
+                data.writeByte(PARAMETERIZED);
+                writeString(data, parameterizedType.name().toString());
+                writeType(data, parameterizedType.owner());
+                data.writeInt(parameterizedType.arguments().size());
+                for (Type argument : parameterizedType.arguments()) {
+                    writeType(data, argument);
+                }
+                break;
+            case WILDCARD_TYPE:
+                WildcardType wildcardType = type.asWildcardType();
+                data.writeByte(WILDCARD);
+                data.writeBoolean(wildcardType.superBound() == null);
+                writeType(data, wildcardType.superBound() == null ? wildcardType.extendsBound()
+                        : wildcardType.superBound());
+                break;
+            default:
+                throw new UnsupportedTypeException();
+        }
+    }
+
+    private static Type readType(DataInputStream data) throws IOException {
+        byte kind = data.readByte();
+        switch (kind) {
+            case NULL:
+                return null;
+            case CLASS:
+                return Type.create(DotName.createSimple(readString(data)), Type.Kind.CLASS);
+            case PRIMITIVE:
+                return Type.create(DotName.createSimple(readString(data)), Type.Kind.PRIMITIVE);
+            case VOID:
+                return Type.create(DotName.createSimple("void"), Type.Kind.VOID);
+            case ARRAY:
+                int dimensions = data.readInt();
+                return ArrayType.create(readType(data), dimensions);
+            case PARAMETERIZED:
+                DotName name = DotName.createSimple(readString(data));
+                Type owner = readType(data);
+                Type[] arguments = new Type[data.readInt()];
+                for (int i = 0; i < arguments.length; i++) {
+                    arguments[i] = readType(data);
+                }
+                return ParameterizedType.create(name, arguments, owner);
+            case WILDCARD:
+                boolean isExtends = data.readBoolean();
+                return WildcardType.create(readType(data), isExtends);
+            default:
+                throw ScannerMessages.msg.notAScanCache();
+        }
+    }
+
+    private static void writeNullableString(DataOutputStream data, String value) throws IOException {
+        data.writeBoolean(value != null);
+        if (value != null) {
+            writeString(data, value);
+        }
+    }
+
+    private static String readNullableString(DataInputStream data) throws IOException {
+        return data.readBoolean() ? readString(data) : null;
+    }
+
+    /**
+     * Unlike {@link DataOutputStream#writeUTF(String)} not limited in length.
+     */
+    private static void writeString(DataOutputStream data, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    private static String readString(DataInputStream data) throws IOException {
+        byte[] bytes = new byte[data.readInt()];
+        data.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Thrown if a contribution refers to a type that cannot be read back.
+     */
+    private static class UnsupportedTypeException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedTypeException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.scanner;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Finds the first match of a scan pattern in a class or package name. Patterns built from a list of literal names, which
+ * is what {@link io.smallrye.asyncapi.core.api.AsyncApiConfig#patternOf(String, java.util.Set)} creates for plain
+ * configuration values, are compiled to a prefix trie. Any other pattern is evaluated as a regular expression.
+ */
+abstract class NameMatcher {
+
+    private static final NameMatcher NONE = new NameMatcher() {
+        @Override
+        String matchingGroup(String value) {
+            return "";
+        }
+    };
+
+    /**
+     * Returns the part of the value matched by the pattern, with the same result as {@link Matcher#find()} followed by
+     * {@link Matcher#group()}.
+     *
+     * @param value the name to match
+     * @return the matched part, or an empty string if the pattern does not match
+     */
+    abstract String matchingGroup(String value);
+
+    static NameMatcher of(Pattern pattern) {
+        if (pattern == null || pattern.pattern().isEmpty()) {
+            return NONE;
+        }
+        List<String> literals = literals(pattern);
+        if (literals != null) {
+            return new TrieMatcher(literals);
+        }
+        return new RegexMatcher(pattern);
+    }
+
+    /**
+     * @return the literal alternatives of a pattern of the form {@code (\Qa\E|\Qb\E)} in their order, or {@code null}
+     *         for any other pattern
+     */
+    private static List<String> literals(Pattern pattern) {
+        String regex = pattern.pattern();
+        if (pattern.flags() != 0 || !regex.startsWith("(\\Q") || !regex.endsWith("\\E)")) {
+            return null;
+        }
+        List<String> literals = new ArrayList<>();
+        for (String literal : regex.substring(3, regex.length() - 3).split("\\\\E\\|\\\\Q", -1)) {
+            literals.add(literal);
+        }
+        // Literals containing quote sequences are quoted differently, leave those to the regular expression
+        String requoted = literals.stream().map(Pattern::quote).collect(Collectors.joining("|", "(", ")"));
+        return requoted.equals(regex) ? literals : null;
+    }
+
+    private static final class RegexMatcher extends NameMatcher {
+
+        private final Pattern pattern;
+
+        RegexMatcher(Pattern pattern) {
+            this.pattern = pattern;
+        }
+
+        @Override
+        String matchingGroup(String value) {
+            Matcher m = pattern.matcher(value);
+            return m.find() ? m.group() : "";
+        }
+    }
+
+    /**
+     * Matches the literals of an alternation. Like the regular expression, the leftmost match wins and among the
+     * literals matching at the same position the one listed first.
+     */
+    private static final class TrieMatcher extends NameMatcher {
+
+        private final Node root = new Node();
+
+        TrieMatcher(List<String> literals) {
+            for (int i = 0; i < literals.size(); i++) {
+                String literal = literals.get(i);
+                Node node = root;
+                for (int c = 0; c < literal.length(); c++) {
+                    node = node.children.computeIfAbsent(literal.charAt(c), k -> new Node());
+                }
+                if (node.literal == null) {
+                    node.literal = literal;
+                    node.order = i;
+                }
+            }
+        }
+
+        @Override
+        String matchingGroup(String value) {
+            if (value.isEmpty()) {
+                return "";
+            }
+            for (int start = 0; start < value.length(); start++) {
+                Node node = root;
+                Node match = root.literal != null ? root : null;
+                for (int i = start; i < value.length(); i++) {
+                    node = node.children.get(value.charAt(i));
+                    if (node == null) {
+                        break;
+                    }
+                    if (node.literal != null && (match == null || node.order < match.order)) {
+                        match = node;
+                    }
+                }
+                if (match != null) {
+                    return match.literal;
+                }
+            }
+            return "";
+        }
+    }
+
+    private static final class Node {
+
+        final Map<Character, Node> children = new HashMap<>(4);
+
+        String literal;
+
+        int order;
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.scanner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BiConsumer;
+
+import io.smallrye.asyncapi.core.api.Instrumentation;
+import io.smallrye.asyncapi.core.api.models.AsyncAPIImpl;
+import io.smallrye.asyncapi.core.api.models.info.InfoImpl;
+import io.smallrye.asyncapi.core.api.util.MergeUtil;
+import io.smallrye.asyncapi.core.runtime.io.CurrentScannerInfo;
+import io.smallrye.asyncapi.core.runtime.scanner.spi.AnnotationScanner;
+import io.smallrye.asyncapi.core.runtime.scanner.spi.AnnotationScannerContext;
+import io.smallrye.asyncapi.core.runtime.scanner.spi.ScanTask;
+import io.smallrye.asyncapi.core.runtime.util.ModelUtil;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+import io.smallrye.asyncapi.spec.models.Components;
+import io.smallrye.asyncapi.spec.models.Extensible;
+
+/**
+ * Runs the {@link ScanTask}s of all scanners supporting it concurrently on a dedicated {@link ForkJoinPool}. Every task
+ * writes to its own partial {@link AsyncAPI} model and a fork of the {@link SchemaRegistry} of the scan, passed to the
+ * task by its {@link AnnotationScannerContext}. The partial models are seeded with the top-level fields of the model
+ * passed to the scan, i.e. the <code>@AsyncAPI</code> definitions, so tasks see the same definitions as when executed
+ * sequentially.
+ * <p>
+ * The partial results are merged in the order the tasks would have been executed sequentially. A task whose schema
+ * registrations conflict with a preceding task (e.g. both registered the same type, or derived the same schema name) is
+ * discarded and executed again on the resulting model, so the result is identical to a sequential scan.
+ * <p>
+ * With a shared schema registry, all tasks register their schemas in one {@link ConcurrentSchemaRegistry} instead,
+ * whose forks are the registry itself, so tasks never conflict, at the price of schema names and order that are stable
+ * but may differ from a sequential scan.
+ */
+class ParallelAnnotationScan {
+
+    private final AnnotationScannerContext context;
+
+    private final int parallelism;
+
+    private final boolean sharedSchemaRegistry;
+
+    ParallelAnnotationScan(final AnnotationScannerContext context, final int parallelism,
+            final boolean sharedSchemaRegistry) {
+        this.context = context;
+        this.parallelism = parallelism;
+        this.sharedSchemaRegistry = sharedSchemaRegistry;
+    }
+
+    /**
+     * Execute the given scanners.
+     *
+     * @param annotationScanners the scanners in the order they would be executed sequentially
+     * @param aai the model created by the scan so far
+     * @return the resulting AsyncAPI model
+     */
+    AsyncAPI scan(final List<AnnotationScanner> annotationScanners, AsyncAPI aai) {
+        ScannerLogging.logger.scanningParallel(parallelism);
+
+        SchemaRegistry schemaRegistry = context.getSchemaRegistry();
+        ConcurrentSchemaRegistry sharedRegistry = sharedSchemaRegistry ? new ConcurrentSchemaRegistry(schemaRegistry)
+                : null;
+        // Scanners executed directly register their schemas in the shared registry as well
+        AnnotationScannerContext scanContext = sharedRegistry != null
+                ? new AnnotationScannerContext(context, context.getAsyncAPI(), sharedRegistry)
+                : context;
+        SchemaRegistry taskRegistry = sharedRegistry != null ? sharedRegistry : schemaRegistry;
+        ClassLoader contextClassLoader = Thread.currentThread()
+                .getContextClassLoader();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+
+        try {
+            List<List<PartialScan>> partialScans = new ArrayList<>();
+
+            for (AnnotationScanner annotationScanner : annotationScanners) {
+                List<PartialScan> scans = new ArrayList<>();
+
+                if (annotationScanner.supportsParallelScan()) {
+                    for (ScanTask task : annotationScanner.getScanTasks(context)) {
+                        PartialScan scan = new PartialScan(annotationScanner, task, seed(aai), taskRegistry,
+                                contextClassLoader);
+                        scan.result = pool.submit(scan::run);
+                        scans.add(scan);
+                    }
+                }
+
+                partialScans.add(scans);
+            }
+
+            for (int i = 0; i < annotationScanners.size(); i++) {
+                AnnotationScanner annotationScanner = annotationScanners.get(i);
+
+                ScannerLogging.logger.scanning(annotationScanner.getName());
+                CurrentScannerInfo.register(annotationScanner);
+
+                Instrumentation.Measurement measurement = context.getInstrumentation()
+                        .start(Instrumentation.PHASE_SCANNER_PREFIX + annotationScanner.getName());
+                try {
+                    aai = join(scanContext, annotationScanner, partialScans.get(i), taskRegistry, aai);
+                } finally {
+                    measurement.close();
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        if (sharedRegistry != null) {
+            sharedRegistry.complete(aai);
+        }
+
+        return aai;
+    }
+
+    /**
+     * Completes a scanner, either by merging the results of its tasks or by executing it directly if it does not support
+     * parallel scans. The time measured for a scanner is the time spent waiting for and merging its tasks.
+     */
+    private AsyncAPI join(final AnnotationScannerContext scanContext, final AnnotationScanner annotationScanner,
+            final List<PartialScan> scans, final SchemaRegistry schemaRegistry, AsyncAPI aai) {
+        if (!annotationScanner.supportsParallelScan()) {
+            return annotationScanner.scan(scanContext, aai);
+        }
+
+        for (int task = 0; task < scans.size(); task++) {
+            PartialScan scan = scans.get(task);
+            scan.result.quietlyJoin();
+
+            if (scan.result.isCompletedNormally() && schemaRegistry.join(scan.schemaRegistry)) {
+                merge(scan.partial, aai);
+            } else {
+                ScannerLogging.logger.rescanningSequentially(task, annotationScanner.getName());
+                CurrentScannerInfo.register(annotationScanner);
+                scan.task.scan(scanContext, aai);
+            }
+        }
+        return aai;
+    }
+
+    /**
+     * Create the partial model of a task from the top-level fields of the given model. The info and the lists are
+     * copied, so concurrently running tasks do not modify the same instances.
+     */
+    static AsyncAPI seed(final AsyncAPI aai) {
+        AsyncAPI partial = new AsyncAPIImpl();
+        partial.setAsyncapi(aai.getAsyncapi());
+        partial.setIdentifier(aai.getIdentifier());
+        partial.setDefaultContentType(aai.getDefaultContentType());
+        if (aai.getInfo() != null) {
+            partial.setInfo(MergeUtil.mergeObjects(new InfoImpl(), aai.getInfo()));
+        }
+        if (aai.getServers() != null) {
+            partial.setServers(new ArrayList<>(aai.getServers()));
+        }
+        if (aai.getTags() != null) {
+            partial.setTags(new ArrayList<>(aai.getTags()));
+        }
+        partial.setExternalDocs(aai.getExternalDocs());
+        return partial;
+    }
+
+    /**
+     * Merge a partial model into the resulting model, replicating what the task would have done when executed directly
+     * on the resulting model: map entries are put in their original order, the info, servers and tags are merged with
+     * {@link MergeUtil}, everything else is replaced if set.
+     */
+    static void merge(final AsyncAPI partial, final AsyncAPI aai) {
+        if (partial.getAsyncapi() != null) {
+            aai.setAsyncapi(partial.getAsyncapi());
+        }
+        if (partial.getIdentifier() != null) {
+            aai.setIdentifier(partial.getIdentifier());
+        }
+        if (partial.getDefaultContentType() != null) {
+            aai.setDefaultContentType(partial.getDefaultContentType());
+        }
+        if (partial.getInfo() != null || partial.getServers() != null || partial.getTags() != null) {
+            AsyncAPI document = new AsyncAPIImpl();
+            document.setInfo(partial.getInfo());
+            document.setServers(partial.getServers());
+            document.setTags(partial.getTags());
+            MergeUtil.merge(aai, document);
+        }
+        if (partial.getExternalDocs() != null) {
+            aai.setExternalDocs(partial.getExternalDocs());
+        }
+        if (partial.getChannels() != null) {
+            putAll(partial.getChannels()
+                    .getChannels(), aai::addChannelItem);
+            mergeExtensions(partial.getChannels(), aai.getChannels());
+        }
+        if (partial.getComponents() != null) {
+            Components source = partial.getComponents();
+            Components target = ModelUtil.components(aai);
+
+            putAll(source.getSchemas(), target::addSchema);
+            putAll(source.getMessages(), target::addMessage);
+            putAll(source.getSecuritySchemes(), target::addSecurityScheme);
+            putAll(source.getParameters(), target::addParameter);
+            putAll(source.getCorrelationIds(), target::addCorrelationID);
+            putAll(source.getOperationTraits(), target::addOperationTrait);
+            putAll(source.getMessageTraits(), target::addMessageTrait);
+            putAll(source.getServerBindings(), target::addServerBinding);
+            putAll(source.getOperationBindings(), target::addOperationBinding);
+            putAll(source.getMessageBindings(), target::addMessageBinding);
+            mergeExtensions(source, target);
+        }
+
+        mergeExtensions(partial, aai);
+    }
+
+    private static <V> void putAll(final Map<String, V> source, final BiConsumer<String, V> target) {
+        if (source != null) {
+            source.forEach(target);
+        }
+    }
+
+    private static void mergeExtensions(final Extensible<?> source, final Extensible<?> target) {
+        if (target != null) {
+            putAll(source.getExtensions(), target::addExtension);
+        }
+    }
+
+    /**
+     * A task executed against its own partial model and schema registry.
+     */
+    private class PartialScan {
+
+        final AnnotationScanner annotationScanner;
+
+        final ScanTask task;
+
+        final AsyncAPI partial;
+
+        final SchemaRegistry schemaRegistry;
+
+        final ClassLoader contextClassLoader;
+
+        ForkJoinTask<?> result;
+
+        PartialScan(final AnnotationScanner annotationScanner, final ScanTask task, final AsyncAPI partial,
+                final SchemaRegistry schemaRegistry, final ClassLoader contextClassLoader) {
+            this.annotationScanner = annotationScanner;
+            this.task = task;
+            this.partial = partial;
+            this.schemaRegistry = schemaRegistry.fork(partial);
+            this.contextClassLoader = contextClassLoader;
+        }
+
+        void run() {
+            Thread thread = Thread.currentThread();
+            ClassLoader previous = thread.getContextClassLoader();
+
+            try {
+                thread.setContextClassLoader(contextClassLoader);
+                CurrentScannerInfo.register(annotationScanner);
+
+                task.scan(new AnnotationScannerContext(context, partial, schemaRegistry), partial);
+            } finally {
+                CurrentScannerInfo.remove();
+                thread.setContextClassLoader(previous);
+            }
+        }
+    }
+}
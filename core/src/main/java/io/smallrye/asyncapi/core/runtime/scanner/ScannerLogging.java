@@ -15,11 +15,14 @@
  */
 package io.smallrye.asyncapi.core.runtime.scanner;
 
+import java.nio.file.Path;
+
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.Type;
 import org.jboss.logging.BasicLogger;
 import org.jboss.logging.Logger;
+import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageLogger;
@@ -49,6 +52,50 @@ public interface ScannerLogging extends BasicLogger {
     @Message(id = 4004, value = "Configured schema for %s has been registered")
     void configSchemaRegistered(String className);
 
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 4005, value = "Scanning deployment in parallel with a parallelism of %d.")
+    void scanningParallel(int parallelism);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 4006, value = "Task %d of %s Annotations conflicts with a preceding task and is scanned again sequentially.")
+    void rescanningSequentially(int task, String annotationType);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 4007, value = "Type hierarchy cache: %d hits, %d misses (%.1f%% hit rate), %d class loader lookups.")
+    void typeHierarchyStatistics(long hits, long misses, double hitRate, long classLoaderLookups);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 4008, value = "Property model cache: %d hits, %d misses (%.1f%% hit rate).")
+    void propertyModelStatistics(long hits, long misses, double hitRate);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 4009, value = "Incremental scan: %d classes scanned, %d classes reused from the previous scan.")
+    void scannedIncrementally(int scanned, int reused);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 4010, value = "%s Annotations cannot be scanned incrementally, scanning all classes.")
+    void incrementalScanUnsupported(String annotationType);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 4011, value = "Shared schema registry: %d schemas registered or replaced by parallel tasks.")
+    void sharedRegistryCompleted(int schemas);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 4012, value = "Indexed %d class path entries: %d from META-INF/jandex.idx, %d from the cache, %d from their classes.")
+    void indexedClassPath(int entries, long fromJandexIndex, long fromCache, long indexed);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 4013, value = "Failed to write the cached index %s")
+    void failedToWriteIndexCache(Path cacheFile, @Cause Throwable cause);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 4014, value = "Failed to write the incremental scan cache %s")
+    void failedToWriteScanCache(Path cacheFile, @Cause Throwable cause);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 4015, value = "Ignoring the unreadable incremental scan cache %s, scanning all classes.")
+    void ignoringScanCache(Path cacheFile, @Cause Throwable cause);
+
     @LogMessage(level = Logger.Level.INFO)
     @Message(id = 99999, value = "LOG: %s")
     void log(String msg);
@@ -15,6 +15,9 @@
  */
 package io.smallrye.asyncapi.core.runtime.scanner;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.NoSuchElementException;
 
 import org.jboss.jandex.DotName;
@@ -32,4 +35,13 @@ interface ScannerMessages {
 
     @Message(id = 5001, value = "Class schema not registered: %s")
     NoSuchElementException notRegistered(DotName schema);
+
+    @Message(id = 5002, value = "Not an incremental scan cache")
+    IOException notAScanCache();
+
+    @Message(id = 5003, value = "Failed to index %s")
+    UncheckedIOException failedToIndex(Path path, @Cause IOException cause);
+
+    @Message(id = 5004, value = "A shared schema registry cannot record its changes")
+    UnsupportedOperationException sharedRegistryNotRecordable();
 }
@@ -17,12 +17,17 @@ package io.smallrye.asyncapi.core.runtime.scanner;
 
 import static io.smallrye.asyncapi.core.runtime.util.TypeUtil.getSchemaAnnotation;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
 
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget;
@@ -39,6 +44,7 @@ import io.smallrye.asyncapi.core.api.models.schema.SchemaImpl;
 import io.smallrye.asyncapi.core.runtime.io.AsyncApiParser;
 import io.smallrye.asyncapi.core.runtime.io.schema.SchemaConstant;
 import io.smallrye.asyncapi.core.runtime.scanner.dataobject.TypeResolver;
+import io.smallrye.asyncapi.core.runtime.scanner.spi.AnnotationScannerContext;
 import io.smallrye.asyncapi.core.runtime.util.JandexUtil;
 import io.smallrye.asyncapi.core.runtime.util.ModelUtil;
 import io.smallrye.asyncapi.spec.models.AsyncAPI;
@@ -103,6 +109,7 @@ public class SchemaRegistry {
      * Only if the type has not already been registered earlier will it be
      * added.
      *
+     * @param context scanning context providing the registry
      * @param type the {@link Type} the {@link Schema} applies to
      * @param resolver a {@link TypeResolver} that will be used to resolve
      *        parameterized and wildcard types
@@ -110,8 +117,9 @@ public class SchemaRegistry {
      * @return the same schema if not eligible for registration, or a reference
      *         to the schema registered for the given Type
      */
-    public static Schema checkRegistration(Type type, TypeResolver resolver, Schema schema) {
-        return register(type, resolver, schema, (registry, key) -> registry.register(key, schema, null));
+    public static Schema checkRegistration(final AnnotationScannerContext context, Type type, TypeResolver resolver,
+            Schema schema) {
+        return register(context, type, resolver, schema, (registry, key) -> registry.register(key, schema, null));
     }
 
     /**
@@ -134,6 +142,7 @@ public class SchemaRegistry {
      * Only if the type has not already been registered earlier will it be
      * added.
      *
+     * @param context scanning context providing the registry
      * @param type the {@link Type} the {@link Schema} applies to
      * @param resolver a {@link TypeResolver} that will be used to resolve
      *        parameterized and wildcard types
@@ -141,11 +150,12 @@ public class SchemaRegistry {
      * @return the same schema if not eligible for registration, or a reference
      *         to the schema registered for the given Type
      */
-    public static Schema registerReference(Type type, TypeResolver resolver, Schema schema) {
-        return register(type, resolver, schema, (registry, key) -> registry.registerReference(key));
+    public static Schema registerReference(final AnnotationScannerContext context, Type type, TypeResolver resolver,
+            Schema schema) {
+        return register(context, type, resolver, schema, (registry, key) -> registry.registerReference(key));
     }
 
-    static Schema register(Type type, TypeResolver resolver, Schema schema,
+    static Schema register(final AnnotationScannerContext context, Type type, TypeResolver resolver, Schema schema,
             BiFunction<SchemaRegistry, TypeKey, Schema> registrationAction) {
         Type resolvedType;
 
@@ -165,7 +175,7 @@ public class SchemaRegistry {
                 return schema;
         }
 
-        SchemaRegistry registry = currentInstance();
+        SchemaRegistry registry = context.getSchemaRegistry();
 
         if (registry == null) {
             return schema;
@@ -185,15 +195,16 @@ public class SchemaRegistry {
     }
 
     /**
-     * Convenience method to check if the current thread's <code>SchemaRegistry</code>
+     * Convenience method to check if the <code>SchemaRegistry</code> of the context
      * contains a schema for the given type (which may require type resolution using resolver).
      *
+     * @param context scanning context providing the registry
      * @param type
      * @param resolver
      * @return true when schema references are enabled and the type is present in the registry, otherwise false
      */
-    public static boolean hasSchema(Type type, TypeResolver resolver) {
-        SchemaRegistry registry = currentInstance();
+    public static boolean hasSchema(final AnnotationScannerContext context, Type type, TypeResolver resolver) {
+        SchemaRegistry registry = context.getSchemaRegistry();
 
         if (registry == null) {
             return false;
@@ -231,17 +242,90 @@ public class SchemaRegistry {
         }
     }
 
+    /**
+     * A single change applied to a forked registry, replayed when the fork is joined.
+     */
+    static class Change {
+        final TypeKey key;
+
+        final String nameBase;
+
+        final String name;
+
+        final GeneratedSchemaInfo info;
+
+        Change(TypeKey key, String nameBase, String name, GeneratedSchemaInfo info) {
+            this.key = key;
+            this.nameBase = nameBase;
+            this.name = name;
+            this.info = info;
+        }
+
+        boolean isRemoval() {
+            return info == null;
+        }
+    }
+
+    /**
+     * The entries read and the changes applied by a registry created by {@link #record(AsyncAPI)}.
+     */
+    static class Recording {
+        final Map<TypeKey, GeneratedSchemaInfo> observed;
+
+        final List<Change> changes;
+
+        Recording(Map<TypeKey, GeneratedSchemaInfo> observed, List<Change> changes) {
+            this.observed = observed;
+            this.changes = changes;
+        }
+
+        /**
+         * Bind the schemas registered by the changes to the given schemas of the same name, usually those of the model
+         * the recorded registry has written to.
+         *
+         * @param schemas the schemas by name
+         * @return a recording of the same changes, registering the given schemas
+         */
+        Recording withSchemas(Map<String, Schema> schemas) {
+            List<Change> boundChanges = new ArrayList<>(changes.size());
+            for (Change change : changes) {
+                GeneratedSchemaInfo info = change.info;
+                Schema schema = info != null && info.schema != null ? schemas.get(info.name) : null;
+                if (schema != null) {
+                    info = new GeneratedSchemaInfo(info.name, schema, info.schemaRef);
+                }
+                boundChanges.add(new Change(change.key, change.nameBase, change.name, info));
+            }
+            return new Recording(observed, boundChanges);
+        }
+    }
+
     private final AsyncAPI aai;
 
-    private final IndexView index;
+    final IndexView index;
 
-    private final Map<TypeKey, GeneratedSchemaInfo> registry = new LinkedHashMap<>();
+    private final Map<TypeKey, GeneratedSchemaInfo> registry;
 
-    private final Set<String> names = new LinkedHashSet<>();
+    private final Set<String> names;
+
+    /**
+     * Entries of the parent registry observed by a fork, keyed by every type the fork has read or written. A
+     * <code>null</code> value records that the type was absent. Always <code>null</code> for a non-forked registry.
+     */
+    private final Map<TypeKey, GeneratedSchemaInfo> observed;
+
+    /**
+     * Changes applied to a fork, in order. Always <code>null</code> for a non-forked registry.
+     */
+    private final List<Change> changes;
 
     private SchemaRegistry(AsyncApiConfig config, AsyncAPI aai, IndexView index) {
         this.aai = aai;
         this.index = index;
+        this.registry = new LinkedHashMap<>();
+        this.names = new LinkedHashSet<>();
+        this.observed = null;
+        this.changes = null;
 
         /*
          * If anything has been added in the component scan, add the names here
@@ -276,6 +360,135 @@ public class SchemaRegistry {
                 });
     }
 
+    /**
+     * Create an empty registry, used by {@link ConcurrentSchemaRegistry} that keeps its entries on its own.
+     */
+    SchemaRegistry(IndexView index) {
+        this.aai = null;
+        this.index = index;
+        this.registry = Collections.emptyMap();
+        this.names = Collections.emptySet();
+        this.observed = null;
+        this.changes = null;
+    }
+
+    private SchemaRegistry(SchemaRegistry parent, AsyncAPI aai, boolean shared) {
+        this.aai = aai;
+        this.index = parent.index;
+        this.registry = shared ? parent.registry : new LinkedHashMap<>(parent.registry);
+        this.names = shared ? parent.names : new LinkedHashSet<>(parent.names);
+        this.observed = new HashMap<>();
+        this.changes = new ArrayList<>();
+    }
+
+    /**
+     * Create a snapshot of this registry that writes generated schemas to the given (partial) model. The fork records
+     * every type it reads or registers, so that it can later be applied to this registry by {@link #join(SchemaRegistry)}
+     * as if its work had been done directly on this registry.
+     *
+     * @param partial the model schemas registered in the fork are added to
+     * @return the forked registry
+     */
+    SchemaRegistry fork(AsyncAPI partial) {
+        return new SchemaRegistry(this, partial, false);
+    }
+
+    /**
+     * Create a view of this registry that writes generated schemas to the given (partial) model. Unlike a fork, the
+     * view applies its changes to this registry directly, so both must not be used concurrently. The view records every
+     * type it reads or registers, so that its changes can be applied to the registry of a later scan by
+     * {@link #replay(Recording)}.
+     *
+     * @param partial the model schemas registered in the view are added to
+     * @return the recording view
+     */
+    SchemaRegistry record(AsyncAPI partial) {
+        return new SchemaRegistry(this, partial, true);
+    }
+
+    /**
+     * @return the entries read and the changes applied by a registry created by {@link #record(AsyncAPI)}
+     */
+    Recording getRecording() {
+        return new Recording(observed, changes);
+    }
+
+    /**
+     * Apply the changes of a fork to this registry. This only succeeds if every entry the fork has read or written is
+     * still the same as when the fork was created, and if every name derived in the fork would have been derived the
+     * same way from the names now known to this registry. Otherwise this registry is left untouched.
+     *
+     * @param fork a registry created by {@link #fork(AsyncAPI)} of this registry
+     * @return true if the changes were applied, false on conflict
+     */
+    boolean join(SchemaRegistry fork) {
+        return apply(fork.observed, fork.changes, (current, observed) -> current == observed);
+    }
+
+    /**
+     * Apply the changes recorded by a registry of an earlier scan to this registry. Since the entries of this registry
+     * are new instances, an entry the recording has read only has to be equivalent, that is to be absent in both or to
+     * refer to a schema of the same name. Otherwise this registry is left untouched.
+     *
+     * @param recording the recording of a registry created by {@link #record(AsyncAPI)}
+     * @return true if the changes were applied, false on conflict
+     */
+    boolean replay(Recording recording) {
+        return apply(recording.observed, recording.changes, SchemaRegistry::equivalent);
+    }
+
+    private static boolean equivalent(GeneratedSchemaInfo current, GeneratedSchemaInfo observed) {
+        if (current == null || observed == null) {
+            return current == observed;
+        }
+        return current.name.equals(observed.name) && (current.schema == null) == (observed.schema == null);
+    }
+
+    private boolean apply(Map<TypeKey, GeneratedSchemaInfo> observed, List<Change> changes,
+            BiPredicate<GeneratedSchemaInfo, GeneratedSchemaInfo> unchanged) {
+        for (Map.Entry<TypeKey, GeneratedSchemaInfo> entry : observed.entrySet()) {
+            if (!unchanged.test(registry.get(entry.getKey()), entry.getValue())) {
+                return false;
+            }
+        }
+
+        Set<String> joinedNames = new LinkedHashSet<>(names);
+
+        for (Change change : changes) {
+            if (change.isRemoval()) {
+                joinedNames.remove(change.name);
+            } else if (change.name.equals(uniqueName(change.nameBase, joinedNames))) {
+                joinedNames.add(change.name);
+            } else {
+                return false;
+            }
+        }
+
+        for (Change change : changes) {
+            if (change.isRemoval()) {
+                registry.remove(change.key);
+                names.remove(change.name);
+            } else {
+                registry.put(change.key, change.info);
+                names.add(change.name);
+            }
+        }
+
+        return true;
+    }
+
+    private void observe(TypeKey key) {
+        if (observed != null && !observed.containsKey(key)) {
+            observed.put(key, registry.get(key));
+        }
+    }
+
+    private void record(TypeKey key, String nameBase, String name, GeneratedSchemaInfo info) {
+        if (changes != null) {
+            changes.add(new Change(key, nameBase, name, info));
+        }
+    }
+
     /**
      * Register the provided {@link Schema} for the provided {@link Type}. If an
      * existing schema has already been registered for the type, it will be
@@ -296,13 +509,43 @@ public class SchemaRegistry {
         return register(key, schema, null);
     }
 
-    private Schema registerReference(TypeKey key) {
-        String name = deriveName(key, null);
+    /**
+     * @return the entries of this registry in the order they were registered
+     */
+    Map<TypeKey, GeneratedSchemaInfo> getEntries() {
+        return Collections.unmodifiableMap(registry);
+    }
+
+    /**
+     * @return the schema names known to this registry, including those of schemas added to the model before
+     */
+    Set<String> getNames() {
+        return Collections.unmodifiableSet(names);
+    }
+
+    /**
+     * Add an entry registered elsewhere, e.g. by a {@link ConcurrentSchemaRegistry}, whose schema has already been added
+     * to the model.
+     *
+     * @param key the type of the entry
+     * @param info the entry
+     */
+    void add(TypeKey key, GeneratedSchemaInfo info) {
+        registry.put(key, info);
+        names.add(info.name);
+    }
+
+    Schema registerReference(TypeKey key) {
+        String nameBase = deriveNameBase(key, null);
+        String name = uniqueName(nameBase, names);
         Schema schemaRef = new SchemaImpl();
         schemaRef.setRef(AsyncApiConstants.REF_PREFIX_SCHEMA + name);
 
-        registry.put(key, new GeneratedSchemaInfo(name, null, schemaRef));
+        GeneratedSchemaInfo info = new GeneratedSchemaInfo(name, null, schemaRef);
+        observe(key);
+        registry.put(key, info);
         names.add(name);
+        record(key, nameBase, name, info);
 
         return schemaRef;
     }
@@ -321,13 +564,17 @@ public class SchemaRegistry {
      * @param schema {@link Schema} to add to the registry
      * @return a reference to the newly registered {@link Schema}
      */
-    private Schema register(TypeKey key, Schema schema, String schemaName) {
-        String name = deriveName(key, schemaName);
+    Schema register(TypeKey key, Schema schema, String schemaName) {
+        String nameBase = deriveNameBase(key, schemaName);
+        String name = uniqueName(nameBase, names);
         Schema schemaRef = new SchemaImpl();
         schemaRef.setRef(AsyncApiConstants.REF_PREFIX_SCHEMA + name);
 
-        registry.put(key, new GeneratedSchemaInfo(name, schema, schemaRef));
+        GeneratedSchemaInfo info = new GeneratedSchemaInfo(name, schema, schemaRef);
+        observe(key);
+        registry.put(key, info);
         names.add(name);
+        record(key, nameBase, name, info);
 
         ModelUtil.components(aai)
                 .addSchema(name, schema);
@@ -336,6 +583,10 @@ public class SchemaRegistry {
     }
 
     String deriveName(TypeKey key, String schemaName) {
+        return uniqueName(deriveNameBase(key, schemaName), names);
+    }
+
+    String deriveNameBase(TypeKey key, String schemaName) {
         /*
          * We cannot use the 'name' on the SchemaImpl because it may be a
          * property name rather then a schema name.
@@ -349,10 +600,13 @@ public class SchemaRegistry {
             }
         }
 
-        String nameBase = schemaName != null ? schemaName : key.defaultName();
+        return schemaName != null ? schemaName : key.defaultName();
+    }
+
+    static String uniqueName(String nameBase, Set<String> names) {
         String name = nameBase;
         int idx = 1;
-        while (this.names.contains(name)) {
+        while (names.contains(name)) {
             name = nameBase + idx++;
         }
 
@@ -375,7 +629,8 @@ public class SchemaRegistry {
         return hasSchema(new TypeKey(instanceType));
     }
 
-    private Schema lookupRef(TypeKey key) {
+    Schema lookupRef(TypeKey key) {
+        observe(key);
         GeneratedSchemaInfo info = registry.get(key);
 
         if (info == null) {
@@ -385,7 +640,8 @@ public class SchemaRegistry {
         return info.schemaRef;
     }
 
-    private Schema lookupSchema(TypeKey key) {
+    Schema lookupSchema(TypeKey key) {
+        observe(key);
         GeneratedSchemaInfo info = registry.get(key);
 
         if (info == null) {
@@ -395,17 +651,21 @@ public class SchemaRegistry {
         return info.schema;
     }
 
-    private boolean hasRef(TypeKey key) {
+    boolean hasRef(TypeKey key) {
+        observe(key);
         return registry.containsKey(key);
     }
 
-    private boolean hasSchema(TypeKey key) {
+    boolean hasSchema(TypeKey key) {
+        observe(key);
         return registry.containsKey(key) && registry.get(key).schema != null;
     }
 
     private void remove(TypeKey key) {
+        observe(key);
         GeneratedSchemaInfo info = this.registry.remove(key);
         this.names.remove(info.name);
+        record(key, null, info.name, null);
     }
 
     /**
@@ -424,6 +684,10 @@ public class SchemaRegistry {
             this.type = type;
         }
 
+        Type getType() {
+            return type;
+        }
+
         public String defaultName() {
             StringBuilder name = new StringBuilder(type.name()
                     .local());
@@ -442,6 +706,70 @@ public class SchemaRegistry {
             return name.toString();
         }
 
+        /**
+         * A representation of the type that, like {@link #equals(Object)}, ignores annotations. Equal keys have the same
+         * canonical name, which orders keys independently of how they were created.
+         *
+         * @return the canonical name of the type
+         */
+        String canonicalName() {
+            StringBuilder name = new StringBuilder();
+            appendCanonicalName(name, type);
+            return name.toString();
+        }
+
+        private static void appendCanonicalName(StringBuilder name, Type type) {
+            switch (type.kind()) {
+                case PARAMETERIZED_TYPE:
+                    ParameterizedType paramType = type.asParameterizedType();
+                    if (paramType.owner() != null) {
+                        appendCanonicalName(name, paramType.owner());
+                        name.append('/');
+                    }
+                    name.append(type.name());
+                    appendCanonicalNames(name, "<", paramType.arguments());
+                    name.append('>');
+                    break;
+                case TYPE_VARIABLE:
+                    name.append(type.asTypeVariable()
+                            .identifier());
+                    appendCanonicalNames(name, " extends ", type.asTypeVariable()
+                            .bounds());
+                    break;
+                case WILDCARD_TYPE:
+                    WildcardType wildType = type.asWildcardType();
+                    if (wildType.superBound() != null) {
+                        name.append("? super ");
+                        appendCanonicalName(name, wildType.superBound());
+                    } else {
+                        name.append("? extends ");
+                        appendCanonicalName(name, wildType.extendsBound());
+                    }
+                    break;
+                case ARRAY:
+                    appendCanonicalName(name, type.asArrayType()
+                            .component());
+                    for (int dimension = 0; dimension < type.asArrayType()
+                            .dimensions(); dimension++) {
+                        name.append("[]");
+                    }
+                    break;
+                default:
+                    name.append(type.name());
+                    break;
+            }
+        }
+
+        private static void appendCanonicalNames(StringBuilder name, String prefix, List<Type> types) {
+            name.append(prefix);
+            for (int i = 0; i < types.size(); i++) {
+                if (i > 0) {
+                    name.append(',');
+                }
+                appendCanonicalName(name, types.get(i));
+            }
+        }
+
         static void appendParameterNames(StringBuilder name, ParameterizedType type) {
             for (Type param : type.asParameterizedType()
                     .arguments()) {
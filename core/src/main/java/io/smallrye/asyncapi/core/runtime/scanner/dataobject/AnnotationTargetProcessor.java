@@ -138,10 +138,10 @@ public class AnnotationTargetProcessor implements BeanValidationScanner.Requirem
             if (typeSchema.getType() != SchemaType.ARRAY) {
                 // Only register a reference to the type schema. The full schema will be added by subsequent
                 // items on the stack (if not already present in the registry).
-                registeredTypeSchema = SchemaRegistry.registerReference(registrationType, typeResolver, typeSchema);
+                registeredTypeSchema = SchemaRegistry.registerReference(context, registrationType, typeResolver, typeSchema);
             } else {
                 // Allow registration of arrays since we may not encounter a List<CurrentType> again.
-                registeredTypeSchema = SchemaRegistry.checkRegistration(registrationType, typeResolver, typeSchema);
+                registeredTypeSchema = SchemaRegistry.checkRegistration(context, registrationType, typeResolver, typeSchema);
             }
         }
 
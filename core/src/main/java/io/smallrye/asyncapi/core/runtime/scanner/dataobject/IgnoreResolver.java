@@ -285,6 +285,25 @@ public class IgnoreResolver {
         DotName getName();
     }
 
+    /**
+     * Returns the names of the properties a referencing member ignores on the referenced type, which is the only
+     * influence the reference has on {@link #isIgnore(AnnotationTarget, AnnotationTarget)}.
+     *
+     * @param reference an annotated member (field or method) that referenced a type, may be null
+     * @return the ignored property names, or null if the reference does not ignore properties
+     */
+    public Set<String> getIgnoredProperties(AnnotationTarget reference) {
+        if (reference == null) {
+            return null;
+        }
+        AnnotationInstance jipAnnotation = TypeUtil.getAnnotation(reference, JacksonConstants.JSON_IGNORE_PROPERTIES);
+        if (jipAnnotation == null || jipAnnotation.value() == null) {
+            return null;
+        }
+        return new LinkedHashSet<>(Arrays.asList(jipAnnotation.value()
+                .asStringArray()));
+    }
+
     public Visibility isIgnore(AnnotationTarget annotationTarget, AnnotationTarget reference) {
         for (IgnoreAnnotationHandler handler : ignoreHandlers) {
             Visibility v = handler.shouldIgnore(annotationTarget, reference);
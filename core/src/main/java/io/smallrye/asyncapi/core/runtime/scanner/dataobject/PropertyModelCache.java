@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.scanner.dataobject;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Type;
+
+/**
+ * Per-scan cache of the property models resolved by {@link TypeResolver#getAllFields}. A model depends on the
+ * (parameterized) type, the class it is resolved against and the properties the referencing member ignores, so those
+ * form the key. Types shared by many messages are resolved once per scan.
+ * <p>
+ * Instances are safe for use by concurrently running scan tasks.
+ */
+public class PropertyModelCache {
+
+    private final Map<Key, Map<String, TypeResolver>> models = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    Map<String, TypeResolver> getAllFields(AugmentedIndexView index, IgnoreResolver ignoreResolver, Type leaf,
+            ClassInfo leafKlazz, AnnotationTarget reference) {
+        Key key = new Key(leaf, leafKlazz.name(), ignoreResolver.getIgnoredProperties(reference));
+        Map<String, TypeResolver> properties = models.get(key);
+        if (properties != null) {
+            hits.increment();
+            return properties;
+        }
+        misses.increment();
+
+        // Concurrent tasks may resolve the same model, both results are equal
+        properties = Collections.unmodifiableMap(TypeResolver.getAllFields(index, ignoreResolver, leaf, leafKlazz,
+                reference));
+        Map<String, TypeResolver> existing = models.putIfAbsent(key, properties);
+        return existing != null ? existing : properties;
+    }
+
+    /**
+     * @return number of property models served from the cache
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return number of property models that had to be resolved
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return ratio of cache hits to all lookups, {@code 0} if there were none
+     */
+    public double getHitRate() {
+        long hitCount = getHits();
+        long total = hitCount + getMisses();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    private static final class Key {
+
+        private final Type type;
+
+        private final DotName klazz;
+
+        private final Set<String> ignoredProperties;
+
+        private final int hashCode;
+
+        Key(Type type, DotName klazz, Set<String> ignoredProperties) {
+            this.type = type;
+            this.klazz = klazz;
+            this.ignoredProperties = ignoredProperties;
+            this.hashCode = Objects.hash(type, klazz, ignoredProperties);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return type.equals(key.type) && klazz.equals(key.klazz)
+                    && Objects.equals(ignoredProperties, key.ignoredProperties);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -82,7 +82,7 @@ public class TypeProcessor {
     public Type processType() {
         // If it's a terminal type.
         if (isTerminalType(type)) {
-            SchemaRegistry.checkRegistration(type, typeResolver, schema);
+            SchemaRegistry.checkRegistration(context, type, typeResolver, schema);
             return type;
         }
 
@@ -91,7 +91,7 @@ public class TypeProcessor {
         }
 
         if (type.kind() == Type.Kind.TYPE_VARIABLE ||
-            type.kind() == Type.Kind.UNRESOLVED_TYPE_VARIABLE) {
+                type.kind() == Type.Kind.UNRESOLVED_TYPE_VARIABLE) {
             // Resolve type variable to real variable.
             type = resolveTypeVariable(schema, type, false);
         }
@@ -157,7 +157,7 @@ public class TypeProcessor {
             pushToStack(arrayType, itemSchema);
         }
 
-        itemSchema = SchemaRegistry.registerReference(arrayType.component(), typeResolver, itemSchema);
+        itemSchema = SchemaRegistry.registerReference(context, arrayType.component(), typeResolver, itemSchema);
 
         while (arrayType.dimensions() > 1) {
             Schema parentArrSchema = new SchemaImpl();
@@ -183,7 +183,6 @@ public class TypeProcessor {
         return wrappedType;
     }
 
-
     private Type readParameterizedType(ParameterizedType pType, Schema schema) {
         DataObjectLogging.logger.processingParametrizedType(pType);
         Type typeRead = pType;
@@ -244,12 +243,12 @@ public class TypeProcessor {
 
     private Schema resolveParameterizedType(Type valueType, Schema schema, Schema propsSchema) {
         if (valueType.kind() == Type.Kind.TYPE_VARIABLE ||
-            valueType.kind() == Type.Kind.UNRESOLVED_TYPE_VARIABLE ||
-            valueType.kind() == Type.Kind.WILDCARD_TYPE) {
+                valueType.kind() == Type.Kind.UNRESOLVED_TYPE_VARIABLE ||
+                valueType.kind() == Type.Kind.WILDCARD_TYPE) {
             Type resolved = resolveTypeVariable(propsSchema, valueType, true);
             if (index.containsClass(resolved)) {
                 propsSchema.type(SchemaType.OBJECT);
-                propsSchema = SchemaRegistry.registerReference(valueType, typeResolver, propsSchema);
+                propsSchema = SchemaRegistry.registerReference(context, valueType, typeResolver, propsSchema);
             }
         } else if (index.containsClass(valueType)) {
             if (isA(valueType, ENUM_TYPE)) {
@@ -261,7 +260,7 @@ public class TypeProcessor {
                 pushToStack(valueType, propsSchema);
             }
 
-            propsSchema = SchemaRegistry.registerReference(valueType, typeResolver, propsSchema);
+            propsSchema = SchemaRegistry.registerReference(context, valueType, typeResolver, propsSchema);
         }
 
         return propsSchema;
@@ -167,6 +167,12 @@ public class TypeResolver {
         }
     }
 
+    public static Map<String, TypeResolver> getAllFields(final AnnotationScannerContext context, IgnoreResolver ignoreResolver,
+            Type leaf, ClassInfo leafKlazz, AnnotationTarget reference) {
+        return context.getPropertyModelCache().getAllFields(context.getAugmentedIndex(), ignoreResolver, leaf, leafKlazz,
+                reference);
+    }
+
     public static Map<String, TypeResolver> getAllFields(AugmentedIndexView index, IgnoreResolver ignoreResolver, Type leaf,
             ClassInfo leafKlazz, AnnotationTarget reference) {
         Map<ClassInfo, Type> chain = JandexUtil.inheritanceChain(index, leafKlazz, leaf);
@@ -15,7 +15,9 @@
  */
 package io.smallrye.asyncapi.core.runtime.scanner.spi;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.jboss.jandex.AnnotationInstance;
@@ -51,6 +53,73 @@ public interface AnnotationScanner {
 
     void setContextRoot(String path);
 
+    /**
+     * Whether the tasks returned by {@link #getScanTasks(AnnotationScannerContext)} are independent of each other and may
+     * be executed concurrently, each against its own partial model.
+     *
+     * @return true if this scanner can be split into parallel tasks
+     */
+    default boolean supportsParallelScan() {
+        return false;
+    }
+
+    /**
+     * Split this scanner into tasks. The default is a single task delegating to
+     * {@link #scan(AnnotationScannerContext, AsyncAPI)}.
+     *
+     * @param context the scanning context
+     * @return the tasks in the order they would be executed sequentially
+     */
+    default List<ScanTask> getScanTasks(final AnnotationScannerContext context) {
+        return Collections.singletonList(this::scan);
+    }
+
+    /**
+     * Whether this scanner can be executed one class at a time. The tasks returned by
+     * {@link #getClassScanTasks(AnnotationScannerContext)} must then only report what they find through the annotations
+     * returned by the index of the context, which are limited to a single class, while the tasks returned by
+     * {@link #getGlobalScanTasks(AnnotationScannerContext)} are executed once per scan.
+     *
+     * @return true if this scanner can be scanned incrementally
+     */
+    default boolean supportsIncrementalScan() {
+        return false;
+    }
+
+    /**
+     * The tasks of this scanner that do not depend on annotations, e.g. reading the configuration. Only used if
+     * {@link #supportsIncrementalScan()} is true.
+     *
+     * @param context the scanning context
+     * @return the tasks in the order they would be executed sequentially
+     */
+    default List<ScanTask> getGlobalScanTasks(final AnnotationScannerContext context) {
+        return Collections.emptyList();
+    }
+
+    /**
+     * The tasks of this scanner that report annotated classes. Only used if {@link #supportsIncrementalScan()} is
+     * true. The default are all tasks returned by {@link #getScanTasks(AnnotationScannerContext)}.
+     *
+     * @param context the scanning context
+     * @return the tasks in the order they would be executed sequentially
+     */
+    default List<ScanTask> getClassScanTasks(final AnnotationScannerContext context) {
+        return getScanTasks(context);
+    }
+
+    /**
+     * Identifies the configuration the tasks returned by {@link #getClassScanTasks(AnnotationScannerContext)} depend on.
+     * What classes contributed to an incremental scan with a different key is discarded. The default is the name of this
+     * scanner.
+     *
+     * @param context the scanning context
+     * @return the key of the configuration
+     */
+    default String getIncrementalScanKey(final AnnotationScannerContext context) {
+        return getName();
+    }
+
     // For wrapped type (other than Optional) - default no others
     default boolean isWrapperType(Type type) {
         return false;
@@ -24,10 +24,14 @@ import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Type;
 
 import io.smallrye.asyncapi.core.api.AsyncApiConfig;
+import io.smallrye.asyncapi.core.api.Instrumentation;
 import io.smallrye.asyncapi.core.api.models.AsyncAPIImpl;
 import io.smallrye.asyncapi.core.runtime.scanner.AnnotationScannerExtension;
 import io.smallrye.asyncapi.core.runtime.scanner.FilteredIndexView;
+import io.smallrye.asyncapi.core.runtime.scanner.SchemaRegistry;
 import io.smallrye.asyncapi.core.runtime.scanner.dataobject.AugmentedIndexView;
+import io.smallrye.asyncapi.core.runtime.scanner.dataobject.PropertyModelCache;
+import io.smallrye.asyncapi.core.runtime.util.TypeHierarchy;
 import io.smallrye.asyncapi.spec.models.AsyncAPI;
 
 /**
@@ -39,24 +43,47 @@ public class AnnotationScannerContext {
 
     private final AugmentedIndexView augmentedIndex;
 
+    private final TypeHierarchy typeHierarchy;
+
+    private final PropertyModelCache propertyModelCache;
+
+    private final Instrumentation instrumentation;
+
     private final List<AnnotationScannerExtension> extensions;
 
     private final AsyncApiConfig config;
 
     private final ClassLoader classLoader;
     private final AsyncAPI asyncAPI;
+
+    /**
+     * The schema registry of this context, or <code>null</code> for the registry of the current thread.
+     */
+    private final SchemaRegistry schemaRegistry;
     private final Deque<Type> scanStack = new ArrayDeque<>();
 
     public AnnotationScannerContext(FilteredIndexView index, ClassLoader classLoader,
             List<AnnotationScannerExtension> extensions,
             AsyncApiConfig config,
             AsyncAPI asyncAPI) {
+        this(index, classLoader, extensions, config, asyncAPI, new Instrumentation());
+    }
+
+    public AnnotationScannerContext(FilteredIndexView index, ClassLoader classLoader,
+            List<AnnotationScannerExtension> extensions,
+            AsyncApiConfig config,
+            AsyncAPI asyncAPI,
+            Instrumentation instrumentation) {
         this.index = index;
         this.augmentedIndex = AugmentedIndexView.augment(index);
+        this.typeHierarchy = new TypeHierarchy(index);
+        this.propertyModelCache = new PropertyModelCache();
+        this.instrumentation = instrumentation;
         this.classLoader = classLoader;
         this.extensions = extensions;
         this.config = config;
         this.asyncAPI = asyncAPI;
+        this.schemaRegistry = null;
     }
 
     public AnnotationScannerContext(IndexView index, ClassLoader classLoader,
@@ -64,6 +91,62 @@ public class AnnotationScannerContext {
         this(new FilteredIndexView(index, config), classLoader, Collections.emptyList(), config, new AsyncAPIImpl());
     }
 
+    /**
+     * Creates a context sharing index, extensions, configuration, class loader and schema registry with the given
+     * parent, but bound to another model and with its own scan stack.
+     *
+     * @param parent the context to derive from
+     * @param asyncAPI the model the new context is bound to
+     */
+    public AnnotationScannerContext(AnnotationScannerContext parent, AsyncAPI asyncAPI) {
+        this(parent, asyncAPI, parent.schemaRegistry);
+    }
+
+    /**
+     * Creates a context sharing index, extensions, configuration and class loader with the given parent, but bound to
+     * another model and schema registry and with its own scan stack. Used for tasks running concurrently to other tasks.
+     *
+     * @param parent the context to derive from
+     * @param asyncAPI the model the new context is bound to
+     * @param schemaRegistry the schema registry the new context is bound to
+     */
+    public AnnotationScannerContext(AnnotationScannerContext parent, AsyncAPI asyncAPI, SchemaRegistry schemaRegistry) {
+        this.index = parent.index;
+        this.augmentedIndex = parent.augmentedIndex;
+        this.typeHierarchy = parent.typeHierarchy;
+        this.propertyModelCache = parent.propertyModelCache;
+        this.instrumentation = parent.instrumentation;
+        this.classLoader = parent.classLoader;
+        this.extensions = parent.extensions;
+        this.config = parent.config;
+        this.asyncAPI = asyncAPI;
+        this.schemaRegistry = schemaRegistry;
+    }
+
+    /**
+     * Creates a context sharing extensions, configuration and class loader with the given parent, but bound to another
+     * model, schema registry and view of the index, and with its own type hierarchy and property model cache. Used for
+     * scanning a single class, so that every type a class depends on is looked up in its view of the index.
+     *
+     * @param parent the context to derive from
+     * @param index the view of the index the new context is bound to
+     * @param asyncAPI the model the new context is bound to
+     * @param schemaRegistry the schema registry the new context is bound to
+     */
+    public AnnotationScannerContext(AnnotationScannerContext parent, FilteredIndexView index, AsyncAPI asyncAPI,
+            SchemaRegistry schemaRegistry) {
+        this.index = index;
+        this.augmentedIndex = AugmentedIndexView.augment(index);
+        this.typeHierarchy = new TypeHierarchy(index);
+        this.propertyModelCache = new PropertyModelCache();
+        this.instrumentation = parent.instrumentation;
+        this.classLoader = parent.classLoader;
+        this.extensions = parent.extensions;
+        this.config = parent.config;
+        this.asyncAPI = asyncAPI;
+        this.schemaRegistry = schemaRegistry;
+    }
+
     public FilteredIndexView getIndex() {
         return index;
     }
@@ -72,6 +155,21 @@ public class AnnotationScannerContext {
         return augmentedIndex;
     }
 
+    public TypeHierarchy getTypeHierarchy() {
+        return typeHierarchy;
+    }
+
+    public PropertyModelCache getPropertyModelCache() {
+        return propertyModelCache;
+    }
+
+    /**
+     * @return the instrumentation recording timings and counters of this scan
+     */
+    public Instrumentation getInstrumentation() {
+        return instrumentation;
+    }
+
     public List<AnnotationScannerExtension> getExtensions() {
         return extensions;
     }
@@ -91,4 +189,12 @@ public class AnnotationScannerContext {
     public Deque<Type> getScanStack() {
         return scanStack;
     }
+
+    /**
+     * @return the schema registry this context is bound to, or the registry created for the current thread by
+     *         {@link SchemaRegistry#newInstance} if none
+     */
+    public SchemaRegistry getSchemaRegistry() {
+        return schemaRegistry != null ? schemaRegistry : SchemaRegistry.currentInstance();
+    }
 }
@@ -0,0 +1,35 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.scanner.spi;
+
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+
+/**
+ * An independent unit of work of an {@link AnnotationScanner}. When scanning in parallel each task is executed against
+ * its own partial {@link AsyncAPI} model, which is merged into the resulting model in the order the tasks were returned
+ * by {@link AnnotationScanner#getScanTasks(AnnotationScannerContext)}.
+ */
+@FunctionalInterface
+public interface ScanTask {
+
+    /**
+     * Scan a part of the deployment.
+     *
+     * @param context the scanning context, bound to the given model
+     * @param aai the (partial) model to write the results to
+     */
+    void scan(final AnnotationScannerContext context, AsyncAPI aai);
+}
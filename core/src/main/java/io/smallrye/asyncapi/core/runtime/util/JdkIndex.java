@@ -0,0 +1,300 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+
+/**
+ * Index of the JDK classes commonly found in scanned models, used to resolve the type hierarchy of classes not
+ * contained in the application index.
+ * <p>
+ * The classes of {@link #TYPES} are indexed ahead of time: {@link #main(String[])} writes the serialized index to the
+ * resource {@link #RESOURCE}, which is read on the first lookup instead of indexing the bytecode of every class. Any
+ * other class of the <code>java</code> packages is indexed from its bytecode on its first lookup, so the set of
+ * indexed types grows with the types of the scanned models. If the resource is missing or cannot be read, e.g. because
+ * it was written by an incompatible version of Jandex, the classes of {@link #TYPES} are indexed on the first lookup
+ * as well.
+ * <p>
+ * Instances are safe for use by concurrently running scan tasks.
+ */
+final class JdkIndex {
+
+    /**
+     * The resource containing the serialized index of {@link #TYPES}, relative to this class.
+     */
+    static final String RESOURCE = "jdk.idx";
+
+    /**
+     * The classes of the prebuilt index.
+     */
+    static final List<Class<?>> TYPES = Collections.unmodifiableList(Arrays.asList(
+            Enum.class,
+            Object.class,
+            Comparable.class,
+            Iterable.class,
+            CharSequence.class,
+            java.io.Serializable.class,
+            Cloneable.class,
+
+            // Common, expected classes
+            Boolean.class,
+            Byte.class,
+            Character.class,
+            Double.class,
+            Float.class,
+            Integer.class,
+            Long.class,
+            Number.class,
+            Short.class,
+            String.class,
+            Void.class,
+            java.math.BigDecimal.class,
+            java.math.BigInteger.class,
+            java.util.UUID.class,
+            java.util.Date.class,
+            java.net.URI.class,
+
+            // Optional
+            Optional.class,
+            java.util.OptionalDouble.class,
+            java.util.OptionalInt.class,
+            java.util.OptionalLong.class,
+
+            // Date and time
+            java.time.Duration.class,
+            java.time.Instant.class,
+            java.time.LocalDate.class,
+            java.time.LocalDateTime.class,
+            java.time.LocalTime.class,
+            java.time.OffsetDateTime.class,
+            java.time.OffsetTime.class,
+            java.time.Period.class,
+            java.time.ZonedDateTime.class,
+            java.time.ZoneId.class,
+            java.time.ZoneOffset.class,
+            java.time.chrono.ChronoLocalDate.class,
+            java.time.chrono.ChronoLocalDateTime.class,
+            java.time.chrono.ChronoPeriod.class,
+            java.time.chrono.ChronoZonedDateTime.class,
+            java.time.temporal.Temporal.class,
+            java.time.temporal.TemporalAccessor.class,
+            java.time.temporal.TemporalAdjuster.class,
+            java.time.temporal.TemporalAmount.class,
+
+            // Collection Interfaces
+            java.util.Collection.class,
+            java.util.Deque.class,
+            java.util.List.class,
+            java.util.Map.class,
+            java.util.NavigableMap.class,
+            java.util.NavigableSet.class,
+            java.util.Queue.class,
+            java.util.RandomAccess.class,
+            java.util.Set.class,
+            java.util.SortedMap.class,
+            java.util.SortedSet.class,
+            java.util.concurrent.BlockingDeque.class,
+            java.util.concurrent.BlockingQueue.class,
+            java.util.concurrent.ConcurrentMap.class,
+            java.util.concurrent.ConcurrentNavigableMap.class,
+            java.util.concurrent.TransferQueue.class,
+
+            // Abstract Collections
+            java.util.AbstractCollection.class,
+            java.util.AbstractList.class,
+            java.util.AbstractMap.class,
+            java.util.AbstractQueue.class,
+            java.util.AbstractSequentialList.class,
+            java.util.AbstractSet.class,
+            java.util.Dictionary.class,
+            java.util.EnumSet.class,
+
+            // Collections
+            java.util.ArrayDeque.class,
+            java.util.ArrayList.class,
+            java.util.EnumMap.class,
+            java.util.HashMap.class,
+            java.util.HashSet.class,
+            java.util.Hashtable.class,
+            java.util.IdentityHashMap.class,
+            java.util.LinkedHashMap.class,
+            java.util.LinkedHashSet.class,
+            java.util.LinkedList.class,
+            java.util.PriorityQueue.class,
+            java.util.Properties.class,
+            java.util.Stack.class,
+            java.util.TreeMap.class,
+            java.util.TreeSet.class,
+            java.util.Vector.class,
+            java.util.concurrent.ArrayBlockingQueue.class,
+            java.util.concurrent.ConcurrentHashMap.class,
+            java.util.concurrent.ConcurrentLinkedDeque.class,
+            java.util.concurrent.ConcurrentLinkedQueue.class,
+            java.util.concurrent.ConcurrentSkipListMap.class,
+            java.util.concurrent.ConcurrentSkipListSet.class,
+            java.util.concurrent.CopyOnWriteArrayList.class,
+            java.util.concurrent.CopyOnWriteArraySet.class,
+            java.util.concurrent.DelayQueue.class,
+            java.util.concurrent.LinkedBlockingDeque.class,
+            java.util.concurrent.LinkedBlockingQueue.class,
+            java.util.concurrent.LinkedTransferQueue.class,
+            java.util.concurrent.PriorityBlockingQueue.class,
+            java.util.concurrent.SynchronousQueue.class,
+
+            // CompletionStage and implementation
+            java.util.concurrent.CompletionStage.class,
+            java.util.concurrent.Future.class,
+            java.util.concurrent.CompletableFuture.class));
+
+    private static final String JAVA_PACKAGE_PREFIX = "java.";
+
+    private final Index prebuilt;
+
+    /**
+     * The classes indexed on their first lookup, {@link Optional#empty()} for classes that could not be indexed.
+     */
+    private final Map<DotName, Optional<ClassInfo>> indexed = new ConcurrentHashMap<>();
+
+    private JdkIndex(Index prebuilt) {
+        this.prebuilt = prebuilt;
+    }
+
+    /**
+     * Reads the prebuilt index when the first class is looked up.
+     */
+    private static final class Holder {
+        static final JdkIndex INSTANCE = new JdkIndex(load(RESOURCE));
+    }
+
+    /**
+     * @return the index of JDK classes
+     */
+    static JdkIndex get() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Look up a JDK class by its name.
+     *
+     * @param className the name of the class
+     * @return the class, or null if it is not a class of the <code>java</code> packages or cannot be indexed
+     */
+    ClassInfo getClassByName(DotName className) {
+        ClassInfo classInfo = prebuilt.getClassByName(className);
+        if (classInfo != null) {
+            return classInfo;
+        }
+
+        String name = className.toString();
+        if (!name.startsWith(JAVA_PACKAGE_PREFIX)) {
+            return null;
+        }
+
+        return indexed.computeIfAbsent(className, n -> Optional.ofNullable(indexClass(name)))
+                .orElse(null);
+    }
+
+    private static ClassInfo indexClass(String name) {
+        try (InputStream stream = ClassLoader.getSystemResourceAsStream(name.replace('.', '/') + ".class")) {
+            if (stream == null) {
+                return null;
+            }
+            Indexer indexer = new Indexer();
+            return indexer.index(stream);
+        } catch (IOException ioe) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads a prebuilt index, falling back to {@link #build()} if the resource is missing, corrupt or of an unsupported
+     * version.
+     *
+     * @param resource the resource containing the serialized index, relative to this class
+     * @return the index of {@link #TYPES}
+     */
+    static Index load(String resource) {
+        try (InputStream stream = JdkIndex.class.getResourceAsStream(resource)) {
+            if (stream != null) {
+                return new IndexReader(stream).read();
+            }
+        } catch (IOException | RuntimeException e) {
+            UtilLogging.logger.failedToReadJdkIndex(resource, e);
+        }
+        return build();
+    }
+
+    static Index build() {
+        Indexer indexer = new Indexer();
+        for (Class<?> type : TYPES) {
+            try (InputStream stream = type.getResourceAsStream(type.getSimpleName() + ".class")) {
+                indexer.index(stream);
+            } catch (IOException ioe) {
+                throw new UncheckedIOException(ioe);
+            }
+        }
+        return indexer.complete();
+    }
+
+    /**
+     * Writes the prebuilt index of {@link #TYPES} to the directory given as the only argument, usually the source
+     * directory of the resources of this module. The resource has to be written again whenever {@link #TYPES} changes,
+     * which <code>JdkIndexTest</code> detects. After building the module, run from its directory:
+     *
+     * <pre>
+     * java -cp target/classes:&lt;path to the jandex jar&gt; \
+     *     io.smallrye.asyncapi.core.runtime.util.JdkIndex src/main/resources
+     * </pre>
+     *
+     * @param args the directory the resource is written to, in the directory of the package of this class
+     * @throws IOException if the index cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: JdkIndex <resource directory>");
+        }
+
+        Path file = Paths.get(args[0])
+                .resolve(JdkIndex.class.getPackage()
+                        .getName()
+                        .replace('.', '/'))
+                .resolve(RESOURCE);
+        Files.createDirectories(file.getParent());
+
+        try (OutputStream out = Files.newOutputStream(file)) {
+            new IndexWriter(out).write(build());
+        }
+    }
+}
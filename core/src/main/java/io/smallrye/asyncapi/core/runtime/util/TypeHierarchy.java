@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.util;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Type;
+
+/**
+ * Memoized supertype closures of the classes known to a scan. Every class name is interned to an int id and the
+ * closure of a class is stored as a sorted array of the ids of all its superclasses and interfaces, so a subtype test
+ * is a single binary search once the closure is known.
+ * <p>
+ * Closures are computed from the scanned index and the index of common JDK classes only. A closure is complete if
+ * every supertype was found in one of them; for complete closures the answer is final, otherwise the caller has to
+ * fall back to the class loader.
+ * <p>
+ * Instances are safe for use by concurrently running scan tasks.
+ */
+public class TypeHierarchy {
+
+    private final IndexView index;
+
+    private final Map<DotName, Integer> ids = new ConcurrentHashMap<>();
+
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    private final Map<DotName, Closure> closures = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder classLoaderLookups = new LongAdder();
+
+    public TypeHierarchy(IndexView index) {
+        this.index = index;
+    }
+
+    /**
+     * Tests whether the given type is a known subtype of another type.
+     *
+     * @param subject name of the type to test
+     * @param object name of the type to test against
+     * @return {@code TRUE} or {@code FALSE} if the hierarchy of the subject is fully indexed, {@code null} if the
+     *         answer is unknown
+     */
+    Boolean isSubtype(DotName subject, DotName object) {
+        Closure closure = closure(subject);
+        if (closure == null) {
+            return null;
+        }
+        Integer objectId = ids.get(object);
+        if (objectId != null && Arrays.binarySearch(closure.supertypes, objectId) >= 0) {
+            return Boolean.TRUE;
+        }
+        return closure.complete ? Boolean.FALSE : null;
+    }
+
+    void classLoaderLookup() {
+        classLoaderLookups.increment();
+    }
+
+    private Closure closure(DotName name) {
+        Closure closure = closures.get(name);
+        if (closure != null) {
+            hits.increment();
+            return closure == Closure.UNKNOWN ? null : closure;
+        }
+        misses.increment();
+
+        ClassInfo classInfo = TypeUtil.getClassInfo(index, name);
+        // Concurrent tasks may compute the same closure, both results are equal
+        closure = classInfo == null ? Closure.UNKNOWN : compute(classInfo);
+        closures.putIfAbsent(name, closure);
+        return closure == Closure.UNKNOWN ? null : closure;
+    }
+
+    private Closure compute(ClassInfo classInfo) {
+        int[] supertypes = new int[8];
+        int size = 0;
+        boolean complete = true;
+
+        Type superClass = classInfo.superClassType();
+        int directs = classInfo.interfaceNames().size() + (superClass != null ? 1 : 0);
+        DotName[] direct = classInfo.interfaceNames().toArray(new DotName[directs]);
+        if (superClass != null) {
+            direct[directs - 1] = TypeUtil.getName(superClass);
+        }
+
+        for (DotName supertype : direct) {
+            Closure superClosure = closure(supertype);
+            int needed = size + 1 + (superClosure != null ? superClosure.supertypes.length : 0);
+            if (needed > supertypes.length) {
+                supertypes = Arrays.copyOf(supertypes, Math.max(needed, supertypes.length * 2));
+            }
+            supertypes[size++] = id(supertype);
+            if (superClosure == null) {
+                complete = false;
+            } else {
+                System.arraycopy(superClosure.supertypes, 0, supertypes, size, superClosure.supertypes.length);
+                size += superClosure.supertypes.length;
+                complete &= superClosure.complete;
+            }
+        }
+
+        return new Closure(distinctSorted(supertypes, size), complete);
+    }
+
+    private int id(DotName name) {
+        return ids.computeIfAbsent(name, n -> nextId.getAndIncrement());
+    }
+
+    private static int[] distinctSorted(int[] values, int size) {
+        if (size == 0) {
+            return Closure.NONE;
+        }
+        Arrays.sort(values, 0, size);
+        int distinct = 1;
+        for (int i = 1; i < size; i++) {
+            if (values[i] != values[distinct - 1]) {
+                values[distinct++] = values[i];
+            }
+        }
+        return Arrays.copyOf(values, distinct);
+    }
+
+    /**
+     * @return number of subtype tests answered from a cached closure
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return number of closures that had to be computed
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return number of subtype tests that had to be answered by the class loader
+     */
+    public long getClassLoaderLookups() {
+        return classLoaderLookups.sum();
+    }
+
+    /**
+     * @return ratio of cache hits to all closure lookups, {@code 0} if there were none
+     */
+    public double getHitRate() {
+        long hitCount = getHits();
+        long total = hitCount + getMisses();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    private static final class Closure {
+
+        static final int[] NONE = new int[0];
+
+        static final Closure UNKNOWN = new Closure(NONE, false);
+
+        final int[] supertypes;
+
+        final boolean complete;
+
+        Closure(int[] supertypes, boolean complete) {
+            this.supertypes = supertypes;
+            this.complete = complete;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.api;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class InstrumentationTest {
+
+    @Test
+    public void testPhasesAreSummed() throws InterruptedException {
+        Instrumentation instrumentation = new Instrumentation();
+        measure(instrumentation, "first", 5);
+        measure(instrumentation, "second", 0);
+        measure(instrumentation, "first", 5);
+
+        Assert.assertEquals(Arrays.asList("first", "second"), new ArrayList<>(instrumentation.getPhases()
+                .keySet()));
+
+        Instrumentation.PhaseStatistics first = instrumentation.getPhases()
+                .get("first");
+        Assert.assertEquals(2, first.getCount());
+        Assert.assertTrue(first.getWallTimeNanos() >= 10_000_000L);
+        Assert.assertEquals(1, instrumentation.getPhases()
+                .get("second")
+                .getCount());
+    }
+
+    @Test
+    public void testPhasesAreSnapshots() {
+        Instrumentation instrumentation = new Instrumentation();
+        instrumentation.start("phase")
+                .close();
+
+        Instrumentation.PhaseStatistics snapshot = instrumentation.getPhases()
+                .get("phase");
+        instrumentation.start("phase")
+                .close();
+
+        Assert.assertEquals(1, snapshot.getCount());
+        Assert.assertEquals(2, instrumentation.getPhases()
+                .get("phase")
+                .getCount());
+    }
+
+    @Test
+    public void testUnsupportedAllocationIsSticky() {
+        Instrumentation.PhaseStatistics statistics = new Instrumentation.PhaseStatistics();
+        statistics.add(10, 100);
+        statistics.add(10, 50);
+        Assert.assertEquals(150, statistics.getAllocatedBytes());
+
+        statistics.add(10, -1);
+        Assert.assertEquals(-1, statistics.getAllocatedBytes());
+
+        statistics.add(10, 100);
+        Assert.assertEquals(-1, statistics.getAllocatedBytes());
+        Assert.assertEquals(4, statistics.getCount());
+        Assert.assertEquals(40, statistics.getWallTimeNanos());
+    }
+
+    @Test
+    public void testCounters() throws Exception {
+        Instrumentation instrumentation = new Instrumentation();
+        instrumentation.count(Instrumentation.COUNTER_SCHEMAS, 3);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        instrumentation.count(Instrumentation.COUNTER_CLASSES, 1);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Assert.assertEquals(Long.valueOf(4000), instrumentation.getCounters()
+                .get(Instrumentation.COUNTER_CLASSES));
+        Assert.assertEquals(Long.valueOf(3), instrumentation.getCounters()
+                .get(Instrumentation.COUNTER_SCHEMAS));
+    }
+
+    @Test
+    public void testDisabledRecordsNothing() {
+        Instrumentation.DISABLED.start("phase")
+                .close();
+        Instrumentation.DISABLED.count(Instrumentation.COUNTER_CLASSES, 1);
+
+        Assert.assertTrue(Instrumentation.DISABLED.getPhases()
+                .isEmpty());
+        Assert.assertTrue(Instrumentation.DISABLED.getCounters()
+                .isEmpty());
+    }
+
+    @Test
+    public void testWriteReport() throws IOException {
+        Instrumentation instrumentation = new Instrumentation();
+        instrumentation.start(Instrumentation.PHASE_DEFINITIONS)
+                .close();
+        instrumentation.count(Instrumentation.COUNTER_CHANNELS, 2);
+
+        ClosableStringWriter writer = new ClosableStringWriter();
+        instrumentation.writeReport(writer);
+        Assert.assertFalse(writer.closed);
+
+        JsonNode report = new ObjectMapper().readTree(writer.toString());
+        Assert.assertEquals(Arrays.asList("phases", "counters"), fieldNames(report));
+
+        JsonNode phase = report.get("phases")
+                .get(Instrumentation.PHASE_DEFINITIONS);
+        Assert.assertEquals(Arrays.asList("count", "wallTimeMillis", "allocatedBytes"), fieldNames(phase));
+        Assert.assertEquals(1, phase.get("count")
+                .asLong());
+        Assert.assertTrue(phase.get("wallTimeMillis")
+                .isNumber());
+        Assert.assertTrue(phase.get("allocatedBytes")
+                .canConvertToLong());
+
+        Assert.assertEquals(2, report.get("counters")
+                .get(Instrumentation.COUNTER_CHANNELS)
+                .asLong());
+    }
+
+    private static void measure(Instrumentation instrumentation, String phase, long millis)
+            throws InterruptedException {
+        Instrumentation.Measurement measurement = instrumentation.start(phase);
+        try {
+            Thread.sleep(millis);
+        } finally {
+            measurement.close();
+        }
+    }
+
+    private static List<String> fieldNames(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        node.fieldNames()
+                .forEachRemaining(names::add);
+        return names;
+    }
+
+    private static final class ClosableStringWriter extends StringWriter {
+
+        private boolean closed;
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+}
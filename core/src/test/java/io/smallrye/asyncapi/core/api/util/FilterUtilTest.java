@@ -0,0 +1,439 @@
+/*
+ * Copyright 2019 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.smallrye.asyncapi.core.api.util;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.smallrye.asyncapi.core.api.models.AsyncAPIImpl;
+import io.smallrye.asyncapi.core.api.models.ComponentsImpl;
+import io.smallrye.asyncapi.core.api.models.channel.ChannelItemImpl;
+import io.smallrye.asyncapi.core.api.models.channel.ChannelsImpl;
+import io.smallrye.asyncapi.core.api.models.message.MessageImpl;
+import io.smallrye.asyncapi.core.api.models.message.MessageTraitImpl;
+import io.smallrye.asyncapi.core.api.models.operation.OperationImpl;
+import io.smallrye.asyncapi.core.api.models.operation.OperationTraitImpl;
+import io.smallrye.asyncapi.core.api.models.schema.SchemaImpl;
+import io.smallrye.asyncapi.core.api.models.server.ServerImpl;
+import io.smallrye.asyncapi.core.api.models.tag.TagImpl;
+import io.smallrye.asyncapi.core.runtime.AsyncApiFormat;
+import io.smallrye.asyncapi.core.runtime.io.AsyncApiSerializer;
+import io.smallrye.asyncapi.spec.AASFilter;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+import io.smallrye.asyncapi.spec.models.channel.ChannelItem;
+import io.smallrye.asyncapi.spec.models.message.Message;
+import io.smallrye.asyncapi.spec.models.message.MessageTrait;
+import io.smallrye.asyncapi.spec.models.operation.Operation;
+import io.smallrye.asyncapi.spec.models.operation.OperationTrait;
+import io.smallrye.asyncapi.spec.models.schema.Schema;
+import io.smallrye.asyncapi.spec.models.server.Server;
+import io.smallrye.asyncapi.spec.models.tag.Tag;
+
+public class FilterUtilTest {
+
+    private static final List<AASFilter> FILTERS = Arrays.asList(new RemovingFilter(), new DescribingFilter());
+
+    @Test
+    public void testSingleFilterMatchesSequentialFiltering() throws IOException {
+        for (AASFilter filter : FILTERS) {
+            AsyncAPI expected = filterSequentially(filter, document());
+            AsyncAPI actual = FilterUtil.applyFilter(filter, document());
+
+            assertSameDocument(expected, actual);
+        }
+    }
+
+    @Test
+    public void testFiltersMatchSequentialFiltering() throws IOException {
+        AsyncAPI expected = document();
+        for (AASFilter filter : FILTERS) {
+            expected = filterSequentially(filter, expected);
+        }
+        AsyncAPI actual = FilterUtil.applyFilters(FILTERS, document());
+
+        assertSameDocument(expected, actual);
+    }
+
+    @Test
+    public void testRemovedItems() {
+        AsyncAPI result = FilterUtil.applyFilters(FILTERS, document());
+
+        Assert.assertEquals(Arrays.asList("production"), names(result.getServers(), Server::getName));
+        Assert.assertEquals(Arrays.asList("public"), names(result.getTags(), Tag::getName));
+        Assert.assertEquals(Arrays.asList("greeting"), new ArrayList<>(result.getChannels()
+                .getChannels()
+                .keySet()));
+        Assert.assertEquals(Arrays.asList("greeting"), new ArrayList<>(result.getComponents()
+                .getMessages()
+                .keySet()));
+
+        ChannelItem greeting = result.getChannels()
+                .getChannels()
+                .get("greeting");
+        Assert.assertNull(greeting.getPublish()
+                .getMessage());
+
+        Schema payload = greeting.getSubscribe()
+                .getMessage()
+                .getPayload();
+        Assert.assertEquals(Arrays.asList("name", "address"), new ArrayList<>(payload.getProperties()
+                .keySet()));
+        Assert.assertEquals(Arrays.asList("street"), new ArrayList<>(payload.getProperties()
+                .get("address")
+                .getProperties()
+                .keySet()));
+        Assert.assertEquals("filtered", payload.getProperties()
+                .get("address")
+                .getProperties()
+                .get("street")
+                .getDescription());
+        Assert.assertEquals("Greeting", payload.getDescription());
+        Assert.assertSame(payload, result.getComponents()
+                .getSchemas()
+                .get("Greeting"));
+    }
+
+    @Test
+    public void testFilterKeepingAllItems() throws IOException {
+        AsyncAPI model = document();
+        ChannelItem greeting = model.getChannels()
+                .getChannels()
+                .get("greeting");
+
+        AsyncAPI result = FilterUtil.applyFilter(new AASFilter() {
+        }, model);
+
+        assertSameDocument(document(), result);
+        Assert.assertSame(greeting, result.getChannels()
+                .getChannels()
+                .get("greeting"));
+    }
+
+    @Test
+    public void testTraitsAndConstantsAreFiltered() {
+        MessageTrait messageTrait = new MessageTraitImpl();
+        messageTrait.setHeaders(schema("headers", null));
+        messageTrait.getHeaders()
+                .addProperty("secret", schema("secret", null));
+        messageTrait.setTags(new ArrayList<>(Arrays.asList(tag("public"), tag("hidden"))));
+
+        OperationTrait operationTrait = new OperationTraitImpl();
+        operationTrait.setTags(new ArrayList<>(Arrays.asList(tag("hidden"), tag("public"))));
+
+        Schema constant = schema("constant", null);
+        constant.setConstant(schema("secret", null));
+        Message message = message("greeting", constant);
+        message.setTraits(new ArrayList<>(Arrays.asList(messageTrait)));
+
+        Operation operation = new OperationImpl();
+        operation.setMessage(message);
+        operation.setOperationTraits(new ArrayList<>(Arrays.asList(operationTrait)));
+
+        ChannelItem channelItem = new ChannelItemImpl();
+        channelItem.setSubscribe(operation);
+        ChannelsImpl channels = new ChannelsImpl();
+        channels.setChannels(Collections.singletonMap("greeting", channelItem));
+
+        MessageTrait componentMessageTrait = new MessageTraitImpl();
+        componentMessageTrait.setTags(new ArrayList<>(Arrays.asList(tag("hidden"))));
+        OperationTrait componentOperationTrait = new OperationTraitImpl();
+        componentOperationTrait.setTags(new ArrayList<>(Arrays.asList(tag("hidden"))));
+        ComponentsImpl components = new ComponentsImpl();
+        components.addMessageTrait("messageTrait", componentMessageTrait);
+        components.addOperationTrait("operationTrait", componentOperationTrait);
+
+        AsyncAPI model = new AsyncAPIImpl();
+        model.setChannels(channels);
+        model.setComponents(components);
+
+        FilterUtil.applyFilters(FILTERS, model);
+
+        Assert.assertEquals(Arrays.asList("public"), names(messageTrait.getTags(), Tag::getName));
+        Assert.assertTrue(messageTrait.getHeaders()
+                .getProperties()
+                .isEmpty());
+        Assert.assertEquals("filtered", messageTrait.getHeaders()
+                .getDescription());
+        Assert.assertEquals(Arrays.asList("public"), names(operationTrait.getTags(), Tag::getName));
+        Assert.assertNull(constant.getConstant());
+        Assert.assertTrue(componentMessageTrait.getTags()
+                .isEmpty());
+        Assert.assertTrue(componentOperationTrait.getTags()
+                .isEmpty());
+    }
+
+    private static void assertSameDocument(AsyncAPI expected, AsyncAPI actual) throws IOException {
+        Assert.assertEquals(AsyncApiSerializer.serialize(expected, AsyncApiFormat.JSON),
+                AsyncApiSerializer.serialize(actual, AsyncApiFormat.JSON));
+    }
+
+    private static <T> List<String> names(List<T> list, java.util.function.Function<T, String> name) {
+        List<String> names = new ArrayList<>();
+        list.forEach(element -> names.add(name.apply(element)));
+        return names;
+    }
+
+    /**
+     * A document with nested schemas and messages, some of them shared between the channels and the components and
+     * some of them removed by {@link RemovingFilter}.
+     */
+    private static AsyncAPI document() {
+        Schema street = schema("street", null);
+        Schema password = schema("secret", "The password");
+        Schema address = schema("address", null);
+        address.addProperty("street", street);
+        address.addProperty("password", password);
+
+        Schema greetingPayload = schema("Greeting", "Greeting");
+        greetingPayload.addProperty("name", schema("name", null));
+        greetingPayload.addProperty("secret", schema("secret", null));
+        greetingPayload.addProperty("address", address);
+
+        Message greeting = message("greeting", greetingPayload);
+        greeting.setTags(new ArrayList<>(Arrays.asList(tag("public"), tag("hidden"))));
+        Message internal = message("internal", schema("Internal", null));
+
+        Operation subscribe = new OperationImpl();
+        subscribe.setMessage(greeting);
+        Operation publish = new OperationImpl();
+        publish.setMessage(internal);
+
+        ChannelItem greetingChannel = new ChannelItemImpl();
+        greetingChannel.setChannel("greeting");
+        greetingChannel.setSubscribe(subscribe);
+        greetingChannel.setPublish(publish);
+
+        ChannelItem removedChannel = new ChannelItemImpl();
+        removedChannel.setChannel("removed");
+        removedChannel.setDescription("remove");
+        Operation removedSubscribe = new OperationImpl();
+        removedSubscribe.setMessage(message("removed", schema("Removed", null)));
+        removedChannel.setSubscribe(removedSubscribe);
+
+        Map<String, ChannelItem> channelItems = new LinkedHashMap<>();
+        channelItems.put("greeting", greetingChannel);
+        channelItems.put("removed", removedChannel);
+        ChannelsImpl channels = new ChannelsImpl();
+        channels.setChannels(channelItems);
+
+        ComponentsImpl components = new ComponentsImpl();
+        components.addSchema("Greeting", greetingPayload);
+        components.addSchema("Secret", schema("secret", null));
+        components.addMessage("greeting", greeting);
+        components.addMessage("internal", internal);
+
+        AsyncAPI aai = new AsyncAPIImpl();
+        aai.setAsyncapi("2.0.0");
+        aai.setServers(new ArrayList<>(Arrays.asList(server("production"), server("test"))));
+        aai.setTags(new ArrayList<>(Arrays.asList(tag("public"), tag("hidden"))));
+        aai.setChannels(channels);
+        aai.setComponents(components);
+        return aai;
+    }
+
+    private static Schema schema(String title, String description) {
+        Schema schema = new SchemaImpl();
+        schema.setTitle(title);
+        schema.setDescription(description);
+        return schema;
+    }
+
+    private static Message message(String name, Schema payload) {
+        Message message = new MessageImpl();
+        message.setName(name);
+        message.setPayload(payload);
+        return message;
+    }
+
+    private static Server server(String name) {
+        Server server = new ServerImpl();
+        server.setName(name);
+        server.setUrl(name + ".example.com");
+        server.setProtocol("kafka");
+        return server;
+    }
+
+    private static Tag tag(String name) {
+        Tag tag = new TagImpl();
+        tag.setName(name);
+        return tag;
+    }
+
+    /**
+     * Filters the model one filter at a time, as a separate walk of the whole tree for each filter, visiting shared
+     * nodes once for each reference.
+     */
+    private static AsyncAPI filterSequentially(AASFilter filter, AsyncAPI model) {
+        model.setServers(filterList(model.getServers(), filter::filterServer));
+        model.setTags(filterList(model.getTags(), filter::filterTag));
+
+        Map<String, ChannelItem> channels = new LinkedHashMap<>();
+        model.getChannels()
+                .getChannels()
+                .forEach((name, channelItem) -> {
+                    if (channelItem.getSubscribe() != null) {
+                        filterOperation(filter, channelItem.getSubscribe());
+                    }
+                    if (channelItem.getPublish() != null) {
+                        filterOperation(filter, channelItem.getPublish());
+                    }
+                    ChannelItem result = filter.filterChannelItem(channelItem);
+                    if (result != null) {
+                        channels.put(name, result);
+                    }
+                });
+        model.getChannels()
+                .setChannels(channels);
+
+        Map<String, Schema> schemas = new LinkedHashMap<>();
+        model.getComponents()
+                .getSchemas()
+                .forEach((name, schema) -> {
+                    Schema result = filterSchema(filter, schema);
+                    if (result != null) {
+                        schemas.put(name, result);
+                    }
+                });
+        model.getComponents()
+                .setSchemas(schemas);
+
+        Map<String, Message> messages = new LinkedHashMap<>();
+        model.getComponents()
+                .getMessages()
+                .forEach((name, message) -> {
+                    Message result = filterMessage(filter, message);
+                    if (result != null) {
+                        messages.put(name, result);
+                    }
+                });
+        model.getComponents()
+                .setMessages(messages);
+
+        filter.filterAsyncAPI(model);
+        return model;
+    }
+
+    private static void filterOperation(AASFilter filter, Operation operation) {
+        operation.setMessage(filterMessage(filter, operation.getMessage()));
+    }
+
+    private static Message filterMessage(AASFilter filter, Message message) {
+        if (message == null) {
+            return null;
+        }
+        message.setPayload(filterSchema(filter, message.getPayload()));
+        message.setTags(filterList(message.getTags(), filter::filterTag));
+        return filter.filterMessage(message);
+    }
+
+    private static Schema filterSchema(AASFilter filter, Schema schema) {
+        if (schema == null) {
+            return null;
+        }
+        if (schema.getProperties() != null) {
+            Map<String, Schema> properties = new LinkedHashMap<>();
+            schema.getProperties()
+                    .forEach((name, property) -> {
+                        Schema result = filterSchema(filter, property);
+                        if (result != null) {
+                            properties.put(name, result);
+                        }
+                    });
+            schema.setProperties(properties);
+        }
+        return filter.filterSchema(schema);
+    }
+
+    private static <T> List<T> filterList(List<T> list, java.util.function.UnaryOperator<T> filter) {
+        if (list == null) {
+            return null;
+        }
+        List<T> result = new ArrayList<>();
+        for (T element : list) {
+            T value = filter.apply(element);
+            if (value != null) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes servers, tags, channels, messages and schemas by their names.
+     */
+    private static class RemovingFilter implements AASFilter {
+
+        @Override
+        public Server filterServer(Server server) {
+            return "test".equals(server.getName()) ? null : server;
+        }
+
+        @Override
+        public Tag filterTag(Tag tag) {
+            return "hidden".equals(tag.getName()) ? null : tag;
+        }
+
+        @Override
+        public ChannelItem filterChannelItem(ChannelItem channelItem) {
+            return "remove".equals(channelItem.getDescription()) ? null : channelItem;
+        }
+
+        @Override
+        public Message filterMessage(Message message) {
+            return "internal".equals(message.getName()) ? null : message;
+        }
+
+        @Override
+        public Schema filterSchema(Schema schema) {
+            return "secret".equals(schema.getTitle()) ? null : schema;
+        }
+    }
+
+    /**
+     * Describes every schema and message without a description.
+     */
+    private static class DescribingFilter implements AASFilter {
+
+        @Override
+        public Message filterMessage(Message message) {
+            if (message.getDescription() == null) {
+                message.setDescription("filtered");
+            }
+            return message;
+        }
+
+        @Override
+        public Schema filterSchema(Schema schema) {
+            if (schema.getDescription() == null) {
+                schema.setDescription("filtered");
+            }
+            return schema;
+        }
+
+        @Override
+        public void filterAsyncAPI(AsyncAPI asyncAPI) {
+            asyncAPI.setIdentifier("urn:filtered");
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.smallrye.asyncapi.core.api.models.AsyncAPIImpl;
+import io.smallrye.asyncapi.core.api.util.MergeUtil;
+import io.smallrye.asyncapi.core.runtime.io.AsyncApiParser;
+import io.smallrye.asyncapi.core.runtime.io.AsyncApiSerializer;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+
+public class AsyncApiStaticFilesTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testFindAndMergeFragments() throws IOException {
+        Path directory = folder.newFolder("classes")
+                .toPath();
+        write(directory.resolve("META-INF/asyncapi.yaml"), yaml("root", "root"));
+        write(directory.resolve("META-INF/asyncapi/b.json"), json("b", "b"));
+        write(directory.resolve("META-INF/asyncapi/a.yaml"), yaml("a", "a"));
+        write(directory.resolve("META-INF/asyncapi/notes.txt"), "not a fragment");
+
+        Path jar = folder.getRoot()
+                .toPath()
+                .resolve("fragments.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            entry(out, "META-INF/", null);
+            entry(out, "META-INF/asyncapi.json", json("jar", "jar"));
+            entry(out, "META-INF/asyncapi/", null);
+            entry(out, "META-INF/asyncapi/d.json", json("d", "d"));
+            entry(out, "META-INF/asyncapi/c.yml", yaml("c", "c"));
+            entry(out, "META-INF/asyncapi/nested/e.json", json("e", "e"));
+        }
+
+        List<URL> staticFiles;
+        try (URLClassLoader classLoader = new URLClassLoader(
+                new URL[] { directory.toUri()
+                        .toURL(),
+                        jar.toUri()
+                                .toURL() },
+                null)) {
+            staticFiles = AsyncApiStaticFiles.find(classLoader);
+        }
+
+        Assert.assertEquals(Arrays.asList("file:META-INF/asyncapi.yaml", "jar:META-INF/asyncapi.json",
+                "file:META-INF/asyncapi/a.yaml", "file:META-INF/asyncapi/b.json", "jar:META-INF/asyncapi/c.yml",
+                "jar:META-INF/asyncapi/d.json"),
+                staticFiles.stream()
+                        .map(AsyncApiStaticFilesTest::describe)
+                        .collect(Collectors.toList()));
+
+        AsyncAPI merged = AsyncApiStaticFiles.parse(staticFiles);
+
+        AsyncAPI folded = null;
+        for (URL staticFile : staticFiles) {
+            folded = MergeUtil.merge(folded, AsyncApiParser.parse(staticFile));
+        }
+
+        Assert.assertEquals(AsyncApiSerializer.serialize(folded, AsyncApiFormat.JSON),
+                AsyncApiSerializer.serialize(merged, AsyncApiFormat.JSON));
+        Assert.assertEquals("d", merged.getInfo()
+                .getTitle());
+        Assert.assertEquals(new ArrayList<>(Arrays.asList("root", "jar", "a", "b", "c", "d")),
+                new ArrayList<>(merged.getChannels()
+                        .getChannels()
+                        .keySet()));
+    }
+
+    @Test
+    public void testMergeEmptyAndSingleFragment() {
+        Assert.assertNull(AsyncApiStaticFiles.merge(new ArrayList<String>(), name -> {
+            throw new AssertionError(name);
+        }));
+
+        AsyncAPI model = new AsyncAPIImpl();
+        Assert.assertSame(model, AsyncApiStaticFiles.merge(Arrays.asList("single"), name -> model));
+    }
+
+    private static String describe(URL url) {
+        String path = url.toExternalForm();
+        return url.getProtocol() + ':' + path.substring(path.indexOf("META-INF/"));
+    }
+
+    private static String json(String title, String channel) {
+        return "{\"asyncapi\":\"2.0.0\",\"info\":{\"title\":\"" + title + "\",\"version\":\"1.0\"},"
+                + "\"channels\":{\"" + channel + "\":{\"description\":\"" + channel + "\"}}}";
+    }
+
+    private static String yaml(String title, String channel) {
+        return "asyncapi: 2.0.0\ninfo:\n  title: " + title + "\n  version: '1.0'\nchannels:\n  " + channel
+                + ":\n    description: " + channel + "\n";
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void entry(JarOutputStream out, String name, String content) throws IOException {
+        out.putNextEntry(new JarEntry(name));
+        if (content != null) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        out.closeEntry();
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+import io.smallrye.asyncapi.core.api.models.AsyncAPIImpl;
+import io.smallrye.asyncapi.core.runtime.AsyncApiFormat;
+import io.smallrye.asyncapi.core.runtime.io.definition.DefinitionReader;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+
+public class AsyncApiParserTest {
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+
+    private static final ObjectMapper YAML_MAPPER = new ObjectMapper(new YAMLFactory());
+
+    private static final String DOCUMENT = "{"
+            + "\"asyncapi\":\"2.0.0\","
+            + "\"id\":\"urn:example:greetings\","
+            + "\"defaultContentType\":\"application/json\","
+            + "\"info\":{\"title\":\"Greetings\",\"version\":\"1.0\",\"x-audience\":\"internal\"},"
+            + "\"servers\":{\"production\":{\"url\":\"broker.example.com\",\"protocol\":\"kafka\"}},"
+            + "\"channels\":{"
+            + "\"greetings/{id}\":{\"description\":\"Greetings\","
+            + "\"parameters\":{\"id\":{\"$ref\":\"#/components/parameters/id\"}},"
+            + "\"subscribe\":{\"operationId\":\"receive\",\"message\":{\"$ref\":\"#/components/messages/greeting\"},"
+            + "\"x-retries\":3}},"
+            + "\"farewells\":{\"publish\":{\"message\":{\"$ref\":\"messages.yaml#/farewell\"}}},"
+            + "\"x-channels\":true},"
+            + "\"components\":{"
+            + "\"schemas\":{\"Greeting\":{\"type\":\"object\",\"properties\":{"
+            + "\"text\":{\"type\":\"string\"},\"sender\":{\"$ref\":\"#/components/schemas/Person\"}},"
+            + "\"x-schema\":{\"nested\":[1,2]}},"
+            + "\"Person\":{\"type\":\"object\",\"properties\":{\"name\":{\"type\":\"string\"}}}},"
+            + "\"messages\":{\"greeting\":{\"name\":\"greeting\",\"payload\":{\"$ref\":\"#/components/schemas/Greeting\"},"
+            + "\"traits\":[{\"$ref\":\"#/components/messageTraits/common\"}],\"x-message\":\"greeting\"}},"
+            + "\"parameters\":{\"id\":{\"description\":\"The id\",\"schema\":{\"type\":\"string\"}}},"
+            + "\"securitySchemes\":{\"apiKey\":{\"type\":\"apiKey\",\"in\":\"user\"}},"
+            + "\"messageTraits\":{\"common\":{\"name\":\"common\",\"contentType\":\"application/json\"}},"
+            + "\"operationTraits\":{\"kafka\":{\"description\":\"Kafka\"}}},"
+            + "\"tags\":[{\"name\":\"greetings\"}],"
+            + "\"externalDocs\":{\"url\":\"https://example.com\"},"
+            + "\"x-owner\":{\"team\":\"greetings\"}"
+            + "}";
+
+    @Test
+    public void testJsonTokensEqualTree() throws IOException {
+        assertTokensEqualTree(DOCUMENT, AsyncApiFormat.JSON);
+    }
+
+    @Test
+    public void testYamlTokensEqualTree() throws IOException {
+        String yaml = YAML_MAPPER.writeValueAsString(JSON_MAPPER.readTree(DOCUMENT));
+        assertTokensEqualTree(yaml, AsyncApiFormat.YAML);
+    }
+
+    @Test
+    public void testParsedDocument() throws IOException {
+        AsyncAPI aai = parse(DOCUMENT, AsyncApiFormat.JSON);
+
+        Assert.assertEquals("urn:example:greetings", aai.getIdentifier());
+        Assert.assertEquals("internal", aai.getInfo()
+                .getExtensions()
+                .get("x-audience"));
+        Assert.assertEquals("#/components/messages/greeting", aai.getChannels()
+                .getChannels()
+                .get("greetings/{id}")
+                .getSubscribe()
+                .getMessage()
+                .getRef());
+        Assert.assertEquals("messages.yaml#/farewell", aai.getChannels()
+                .getChannels()
+                .get("farewells")
+                .getPublish()
+                .getMessage()
+                .getRef());
+        Assert.assertFalse(aai.getChannels()
+                .getChannels()
+                .containsKey("x-channels"));
+        Assert.assertEquals("#/components/schemas/Person", aai.getComponents()
+                .getSchemas()
+                .get("Greeting")
+                .getProperties()
+                .get("sender")
+                .getRef());
+        Assert.assertNotNull(aai.getExtensions()
+                .get("x-owner"));
+    }
+
+    @Test
+    public void testEmptyInput() throws IOException {
+        assertTokensEqualTree("", AsyncApiFormat.JSON);
+        assertTokensEqualTree("", AsyncApiFormat.YAML);
+        assertTokensEqualTree("{}", AsyncApiFormat.JSON);
+        assertTokensEqualTree("{}", AsyncApiFormat.YAML);
+
+        AsyncAPI aai = parse("", AsyncApiFormat.JSON);
+        Assert.assertNull(aai.getAsyncapi());
+        Assert.assertNull(aai.getChannels());
+        Assert.assertNull(aai.getComponents());
+    }
+
+    private static void assertTokensEqualTree(String document, AsyncApiFormat format) throws IOException {
+        ObjectMapper mapper = format == AsyncApiFormat.JSON ? JSON_MAPPER : YAML_MAPPER;
+        JsonNode tree = mapper.readTree(document);
+
+        AsyncAPI fromTree = new AsyncAPIImpl();
+        DefinitionReader.processDefinition(fromTree, tree == null ? MissingNode.getInstance() : tree);
+
+        Assert.assertEquals(AsyncApiSerializer.serialize(fromTree, AsyncApiFormat.JSON),
+                AsyncApiSerializer.serialize(parse(document, format), AsyncApiFormat.JSON));
+    }
+
+    private static AsyncAPI parse(String document, AsyncApiFormat format) throws IOException {
+        return AsyncApiParser.parse(new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8)), format);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2019 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.io;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.smallrye.asyncapi.core.api.models.AsyncAPIImpl;
+import io.smallrye.asyncapi.core.api.models.ComponentsImpl;
+import io.smallrye.asyncapi.core.api.models.message.MessageImpl;
+import io.smallrye.asyncapi.core.api.models.security.SecuritySchemeImpl;
+import io.smallrye.asyncapi.core.runtime.AsyncApiFormat;
+import io.smallrye.asyncapi.spec.annotations.security.SecuritySchemeType;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+import io.smallrye.asyncapi.spec.models.Components;
+import io.smallrye.asyncapi.spec.models.message.Message;
+import io.smallrye.asyncapi.spec.models.security.SecurityScheme;
+
+public class AsyncApiSerializerTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .enable(JsonParser.Feature.STRICT_DUPLICATE_DETECTION);
+
+    @Test
+    public void testDuplicatePropertiesLastWins() throws IOException {
+        Components components = new ComponentsImpl();
+        components.addMessage("first", message("greeting", "first"));
+        components.addMessage("other", message("other", "other"));
+        components.addMessage("second", message("greeting", "second"));
+        components.addSecurityScheme("first", securityScheme("first"));
+        components.addSecurityScheme("second", securityScheme("second"));
+
+        AsyncAPI aai = new AsyncAPIImpl();
+        aai.setAsyncapi("2.0.0");
+        aai.setComponents(components);
+
+        JsonNode json = MAPPER.readTree(AsyncApiSerializer.serialize(aai, AsyncApiFormat.JSON));
+
+        JsonNode messages = json.get("components")
+                .get("messages");
+        Assert.assertEquals(Arrays.asList("greeting", "other"), fieldNames(messages));
+        Assert.assertEquals("second", messages.get("greeting")
+                .get("description")
+                .asText());
+
+        JsonNode securitySchemes = json.get("components")
+                .get("securitySchemes");
+        Assert.assertEquals(Arrays.asList("apiKey"), fieldNames(securitySchemes));
+        Assert.assertEquals("second", securitySchemes.get("apiKey")
+                .get("description")
+                .asText());
+    }
+
+    private static List<String> fieldNames(JsonNode node) {
+        List<String> names = new ArrayList<>();
+        node.fieldNames()
+                .forEachRemaining(names::add);
+        return names;
+    }
+
+    private static Message message(String name, String description) {
+        Message message = new MessageImpl();
+        message.setName(name);
+        message.setDescription(description);
+        return message;
+    }
+
+    private static SecurityScheme securityScheme(String description) {
+        SecurityScheme securityScheme = new SecuritySchemeImpl();
+        securityScheme.setType(SecuritySchemeType.APIKEY);
+        securityScheme.setDescription(description);
+        return securityScheme;
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2019 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.smallrye.asyncapi.core.api.AsyncApiDocument;
+import io.smallrye.asyncapi.core.api.models.message.MessageImpl;
+import io.smallrye.asyncapi.core.api.models.schema.SchemaImpl;
+import io.smallrye.asyncapi.core.runtime.AsyncApiFormat;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+import io.smallrye.asyncapi.spec.models.Components;
+import io.smallrye.asyncapi.spec.models.channel.ChannelItem;
+import io.smallrye.asyncapi.spec.models.message.Message;
+import io.smallrye.asyncapi.spec.models.parameter.Parameter;
+import io.smallrye.asyncapi.spec.models.schema.Schema;
+
+public class ReferenceResolverTest {
+
+    private static final String DOCUMENT = "{"
+            + "\"asyncapi\":\"2.0.0\","
+            + "\"info\":{\"title\":\"Users\",\"version\":\"1.0\"},"
+            + "\"channels\":{\"users/{userId}\":{"
+            + "  \"parameters\":{\"userId\":{\"$ref\":\"#/components/parameters/UserId\"}},"
+            + "  \"subscribe\":{\"message\":{\"$ref\":\"#/components/messages/UserSignedUp\"}}"
+            + "}},"
+            + "\"components\":{"
+            + "  \"schemas\":{"
+            + "    \"User\":{\"type\":\"object\",\"properties\":{"
+            + "      \"name\":{\"type\":\"string\"},"
+            + "      \"friend\":{\"$ref\":\"#/components/schemas/User\"}}},"
+            + "    \"Alias\":{\"$ref\":\"#/components/schemas/User\"},"
+            + "    \"AliasOfAlias\":{\"$ref\":\"Alias\"}"
+            + "  },"
+            + "  \"messages\":{\"UserSignedUp\":{\"name\":\"UserSignedUp\",\"payload\":{\"$ref\":\"#/components/schemas/AliasOfAlias\"}}},"
+            + "  \"parameters\":{"
+            + "    \"UserId\":{\"description\":\"Id of the user\",\"schema\":{\"type\":\"string\"}},"
+            + "    \"Id\":{\"$ref\":\"UserId\"}"
+            + "  }"
+            + "}}";
+
+    @Test
+    public void testNestedReferences() throws IOException {
+        AsyncAPI model = parse();
+        ReferenceResolver resolver = ReferenceResolver.of(model);
+        Components components = model.getComponents();
+        Schema user = components.getSchemas()
+                .get("User");
+
+        Assert.assertSame(user, resolver.resolve(components.getSchemas()
+                .get("AliasOfAlias")));
+        Assert.assertSame(user, resolver.resolve(components.getSchemas()
+                .get("Alias")));
+        Assert.assertSame(user, resolver.resolve(components.getMessages()
+                .get("UserSignedUp")
+                .getPayload()));
+        Assert.assertSame(user, resolver.resolve(user));
+        Assert.assertSame(user, resolver.get(ReferenceResolver.pointer("schemas", "User")));
+    }
+
+    @Test
+    public void testParameterReferences() throws IOException {
+        AsyncAPI model = parse();
+        ReferenceResolver resolver = ReferenceResolver.of(model);
+        Parameter userId = model.getComponents()
+                .getParameters()
+                .get("UserId");
+
+        Assert.assertSame(userId, resolver.resolve(channel(model).getParameters()
+                .getValue()
+                .get(0)));
+        Assert.assertSame(userId, resolver.resolve(model.getComponents()
+                .getParameters()
+                .get("Id")));
+    }
+
+    @Test
+    public void testCyclicReferences() throws IOException {
+        AsyncAPI model = parse();
+        model.getComponents()
+                .addSchema("CycleA", new SchemaImpl().ref("#/components/schemas/CycleB"));
+        model.getComponents()
+                .addSchema("CycleB", new SchemaImpl().ref("CycleA"));
+        ReferenceResolver resolver = ReferenceResolver.of(model);
+
+        try {
+            resolver.resolve(model.getComponents()
+                    .getSchemas()
+                    .get("CycleA"));
+            Assert.fail("References forming a cycle must not be resolved");
+        } catch (IllegalStateException e) {
+            Assert.assertTrue(e.getMessage()
+                    .contains("#/components/schemas/CycleB -> #/components/schemas/CycleA -> #/components/schemas/CycleB"));
+        }
+    }
+
+    @Test
+    public void testMissingReference() throws IOException {
+        AsyncAPI model = parse();
+        Schema missing = new SchemaImpl().ref("#/components/schemas/Unknown");
+        model.getComponents()
+                .addSchema("Missing", missing);
+        ReferenceResolver resolver = ReferenceResolver.of(model);
+
+        try {
+            resolver.resolve(missing);
+            Assert.fail("A missing component must not be resolved");
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage()
+                    .contains("#/components/schemas/Unknown"));
+        }
+        try {
+            resolver.dereference();
+            Assert.fail("A missing component must not be dereferenced");
+        } catch (IllegalArgumentException e) {
+            Assert.assertTrue(e.getMessage()
+                    .contains("#/components/schemas/Unknown"));
+        }
+    }
+
+    @Test
+    public void testReferenceToOtherKind() throws IOException {
+        AsyncAPI model = parse();
+        ReferenceResolver resolver = ReferenceResolver.of(model);
+        Schema user = model.getComponents()
+                .getSchemas()
+                .get("User");
+        Message message = new MessageImpl();
+        message.setRef("#/components/schemas/User");
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                resolver.resolve(message);
+                Assert.fail("A schema must not be resolved as message");
+            } catch (IllegalArgumentException e) {
+                Assert.assertTrue(e.getMessage()
+                        .contains("#/components/schemas/User"));
+            }
+            // The second attempt finds the schema in the cache
+            Assert.assertSame(user, resolver.resolve(new SchemaImpl().ref("#/components/schemas/User")));
+        }
+    }
+
+    @Test
+    public void testDereference() throws IOException {
+        AsyncAPI model = parse();
+        Components components = model.getComponents();
+        Schema user = components.getSchemas()
+                .get("User");
+        Message userSignedUp = components.getMessages()
+                .get("UserSignedUp");
+        Parameter userId = components.getParameters()
+                .get("UserId");
+
+        ReferenceResolver.of(model)
+                .dereference();
+
+        ChannelItem channel = channel(model);
+        Assert.assertSame(userSignedUp, channel.getSubscribe()
+                .getMessage());
+        Assert.assertSame(user, userSignedUp.getPayload());
+        Assert.assertSame(user, components.getSchemas()
+                .get("AliasOfAlias"));
+
+        // The recursive reference is kept
+        Assert.assertEquals("#/components/schemas/User", user.getProperties()
+                .get("friend")
+                .getRef());
+
+        // Parameters are copied to keep their names
+        Parameter channelParameter = channel.getParameters()
+                .getValue()
+                .get(0);
+        Assert.assertEquals("userId", channelParameter.getName());
+        Assert.assertNull(channelParameter.getRef());
+        Assert.assertEquals("Id of the user", channelParameter.getDescription());
+        Assert.assertSame(userId.getSchema(), channelParameter.getSchema());
+        Assert.assertEquals("Id", components.getParameters()
+                .get("Id")
+                .getName());
+
+        JsonNode json = new ObjectMapper().readTree(AsyncApiSerializer.serialize(model, AsyncApiFormat.JSON));
+        Assert.assertEquals("Id of the user", json.get("channels")
+                .get("users/{userId}")
+                .get("parameters")
+                .get("userId")
+                .get("description")
+                .asText());
+    }
+
+    @Test
+    public void testParameterReferenceSerialized() throws IOException {
+        JsonNode json = new ObjectMapper().readTree(AsyncApiSerializer.serialize(parse(), AsyncApiFormat.JSON));
+
+        Assert.assertEquals("#/components/parameters/UserId", json.get("channels")
+                .get("users/{userId}")
+                .get("parameters")
+                .get("userId")
+                .get("$ref")
+                .asText());
+    }
+
+    @Test
+    public void testDocumentResolverCreatedOnce() throws IOException {
+        AsyncAPI model = parse();
+        AsyncApiDocument document = new AsyncApiDocument();
+        document.set(model);
+
+        ReferenceResolver resolver = document.getReferenceResolver();
+        Assert.assertSame(model, resolver.getModel());
+        Assert.assertSame(resolver, document.getReferenceResolver());
+
+        AsyncAPI other = parse();
+        document.set(other);
+        Assert.assertSame(other, document.getReferenceResolver()
+                .getModel());
+    }
+
+    private static ChannelItem channel(AsyncAPI model) {
+        return model.getChannels()
+                .getChannels()
+                .get("users/{userId}");
+    }
+
+    private static AsyncAPI parse() throws IOException {
+        return AsyncApiParser.parse(new ByteArrayInputStream(DOCUMENT.getBytes(StandardCharsets.UTF_8)),
+                AsyncApiFormat.JSON);
+    }
+}
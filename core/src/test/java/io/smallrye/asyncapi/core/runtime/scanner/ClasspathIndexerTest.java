@@ -0,0 +1,227 @@
+/*
+ * Copyright 2019 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.scanner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.smallrye.asyncapi.core.api.AsyncApiConfig;
+
+public class ClasspathIndexerTest {
+
+    public static class Included {
+    }
+
+    public static class Excluded {
+    }
+
+    public static class DuplicateA {
+
+        public String first;
+    }
+
+    public static class DuplicateB {
+
+        public String second;
+    }
+
+    private static final AsyncApiConfig CONFIG = new AsyncApiConfig() {
+        @Override
+        public Pattern scanExcludeClasses() {
+            return Pattern.compile(Pattern.quote(Excluded.class.getName()));
+        }
+
+        @Override
+        public int scanParallelism() {
+            return 2;
+        }
+    };
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path cacheDirectory;
+
+    @Before
+    public void setUp() throws IOException {
+        cacheDirectory = temporaryFolder.newFolder("cache")
+                .toPath();
+    }
+
+    @Test
+    public void testCacheMissAndHit() throws IOException {
+        Path jar = jar("classes.jar", classFiles(Included.class, Excluded.class));
+
+        ClasspathIndexer miss = new ClasspathIndexer(CONFIG, cacheDirectory);
+        assertIncluded(miss.index(Collections.singletonList(jar), Collections.emptyList()));
+        Assert.assertEquals(0, miss.getFromCache());
+        Assert.assertEquals(1, miss.getIndexed());
+        Assert.assertEquals(1, cacheFiles().size());
+
+        ClasspathIndexer hit = new ClasspathIndexer(CONFIG, cacheDirectory);
+        assertIncluded(hit.index(Collections.singletonList(jar), Collections.emptyList()));
+        Assert.assertEquals(1, hit.getFromCache());
+        Assert.assertEquals(0, hit.getIndexed());
+    }
+
+    @Test
+    public void testCorruptCacheFile() throws IOException {
+        Path jar = jar("classes.jar", classFiles(Included.class, Excluded.class));
+        new ClasspathIndexer(CONFIG, cacheDirectory).index(Collections.singletonList(jar), Collections.emptyList());
+        Path cacheFile = cacheFiles().get(0);
+        Files.write(cacheFile, "not an index".getBytes(StandardCharsets.UTF_8));
+
+        ClasspathIndexer corrupt = new ClasspathIndexer(CONFIG, cacheDirectory);
+        assertIncluded(corrupt.index(Collections.singletonList(jar), Collections.emptyList()));
+        Assert.assertEquals(0, corrupt.getFromCache());
+        Assert.assertEquals(1, corrupt.getIndexed());
+
+        ClasspathIndexer rewritten = new ClasspathIndexer(CONFIG, cacheDirectory);
+        assertIncluded(rewritten.index(Collections.singletonList(jar), Collections.emptyList()));
+        Assert.assertEquals(1, rewritten.getFromCache());
+    }
+
+    @Test
+    public void testJarWithJandexIndex() throws IOException {
+        Indexer indexer = new Indexer();
+        for (byte[] classFile : classFiles(Included.class, Excluded.class).values()) {
+            indexer.index(new ByteArrayInputStream(classFile));
+        }
+        ByteArrayOutputStream jandexIndex = new ByteArrayOutputStream();
+        new IndexWriter(jandexIndex).write(indexer.complete());
+        Path jar = jar("indexed.jar", Collections.singletonMap("META-INF/jandex.idx", jandexIndex.toByteArray()));
+
+        ClasspathIndexer classpathIndexer = new ClasspathIndexer(CONFIG, cacheDirectory);
+        assertIncluded(classpathIndexer.index(Collections.emptyList(), Collections.singletonList(jar)));
+        Assert.assertEquals(1, classpathIndexer.getFromJandexIndex());
+        Assert.assertEquals(0, classpathIndexer.getIndexed());
+        Assert.assertTrue(cacheFiles().isEmpty());
+    }
+
+    @Test
+    public void testFirstDuplicateWins() throws IOException {
+        Path first = jar("first.jar", classFiles(DuplicateA.class));
+        Path second = jar("second.jar",
+                Collections.singletonMap(path(DuplicateA.class), renamed(DuplicateB.class, DuplicateA.class)));
+
+        ClasspathIndexer classpathIndexer = new ClasspathIndexer(CONFIG);
+        Assert.assertNotNull(duplicate(classpathIndexer.index(Arrays.asList(first), Arrays.asList(second))).field("first"));
+        Assert.assertNotNull(duplicate(classpathIndexer.index(Arrays.asList(second), Arrays.asList(first))).field("second"));
+        Assert.assertNotNull(duplicate(classpathIndexer.index(Arrays.asList(second, first), Collections.emptyList()))
+                .field("second"));
+    }
+
+    private static ClassInfo duplicate(IndexView index) {
+        ClassInfo classInfo = index.getClassByName(DotName.createSimple(DuplicateA.class.getName()));
+        Assert.assertNotNull(classInfo);
+        return classInfo;
+    }
+
+    private static void assertIncluded(IndexView index) {
+        Assert.assertNotNull(index.getClassByName(DotName.createSimple(Included.class.getName())));
+        Assert.assertNull(index.getClassByName(DotName.createSimple(Excluded.class.getName())));
+    }
+
+    private List<Path> cacheFiles() throws IOException {
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
+    private Path jar(String name, Map<String, byte[]> entries) throws IOException {
+        Path jar = temporaryFolder.getRoot()
+                .toPath()
+                .resolve(name);
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                out.putNextEntry(new JarEntry(entry.getKey()));
+                out.write(entry.getValue());
+                out.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    private static Map<String, byte[]> classFiles(Class<?>... classes) throws IOException {
+        Map<String, byte[]> classFiles = new LinkedHashMap<>();
+        for (Class<?> type : classes) {
+            classFiles.put(path(type), read(type));
+        }
+        return classFiles;
+    }
+
+    /**
+     * @return the class file of the type, declaring the other class instead. Both simple names need to have the same
+     *         length, so the constant pool stays valid.
+     */
+    private static byte[] renamed(Class<?> type, Class<?> as) throws IOException {
+        byte[] bytes = read(type);
+        byte[] from = type.getSimpleName()
+                .getBytes(StandardCharsets.UTF_8);
+        byte[] to = as.getSimpleName()
+                .getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i <= bytes.length - from.length; i++) {
+            if (Arrays.equals(Arrays.copyOfRange(bytes, i, i + from.length), from)) {
+                System.arraycopy(to, 0, bytes, i, to.length);
+            }
+        }
+        return bytes;
+    }
+
+    private static String path(Class<?> type) {
+        return type.getName()
+                .replace('.', '/') + ".class";
+    }
+
+    private static byte[] read(Class<?> type) throws IOException {
+        try (InputStream stream = type.getClassLoader()
+                .getResourceAsStream(path(type))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = stream.read(buffer)) > 0) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+}
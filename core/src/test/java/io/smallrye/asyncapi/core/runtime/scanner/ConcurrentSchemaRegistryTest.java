@@ -0,0 +1,152 @@
+/*
+ * Copyright 2019 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.scanner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.jboss.jandex.Type;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.smallrye.asyncapi.core.api.AsyncApiConfig;
+import io.smallrye.asyncapi.core.api.constants.AsyncApiConstants;
+import io.smallrye.asyncapi.core.api.models.AsyncAPIImpl;
+import io.smallrye.asyncapi.core.api.models.schema.SchemaImpl;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+import io.smallrye.asyncapi.spec.models.schema.Schema;
+
+public class ConcurrentSchemaRegistryTest {
+
+    public static class Greeting {
+
+        public String text;
+    }
+
+    private static final Type GREETING = Type.create(DotName.createSimple(Greeting.class.getName()), Type.Kind.CLASS);
+
+    private ConcurrentSchemaRegistry registry;
+
+    @Before
+    public void setUp() throws IOException {
+        SchemaRegistry parent = SchemaRegistry.newInstance(new AsyncApiConfig() {
+        }, new AsyncAPIImpl(), indexOf(Greeting.class));
+        registry = new ConcurrentSchemaRegistry(parent);
+    }
+
+    @After
+    public void tearDown() {
+        SchemaRegistry.remove();
+    }
+
+    @Test
+    public void testFirstRegistrationWins() {
+        Schema first = new SchemaImpl();
+        Schema second = new SchemaImpl();
+
+        Schema firstRef = registry.register(GREETING, first);
+        Schema secondRef = registry.register(GREETING, second);
+
+        Assert.assertSame(firstRef, secondRef);
+        Assert.assertSame(first, registry.lookupSchema(GREETING));
+
+        AsyncAPI aai = new AsyncAPIImpl();
+        registry.complete(aai);
+
+        Map<String, Schema> schemas = aai.getComponents()
+                .getSchemas();
+        Assert.assertEquals(1, schemas.size());
+        String name = schemas.keySet()
+                .iterator()
+                .next();
+        Assert.assertEquals(AsyncApiConstants.REF_PREFIX_SCHEMA + name, firstRef.getRef());
+        Assert.assertSame(first, schemas.get(name));
+    }
+
+    @Test
+    public void testReferenceObtainsFirstSchema() {
+        Schema reference = registry.registerReference(new SchemaRegistry.TypeKey(GREETING));
+        Assert.assertFalse(registry.hasSchema(GREETING));
+
+        Schema schema = new SchemaImpl();
+        Assert.assertSame(reference, registry.register(GREETING, schema));
+        Assert.assertSame(reference, registry.register(GREETING, new SchemaImpl()));
+        Assert.assertSame(schema, registry.lookupSchema(GREETING));
+    }
+
+    @Test
+    public void testConcurrentRegistrationsShareReference() throws Exception {
+        int tasks = 8;
+        List<Callable<Schema>> registrations = new ArrayList<>();
+        for (int i = 0; i < tasks; i++) {
+            registrations.add(() -> registry.register(GREETING, new SchemaImpl()));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(tasks);
+        try {
+            List<Future<Schema>> references = executor.invokeAll(registrations);
+            Schema schema = registry.lookupSchema(GREETING);
+
+            for (Future<Schema> reference : references) {
+                Assert.assertSame(references.get(0)
+                        .get(), reference.get());
+            }
+            Assert.assertSame(schema, registry.lookupSchema(GREETING));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testForkIsRegistryItself() {
+        AsyncAPI partial = new AsyncAPIImpl();
+
+        Assert.assertSame(registry, registry.fork(partial));
+        Assert.assertTrue(registry.join(registry));
+
+        try {
+            registry.record(partial);
+            Assert.fail("A shared registry must not record its changes");
+        } catch (UnsupportedOperationException e) {
+            Assert.assertTrue(e.getMessage()
+                    .startsWith("SROAP05004"));
+        }
+    }
+
+    private static Index indexOf(Class<?>... classes) throws IOException {
+        Indexer indexer = new Indexer();
+        for (Class<?> klazz : classes) {
+            try (InputStream stream = klazz.getClassLoader()
+                    .getResourceAsStream(klazz.getName()
+                            .replace('.', '/') + ".class")) {
+                indexer.index(stream);
+            }
+        }
+        return indexer.complete();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2019 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.scanner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.smallrye.asyncapi.core.api.AsyncApiConfig;
+
+public class FilteredIndexViewTest {
+
+    @Target(ElementType.TYPE_USE)
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Marker {
+    }
+
+    public static class Included {
+
+        public List<@Marker String> names;
+
+        public void greet(List<@Marker String> names) {
+        }
+    }
+
+    public static class Excluded {
+
+        public List<@Marker String> names;
+
+        public void greet(List<@Marker String> names) {
+        }
+    }
+
+    @Test
+    public void testTypeAnnotationsFilteredByEnclosingClass() throws IOException {
+        FilteredIndexView view = new FilteredIndexView(indexOf(Included.class, Excluded.class), new AsyncApiConfig() {
+            @Override
+            public Pattern scanExcludeClasses() {
+                return Pattern.compile(Pattern.quote(Excluded.class.getName()));
+            }
+        });
+
+        Collection<AnnotationInstance> annotations = view.getAnnotations(DotName.createSimple(Marker.class.getName()));
+
+        Assert.assertEquals(2, annotations.size());
+        Set<String> classes = annotations.stream()
+                .map(annotation -> declaringClass(annotation.target()
+                        .asType()
+                        .enclosingTarget()))
+                .collect(Collectors.toSet());
+        Assert.assertEquals(Collections.singleton(Included.class.getName()), classes);
+    }
+
+    private static String declaringClass(AnnotationTarget target) {
+        switch (target.kind()) {
+            case FIELD:
+                return target.asField()
+                        .declaringClass()
+                        .name()
+                        .toString();
+            case METHOD:
+                return target.asMethod()
+                        .declaringClass()
+                        .name()
+                        .toString();
+            default:
+                return target.asClass()
+                        .name()
+                        .toString();
+        }
+    }
+
+    private static Index indexOf(Class<?>... classes) throws IOException {
+        Indexer indexer = new Indexer();
+        for (Class<?> type : classes) {
+            try (InputStream stream = type.getClassLoader()
+                    .getResourceAsStream(type.getName()
+                            .replace('.', '/') + ".class")) {
+                indexer.index(stream);
+            }
+        }
+        return indexer.complete();
+    }
+}
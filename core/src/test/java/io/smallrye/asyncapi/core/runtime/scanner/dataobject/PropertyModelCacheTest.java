@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.scanner.dataobject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+public class PropertyModelCacheTest {
+
+    public static class Greeting {
+
+        public String name;
+
+        public String text;
+    }
+
+    public static class Greetings {
+
+        @JsonIgnoreProperties("name")
+        public Greeting withoutName;
+
+        @JsonIgnoreProperties("text")
+        public Greeting withoutText;
+
+        public Greeting first;
+
+        public Greeting second;
+    }
+
+    private AugmentedIndexView index;
+
+    private IgnoreResolver ignoreResolver;
+
+    private PropertyModelCache cache;
+
+    @Before
+    public void setUp() throws IOException {
+        index = AugmentedIndexView.augment(indexOf(Greeting.class, Greetings.class));
+        ignoreResolver = new IgnoreResolver(index);
+        cache = new PropertyModelCache();
+    }
+
+    @Test
+    public void testDifferentIgnoredPropertiesResolveDifferentModels() {
+        Map<String, TypeResolver> withoutName = getAllFields("withoutName");
+        Map<String, TypeResolver> withoutText = getAllFields("withoutText");
+
+        Assert.assertNotSame(withoutName, withoutText);
+        Assert.assertTrue(withoutName.get("name")
+                .isIgnored());
+        Assert.assertFalse(withoutName.get("text")
+                .isIgnored());
+        Assert.assertFalse(withoutText.get("name")
+                .isIgnored());
+        Assert.assertTrue(withoutText.get("text")
+                .isIgnored());
+        Assert.assertEquals(0, cache.getHits());
+        Assert.assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void testSameIgnoredPropertiesShareModel() {
+        Map<String, TypeResolver> first = getAllFields("first");
+        Map<String, TypeResolver> second = getAllFields("second");
+
+        Assert.assertSame(first, second);
+        Assert.assertFalse(first.get("name")
+                .isIgnored());
+        Assert.assertEquals(1, cache.getHits());
+        Assert.assertEquals(1, cache.getMisses());
+    }
+
+    private Map<String, TypeResolver> getAllFields(String fieldName) {
+        ClassInfo greetings = index.getClassByName(DotName.createSimple(Greetings.class.getName()));
+        FieldInfo field = greetings.field(fieldName);
+        ClassInfo greeting = index.getClassByName(field.type()
+                .name());
+        return cache.getAllFields(index, ignoreResolver, field.type(), greeting, field);
+    }
+
+    private static Index indexOf(Class<?>... classes) throws IOException {
+        Indexer indexer = new Indexer();
+        for (Class<?> klazz : classes) {
+            try (InputStream stream = klazz.getClassLoader()
+                    .getResourceAsStream(klazz.getName()
+                            .replace('.', '/') + ".class")) {
+                indexer.index(stream);
+            }
+        }
+        return indexer.complete();
+    }
+}
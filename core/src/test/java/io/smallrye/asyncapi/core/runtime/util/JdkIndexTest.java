@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class JdkIndexTest {
+
+    @Test
+    public void testResourceContainsTypes() throws IOException {
+        try (InputStream stream = JdkIndex.class.getResourceAsStream(JdkIndex.RESOURCE)) {
+            Assert.assertNotNull(stream);
+            Assert.assertEquals(typeNames(), classNames(new IndexReader(stream).read()));
+        }
+    }
+
+    @Test
+    public void testMissingResourceFallsBackToBuild() {
+        Assert.assertEquals(typeNames(), classNames(JdkIndex.load("missing-jdk.idx")));
+    }
+
+    @Test
+    public void testCorruptResourceFallsBackToBuild() {
+        Assert.assertEquals(typeNames(), classNames(JdkIndex.load("corrupt-jdk.idx")));
+    }
+
+    private static Set<String> typeNames() {
+        return JdkIndex.TYPES.stream()
+                .map(Class::getName)
+                .collect(Collectors.toSet());
+    }
+
+    private static Set<String> classNames(Index index) {
+        return index.getKnownClasses()
+                .stream()
+                .map(ClassInfo::name)
+                .map(Object::toString)
+                .collect(Collectors.toSet());
+    }
+}
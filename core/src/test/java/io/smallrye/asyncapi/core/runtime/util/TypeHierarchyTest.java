@@ -0,0 +1,185 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.core.runtime.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TypeHierarchyTest {
+
+    interface Named {
+    }
+
+    interface Identified extends Named {
+    }
+
+    abstract static class Base implements Identified {
+    }
+
+    static class Child extends Base implements Comparable<Child> {
+        @Override
+        public int compareTo(Child o) {
+            return 0;
+        }
+    }
+
+    static class GrandChild extends Child {
+    }
+
+    @Test
+    public void testInterfaceClosure() throws IOException {
+        TypeHierarchy hierarchy = new TypeHierarchy(indexOf(Named.class, Identified.class));
+
+        Assert.assertEquals(Boolean.TRUE, hierarchy.isSubtype(name(Identified.class), name(Named.class)));
+        Assert.assertEquals(Boolean.TRUE, hierarchy.isSubtype(name(Identified.class), name(Object.class)));
+        Assert.assertEquals(Boolean.FALSE, hierarchy.isSubtype(name(Named.class), name(Identified.class)));
+        Assert.assertEquals(Boolean.FALSE, hierarchy.isSubtype(name(Identified.class), name(Serializable.class)));
+    }
+
+    @Test
+    public void testClassClosure() throws IOException {
+        TypeHierarchy hierarchy = new TypeHierarchy(
+                indexOf(Named.class, Identified.class, Base.class, Child.class, GrandChild.class));
+
+        for (Class<?> supertype : new Class<?>[] { Child.class, Base.class, Identified.class, Named.class,
+                Comparable.class, Object.class }) {
+            Assert.assertEquals(supertype.getName(), Boolean.TRUE,
+                    hierarchy.isSubtype(name(GrandChild.class), name(supertype)));
+        }
+        Assert.assertEquals(Boolean.FALSE, hierarchy.isSubtype(name(Base.class), name(Comparable.class)));
+        Assert.assertEquals(Boolean.FALSE, hierarchy.isSubtype(name(Child.class), name(GrandChild.class)));
+        Assert.assertEquals(Boolean.FALSE, hierarchy.isSubtype(name(GrandChild.class), name(Serializable.class)));
+    }
+
+    @Test
+    public void testJdkClosure() throws IOException {
+        TypeHierarchy hierarchy = new TypeHierarchy(indexOf());
+
+        Assert.assertEquals(Boolean.TRUE, hierarchy.isSubtype(name(ArrayList.class), name(Iterable.class)));
+        Assert.assertEquals(Boolean.TRUE, hierarchy.isSubtype(name(Integer.class), name(Number.class)));
+        Assert.assertEquals(Boolean.FALSE, hierarchy.isSubtype(name(String.class), name(Number.class)));
+    }
+
+    @Test
+    public void testMissingSuperclass() throws IOException {
+        TypeHierarchy hierarchy = new TypeHierarchy(indexOf(Child.class, GrandChild.class));
+
+        // Direct supertypes are known even if they are not indexed themselves
+        Assert.assertEquals(Boolean.TRUE, hierarchy.isSubtype(name(GrandChild.class), name(Base.class)));
+        Assert.assertEquals(Boolean.TRUE, hierarchy.isSubtype(name(GrandChild.class), name(Comparable.class)));
+        // The supertypes of the missing superclass are not
+        Assert.assertNull(hierarchy.isSubtype(name(GrandChild.class), name(Named.class)));
+        Assert.assertNull(hierarchy.isSubtype(name(GrandChild.class), name(Serializable.class)));
+        // Neither is anything about a missing subject
+        Assert.assertNull(hierarchy.isSubtype(name(Base.class), name(Named.class)));
+    }
+
+    @Test
+    public void testCounters() throws IOException {
+        TypeHierarchy hierarchy = new TypeHierarchy(indexOf(Named.class, Identified.class));
+        Assert.assertEquals(0, hierarchy.getHitRate(), 0);
+
+        hierarchy.isSubtype(name(Identified.class), name(Named.class));
+        long misses = hierarchy.getMisses();
+        long hits = hierarchy.getHits();
+        // Identified, Named and Object are computed once, Object is found in the cache for Named
+        Assert.assertEquals(3, misses);
+        Assert.assertEquals(1, hits);
+
+        hierarchy.isSubtype(name(Identified.class), name(Serializable.class));
+        Assert.assertEquals(misses, hierarchy.getMisses());
+        Assert.assertEquals(hits + 1, hierarchy.getHits());
+        Assert.assertEquals(2d / 5, hierarchy.getHitRate(), 0.0001);
+
+        hierarchy.isSubtype(name(Base.class), name(Named.class));
+        hierarchy.isSubtype(name(Base.class), name(Named.class));
+        Assert.assertEquals(misses + 1, hierarchy.getMisses());
+        Assert.assertEquals(hits + 2, hierarchy.getHits());
+
+        Assert.assertEquals(0, hierarchy.getClassLoaderLookups());
+        hierarchy.classLoaderLookup();
+        Assert.assertEquals(1, hierarchy.getClassLoaderLookups());
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        Index index = indexOf(Named.class, Identified.class, Base.class, Child.class, GrandChild.class);
+        Class<?>[] types = { GrandChild.class, Child.class, Base.class, Identified.class, Named.class,
+                Comparable.class, Serializable.class, Object.class };
+
+        for (int round = 0; round < 20; round++) {
+            TypeHierarchy hierarchy = new TypeHierarchy(index);
+            int threads = 8;
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                List<Future<Boolean>> results = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    int offset = i;
+                    results.add(executor.submit((Callable<Boolean>) () -> {
+                        start.await();
+                        for (int j = 0; j < types.length * types.length; j++) {
+                            Class<?> subject = types[(j + offset) % types.length];
+                            Class<?> object = types[(j / types.length + offset) % types.length];
+                            // A closure contains the proper supertypes only
+                            Boolean expected = !subject.equals(object) && object.isAssignableFrom(subject);
+                            if (!expected.equals(hierarchy.isSubtype(name(subject), name(object)))) {
+                                return false;
+                            }
+                        }
+                        return true;
+                    }));
+                }
+                start.countDown();
+                for (Future<Boolean> result : results) {
+                    Assert.assertTrue(result.get());
+                }
+            } finally {
+                executor.shutdown();
+            }
+        }
+    }
+
+    private static DotName name(Class<?> type) {
+        return DotName.createSimple(type.getName());
+    }
+
+    private static Index indexOf(Class<?>... classes) throws IOException {
+        Indexer indexer = new Indexer();
+        for (Class<?> type : classes) {
+            try (InputStream stream = type.getClassLoader()
+                    .getResourceAsStream(type.getName()
+                            .replace('.', '/') + ".class")) {
+                indexer.index(stream);
+            }
+        }
+        return indexer.complete();
+    }
+}
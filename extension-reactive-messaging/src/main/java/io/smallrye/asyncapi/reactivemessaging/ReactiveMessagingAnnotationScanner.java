@@ -16,15 +16,15 @@
 package io.smallrye.asyncapi.reactivemessaging;
 
 import static io.smallrye.asyncapi.reactivemessaging.ReactiveMessagingConstants.INCOMING;
-import static io.smallrye.asyncapi.reactivemessaging.ReactiveMessagingConstants.INCOMING_PREFIX;
-import static io.smallrye.asyncapi.reactivemessaging.ReactiveMessagingConstants.OUTGOING_PREFIX;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.stream.Collectors;
 
-import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.IndexView;
@@ -32,6 +32,7 @@ import org.jboss.jandex.MethodInfo;
 
 import io.smallrye.asyncapi.core.runtime.scanner.spi.AbstractAnnotationScanner;
 import io.smallrye.asyncapi.core.runtime.scanner.spi.AnnotationScannerContext;
+import io.smallrye.asyncapi.core.runtime.scanner.spi.ScanTask;
 import io.smallrye.asyncapi.reactivemessaging.io.channel.ChannelReader;
 import io.smallrye.asyncapi.reactivemessaging.io.server.ServerReader;
 import io.smallrye.asyncapi.spec.models.AsyncAPI;
@@ -40,6 +41,9 @@ import io.smallrye.asyncapi.spec.models.channel.Channels;
 
 public class ReactiveMessagingAnnotationScanner extends AbstractAnnotationScanner {
 
+  private final Map<AnnotationScannerContext, ReactiveMessagingContext> rmContexts =
+      Collections.synchronizedMap(new WeakHashMap<>());
+
   @Override
   public String getName() {
     return "Reactive Messaging";
@@ -48,8 +52,7 @@ public class ReactiveMessagingAnnotationScanner extends AbstractAnnotationScanne
   @Override
   public AsyncAPI scan(final AnnotationScannerContext context, final AsyncAPI aai) {
 
-    ReactiveMessagingContext rmContext = new ReactiveMessagingContext(
-        processProperties(INCOMING_PREFIX, context), processProperties(OUTGOING_PREFIX, context));
+    ReactiveMessagingContext rmContext = createContext(context);
 
     processServer(rmContext, aai);
 
@@ -58,6 +61,62 @@ public class ReactiveMessagingAnnotationScanner extends AbstractAnnotationScanne
     return aai;
   }
 
+  @Override
+  public boolean supportsParallelScan() {
+    return true;
+  }
+
+  @Override
+  public List<ScanTask> getScanTasks(final AnnotationScannerContext context) {
+    ReactiveMessagingContext rmContext = createContext(context);
+
+    List<ScanTask> tasks = new ArrayList<>();
+    tasks.addAll(getGlobalScanTasks(rmContext));
+    tasks.addAll(getClassScanTasks(rmContext));
+    return tasks;
+  }
+
+  @Override
+  public boolean supportsIncrementalScan() {
+    return true;
+  }
+
+  @Override
+  public List<ScanTask> getGlobalScanTasks(final AnnotationScannerContext context) {
+    return getGlobalScanTasks(createContext(context));
+  }
+
+  @Override
+  public List<ScanTask> getClassScanTasks(final AnnotationScannerContext context) {
+    return getClassScanTasks(createContext(context));
+  }
+
+  @Override
+  public String getIncrementalScanKey(final AnnotationScannerContext context) {
+    // The channels scanned depend on the configured messaging properties
+    return createContext(context).getAllChannels()
+        .stream()
+        .map(ReactiveMessagingProperty::toString)
+        .sorted()
+        .collect(Collectors.joining(",", getName() + "[", "]"));
+  }
+
+  private List<ScanTask> getGlobalScanTasks(final ReactiveMessagingContext rmContext) {
+    return Collections.singletonList((ctx, aai) -> processServer(rmContext, aai));
+  }
+
+  private List<ScanTask> getClassScanTasks(final ReactiveMessagingContext rmContext) {
+    return Arrays.asList(
+        (ctx, aai) -> processOutgoingChannels(ctx, rmContext, aai),
+        (ctx, aai) -> processIncomingChannels(ctx, rmContext, aai));
+  }
+
+  private ReactiveMessagingContext createContext(final AnnotationScannerContext context) {
+    // Built once per scan, the tasks of a scan are created from the same context
+    return rmContexts.computeIfAbsent(context,
+        c -> ReactiveMessagingContext.of(ConfigProvider.getConfig(c.getClassLoader())));
+  }
+
   private void processServer(final ReactiveMessagingContext rmContext,
       final AsyncAPI aai) {
     ServerReader serverReader = new ServerReader(rmContext, aai);
@@ -65,8 +124,16 @@ public class ReactiveMessagingAnnotationScanner extends AbstractAnnotationScanne
   }
 
   private void processChannels(final AnnotationScannerContext context, final ReactiveMessagingContext rmContext, final AsyncAPI aai) {
+    processOutgoingChannels(context, rmContext, aai);
+    processIncomingChannels(context, rmContext, aai);
+  }
+
+  private void processOutgoingChannels(final AnnotationScannerContext context, final ReactiveMessagingContext rmContext, final AsyncAPI aai) {
     getOutgoingMethods(context.getIndex())
         .forEach(methodInfo -> processOutgoingChannel(context, rmContext, methodInfo, aai.getChannels()));
+  }
+
+  private void processIncomingChannels(final AnnotationScannerContext context, final ReactiveMessagingContext rmContext, final AsyncAPI aai) {
     getIncomingMethods(context.getIndex())
         .forEach(methodInfo -> processIncomingChannel(context, rmContext, methodInfo, aai.getChannels()));
   }
@@ -102,31 +169,4 @@ public class ReactiveMessagingAnnotationScanner extends AbstractAnnotationScanne
         .distinct() // CompositeIndex instances may return duplicates
         .collect(Collectors.toList());
   }
-
-  private List<ReactiveMessagingProperty> processProperties(final String prefix, final AnnotationScannerContext context) {
-    HashMap<String, String> properties = new HashMap<>();
-
-    Config config = ConfigProvider.getConfig(context.getClassLoader());
-    config.getConfigSources().forEach(configSource -> {
-      properties.putAll(configSource.getProperties());
-    });
-
-    List<ReactiveMessagingProperty> channels = new ArrayList<>();
-
-    properties.forEach((o, o2) -> {
-      String key = String.valueOf(o);
-      String value = String.valueOf(o2);
-
-      if (key.startsWith(prefix)) {
-        String tmp = key.substring(prefix.length());
-        String channel = tmp.substring(0, tmp.indexOf('.'));
-        String attribute = tmp.substring(tmp.indexOf('.') + 1);
-
-        ReactiveMessagingProperty property = new ReactiveMessagingProperty(prefix, channel, attribute, value);
-        channels.add(property);
-      }
-    });
-
-    return channels;
-  }
 }
@@ -23,6 +23,8 @@ public class ReactiveMessagingConstants {
 
     static final DotName INCOMING = DotName.createSimple("org.eclipse.microprofile.reactive.messaging.Incoming");
 
+    static final String MESSAGING_PREFIX = "mp.messaging.";
+
     static final String CONNECTOR_PREFIX = "mp.messaging.connector.";
 
     static final String INCOMING_PREFIX = "mp.messaging.incoming.";
@@ -15,24 +15,116 @@
  */
 package io.smallrye.asyncapi.reactivemessaging;
 
+import static io.smallrye.asyncapi.reactivemessaging.ReactiveMessagingConstants.IN;
+import static io.smallrye.asyncapi.reactivemessaging.ReactiveMessagingConstants.INCOMING_PREFIX;
+import static io.smallrye.asyncapi.reactivemessaging.ReactiveMessagingConstants.MESSAGING_PREFIX;
+import static io.smallrye.asyncapi.reactivemessaging.ReactiveMessagingConstants.OUTGOING_PREFIX;
+
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.spi.ConfigSource;
 
+/**
+ * Immutable view of the {@code mp.messaging.*} channel properties of a scan, indexed by direction, channel and
+ * attribute.
+ */
 public class ReactiveMessagingContext {
 
+  private static final String CLOUD_EVENTS = "cloud-events";
+
   private final List<ReactiveMessagingProperty> incomingChannels;
 
   private final List<ReactiveMessagingProperty> outgoingChannels;
 
-  private List<ReactiveMessagingProperty> allChannels;
+  private final List<ReactiveMessagingProperty> allChannels;
+
+  private final Map<String, Map<String, ReactiveMessagingProperty>> incomingByChannel;
+
+  private final Map<String, Map<String, ReactiveMessagingProperty>> outgoingByChannel;
+
+  private final Set<String> cloudEventChannels;
 
   public ReactiveMessagingContext(final List<ReactiveMessagingProperty> in, final List<ReactiveMessagingProperty> out) {
-    this.incomingChannels = in;
-    this.outgoingChannels = out;
+    this.incomingChannels = Collections.unmodifiableList(new ArrayList<>(in));
+    this.outgoingChannels = Collections.unmodifiableList(new ArrayList<>(out));
+
+    List<ReactiveMessagingProperty> all = new ArrayList<>(in);
+    all.addAll(out);
+    this.allChannels = Collections.unmodifiableList(all);
+
+    this.incomingByChannel = byChannel(in);
+    this.outgoingByChannel = byChannel(out);
+
+    Set<String> cloudEvents = new HashSet<>();
+    for (ReactiveMessagingProperty property : all) {
+      if (property.getAttribute().startsWith(CLOUD_EVENTS)) {
+        cloudEvents.add(property.getChannel());
+      }
+    }
+    this.cloudEventChannels = Collections.unmodifiableSet(cloudEvents);
+  }
+
+  /**
+   * Collect the channel properties of all config sources in a single pass. A property defined by several sources has
+   * the value of the source with the highest ordinal.
+   *
+   * @param config the configuration
+   * @return the view of the channel properties
+   */
+  public static ReactiveMessagingContext of(final Config config) {
+    Map<String, String> properties = new HashMap<>();
+    // Config sources are ordered by descending ordinal
+    for (ConfigSource configSource : config.getConfigSources()) {
+      for (Map.Entry<String, String> property : configSource.getProperties().entrySet()) {
+        if (property.getKey().startsWith(MESSAGING_PREFIX)) {
+          properties.putIfAbsent(property.getKey(), String.valueOf(property.getValue()));
+        }
+      }
+    }
+
+    List<ReactiveMessagingProperty> in = new ArrayList<>();
+    List<ReactiveMessagingProperty> out = new ArrayList<>();
+    properties.forEach((key, value) -> {
+      if (key.startsWith(INCOMING_PREFIX)) {
+        addProperty(in, INCOMING_PREFIX, key, value);
+      } else if (key.startsWith(OUTGOING_PREFIX)) {
+        addProperty(out, OUTGOING_PREFIX, key, value);
+      }
+    });
+
+    return new ReactiveMessagingContext(in, out);
+  }
+
+  private static void addProperty(final List<ReactiveMessagingProperty> properties, final String prefix,
+      final String key, final String value) {
+    String tmp = key.substring(prefix.length());
+    int separator = tmp.indexOf('.');
+    if (separator < 0) {
+      // Not a channel attribute
+      return;
+    }
+
+    properties.add(new ReactiveMessagingProperty(prefix, tmp.substring(0, separator), tmp.substring(separator + 1),
+        value));
+  }
 
-    this.allChannels = new ArrayList<>();
-    this.allChannels.addAll(in);
-    this.allChannels.addAll(out);
+  private static Map<String, Map<String, ReactiveMessagingProperty>> byChannel(
+      final List<ReactiveMessagingProperty> properties) {
+    Map<String, Map<String, ReactiveMessagingProperty>> byChannel = new HashMap<>();
+    for (ReactiveMessagingProperty property : properties) {
+      byChannel.computeIfAbsent(property.getChannel(), channel -> new LinkedHashMap<>())
+          .putIfAbsent(property.getAttribute(), property);
+    }
+    return byChannel;
   }
 
   public List<ReactiveMessagingProperty> getIncomingChannels() {
@@ -46,4 +138,48 @@ public class ReactiveMessagingContext {
   public List<ReactiveMessagingProperty> getAllChannels() {
     return allChannels;
   }
+
+  /**
+   * @param channel name of the channel
+   * @param attribute name of the attribute
+   * @return the value of the attribute of the incoming channel, or null if not configured
+   */
+  public String getIncomingValue(final String channel, final String attribute) {
+    return getValue(incomingByChannel, channel, attribute);
+  }
+
+  /**
+   * @param channel name of the channel
+   * @param attribute name of the attribute
+   * @return the value of the attribute of the outgoing channel, or null if not configured
+   */
+  public String getOutgoingValue(final String channel, final String attribute) {
+    return getValue(outgoingByChannel, channel, attribute);
+  }
+
+  /**
+   * @param property a property of a channel
+   * @return all properties of the same direction and channel
+   */
+  public Collection<ReactiveMessagingProperty> getChannelProperties(final ReactiveMessagingProperty property) {
+    Map<String, Map<String, ReactiveMessagingProperty>> byChannel =
+        IN.equals(property.getType()) ? incomingByChannel : outgoingByChannel;
+    Map<String, ReactiveMessagingProperty> attributes = byChannel.get(property.getChannel());
+    return attributes != null ? Collections.unmodifiableCollection(attributes.values()) : Collections.emptyList();
+  }
+
+  /**
+   * @param channel name of the channel
+   * @return whether the channel is configured as a cloud-event channel by any {@code cloud-events} attribute
+   */
+  public boolean isCloudEvent(final String channel) {
+    return cloudEventChannels.contains(channel);
+  }
+
+  private static String getValue(final Map<String, Map<String, ReactiveMessagingProperty>> byChannel,
+      final String channel, final String attribute) {
+    Map<String, ReactiveMessagingProperty> attributes = byChannel.get(channel);
+    ReactiveMessagingProperty property = attributes != null ? attributes.get(attribute) : null;
+    return property != null ? property.getValue() : null;
+  }
 }
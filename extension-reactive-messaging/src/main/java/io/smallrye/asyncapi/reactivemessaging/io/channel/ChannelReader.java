@@ -16,7 +16,6 @@
 package io.smallrye.asyncapi.reactivemessaging.io.channel;
 
 import io.smallrye.asyncapi.reactivemessaging.ReactiveMessagingContext;
-import io.smallrye.asyncapi.reactivemessaging.ReactiveMessagingProperty;
 import org.jboss.jandex.AnnotationInstance;
 
 import io.smallrye.asyncapi.core.api.models.channel.ChannelItemImpl;
@@ -26,8 +25,6 @@ import io.smallrye.asyncapi.reactivemessaging.io.ReactiveMessagingLogging;
 import io.smallrye.asyncapi.reactivemessaging.io.operation.OperationReader;
 import io.smallrye.asyncapi.spec.models.channel.ChannelItem;
 
-import java.util.List;
-
 public class ChannelReader {
 
     public static ChannelItem readOutgoing(final AnnotationScannerContext context, final ReactiveMessagingContext rmContext, final AnnotationInstance instance) {
@@ -67,20 +64,15 @@ public class ChannelReader {
 
         switch(type){
         case "Outgoing":
-            return getTopic(rmContext.getOutgoingChannels(), channel);
+            return topicOrChannel(rmContext.getOutgoingValue(channel, "topic"), channel);
         case "Incoming":
-            return getTopic(rmContext.getIncomingChannels(), channel);
+            return topicOrChannel(rmContext.getIncomingValue(channel, "topic"), channel);
         }
 
         return channel;
     }
 
-    private static String getTopic(final List<ReactiveMessagingProperty> source, final String channel) {
-        return source
-            .stream()
-            .filter(property -> channel.equals(property.getChannel()) && "topic".equals(property.getAttribute()))
-            .map(property -> property.getValue())
-            .findFirst()
-            .orElse(channel);
+    private static String topicOrChannel(final String topic, final String channel) {
+        return topic != null ? topic : channel;
     }
 }
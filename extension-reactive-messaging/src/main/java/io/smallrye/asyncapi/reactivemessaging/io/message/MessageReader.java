@@ -57,7 +57,7 @@ public class MessageReader {
         }
 
         Schema payload = SchemaReader.readReturnType(context, instance);
-        payload = CloudEventConfigReader.readCloudEventFromConfig(instance, context, payload);
+        payload = CloudEventConfigReader.readCloudEventFromConfig(instance, context, rmContext, payload);
 
         message.setPayload(payload);
 
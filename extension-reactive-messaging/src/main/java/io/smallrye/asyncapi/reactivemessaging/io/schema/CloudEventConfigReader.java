@@ -16,22 +16,19 @@
 package io.smallrye.asyncapi.reactivemessaging.io.schema;
 
 import io.smallrye.asyncapi.core.runtime.scanner.spi.AnnotationScannerContext;
+import io.smallrye.asyncapi.reactivemessaging.ReactiveMessagingContext;
 import io.smallrye.asyncapi.reactivemessaging.util.CloudEventUtil;
 import io.smallrye.asyncapi.spec.models.schema.Schema;
-import org.eclipse.microprofile.config.Config;
-import org.eclipse.microprofile.config.ConfigProvider;
-import org.eclipse.microprofile.config.spi.ConfigSource;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationValue;
 
-import java.util.concurrent.atomic.AtomicBoolean;
-
 public class CloudEventConfigReader {
 
-  public static Schema readCloudEventFromConfig(final AnnotationInstance instance, final AnnotationScannerContext context, final Schema payload) {
+  public static Schema readCloudEventFromConfig(final AnnotationInstance instance, final AnnotationScannerContext context,
+      final ReactiveMessagingContext rmContext, final Schema payload) {
     AnnotationValue value = instance.value("value");
 
-    if (isCloudEvent(context, value)) {
+    if (isCloudEvent(rmContext, value)) {
       return CloudEventUtil.createCloudEventSchema(payload, context, instance);
     }
 
@@ -41,29 +38,11 @@ public class CloudEventConfigReader {
   /**
    * Checks whether the channel is defined as a cloud-event via config
    *
-   * @param context annotation context
+   * @param rmContext the channel properties of the scan
    * @param value current annotation value
    * @return whether the channel is defined as a cloud-event via config
    */
-  public static boolean isCloudEvent(final AnnotationScannerContext context, final AnnotationValue value) {
-    AtomicBoolean containsCloudEvent = new AtomicBoolean(false);
-    Config config = ConfigProvider.getConfig(context.getClassLoader());
-    config.getConfigSources()
-        .forEach(configSource -> {
-          if (hasCloudEventProperty(configSource, value)) {
-            containsCloudEvent.set(true);
-          }
-        });
-
-    return containsCloudEvent.get();
-  }
-
-  private static boolean hasCloudEventProperty(final ConfigSource configSource, final AnnotationValue value) {
-    String format = String.format("%s.cloud-events", value.value());
-
-    return configSource.getProperties()
-        .entrySet()
-        .stream()
-        .anyMatch(stringStringEntry -> stringStringEntry.getKey().contains(format));
+  public static boolean isCloudEvent(final ReactiveMessagingContext rmContext, final AnnotationValue value) {
+    return rmContext.isCloudEvent(value.asString());
   }
 }
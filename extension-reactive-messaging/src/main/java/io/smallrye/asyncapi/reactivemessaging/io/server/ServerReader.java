@@ -20,7 +20,9 @@ import java.util.List;
 import java.util.TreeSet;
 import java.util.stream.Collectors;
 
+import io.smallrye.asyncapi.core.api.models.AsyncAPIImpl;
 import io.smallrye.asyncapi.core.api.models.server.ServerImpl;
+import io.smallrye.asyncapi.core.api.util.MergeUtil;
 import io.smallrye.asyncapi.reactivemessaging.ReactiveMessagingContext;
 import io.smallrye.asyncapi.reactivemessaging.ReactiveMessagingProperty;
 import io.smallrye.asyncapi.spec.models.AsyncAPI;
@@ -76,7 +78,10 @@ public class ServerReader {
             return;
         }
 
-        this.aai.setServers(getUniqueServer(servers));
+        // merge with the servers of the @AsyncAPI definitions instead of replacing them
+        AsyncAPI document = new AsyncAPIImpl();
+        document.setServers(getUniqueServer(servers));
+        MergeUtil.merge(this.aai, document);
     }
     // remove server if url is already used
     private List<Server> getUniqueServer(final List<Server> servers){
@@ -108,12 +113,7 @@ public class ServerReader {
     }
 
     private String getURL(final ReactiveMessagingProperty property) {
-        ArrayList<ReactiveMessagingProperty> channels = new ArrayList<>();
-        channels.addAll(this.rmContext.getIncomingChannels());
-        channels.addAll(this.rmContext.getOutgoingChannels());
-
-        return channels.stream()
-                .filter(property::isSameTypeAndChannel)
+        return this.rmContext.getChannelProperties(property).stream()
                 .filter(ServerReader::isBootstrapURL)
                 .map(ReactiveMessagingProperty::getValue)
                 .findFirst()
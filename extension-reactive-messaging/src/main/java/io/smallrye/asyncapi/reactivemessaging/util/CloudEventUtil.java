@@ -17,6 +17,7 @@ package io.smallrye.asyncapi.reactivemessaging.util;
 
 import io.smallrye.asyncapi.core.api.models.schema.SchemaImpl;
 import io.smallrye.asyncapi.core.runtime.scanner.spi.AnnotationScannerContext;
+import io.smallrye.asyncapi.core.runtime.util.ModelUtil;
 import io.smallrye.asyncapi.spec.annotations.schema.SchemaType;
 import io.smallrye.asyncapi.spec.models.schema.Schema;
 import org.jboss.jandex.AnnotationInstance;
@@ -159,8 +160,7 @@ public class CloudEventUtil {
 
     String key = String.format(CLOUD_EVENT_FORMAT, name);
 
-    context.getAsyncAPI()
-        .getComponents()
+    ModelUtil.components(context.getAsyncAPI())
         .addSchema(key, schema);
 
     String ref = String.format(COMPONENTS_SCHEMAS_FORMAT, key);
@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.reactivemessaging;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.eclipse.microprofile.config.Config;
+import org.eclipse.microprofile.config.spi.ConfigSource;
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+public class ReactiveMessagingContextTest {
+
+    @Test
+    public void testHighestOrdinalWins() {
+        Map<String, String> low = new HashMap<>();
+        low.put("mp.messaging.incoming.prices.topic", "low-topic");
+        low.put("mp.messaging.incoming.prices.connector", "smallrye-kafka");
+        Map<String, String> high = new HashMap<>();
+        high.put("mp.messaging.incoming.prices.topic", "high-topic");
+
+        ReactiveMessagingContext lowFirst = ReactiveMessagingContext.of(config(
+                new PropertiesConfigSource(low, "low", 100),
+                new PropertiesConfigSource(high, "high", 500)));
+        ReactiveMessagingContext highFirst = ReactiveMessagingContext.of(config(
+                new PropertiesConfigSource(high, "high", 500),
+                new PropertiesConfigSource(low, "low", 100)));
+
+        for (ReactiveMessagingContext context : Arrays.asList(lowFirst, highFirst)) {
+            Assert.assertEquals("high-topic", context.getIncomingValue("prices", "topic"));
+            Assert.assertEquals("smallrye-kafka", context.getIncomingValue("prices", "connector"));
+            Assert.assertEquals(2, context.getIncomingChannels()
+                    .size());
+        }
+    }
+
+    @Test
+    public void testChannelNamesSharingPrefix() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("mp.messaging.incoming.prices.topic", "prices-topic");
+        properties.put("mp.messaging.incoming.prices-eu.topic", "prices-eu-topic");
+        properties.put("mp.messaging.incoming.prices-eu.cloud-events-type", "price");
+        properties.put("mp.messaging.outgoing.price.topic", "price-topic");
+        properties.put("mp.messaging.incoming.prices", "not a channel attribute");
+
+        ReactiveMessagingContext context = ReactiveMessagingContext.of(config(
+                new PropertiesConfigSource(properties, "test", 100)));
+
+        Assert.assertEquals("prices-topic", context.getIncomingValue("prices", "topic"));
+        Assert.assertEquals("prices-eu-topic", context.getIncomingValue("prices-eu", "topic"));
+        Assert.assertNull(context.getIncomingValue("price", "topic"));
+        Assert.assertEquals("price-topic", context.getOutgoingValue("price", "topic"));
+
+        Assert.assertTrue(context.isCloudEvent("prices-eu"));
+        Assert.assertFalse(context.isCloudEvent("prices"));
+        Assert.assertFalse(context.isCloudEvent("price"));
+
+        ReactiveMessagingProperty prices = context.getIncomingChannels()
+                .stream()
+                .filter(property -> property.getChannel()
+                        .equals("prices"))
+                .findFirst()
+                .orElseThrow(AssertionError::new);
+        Assert.assertEquals(new HashSet<>(Arrays.asList("topic")), context.getChannelProperties(prices)
+                .stream()
+                .map(ReactiveMessagingProperty::getAttribute)
+                .collect(Collectors.toSet()));
+    }
+
+    private static Config config(ConfigSource... configSources) {
+        return new SmallRyeConfigBuilder().withSources(configSources)
+                .build();
+    }
+}
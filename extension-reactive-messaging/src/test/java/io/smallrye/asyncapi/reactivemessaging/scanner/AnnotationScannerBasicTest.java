@@ -15,22 +15,50 @@
  */
 package io.smallrye.asyncapi.reactivemessaging.scanner;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.jboss.jandex.DotName;
 import org.jboss.jandex.Index;
 import org.json.JSONException;
 import org.junit.After;
+import org.junit.Assert;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import io.smallrye.asyncapi.core.api.constants.AsyncApiConstants;
+import io.smallrye.asyncapi.core.runtime.AsyncApiFormat;
+import io.smallrye.asyncapi.core.runtime.io.AsyncApiSerializer;
 import io.smallrye.asyncapi.core.runtime.scanner.AsyncApiAnnotationScanner;
+import io.smallrye.asyncapi.core.runtime.scanner.IncrementalScanState;
 import io.smallrye.asyncapi.spec.models.AsyncAPI;
+import io.smallrye.asyncapi.spec.models.server.Server;
+import io.smallrye.asyncapi.spec.models.tag.Tag;
+import test.io.smallrye.asyncapi.runtime.scanner.resources.Greeting;
+import test.io.smallrye.asyncapi.runtime.scanner.resources.GreetingApi;
 import test.io.smallrye.asyncapi.runtime.scanner.resources.GreetingChannel;
 
 public class AnnotationScannerBasicTest extends ReactiveMessagingDataObjectScannerTestBase {
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     private static final String OUTGOING_HELLO_CONNECTOR = "mp.messaging.outgoing.hello.connector";
     private static final String OUTGOING_HELLO_TOPIC = "mp.messaging.outgoing.hello.topic";
     private static final String OUTGOING_HELLO_BOOTSTRAP_SERVER = "mp.messaging.outgoing.hello.bootstrap.servers";
@@ -78,6 +106,171 @@ public class AnnotationScannerBasicTest extends ReactiveMessagingDataObjectScann
         assertJsonEquals("asyncapi.json", result);
     }
 
+    @Test
+    public void testGreetingChannelParallelScanning() throws IOException, JSONException {
+        Index i = indexOf(GreetingChannel.class);
+
+        AsyncAPI sequential = new AsyncApiAnnotationScanner(emptyConfig(), i).scan();
+
+        Map<String, Object> config = new HashMap<>();
+        config.put(AsyncApiConstants.SCAN_PARALLEL, true);
+        config.put(AsyncApiConstants.SCAN_PARALLELISM, 4);
+        AsyncAPI parallel = new AsyncApiAnnotationScanner(dynamicConfig(config), i).scan();
+
+        assertJsonEquals("asyncapi.json", parallel);
+        Assert.assertEquals(AsyncApiSerializer.serialize(sequential, AsyncApiFormat.JSON),
+                AsyncApiSerializer.serialize(parallel, AsyncApiFormat.JSON));
+    }
+
+    @Test
+    public void testGreetingChannelParallelScanningSharedSchemaRegistry() throws IOException, JSONException {
+        Index i = indexOf(GreetingChannel.class, Greeting.class);
+
+        Map<String, Object> config = new HashMap<>();
+        config.put(AsyncApiConstants.SCAN_PARALLEL, true);
+        config.put(AsyncApiConstants.SCAN_PARALLELISM, 4);
+        config.put(AsyncApiConstants.SCAN_PARALLEL_SHARED_SCHEMA_REGISTRY, true);
+        AsyncAPI parallel = new AsyncApiAnnotationScanner(dynamicConfig(config), i).scan();
+        AsyncAPI again = new AsyncApiAnnotationScanner(dynamicConfig(config), i).scan();
+
+        assertJsonEquals("asyncapi.json", parallel);
+        Assert.assertEquals(AsyncApiSerializer.serialize(parallel, AsyncApiFormat.JSON),
+                AsyncApiSerializer.serialize(again, AsyncApiFormat.JSON));
+    }
+
+    @Test
+    public void testMultipleScannersParallelScanning() throws IOException {
+        Index i = indexOf(GreetingApi.class, GreetingChannel.class, Greeting.class);
+
+        Map<String, Object> config = new HashMap<>();
+        config.put(AsyncApiConstants.SCAN_PARALLEL, true);
+        config.put(AsyncApiConstants.SCAN_PARALLELISM, 4);
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { getClass().getResource("/multiple-scanners/") },
+                getClass().getClassLoader())) {
+            AsyncAPI sequential = new AsyncApiAnnotationScanner(emptyConfig(), loader, i).scan();
+            AsyncAPI parallel = new AsyncApiAnnotationScanner(dynamicConfig(config), loader, i).scan();
+
+            Assert.assertEquals("Generated for " + sequential.getInfo().getTitle(), sequential.getInfo().getDescription());
+            Assert.assertEquals(Arrays.asList("greetings", "generated"),
+                    sequential.getTags().stream().map(Tag::getName).collect(Collectors.toList()));
+            Assert.assertTrue(sequential.getServers().stream().map(Server::getName).collect(Collectors.toList())
+                    .containsAll(Arrays.asList("production", "generated")));
+
+            Assert.assertEquals(AsyncApiSerializer.serialize(sequential, AsyncApiFormat.JSON),
+                    AsyncApiSerializer.serialize(parallel, AsyncApiFormat.JSON));
+        }
+    }
+
+    @Test
+    public void testGreetingChannelIncrementalScanning() throws IOException, JSONException {
+        Index i = indexOf(GreetingChannel.class, Greeting.class);
+        IncrementalScanState state = new IncrementalScanState();
+
+        AsyncAPI initial = new AsyncApiAnnotationScanner(emptyConfig(), i).scanIncrementally(state, null);
+        assertJsonEquals("asyncapi.json", initial);
+        Assert.assertEquals(0, state.getReusedClasses());
+
+        AsyncAPI unchanged = new AsyncApiAnnotationScanner(emptyConfig(), i).scanIncrementally(state,
+                Collections.emptySet());
+        assertJsonEquals("asyncapi.json", unchanged);
+        Assert.assertEquals(0, state.getScannedClasses());
+
+        AsyncAPI changed = new AsyncApiAnnotationScanner(emptyConfig(), i).scanIncrementally(state,
+                Collections.singleton(DotName.createSimple(GreetingChannel.class.getName())));
+        assertJsonEquals("asyncapi.json", changed);
+        Assert.assertEquals(1, state.getScannedClasses());
+    }
+
+    @Test
+    public void testGreetingChannelIncrementalScanningChangedPayload() throws IOException, JSONException {
+        Index i = indexOf(GreetingChannel.class, Greeting.class);
+        IncrementalScanState state = new IncrementalScanState();
+        new AsyncApiAnnotationScanner(emptyConfig(), i).scanIncrementally(state, null);
+
+        AsyncAPI changed = new AsyncApiAnnotationScanner(emptyConfig(), i).scanIncrementally(state,
+                Collections.singleton(DotName.createSimple(Greeting.class.getName())));
+        assertJsonEquals("asyncapi.json", changed);
+        Assert.assertEquals(1, state.getScannedClasses());
+        Assert.assertEquals(0, state.getReusedClasses());
+    }
+
+    @Test
+    public void testGreetingChannelIncrementalScanningFromCache() throws IOException, JSONException {
+        Index i = indexOf(GreetingChannel.class, Greeting.class);
+        IncrementalScanState state = new IncrementalScanState();
+        new AsyncApiAnnotationScanner(emptyConfig(), i).scanIncrementally(state, null);
+
+        ByteArrayOutputStream cache = new ByteArrayOutputStream();
+        state.write(cache);
+        IncrementalScanState cached = IncrementalScanState.read(new ByteArrayInputStream(cache.toByteArray()));
+
+        AsyncAPI result = new AsyncApiAnnotationScanner(emptyConfig(), i).scanIncrementally(cached, null);
+        assertJsonEquals("asyncapi.json", result);
+        Assert.assertEquals(0, cached.getScannedClasses());
+        Assert.assertEquals(1, cached.getReusedClasses());
+    }
+
+    @Test
+    public void testGreetingChannelIncrementalScanningFromCacheFile() throws IOException, JSONException {
+        Index i = indexOf(GreetingChannel.class, Greeting.class);
+        IncrementalScanState state = new IncrementalScanState();
+        new AsyncApiAnnotationScanner(emptyConfig(), i).scanIncrementally(state, null);
+
+        Path cacheFile = temporaryFolder.getRoot().toPath().resolve("target").resolve("scan-cache.bin");
+        state.write(cacheFile);
+        state.write(cacheFile);
+        Assert.assertEquals(Collections.singletonList(cacheFile), list(cacheFile.getParent()));
+
+        IncrementalScanState cached = IncrementalScanState.read(cacheFile);
+        Assert.assertNotNull(cached);
+        AsyncAPI result = new AsyncApiAnnotationScanner(emptyConfig(), i).scanIncrementally(cached, null);
+        assertJsonEquals("asyncapi.json", result);
+        Assert.assertEquals(0, cached.getScannedClasses());
+        Assert.assertEquals(1, cached.getReusedClasses());
+    }
+
+    @Test
+    public void testGreetingChannelIncrementalScanningCorruptCacheFile() throws IOException, JSONException {
+        Index i = indexOf(GreetingChannel.class, Greeting.class);
+        IncrementalScanState state = new IncrementalScanState();
+        new AsyncApiAnnotationScanner(emptyConfig(), i).scanIncrementally(state, null);
+
+        Path cacheFile = temporaryFolder.newFile("scan-cache.bin").toPath();
+        state.write(cacheFile);
+        byte[] truncated = Arrays.copyOf(Files.readAllBytes(cacheFile), 32);
+        Files.write(cacheFile, truncated);
+        Assert.assertNull(IncrementalScanState.read(cacheFile));
+
+        Files.write(cacheFile, "not a scan cache".getBytes(StandardCharsets.UTF_8));
+        Assert.assertNull(IncrementalScanState.read(cacheFile));
+        Assert.assertNull(IncrementalScanState.read(cacheFile.resolveSibling("missing.bin")));
+
+        IncrementalScanState rescanned = new IncrementalScanState();
+        AsyncAPI result = new AsyncApiAnnotationScanner(emptyConfig(), i).scanIncrementally(rescanned, null);
+        assertJsonEquals("asyncapi.json", result);
+        Assert.assertEquals(1, rescanned.getScannedClasses());
+    }
+
+    @Test
+    public void testGreetingChannelIncrementalScanningUnwritableCacheFile() throws IOException {
+        Index i = indexOf(GreetingChannel.class, Greeting.class);
+        IncrementalScanState state = new IncrementalScanState();
+        new AsyncApiAnnotationScanner(emptyConfig(), i).scanIncrementally(state, null);
+
+        // The parent of the cache file is a regular file, so writing fails
+        File parent = temporaryFolder.newFile("target");
+        state.write(parent.toPath().resolve("scan-cache.bin"));
+
+        Assert.assertEquals(Collections.singletonList(parent.toPath()), list(temporaryFolder.getRoot().toPath()));
+    }
+
+    private static List<Path> list(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
     @After
     public void tearDown(){
         System.clearProperty(OUTGOING_HELLO_CONNECTOR);
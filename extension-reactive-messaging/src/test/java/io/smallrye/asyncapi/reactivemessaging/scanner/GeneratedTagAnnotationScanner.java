@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.reactivemessaging.scanner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.smallrye.asyncapi.core.api.models.server.ServerImpl;
+import io.smallrye.asyncapi.core.api.models.tag.TagImpl;
+import io.smallrye.asyncapi.core.runtime.scanner.spi.AnnotationScanner;
+import io.smallrye.asyncapi.core.runtime.scanner.spi.AnnotationScannerContext;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+import io.smallrye.asyncapi.spec.models.server.Server;
+import io.smallrye.asyncapi.spec.models.tag.Tag;
+
+/**
+ * A second scanner, registered for tests only, which extends the info, servers and tags of the @AsyncAPI definitions.
+ */
+public class GeneratedTagAnnotationScanner implements AnnotationScanner {
+
+    @Override
+    public String getName() {
+        return "GeneratedTag";
+    }
+
+    @Override
+    public AsyncAPI scan(AnnotationScannerContext annotationScannerContext, AsyncAPI aai) {
+        if (aai.getInfo() != null) {
+            aai.getInfo()
+                    .setDescription("Generated for " + aai.getInfo()
+                            .getTitle());
+        }
+
+        Tag tag = new TagImpl();
+        tag.setName("generated");
+        List<Tag> tags = aai.getTags() != null ? new ArrayList<>(aai.getTags()) : new ArrayList<>();
+        tags.add(tag);
+        aai.setTags(tags);
+
+        Server server = new ServerImpl();
+        server.setName("generated");
+        server.setUrl("localhost:9094");
+        server.setProtocol("kafka");
+        List<Server> servers = aai.getServers() != null ? new ArrayList<>(aai.getServers()) : new ArrayList<>();
+        servers.add(server);
+        aai.setServers(servers);
+
+        return aai;
+    }
+
+    @Override
+    public void setContextRoot(String path) {
+    }
+
+    @Override
+    public boolean supportsParallelScan() {
+        return true;
+    }
+}
@@ -0,0 +1,341 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.mavenplugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.microprofile.config.Config;
+import org.jboss.jandex.IndexView;
+
+import io.smallrye.asyncapi.core.api.AsyncApiConfig;
+import io.smallrye.asyncapi.core.api.AsyncApiConfigImpl;
+import io.smallrye.asyncapi.core.runtime.AsyncApiFormat;
+import io.smallrye.asyncapi.core.runtime.AsyncApiProcessor;
+import io.smallrye.asyncapi.core.runtime.io.AsyncApiSerializer;
+import io.smallrye.asyncapi.core.runtime.scanner.ClasspathIndexer;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+/**
+ * Generates the AsyncAPI document of a project at build time, so that services not running on Quarkus do not have to
+ * scan their classes at startup.
+ * <p>
+ * The classes of the project and the dependencies selected by the configuration are indexed by the
+ * {@link ClasspathIndexer}, then the document is created as by {@link AsyncApiProcessor#bootstrap(AsyncApiConfig,
+ * IndexView, ClassLoader)}: the static files, the scanned annotations, the model reader and the filter of the project
+ * are merged, and the result is written as JSON and YAML. The configuration is read from the
+ * <code>META-INF/microprofile-config.properties</code> of the project, overridden by the {@link #properties} of the
+ * plugin. Scanners other than those of the core, such as the reactive messaging extension, are added as dependencies
+ * of the plugin.
+ * <p>
+ * Generation is skipped if the hash of the inputs, i.e. the content of the classes directory, the dependencies, the
+ * configuration and the version and dependencies of the plugin, is the same as for the files generated last. If no
+ * document is generated, the files generated before are deleted. The indexes of the dependencies are cached in the
+ * {@link #cacheDirectory}. Every project uses a class loader of its own and all files are written atomically, so the
+ * goal is safe for parallel builds.
+ */
+@Mojo(name = "generate", defaultPhase = LifecyclePhase.PROCESS_CLASSES, requiresDependencyResolution = ResolutionScope.COMPILE_PLUS_RUNTIME, threadSafe = true)
+public class GenerateMojo extends AbstractMojo {
+
+    private static final String CONFIG_PREFIX = "mp.asyncapi.";
+
+    private static final String INPUTS_FILE = "inputs.sha256";
+
+    private static final String INDEX_CACHE_DIRECTORY = "index";
+
+    private static final int PROPERTIES_ORDINAL = 500;
+
+    @Parameter(defaultValue = "${project}", readonly = true, required = true)
+    private MavenProject project;
+
+    @Parameter(defaultValue = "${plugin}", readonly = true, required = true)
+    private PluginDescriptor plugin;
+
+    /**
+     * The directory of the compiled classes of the project.
+     */
+    @Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+    private File classesDirectory;
+
+    /**
+     * The directory the documents are written to. It must not be a directory the static files are read from, e.g.
+     * <code>META-INF/asyncapi</code> of the classes directory.
+     */
+    @Parameter(property = "smallrye.asyncapi.outputDirectory", defaultValue = "${project.build.directory}/generated/asyncapi", required = true)
+    private File outputDirectory;
+
+    /**
+     * The name of the documents without extension.
+     */
+    @Parameter(property = "smallrye.asyncapi.fileName", defaultValue = "asyncapi", required = true)
+    private String fileName;
+
+    /**
+     * The directory of the hash of the inputs and of the cached indexes of the dependencies.
+     */
+    @Parameter(property = "smallrye.asyncapi.cacheDirectory", defaultValue = "${project.build.directory}/asyncapi-cache", required = true)
+    private File cacheDirectory;
+
+    /**
+     * Configuration properties overriding those of the project, e.g. <code>mp.asyncapi.scan.packages</code>.
+     */
+    @Parameter
+    private Map<String, String> properties = new HashMap<>();
+
+    /**
+     * Generate the documents even if the inputs did not change.
+     */
+    @Parameter(property = "smallrye.asyncapi.force", defaultValue = "false")
+    private boolean force;
+
+    @Parameter(property = "smallrye.asyncapi.skip", defaultValue = "false")
+    private boolean skip;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        if (skip) {
+            getLog().info("Skipping AsyncAPI document generation");
+            return;
+        }
+        if (!classesDirectory.isDirectory()) {
+            getLog().info("No classes to generate the AsyncAPI document from in " + classesDirectory);
+            return;
+        }
+
+        Path classes = classesDirectory.toPath();
+        List<Path> dependencies = dependencies();
+        Path json = outputDirectory.toPath()
+                .resolve(fileName + ".json");
+        Path yaml = outputDirectory.toPath()
+                .resolve(fileName + ".yaml");
+        Path inputsFile = cacheDirectory.toPath()
+                .resolve(INPUTS_FILE);
+
+        try (URLClassLoader loader = new URLClassLoader(urls(classes, dependencies), getClass().getClassLoader())) {
+            Config config = new SmallRyeConfigBuilder().forClassLoader(loader)
+                    .addDefaultSources()
+                    .withSources(new PropertiesConfigSource(properties, "smallrye-asyncapi-maven-plugin",
+                            PROPERTIES_ORDINAL))
+                    .build();
+
+            String inputs = hash(classes, dependencies, config);
+            if (!force && Files.isRegularFile(json) && Files.isRegularFile(yaml) && Files.isRegularFile(inputsFile)
+                    && inputs.equals(new String(Files.readAllBytes(inputsFile), StandardCharsets.UTF_8))) {
+                getLog().info("AsyncAPI document is up to date");
+                return;
+            }
+
+            AsyncApiConfig asyncApiConfig = AsyncApiConfigImpl.fromConfig(config);
+            IndexView index = new ClasspathIndexer(asyncApiConfig, cacheDirectory.toPath()
+                    .resolve(INDEX_CACHE_DIRECTORY)).index(Collections.singletonList(classes), dependencies);
+
+            AsyncAPI model = generate(asyncApiConfig, index, loader);
+            if (model == null) {
+                getLog().warn("No AsyncAPI document generated for " + project.getArtifactId());
+                Files.deleteIfExists(json);
+                Files.deleteIfExists(yaml);
+                Files.deleteIfExists(inputsFile);
+                return;
+            }
+
+            write(json, AsyncApiSerializer.serializeToBytes(model, AsyncApiFormat.JSON));
+            write(yaml, AsyncApiSerializer.serializeToBytes(model, AsyncApiFormat.YAML));
+            write(inputsFile, inputs.getBytes(StandardCharsets.UTF_8));
+            getLog().info("Generated AsyncAPI document " + json + " and " + yaml);
+        } catch (IOException | UncheckedIOException e) {
+            throw new MojoExecutionException("Failed to generate the AsyncAPI document", e);
+        } catch (RuntimeException e) {
+            throw new MojoExecutionException("Failed to generate the AsyncAPI document: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Create the document with the class loader of the project as context class loader, so that classes and resources
+     * looked up by the scanners are those of the project.
+     */
+    private static AsyncAPI generate(AsyncApiConfig config, IndexView index, ClassLoader loader) {
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(loader);
+        try {
+            return AsyncApiProcessor.bootstrap(config, index, loader);
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    /**
+     * @return the jars of the compile and runtime dependencies, in the order of the class path
+     */
+    private List<Path> dependencies() {
+        List<Path> dependencies = new ArrayList<>();
+        for (Artifact artifact : project.getArtifacts()) {
+            File file = artifact.getFile();
+            if (file != null && file.isFile() && file.getName()
+                    .endsWith(".jar")) {
+                dependencies.add(file.toPath());
+            }
+        }
+        return dependencies;
+    }
+
+    private static URL[] urls(Path classes, List<Path> dependencies) throws MalformedURLException {
+        URL[] urls = new URL[dependencies.size() + 1];
+        urls[0] = classes.toUri()
+                .toURL();
+        for (int i = 0; i < dependencies.size(); i++) {
+            urls[i + 1] = dependencies.get(i)
+                    .toUri()
+                    .toURL();
+        }
+        return urls;
+    }
+
+    /**
+     * Hash the inputs of the generation: the paths and contents of all files of the classes directory, the paths, sizes
+     * and modification times of the dependencies, the AsyncAPI configuration, and the version of this plugin and the
+     * paths, sizes and modification times of its dependencies, which may contain scanners.
+     */
+    private String hash(Path classes, List<Path> dependencies, Config config) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        update(digest, plugin.getVersion());
+        for (Artifact artifact : plugin.getArtifacts()) {
+            File file = artifact.getFile();
+            if (file != null) {
+                update(digest, file.toPath());
+            }
+        }
+
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(classes)) {
+            files = walk.filter(Files::isRegularFile)
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        byte[] buffer = new byte[8192];
+        for (Path file : files) {
+            update(digest, classes.relativize(file)
+                    .toString());
+            try (InputStream stream = Files.newInputStream(file)) {
+                int read;
+                while ((read = stream.read(buffer)) > 0) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+        }
+
+        for (Path dependency : dependencies) {
+            update(digest, dependency);
+        }
+
+        for (String name : new TreeSet<>(names(config))) {
+            if (name.startsWith(CONFIG_PREFIX)) {
+                update(digest, name);
+                update(digest, config.getOptionalValue(name, String.class)
+                        .orElse(""));
+            }
+        }
+
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16))
+                    .append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    private static List<String> names(Config config) {
+        List<String> names = new ArrayList<>();
+        config.getPropertyNames()
+                .forEach(names::add);
+        return names;
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    /**
+     * Update the digest with the path, size and modification time of a file. A missing file, e.g. the classes
+     * directory of a module of the reactor not built yet, is hashed by its path only.
+     */
+    private static void update(MessageDigest digest, Path file) throws IOException {
+        update(digest, file.toString());
+        if (Files.isRegularFile(file)) {
+            update(digest, Long.toString(Files.size(file)));
+            update(digest, Long.toString(Files.getLastModifiedTime(file)
+                    .toMillis()));
+        }
+    }
+
+    /**
+     * Write the content to a temporary file first and move it to the target, so that concurrent readers never see a
+     * partially written file.
+     */
+    private static void write(Path target, byte[] content) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temporary = target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + ".tmp");
+        try {
+            Files.write(temporary, content);
+            try {
+                Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+}
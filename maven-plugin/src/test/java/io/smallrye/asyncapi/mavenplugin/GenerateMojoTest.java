@@ -0,0 +1,178 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.mavenplugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.apache.maven.project.MavenProject;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.smallrye.asyncapi.spec.annotations.AsyncAPI;
+import io.smallrye.asyncapi.spec.annotations.info.Info;
+
+public class GenerateMojoTest {
+
+    @AsyncAPI(asyncapi = "2.0.0", info = @Info(title = "Greetings", version = "1.0.0"), defaultContentType = "application/json")
+    public static class Greetings {
+    }
+
+    @AsyncAPI(asyncapi = "2.0.0", info = @Info(title = "Farewells", version = "1.0.0"), defaultContentType = "application/json")
+    public static class Farewells {
+    }
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Path classes;
+
+    private Path json;
+
+    private Path yaml;
+
+    private Path inputsFile;
+
+    private final List<String> messages = new ArrayList<>();
+
+    @Before
+    public void setUp() throws IOException {
+        classes = temporaryFolder.newFolder("classes")
+                .toPath();
+        Path outputDirectory = temporaryFolder.getRoot()
+                .toPath()
+                .resolve("generated");
+        Path cacheDirectory = temporaryFolder.getRoot()
+                .toPath()
+                .resolve("cache");
+        json = outputDirectory.resolve("asyncapi.json");
+        yaml = outputDirectory.resolve("asyncapi.yaml");
+        inputsFile = cacheDirectory.resolve("inputs.sha256");
+    }
+
+    @Test
+    public void testGenerate() throws Exception {
+        copy(Greetings.class);
+
+        execute(classes, false);
+
+        Assert.assertEquals("Generated AsyncAPI document " + json + " and " + yaml, lastMessage());
+        Assert.assertTrue(read(json).contains("\"title\" : \"Greetings\""));
+        Assert.assertTrue(read(yaml).contains("title: \"Greetings\""));
+        Assert.assertTrue(Files.isRegularFile(inputsFile));
+    }
+
+    @Test
+    public void testSkipUpToDate() throws Exception {
+        copy(Greetings.class);
+        execute(classes, false);
+        String inputs = read(inputsFile);
+
+        execute(classes, false);
+
+        Assert.assertEquals("AsyncAPI document is up to date", lastMessage());
+        Assert.assertEquals(inputs, read(inputsFile));
+
+        execute(classes, true);
+
+        Assert.assertEquals("Generated AsyncAPI document " + json + " and " + yaml, lastMessage());
+    }
+
+    @Test
+    public void testRegenerateAfterClassChange() throws Exception {
+        Path greetings = copy(Greetings.class);
+        execute(classes, false);
+        String inputs = read(inputsFile);
+
+        Files.delete(greetings);
+        copy(Farewells.class);
+        execute(classes, false);
+
+        Assert.assertEquals("Generated AsyncAPI document " + json + " and " + yaml, lastMessage());
+        Assert.assertNotEquals(inputs, read(inputsFile));
+        Assert.assertTrue(read(json).contains("\"title\" : \"Farewells\""));
+        Assert.assertFalse(read(json).contains("Greetings"));
+    }
+
+    private void execute(Path classesDirectory, boolean force) throws MojoExecutionException, ReflectiveOperationException {
+        PluginDescriptor plugin = new PluginDescriptor();
+        plugin.setVersion("test");
+        plugin.setArtifacts(Collections.emptyList());
+
+        GenerateMojo mojo = new GenerateMojo();
+        set(mojo, "project", new MavenProject());
+        set(mojo, "plugin", plugin);
+        set(mojo, "classesDirectory", classesDirectory.toFile());
+        set(mojo, "outputDirectory", json.getParent()
+                .toFile());
+        set(mojo, "fileName", "asyncapi");
+        set(mojo, "cacheDirectory", inputsFile.getParent()
+                .toFile());
+        set(mojo, "force", force);
+        mojo.setLog(new SystemStreamLog() {
+            @Override
+            public void info(CharSequence content) {
+                messages.add(content.toString());
+            }
+
+            @Override
+            public void warn(CharSequence content) {
+                messages.add(content.toString());
+            }
+        });
+        mojo.execute();
+    }
+
+    private String lastMessage() {
+        return messages.get(messages.size() - 1);
+    }
+
+    private Path copy(Class<?> type) throws IOException {
+        String path = type.getName()
+                .replace('.', '/') + ".class";
+        Path target = classes.resolve(path);
+        Files.createDirectories(target.getParent());
+        try (InputStream stream = type.getClassLoader()
+                .getResourceAsStream(path)) {
+            Files.copy(stream, target);
+        }
+        return target;
+    }
+
+    private static String read(Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+
+    private static void set(GenerateMojo mojo, String name, Object value) throws ReflectiveOperationException {
+        Field field = GenerateMojo.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(mojo, value);
+    }
+}
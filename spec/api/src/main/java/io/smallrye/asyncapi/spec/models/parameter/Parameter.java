@@ -17,6 +17,7 @@ package io.smallrye.asyncapi.spec.models.parameter;
 
 import io.smallrye.asyncapi.spec.models.Constructible;
 import io.smallrye.asyncapi.spec.models.Extensible;
+import io.smallrye.asyncapi.spec.models.Reference;
 import io.smallrye.asyncapi.spec.models.schema.Schema;
 
 /**
@@ -24,7 +25,7 @@ import io.smallrye.asyncapi.spec.models.schema.Schema;
  *
  * @see "https://www.asyncapi.com/docs/specifications/2.0.0#parameterObject"
  */
-public interface Parameter extends Constructible, Extensible<Parameter> {
+public interface Parameter extends Constructible, Extensible<Parameter>, Reference<Parameter> {
 
     /**
      * Returns the name of the parameter
@@ -35,7 +35,6 @@ import com.sun.net.httpserver.HttpHandler;
 import com.sun.net.httpserver.HttpServer;
 
 import io.restassured.RestAssured;
-import io.smallrye.asyncapi.core.api.AsyncApiDocument;
 import io.smallrye.asyncapi.core.runtime.AsyncApiFormat;
 import io.smallrye.asyncapi.core.runtime.io.AsyncApiSerializer;
 import io.smallrye.asyncapi.tck.utils.YamlToJsonFilter;
@@ -106,9 +105,9 @@ public abstract class BaseTckTest<T extends Arquillian> {
                 mediaType = "application/x-yaml";
             }
 
-            String response;
+            byte[] response;
             try {
-                response = AsyncApiSerializer.serialize(AsyncApiDocument.INSTANCE.get(), format);
+                response = AsyncApiSerializer.serializeToBytes(TckTestRunner.DOCUMENT.get(), format);
             } catch (Throwable e) {
                 e.printStackTrace();
                 t.getResponseHeaders().add("Content-Type", mediaType);
@@ -124,9 +123,9 @@ public abstract class BaseTckTest<T extends Arquillian> {
             }
 
             t.getResponseHeaders().add("Content-Type", mediaType);
-            t.sendResponseHeaders(200, response.length());
+            t.sendResponseHeaders(200, response.length);
             OutputStream os = t.getResponseBody();
-            os.write(response.getBytes());
+            os.write(response);
             os.close();
         }
     }
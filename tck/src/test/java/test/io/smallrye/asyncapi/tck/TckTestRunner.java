@@ -17,7 +17,8 @@
 package test.io.smallrye.asyncapi.tck;
 
 import java.io.File;
-import java.io.FileWriter;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
@@ -31,7 +32,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-import org.apache.commons.io.IOUtils;
 import org.jboss.arquillian.container.test.api.Deployment;
 import org.jboss.arquillian.testng.Arquillian;
 import org.jboss.jandex.IndexView;
@@ -70,6 +70,11 @@ public class TckTestRunner extends ParentRunner<ProxiedTckTest> {
 
     public static Map<Class, AsyncAPI> ASYNC_API_DOCS = new HashMap<>();
 
+    /**
+     * The document served to the TCK test currently running.
+     */
+    public static final AsyncApiDocument DOCUMENT = new AsyncApiDocument();
+
     /**
      * @param testClass
      * @throws InitializationError
@@ -102,9 +107,8 @@ public class TckTestRunner extends ParentRunner<ProxiedTckTest> {
                 parent.mkdir();
             }
             File file = new File(parent, testClass.getName() + ".json");
-            String content = AsyncApiSerializer.serialize(asyncAPI, AsyncApiFormat.JSON);
-            try (FileWriter writer = new FileWriter(file)) {
-                IOUtils.write(content, writer);
+            try (OutputStream stream = new FileOutputStream(file)) {
+                AsyncApiSerializer.serialize(asyncAPI, AsyncApiFormat.JSON, stream);
             }
         } catch (Exception e) {
             throw new InitializationError(e);
@@ -222,7 +226,7 @@ public class TckTestRunner extends ParentRunner<ProxiedTckTest> {
      */
     @Override
     protected void runChild(final ProxiedTckTest child, final RunNotifier notifier) {
-        AsyncApiDocument.INSTANCE.set(TckTestRunner.ASYNC_API_DOCS.get(child.getTest()
+        DOCUMENT.set(TckTestRunner.ASYNC_API_DOCS.get(child.getTest()
                 .getClass()));
 
         Description description = describeChild(child);
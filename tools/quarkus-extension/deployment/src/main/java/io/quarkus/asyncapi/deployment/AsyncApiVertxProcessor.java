@@ -17,19 +17,25 @@ package io.quarkus.asyncapi.deployment;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.eclipse.microprofile.config.Config;
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.jboss.jandex.CompositeIndex;
+import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
@@ -38,6 +44,8 @@ import io.quarkus.asyncapi.runtime.AsyncApiConstants;
 import io.quarkus.asyncapi.runtime.AsyncApiDocumentService;
 import io.quarkus.asyncapi.runtime.AsyncApiHandler;
 import io.quarkus.asyncapi.runtime.AsyncApiRecorder;
+import io.quarkus.bootstrap.app.ClassChangeInformation;
+import io.quarkus.deployment.ApplicationArchive;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
@@ -47,21 +55,28 @@ import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
+import io.quarkus.deployment.builditem.LiveReloadBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
+import io.quarkus.runtime.LaunchMode;
 import io.quarkus.vertx.http.deployment.HttpRootPathBuildItem;
 import io.quarkus.vertx.http.deployment.RouteBuildItem;
-import io.quarkus.vertx.http.runtime.HandlerType;
 import io.smallrye.asyncapi.core.api.AsyncApiConfig;
 import io.smallrye.asyncapi.core.api.AsyncApiConfigImpl;
 import io.smallrye.asyncapi.core.api.AsyncApiDocument;
+import io.smallrye.asyncapi.core.api.Instrumentation;
+import io.smallrye.asyncapi.core.api.util.ClassLoaderUtil;
 import io.smallrye.asyncapi.core.runtime.AsyncApiFormat;
 import io.smallrye.asyncapi.core.runtime.AsyncApiProcessor;
+import io.smallrye.asyncapi.core.runtime.AsyncApiRuntimeException;
 import io.smallrye.asyncapi.core.runtime.AsyncApiStaticFile;
+import io.smallrye.asyncapi.core.runtime.AsyncApiStaticFiles;
 import io.smallrye.asyncapi.core.runtime.io.AsyncApiSerializer;
 import io.smallrye.asyncapi.core.runtime.scanner.AnnotationScannerExtension;
 import io.smallrye.asyncapi.core.runtime.scanner.AsyncApiAnnotationScanner;
 import io.smallrye.asyncapi.core.runtime.scanner.FilteredIndexView;
+import io.smallrye.asyncapi.core.runtime.scanner.IncrementalScanState;
 import io.smallrye.asyncapi.spec.AASFilter;
 import io.smallrye.asyncapi.spec.models.AsyncAPI;
 
@@ -72,17 +87,9 @@ public class AsyncApiVertxProcessor {
 
     private static final String FEATURE = "smallrye-asyncapi";
 
-    private static final String META_INF_ASYNCAPI_YAML = "META-INF/asyncapi.yaml";
+    private static final String BUILD_REPORT = "asyncapi-build-report.json";
 
-    private static final String WEB_INF_CLASSES_META_INF_ASYNCAPI_YAML = "WEB-INF/classes/META-INF/asyncapi.yaml";
-
-    private static final String META_INF_ASYNCAPI_YML = "META-INF/asyncapi.yml";
-
-    private static final String WEB_INF_CLASSES_META_INF_ASYNCAPI_YML = "WEB-INF/classes/META-INF/asyncapi.yml";
-
-    private static final String META_INF_ASYNCAPI_JSON = "META-INF/asyncapi.json";
-
-    private static final String WEB_INF_CLASSES_META_INF_ASYNCAPI_JSON = "WEB-INF/classes/META-INF/asyncapi.json";
+    private static final String SCAN_CACHE = "asyncapi-scan-cache.bin";
 
     SmallRyeAsyncApiConfig asyncApiConfig;
 
@@ -94,19 +101,42 @@ public class AsyncApiVertxProcessor {
         return new FeatureBuildItem(FEATURE);
     }
 
+    /**
+     * Watch the static files, the directories of static files and every fragment the root archive contains in them.
+     * Adding or removing a fragment is noticed by the modification time of its directory.
+     */
     @BuildStep
-    List<HotDeploymentWatchedFileBuildItem> configFiles() {
-        return Stream
-                .of(META_INF_ASYNCAPI_YAML, WEB_INF_CLASSES_META_INF_ASYNCAPI_YAML, META_INF_ASYNCAPI_YML,
-                        WEB_INF_CLASSES_META_INF_ASYNCAPI_YML, META_INF_ASYNCAPI_JSON, WEB_INF_CLASSES_META_INF_ASYNCAPI_JSON)
+    List<HotDeploymentWatchedFileBuildItem> configFiles(ApplicationArchivesBuildItem archivesBuildItem) throws IOException {
+        List<String> locations = new ArrayList<>(AsyncApiStaticFiles.FILE_NAMES);
+        for (String directory : AsyncApiStaticFiles.DIRECTORIES) {
+            locations.add(directory);
+            for (Path staticFile : listStaticFiles(archivesBuildItem.getRootArchive(), directory)) {
+                locations.add(directory + '/' + staticFile.getFileName());
+            }
+        }
+        return locations.stream()
                 .map(HotDeploymentWatchedFileBuildItem::new)
                 .collect(Collectors.toList());
     }
 
     @BuildStep
-    @Record(ExecutionTime.STATIC_INIT)
+    @Record(ExecutionTime.RUNTIME_INIT)
     RouteBuildItem createHandler(AsyncApiRecorder recorder) {
-        return new RouteBuildItem("/asyncapi", new AsyncApiHandler(), HandlerType.BLOCKING);
+        if (asyncApiConfig.blockingHandler) {
+            return new RouteBuildItem.Builder().route("/asyncapi")
+                    .handler(new AsyncApiHandler())
+                    .blockingRoute()
+                    .build();
+        }
+        return new RouteBuildItem.Builder().route("/asyncapi")
+                .handler(recorder.handler())
+                .build();
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    void recordBuildTimeConfig(AsyncApiRecorder recorder) {
+        recorder.setBuildTimeConfig(AsyncApiDocumentService.documentConfig(ConfigProvider.getConfig()));
     }
 
     @BuildStep
@@ -131,21 +161,32 @@ public class AsyncApiVertxProcessor {
             BuildProducer<NativeImageResourceBuildItem> nativeImageResources,
             AsyncApiFilteredIndexViewBuildItem asyncApiFilteredIndexViewBuildItem,
             List<AddToAsyncAPIDefinitionBuildItem> asyncAPIBuildItems,
-            HttpRootPathBuildItem httpRootPathBuildItem, OutputTargetBuildItem out) throws Exception {
+            HttpRootPathBuildItem httpRootPathBuildItem, OutputTargetBuildItem out, LaunchModeBuildItem launchMode,
+            LiveReloadBuildItem liveReload) throws Exception {
 
         FilteredIndexView index = asyncApiFilteredIndexViewBuildItem.getIndex();
+        Instrumentation instrumentation = new Instrumentation();
 
-        AsyncAPI staticModel = generateStaticModel(archivesBuildItem);
-        AsyncAPI annotationModel = generateAnnotationModel(index, httpRootPathBuildItem);
+        AsyncAPI staticModel = generateStaticModel(archivesBuildItem, instrumentation);
+        AsyncAPI annotationModel = generateAnnotationModel(index, httpRootPathBuildItem, instrumentation,
+                launchMode.getLaunchMode() == LaunchMode.DEVELOPMENT && asyncApiConfig.incrementalScan ? liveReload
+                        : null,
+                asyncApiConfig.scanCache ? out.getOutputDirectory().resolve(SCAN_CACHE) : null);
 
-        AsyncApiDocument finalDocument = loadDocument(staticModel, annotationModel, asyncAPIBuildItems);
+        AsyncApiDocument finalDocument = loadDocument(staticModel, annotationModel, asyncAPIBuildItems, instrumentation);
 
         boolean shouldStore = asyncApiConfig.storeSchemaDirectory.isPresent();
         for (AsyncApiFormat format : AsyncApiFormat.values()) {
             String name = AsyncApiConstants.BASE_NAME + format;
 
-            byte[] schemaDocument = AsyncApiSerializer.serialize(finalDocument.get(), format)
-                    .getBytes(StandardCharsets.UTF_8);
+            byte[] schemaDocument;
+            Instrumentation.Measurement measurement = instrumentation
+                    .start(Instrumentation.PHASE_SERIALIZE_PREFIX + format.name().toLowerCase(Locale.ROOT));
+            try {
+                schemaDocument = AsyncApiSerializer.serializeToBytes(finalDocument.get(), format);
+            } finally {
+                measurement.close();
+            }
 
             resourceBuildItemBuildProducer.produce(new GeneratedResourceBuildItem(name, schemaDocument));
             nativeImageResources.produce(new NativeImageResourceBuildItem(name));
@@ -154,6 +195,17 @@ public class AsyncApiVertxProcessor {
                 storeGeneratedSchema(out, schemaDocument, format);
             }
         }
+
+        if (asyncApiConfig.buildReport) {
+            storeBuildReport(out, instrumentation);
+        }
+    }
+
+    private void storeBuildReport(OutputTargetBuildItem out, Instrumentation instrumentation) throws IOException {
+        Path file = out.getOutputDirectory().resolve(BUILD_REPORT);
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            instrumentation.writeReport(writer);
+        }
     }
 
     private void storeGeneratedSchema(OutputTargetBuildItem out, byte[] schemaDocument, AsyncApiFormat format)
@@ -179,18 +231,34 @@ public class AsyncApiVertxProcessor {
         Files.write(file, schemaDocument, StandardOpenOption.WRITE);
     }
 
-    private AsyncAPI generateStaticModel(ApplicationArchivesBuildItem archivesBuildItem) throws IOException {
-        Result result = findStaticModel(archivesBuildItem);
-        if (result != null) {
-            try (InputStream is = Files.newInputStream(result.path);
-                    AsyncApiStaticFile staticFile = new AsyncApiStaticFile(is, result.format)) {
-                return AsyncApiProcessor.modelFromStaticFile(staticFile);
-            }
+    private AsyncAPI generateStaticModel(ApplicationArchivesBuildItem archivesBuildItem, Instrumentation instrumentation)
+            throws IOException {
+        List<Path> staticFiles = findStaticFiles(archivesBuildItem);
+        if (staticFiles.isEmpty()) {
+            return null;
+        }
+
+        Instrumentation.Measurement measurement = instrumentation.start(Instrumentation.PHASE_STATIC_FILE);
+        try {
+            return AsyncApiStaticFiles.merge(staticFiles, AsyncApiVertxProcessor::parseStaticFile);
+        } finally {
+            measurement.close();
+        }
+    }
+
+    private static AsyncAPI parseStaticFile(Path path) {
+        try (InputStream is = Files.newInputStream(path);
+                AsyncApiStaticFile staticFile = new AsyncApiStaticFile(is,
+                        AsyncApiStaticFiles.formatOf(path.getFileName()
+                                .toString()))) {
+            return AsyncApiProcessor.modelFromStaticFile(staticFile);
+        } catch (IOException e) {
+            throw new AsyncApiRuntimeException(e);
         }
-        return null;
     }
 
-    private AsyncAPI generateAnnotationModel(IndexView indexView, HttpRootPathBuildItem httpRootPathBuildItem) {
+    private AsyncAPI generateAnnotationModel(IndexView indexView, HttpRootPathBuildItem httpRootPathBuildItem,
+            Instrumentation instrumentation, LiveReloadBuildItem liveReload, Path scanCache) throws IOException {
         Config config = ConfigProvider.getConfig();
         AsyncApiConfig asyncApiConfig = new AsyncApiConfigImpl(config);
 
@@ -202,72 +270,107 @@ public class AsyncApiVertxProcessor {
             extensions.add(new CustomPathExtension(defaultPath));
         }
 
-        AsyncApiAnnotationScanner asyncApiAnnotationScanner = new AsyncApiAnnotationScanner(asyncApiConfig, indexView,
-                extensions);
-        return asyncApiAnnotationScanner.scan(getScanners());
-    }
+        AsyncApiAnnotationScanner asyncApiAnnotationScanner = new AsyncApiAnnotationScanner(asyncApiConfig,
+                ClassLoaderUtil.getDefaultClassLoader(), indexView, extensions, instrumentation);
 
-    private Result findStaticModel(ApplicationArchivesBuildItem archivesBuildItem) {
-        // Check for the file in both META-INF and WEB-INF/classes/META-INF
-        AsyncApiFormat format = AsyncApiFormat.YAML;
-        Path resourcePath = archivesBuildItem.getRootArchive()
-                .getChildPath(META_INF_ASYNCAPI_YAML);
-
-        if (resourcePath == null) {
-            resourcePath = archivesBuildItem.getRootArchive()
-                    .getChildPath(WEB_INF_CLASSES_META_INF_ASYNCAPI_YAML);
+        if (liveReload == null && scanCache == null) {
+            return asyncApiAnnotationScanner.scan(getScanners());
         }
 
-        if (resourcePath == null) {
-            resourcePath = archivesBuildItem.getRootArchive()
-                    .getChildPath(META_INF_ASYNCAPI_YML);
+        IncrementalScanState state = liveReload != null ? liveReload.getContextObject(IncrementalScanState.class) : null;
+        Set<DotName> changedClasses = state != null ? getChangedClasses(liveReload) : null;
+        if (state == null && scanCache != null) {
+            state = IncrementalScanState.read(scanCache);
         }
-
-        if (resourcePath == null) {
-            resourcePath = archivesBuildItem.getRootArchive()
-                    .getChildPath(WEB_INF_CLASSES_META_INF_ASYNCAPI_YML);
+        if (state == null) {
+            state = new IncrementalScanState();
         }
-
-        if (resourcePath == null) {
-            resourcePath = archivesBuildItem.getRootArchive()
-                    .getChildPath(META_INF_ASYNCAPI_JSON);
-            format = AsyncApiFormat.JSON;
+        if (liveReload != null) {
+            liveReload.setContextObject(IncrementalScanState.class, state);
         }
 
-        if (resourcePath == null) {
-            resourcePath = archivesBuildItem.getRootArchive()
-                    .getChildPath(WEB_INF_CLASSES_META_INF_ASYNCAPI_JSON);
-            format = AsyncApiFormat.JSON;
+        AsyncAPI annotationModel = asyncApiAnnotationScanner.scanIncrementally(state, changedClasses, getScanners());
+
+        if (scanCache != null) {
+            state.write(scanCache);
         }
+        return annotationModel;
+    }
 
-        if (resourcePath == null) {
+    /**
+     * @return the classes changed, added or deleted since the previous build, or null if unknown or if any other
+     *         resource changed, e.g. the configuration the scanners depend on
+     */
+    private Set<DotName> getChangedClasses(LiveReloadBuildItem liveReload) {
+        ClassChangeInformation changeInformation = liveReload.getChangeInformation();
+        if (!liveReload.isLiveReload() || changeInformation == null || !liveReload.getChangedResources().isEmpty()) {
             return null;
         }
 
-        return new Result(format, resourcePath);
+        return Stream.of(changeInformation.getChangedClasses(), changeInformation.getAddedClasses(),
+                changeInformation.getDeletedClasses())
+                .flatMap(Set::stream)
+                .map(DotName::createSimple)
+                .collect(Collectors.toSet());
     }
 
-    static class Result {
+    /**
+     * Find the static files of the root archive first, then of the other application archives in the order of their
+     * paths, so that the merged model does not depend on the order the archives are discovered in.
+     */
+    private List<Path> findStaticFiles(ApplicationArchivesBuildItem archivesBuildItem) throws IOException {
+        List<ApplicationArchive> archives = new ArrayList<>();
+        archives.add(archivesBuildItem.getRootArchive());
+        archivesBuildItem.getApplicationArchives()
+                .stream()
+                .sorted(Comparator.comparing(archive -> archive.getPaths()
+                        .toString()))
+                .forEach(archives::add);
+
+        List<Path> staticFiles = new ArrayList<>();
+        for (ApplicationArchive archive : archives) {
+            for (String fileName : AsyncApiStaticFiles.FILE_NAMES) {
+                Path staticFile = archive.getChildPath(fileName);
+                if (staticFile != null) {
+                    staticFiles.add(staticFile);
+                }
+            }
 
-        final AsyncApiFormat format;
+            for (String directory : AsyncApiStaticFiles.DIRECTORIES) {
+                staticFiles.addAll(listStaticFiles(archive, directory));
+            }
+        }
+        return staticFiles;
+    }
 
-        final Path path;
+    /**
+     * @return the JSON and YAML files in a directory of an archive in the order of their names, empty if the archive
+     *         does not contain the directory
+     */
+    private static List<Path> listStaticFiles(ApplicationArchive archive, String directory) throws IOException {
+        Path staticDirectory = archive.getChildPath(directory);
+        if (staticDirectory == null || !Files.isDirectory(staticDirectory)) {
+            return Collections.emptyList();
+        }
 
-        Result(final AsyncApiFormat format, final Path path) {
-            this.format = format;
-            this.path = path;
+        try (Stream<Path> files = Files.list(staticDirectory)) {
+            return files.filter(file -> Files.isRegularFile(file) && AsyncApiStaticFiles.formatOf(file.getFileName()
+                    .toString()) != null)
+                    .sorted(Comparator.comparing(file -> file.getFileName()
+                            .toString()))
+                    .collect(Collectors.toList());
         }
     }
 
     private AsyncApiDocument loadDocument(AsyncAPI staticModel, AsyncAPI annotationModel,
-            List<AddToAsyncAPIDefinitionBuildItem> asyncAPIBuildItems) {
+            List<AddToAsyncAPIDefinitionBuildItem> asyncAPIBuildItems, Instrumentation instrumentation) {
         Config config = ConfigProvider.getConfig();
         AsyncApiConfig openApiConfig = new AsyncApiConfigImpl(config);
 
         AsyncAPI readerModel = AsyncApiProcessor.modelFromReader(openApiConfig, Thread.currentThread()
                 .getContextClassLoader());
 
-        AsyncApiDocument document = createDocument(openApiConfig);
+        AsyncApiDocument document = createDocument(openApiConfig).instrumentation(instrumentation);
         if (annotationModel != null) {
             document.modelFromAnnotations(annotationModel);
         }
@@ -285,10 +388,7 @@ public class AsyncApiVertxProcessor {
     }
 
     private AsyncApiDocument createDocument(AsyncApiConfig openApiConfig) {
-        AsyncApiDocument document = AsyncApiDocument.INSTANCE;
-        document.reset();
-        document.config(openApiConfig);
-        return document;
+        return new AsyncApiDocument(openApiConfig);
     }
 
     private AASFilter filter(AsyncApiConfig openApiConfig) {
@@ -36,4 +36,35 @@ public final class SmallRyeAsyncApiConfig {
      */
     @ConfigItem
     public Optional<Path> storeSchemaDirectory;
+
+    /**
+     * Whether the AsyncAPI document is served from a blocking worker route instead of the event loop. The blocking
+     * route looks the documents up on the first request rather than at startup.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean blockingHandler;
+
+    /**
+     * Whether to write a report of the time and memory spent in each phase of the document generation, along with the
+     * number of scanned classes, schemas and channels, to {@code asyncapi-build-report.json} in the build output
+     * directory.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean buildReport;
+
+    /**
+     * Whether live reloads in dev mode only scan the classes that changed since the previous build, and the classes
+     * depending on them, reusing what the other classes contributed to the document. Any change of a resource other
+     * than a class, e.g. of the configuration, causes all classes to be checked against the classes they depend on.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean incrementalScan;
+
+    /**
+     * Whether to keep what each class contributed to the document in {@code asyncapi-scan-cache.bin} in the build
+     * output directory, so that the next build only scans the classes that changed, or depend on classes that changed,
+     * since then.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean scanCache;
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2019 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkus.asyncapi.deployment;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.quarkus.asyncapi.runtime.AsyncApiHandler;
+import io.quarkus.asyncapi.runtime.AsyncApiRecorder;
+import io.quarkus.vertx.http.deployment.RouteBuildItem;
+import io.quarkus.vertx.http.runtime.HandlerType;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+
+public class AsyncApiVertxProcessorTest {
+
+    private final Handler<RoutingContext> preloadedHandler = RoutingContext::next;
+
+    private final AsyncApiRecorder recorder = new AsyncApiRecorder() {
+        @Override
+        public Handler<RoutingContext> handler() {
+            return preloadedHandler;
+        }
+    };
+
+    private Vertx vertx;
+
+    @Before
+    public void setUp() {
+        vertx = Vertx.vertx();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        CompletableFuture<Void> closed = new CompletableFuture<>();
+        vertx.close(result -> closed.complete(null));
+        closed.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testDefaultRouteRunsOnEventLoop() {
+        RouteBuildItem route = processor(false).createHandler(recorder);
+
+        Assert.assertEquals(HandlerType.NORMAL, route.getType());
+        Assert.assertSame(preloadedHandler, route.getHandler());
+        Assert.assertFalse(route.isFrameworkRoute());
+        Assert.assertEquals("/asyncapi", route.getRouteFunction()
+                .apply(Router.router(vertx))
+                .getPath());
+    }
+
+    @Test
+    public void testBlockingHandler() {
+        RouteBuildItem route = processor(true).createHandler(recorder);
+
+        Assert.assertEquals(HandlerType.BLOCKING, route.getType());
+        Assert.assertTrue(route.getHandler() instanceof AsyncApiHandler);
+        Assert.assertNotSame(preloadedHandler, route.getHandler());
+        Assert.assertFalse(route.isFrameworkRoute());
+        Assert.assertEquals("/asyncapi", route.getRouteFunction()
+                .apply(Router.router(vertx))
+                .getPath());
+    }
+
+    private static AsyncApiVertxProcessor processor(boolean blockingHandler) {
+        SmallRyeAsyncApiConfig config = new SmallRyeAsyncApiConfig();
+        config.blockingHandler = blockingHandler;
+
+        AsyncApiVertxProcessor processor = new AsyncApiVertxProcessor();
+        processor.asyncApiConfig = config;
+        return processor;
+    }
+}
@@ -15,10 +15,17 @@
  */
 package io.quarkus.asyncapi.runtime;
 
+import java.util.Map;
+
 public class AsyncApiConstants {
 
     public static volatile ClassLoader classLoader;
 
+    /**
+     * The AsyncAPI configuration the generated documents were created with, {@code null} if unknown.
+     */
+    public static volatile Map<String, String> buildTimeConfig;
+
     public static final String GENERATED_DOC_BASE = "quarkus-generated-asyncapi-doc.";
 
     public static final String BASE_NAME = "META-INF/" + GENERATED_DOC_BASE;
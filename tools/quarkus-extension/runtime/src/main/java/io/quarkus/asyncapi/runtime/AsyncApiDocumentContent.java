@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.quarkus.asyncapi.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * A serialized AsyncAPI document together with its precompressed variants and strong ETags. The buffers are computed
+ * once and shared by all requests, so they must not be modified.
+ */
+public final class AsyncApiDocumentContent {
+
+    public static final String ENCODING_GZIP = HttpHeaderUtil.ENCODING_GZIP;
+
+    private final Buffer identity;
+
+    private final Buffer gzip;
+
+    private final String etag;
+
+    private final String gzipEtag;
+
+    private AsyncApiDocumentContent(Buffer identity, Buffer gzip, String etag) {
+        this.identity = identity;
+        this.gzip = gzip;
+        this.etag = '"' + etag + '"';
+        this.gzipEtag = '"' + etag + '-' + ENCODING_GZIP + '"';
+    }
+
+    /**
+     * Computes the compressed variants and the ETag of the given document.
+     *
+     * @param document the serialized document
+     * @return the document content
+     * @throws IOException Errors in compressing the document
+     */
+    public static AsyncApiDocumentContent of(byte[] document) throws IOException {
+        Buffer gzip = Buffer.buffer(document.length / 4);
+        try (OutputStream stream = new GZIPOutputStream(new BufferOutputStream(gzip)) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            stream.write(document);
+        }
+
+        return new AsyncApiDocumentContent(Buffer.buffer(document), gzip, hash(document));
+    }
+
+    private static String hash(byte[] document) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(document);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param encoding the content coding, either {@code null} for the identity or {@link #ENCODING_GZIP}
+     * @return the document in the given content coding
+     */
+    public Buffer getBuffer(String encoding) {
+        return ENCODING_GZIP.equals(encoding) ? gzip : identity;
+    }
+
+    /**
+     * @param encoding the content coding, either {@code null} for the identity or {@link #ENCODING_GZIP}
+     * @return the strong ETag of the document in the given content coding
+     */
+    public String getEtag(String encoding) {
+        return ENCODING_GZIP.equals(encoding) ? gzipEtag : etag;
+    }
+
+    /**
+     * Checks an {@code If-None-Match} header against the ETags of this document. Any content coding matches, as the
+     * document itself is the same.
+     *
+     * @param ifNoneMatch value of the {@code If-None-Match} header, may be {@code null}
+     * @return {@code true} if the client already holds this document
+     */
+    public boolean matches(String ifNoneMatch) {
+        return HttpHeaderUtil.matches(ifNoneMatch, etag, gzipEtag);
+    }
+}
@@ -15,9 +15,14 @@
  */
 package io.quarkus.asyncapi.runtime;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
@@ -32,13 +37,42 @@ import io.smallrye.asyncapi.core.runtime.AsyncApiFormat;
 import io.smallrye.asyncapi.core.runtime.AsyncApiProcessor;
 import io.smallrye.asyncapi.core.runtime.AsyncApiStaticFile;
 import io.smallrye.asyncapi.core.runtime.io.AsyncApiSerializer;
+import io.smallrye.asyncapi.spec.AASConfig;
+import io.smallrye.asyncapi.spec.models.AsyncAPI;
+import io.vertx.core.buffer.Buffer;
 
 @ApplicationScoped
 public class AsyncApiDocumentService {
 
-    private byte[] jsonDocument;
+    private static final String CONFIG_PREFIX = "mp.asyncapi.";
 
-    private byte[] yamlDocument;
+    /**
+     * The properties the document depends on, looked up by name so that values set through sources naming them
+     * differently, such as environment variables, are found as well.
+     */
+    private static final List<String> DOCUMENT_PROPERTIES = Collections.unmodifiableList(Arrays.asList(
+            AASConfig.MODEL_READER,
+            AASConfig.FILTER,
+            AASConfig.SCAN_DISABLE,
+            AASConfig.SCAN_PACKAGES,
+            AASConfig.SCAN_CLASSES,
+            AASConfig.SCAN_EXCLUDE_PACKAGES,
+            AASConfig.SCAN_EXCLUDE_CLASSES,
+            io.smallrye.asyncapi.core.api.constants.AsyncApiConstants.VERSION,
+            io.smallrye.asyncapi.core.api.constants.AsyncApiConstants.INFO_TITLE,
+            io.smallrye.asyncapi.core.api.constants.AsyncApiConstants.INFO_VERSION,
+            io.smallrye.asyncapi.core.api.constants.AsyncApiConstants.INFO_DESCRIPTION,
+            io.smallrye.asyncapi.core.api.constants.AsyncApiConstants.INFO_TERMS,
+            io.smallrye.asyncapi.core.api.constants.AsyncApiConstants.INFO_CONTACT_EMAIL,
+            io.smallrye.asyncapi.core.api.constants.AsyncApiConstants.INFO_CONTACT_NAME,
+            io.smallrye.asyncapi.core.api.constants.AsyncApiConstants.INFO_CONTACT_URL,
+            io.smallrye.asyncapi.core.api.constants.AsyncApiConstants.INFO_LICENSE_NAME,
+            io.smallrye.asyncapi.core.api.constants.AsyncApiConstants.INFO_LICENSE_URL,
+            io.smallrye.asyncapi.core.api.constants.AsyncApiConstants.OPERATION_ID_STRAGEGY));
+
+    private AsyncApiDocumentContent jsonDocument;
+
+    private AsyncApiDocumentContent yamlDocument;
 
     @PostConstruct
     void create() throws IOException {
@@ -46,44 +80,131 @@ public class AsyncApiDocumentService {
         ClassLoader cl = AsyncApiConstants.classLoader == null ? Thread.currentThread().getContextClassLoader()
                 : AsyncApiConstants.classLoader;
 
-        try (InputStream is = cl.getResourceAsStream(AsyncApiConstants.BASE_NAME + AsyncApiFormat.JSON)) {
-            if (is != null) {
-                try (AsyncApiStaticFile staticFile = new AsyncApiStaticFile(is, AsyncApiFormat.JSON)) {
-                    Config config = ConfigProvider.getConfig();
-                    AsyncApiConfig openApiConfig = new AsyncApiConfigImpl(config);
-
-                    AsyncApiDocument document = AsyncApiDocument.INSTANCE;
-                    document.reset();
-                    document.config(openApiConfig);
-                    document.modelFromStaticFile(AsyncApiProcessor.modelFromStaticFile(staticFile));
-                    document.filter(AsyncApiProcessor.getFilter(openApiConfig, cl));
-                    document.initialize();
-
-                    this.jsonDocument = AsyncApiSerializer.serialize(document.get(), AsyncApiFormat.JSON)
-                            .getBytes(StandardCharsets.UTF_8);
-                    this.yamlDocument = AsyncApiSerializer.serialize(document.get(), AsyncApiFormat.YAML)
-                            .getBytes(StandardCharsets.UTF_8);
-                    document.reset();
-                    document = null;
-                }
-            } else {
-                throw new IOException("Could not find [" + AsyncApiConstants.BASE_NAME + AsyncApiFormat.JSON + "]");
+        create(ConfigProvider.getConfig(), cl);
+    }
+
+    void create(Config config, ClassLoader cl) throws IOException {
+        if (isBuildTimeConfig(config, AsyncApiConstants.buildTimeConfig)) {
+            // The generated documents were created with the same configuration, serve them as they are
+            this.jsonDocument = AsyncApiDocumentContent.of(readDocument(cl, AsyncApiFormat.JSON));
+            this.yamlDocument = AsyncApiDocumentContent.of(readDocument(cl, AsyncApiFormat.YAML));
+            return;
+        }
+
+        AsyncApiConfig openApiConfig = new AsyncApiConfigImpl(config);
+
+        try (InputStream is = openDocument(cl, AsyncApiFormat.JSON);
+                AsyncApiStaticFile staticFile = new AsyncApiStaticFile(is, AsyncApiFormat.JSON)) {
+            AsyncAPI document = new AsyncApiDocument(openApiConfig)
+                    .modelFromStaticFile(AsyncApiProcessor.modelFromStaticFile(staticFile))
+                    .filter(AsyncApiProcessor.getFilter(openApiConfig, cl))
+                    .initialize();
+
+            this.jsonDocument = AsyncApiDocumentContent
+                    .of(AsyncApiSerializer.serializeToBytes(document, AsyncApiFormat.JSON));
+            this.yamlDocument = AsyncApiDocumentContent
+                    .of(AsyncApiSerializer.serializeToBytes(document, AsyncApiFormat.YAML));
+        }
+    }
+
+    /**
+     * Returns the configuration properties the generated documents depend on, i.e. the known AsyncAPI properties and
+     * all other <code>mp.asyncapi.*</code> properties, so that the configuration at build time and at runtime can be
+     * compared.
+     *
+     * @param config the configuration
+     * @return the AsyncAPI properties, sorted by name
+     */
+    public static Map<String, String> documentConfig(Config config) {
+        Map<String, String> properties = new TreeMap<>();
+        for (String name : config.getPropertyNames()) {
+            if (name.startsWith(CONFIG_PREFIX)) {
+                put(config, name, properties);
             }
         }
+        for (String name : DOCUMENT_PROPERTIES) {
+            put(config, name, properties);
+        }
+        return properties;
+    }
+
+    /**
+     * Checks whether the runtime configuration resolves every property to the value it had at build time. The
+     * properties recorded at build time are looked up by name as well, so that an override through a source naming
+     * them differently, such as an environment variable, is not missed.
+     *
+     * @param config the runtime configuration
+     * @param buildTimeConfig the properties recorded at build time, may be {@code null}
+     * @return {@code true} if the generated documents can be served as they are
+     */
+    static boolean isBuildTimeConfig(Config config, Map<String, String> buildTimeConfig) {
+        if (buildTimeConfig == null) {
+            return false;
+        }
+        Map<String, String> properties = documentConfig(config);
+        for (String name : buildTimeConfig.keySet()) {
+            put(config, name, properties);
+        }
+        return properties.equals(buildTimeConfig);
+    }
+
+    private static void put(Config config, String name, Map<String, String> properties) {
+        config.getOptionalValue(name, String.class)
+                .ifPresent(value -> properties.put(name, value));
+    }
+
+    private static InputStream openDocument(ClassLoader cl, AsyncApiFormat format) throws IOException {
+        InputStream is = cl.getResourceAsStream(AsyncApiConstants.BASE_NAME + format);
+        if (is == null) {
+            throw new IOException("Could not find [" + AsyncApiConstants.BASE_NAME + format + "]");
+        }
+        return is;
+    }
+
+    private static byte[] readDocument(ClassLoader cl, AsyncApiFormat format) throws IOException {
+        try (InputStream is = openDocument(cl, format)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] chunk = new byte[8192];
+            int read;
+            while ((read = is.read(chunk)) != -1) {
+                out.write(chunk, 0, read);
+            }
+            return out.toByteArray();
+        }
     }
 
     public byte[] getJsonDocument() {
-        return jsonDocument;
+        return jsonDocument.getBuffer(null).getBytes();
     }
 
     public byte[] getYamlDocument() {
-        return yamlDocument;
+        return yamlDocument.getBuffer(null).getBytes();
     }
 
     public byte[] getDocument(AsyncApiFormat format) {
+        return getDocumentBuffer(format).getBytes();
+    }
+
+    /**
+     * Returns the serialized document without copying it. The returned buffer must not be modified.
+     *
+     * @param format the serialization format
+     * @return the serialized document
+     */
+    public Buffer getDocumentBuffer(AsyncApiFormat format) {
+        return getDocumentContent(format).getBuffer(null);
+    }
+
+    /**
+     * Returns the serialized document with its precompressed variants and ETags.
+     *
+     * @param format the serialization format
+     * @return the document content
+     */
+    public AsyncApiDocumentContent getDocumentContent(AsyncApiFormat format) {
         if (format.equals(AsyncApiFormat.JSON)) {
-            return getJsonDocument();
+            return jsonDocument;
         }
-        return getYamlDocument();
+        return yamlDocument;
     }
 }
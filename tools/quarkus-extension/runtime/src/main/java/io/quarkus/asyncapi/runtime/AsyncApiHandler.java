@@ -22,23 +22,34 @@ import java.util.Map;
 import io.quarkus.arc.Arc;
 import io.smallrye.asyncapi.core.runtime.AsyncApiFormat;
 import io.vertx.core.Handler;
-import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
 
 /**
- * Handler that serve the AsyncAPI document in either json or yaml format
+ * Handler that serve the AsyncAPI document in either json or yaml format.
+ * <p>
+ * A handler created with preloaded document contents never blocks and may run on the event loop. Without preloaded
+ * contents the {@link AsyncApiDocumentService} is looked up on the first request, so the handler has to be registered
+ * as a blocking route.
  */
 public class AsyncApiHandler implements Handler<RoutingContext> {
 
     private volatile AsyncApiDocumentService asyncApiDocumentService;
 
+    private final AsyncApiDocumentContent jsonDocument;
+
+    private final AsyncApiDocumentContent yamlDocument;
+
     private static final String ALLOWED_METHODS = "GET, HEAD, OPTIONS";
 
     private static final String QUERY_PARAM_FORMAT = "format";
 
+    private static final String CACHE_CONTROL = "no-cache";
+
+    private static final String VARY = "Accept, Accept-Encoding";
+
     private static final Map<String, String> RESPONSE_HEADERS = new HashMap<>();
 
     static {
@@ -50,6 +61,18 @@ public class AsyncApiHandler implements Handler<RoutingContext> {
     }
 
     public AsyncApiHandler() {
+        this(null, null);
+    }
+
+    /**
+     * Creates a handler serving the given, already loaded document contents.
+     *
+     * @param jsonDocument the JSON document content
+     * @param yamlDocument the YAML document content
+     */
+    public AsyncApiHandler(AsyncApiDocumentContent jsonDocument, AsyncApiDocumentContent yamlDocument) {
+        this.jsonDocument = jsonDocument;
+        this.yamlDocument = yamlDocument;
     }
 
     @Override
@@ -75,11 +98,34 @@ public class AsyncApiHandler implements Handler<RoutingContext> {
                 format = AsyncApiFormat.JSON;
             }
 
+            AsyncApiDocumentContent content = getDocumentContent(format);
+            String encoding = HttpHeaderUtil.acceptsGzip(req.headers().get("Accept-Encoding"))
+                    ? AsyncApiDocumentContent.ENCODING_GZIP
+                    : null;
+
             resp.headers().setAll(RESPONSE_HEADERS);
             resp.headers().set("Content-Type", format.getMimeType() + ";charset=UTF-8");
-            byte[] schemaDocument = getAsyncApiDocumentService().getDocument(format);
-            resp.end(Buffer.buffer(schemaDocument));
+            resp.headers().set("Cache-Control", CACHE_CONTROL);
+            resp.headers().set("Vary", VARY);
+            resp.headers().set("ETag", content.getEtag(encoding));
+
+            if (content.matches(req.headers().get("If-None-Match"))) {
+                resp.setStatusCode(304).end();
+                return;
+            }
+            if (encoding != null) {
+                resp.headers().set("Content-Encoding", encoding);
+            }
+            resp.end(content.getBuffer(encoding));
+        }
+    }
+
+    private AsyncApiDocumentContent getDocumentContent(AsyncApiFormat format) {
+        AsyncApiDocumentContent content = format.equals(AsyncApiFormat.JSON) ? jsonDocument : yamlDocument;
+        if (content == null) {
+            content = getAsyncApiDocumentService().getDocumentContent(format);
         }
+        return content;
     }
 
     private AsyncApiDocumentService getAsyncApiDocumentService() {
@@ -15,8 +15,14 @@
  */
 package io.quarkus.asyncapi.runtime;
 
+import java.util.Map;
+
+import io.quarkus.arc.Arc;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.smallrye.asyncapi.core.runtime.AsyncApiFormat;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
 
 @Recorder
 public class AsyncApiRecorder {
@@ -25,4 +31,20 @@ public class AsyncApiRecorder {
         AsyncApiConstants.classLoader = Thread.currentThread().getContextClassLoader();
         shutdownContext.addShutdownTask(() -> AsyncApiConstants.classLoader = null);
     }
+
+    public void setBuildTimeConfig(Map<String, String> config) {
+        AsyncApiConstants.buildTimeConfig = config;
+    }
+
+    /**
+     * Loads the AsyncAPI documents and creates a handler serving them without blocking, so it can run on the event
+     * loop.
+     *
+     * @return the non-blocking handler
+     */
+    public Handler<RoutingContext> handler() {
+        AsyncApiDocumentService documentService = Arc.container().instance(AsyncApiDocumentService.class).get();
+        return new AsyncApiHandler(documentService.getDocumentContent(AsyncApiFormat.JSON),
+                documentService.getDocumentContent(AsyncApiFormat.YAML));
+    }
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.quarkus.asyncapi.runtime;
+
+/**
+ * Evaluates the request headers of content negotiation and conditional requests for the handler serving the AsyncAPI
+ * document.
+ */
+final class HttpHeaderUtil {
+
+    /**
+     * The gzip content coding.
+     */
+    static final String ENCODING_GZIP = "gzip";
+
+    private HttpHeaderUtil() {
+    }
+
+    /**
+     * Checks whether the {@code Accept-Encoding} header allows a gzip encoded response, either by name or by the
+     * wildcard {@code *}. Codings with a quality of zero are refused. An entry naming gzip takes precedence over the
+     * wildcard, wherever either appears in the header.
+     *
+     * @param acceptEncoding value of the {@code Accept-Encoding} header, may be {@code null}
+     * @return {@code true} if the response may be gzip encoded
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean wildcard = false;
+        for (String coding : acceptEncoding.split(",")) {
+            int separator = coding.indexOf(';');
+            String name = (separator == -1 ? coding : coding.substring(0, separator)).trim();
+            boolean accepted = separator == -1 || !isZeroQuality(coding.substring(separator + 1));
+            if (name.equalsIgnoreCase(ENCODING_GZIP)) {
+                return accepted;
+            }
+            if (name.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        return wildcard;
+    }
+
+    private static boolean isZeroQuality(String parameters) {
+        for (String parameter : parameters.split(";")) {
+            String[] pair = parameter.trim().split("=", 2);
+            if (pair.length == 2 && pair[0].trim().equalsIgnoreCase("q")) {
+                try {
+                    return Double.parseDouble(pair[1].trim()) == 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks an {@code If-None-Match} header against the ETags of a resource. Weak tags are compared by their value and
+     * the wildcard {@code *} matches any resource.
+     *
+     * @param ifNoneMatch value of the {@code If-None-Match} header, may be {@code null}
+     * @param etags the ETags of the resource, e.g. one per content coding
+     * @return {@code true} if the client already holds the resource
+     */
+    static boolean matches(String ifNoneMatch, String... etags) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*")) {
+                return true;
+            }
+            for (String etag : etags) {
+                if (tag.equals(etag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
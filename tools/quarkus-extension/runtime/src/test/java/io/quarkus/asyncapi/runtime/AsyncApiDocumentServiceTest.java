@@ -0,0 +1,155 @@
+/*
+ * Copyright 2019 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkus.asyncapi.runtime;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.microprofile.config.Config;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.smallrye.asyncapi.core.runtime.AsyncApiFormat;
+import io.smallrye.config.EnvConfigSource;
+import io.smallrye.config.PropertiesConfigSource;
+import io.smallrye.config.SmallRyeConfigBuilder;
+
+public class AsyncApiDocumentServiceTest {
+
+    private static final String INFO_TITLE = io.smallrye.asyncapi.core.api.constants.AsyncApiConstants.INFO_TITLE;
+
+    private static final String JSON = "{\"asyncapi\":\"2.0.0\",\"info\":{\"title\":\"Build\",\"version\":\"1.0\"}}";
+
+    private static final String YAML = "asyncapi: 2.0.0\ninfo:\n  title: Build\n  version: \"1.0\"\n";
+
+    private Path directory;
+
+    private URLClassLoader classLoader;
+
+    @Before
+    public void writeDocuments() throws IOException {
+        directory = Files.createTempDirectory("asyncapi");
+        Path metaInf = Files.createDirectories(directory.resolve("META-INF"));
+        Files.write(metaInf.resolve(AsyncApiConstants.GENERATED_DOC_BASE + AsyncApiFormat.JSON),
+                JSON.getBytes(StandardCharsets.UTF_8));
+        Files.write(metaInf.resolve(AsyncApiConstants.GENERATED_DOC_BASE + AsyncApiFormat.YAML),
+                YAML.getBytes(StandardCharsets.UTF_8));
+        classLoader = new URLClassLoader(new URL[] { directory.toUri().toURL() }, null);
+    }
+
+    @After
+    public void deleteDocuments() throws IOException {
+        AsyncApiConstants.buildTimeConfig = null;
+        classLoader.close();
+        Files.walk(directory)
+                .sorted(Collections.reverseOrder())
+                .forEach(path -> path.toFile().delete());
+    }
+
+    @Test
+    public void testBuildTimeConfigServesGeneratedDocuments() throws IOException {
+        Map<String, String> properties = new HashMap<>();
+        properties.put(INFO_TITLE, "Build");
+        AsyncApiConstants.buildTimeConfig = AsyncApiDocumentService.documentConfig(config(properties));
+
+        AsyncApiDocumentService service = new AsyncApiDocumentService();
+        service.create(config(properties), classLoader);
+
+        Assert.assertEquals(JSON, new String(service.getJsonDocument(), StandardCharsets.UTF_8));
+        Assert.assertEquals(YAML, new String(service.getYamlDocument(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testRuntimeOnlyOverrideIsApplied() throws IOException {
+        AsyncApiConstants.buildTimeConfig = AsyncApiDocumentService.documentConfig(config(Collections.emptyMap()));
+
+        Map<String, String> properties = new HashMap<>();
+        properties.put(INFO_TITLE, "Runtime");
+        properties.put("quarkus.http.port", "8081");
+
+        AsyncApiDocumentService service = new AsyncApiDocumentService();
+        service.create(config(properties), classLoader);
+
+        String json = new String(service.getJsonDocument(), StandardCharsets.UTF_8);
+        String yaml = new String(service.getYamlDocument(), StandardCharsets.UTF_8);
+        Assert.assertTrue(json, json.contains("\"title\" : \"Runtime\""));
+        Assert.assertTrue(yaml, yaml.contains("title: \"Runtime\""));
+    }
+
+    @Test
+    public void testEnvironmentWithBuildTimeValueServesGeneratedDocuments() throws IOException {
+        Map<String, String> properties = new HashMap<>();
+        properties.put(INFO_TITLE, "Build");
+        AsyncApiConstants.buildTimeConfig = AsyncApiDocumentService.documentConfig(config(properties));
+
+        AsyncApiDocumentService service = new AsyncApiDocumentService();
+        service.create(environment("Build"), classLoader);
+
+        Assert.assertEquals(JSON, new String(service.getJsonDocument(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testEnvironmentOnlyOverrideIsApplied() throws IOException {
+        AsyncApiConstants.buildTimeConfig = AsyncApiDocumentService.documentConfig(config(Collections.emptyMap()));
+
+        AsyncApiDocumentService service = new AsyncApiDocumentService();
+        service.create(environment("Environment"), classLoader);
+
+        String json = new String(service.getJsonDocument(), StandardCharsets.UTF_8);
+        Assert.assertTrue(json, json.contains("\"title\" : \"Environment\""));
+    }
+
+    @Test
+    public void testDocumentConfigContainsAsyncApiPropertiesOnly() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put(INFO_TITLE, "Title");
+        properties.put("mp.asyncapi.filter", "org.acme.Filter");
+        properties.put("quarkus.http.port", "8081");
+
+        Map<String, String> documentConfig = AsyncApiDocumentService.documentConfig(config(properties));
+
+        Assert.assertEquals(2, documentConfig.size());
+        Assert.assertEquals("org.acme.Filter", documentConfig.get("mp.asyncapi.filter"));
+        Assert.assertEquals("Title", documentConfig.get(INFO_TITLE));
+    }
+
+    /**
+     * @return a configuration setting the info title through an environment variable, named as the variable would be
+     */
+    private static Config environment(String title) {
+        Map<String, String> variables = new HashMap<>();
+        variables.put(INFO_TITLE.replaceAll("[^A-Za-z0-9]", "_")
+                .toUpperCase(), title);
+        return new SmallRyeConfigBuilder()
+                .withSources(new EnvConfigSource(variables, 300))
+                .build();
+    }
+
+    private static Config config(Map<String, String> properties) {
+        return new SmallRyeConfigBuilder()
+                .withSources(new PropertiesConfigSource(properties, "test", 500))
+                .build();
+    }
+}
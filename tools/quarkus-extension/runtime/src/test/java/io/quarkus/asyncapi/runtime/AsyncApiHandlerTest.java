@@ -0,0 +1,184 @@
+/*
+ * Copyright 2019 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.quarkus.asyncapi.runtime;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.ext.web.Router;
+
+public class AsyncApiHandlerTest {
+
+    private static final String PATH = "/asyncapi";
+
+    private static final String JSON = "{\"asyncapi\":\"2.0.0\",\"info\":{\"title\":\"Greetings\",\"version\":\"1.0\"}}";
+
+    private static final String YAML = "asyncapi: 2.0.0\ninfo:\n  title: Greetings\n  version: \"1.0\"\n";
+
+    private AsyncApiDocumentContent jsonDocument;
+
+    private AsyncApiDocumentContent yamlDocument;
+
+    private Vertx vertx;
+
+    private int port;
+
+    @Before
+    public void setUp() throws Exception {
+        jsonDocument = AsyncApiDocumentContent.of(JSON.getBytes(StandardCharsets.UTF_8));
+        yamlDocument = AsyncApiDocumentContent.of(YAML.getBytes(StandardCharsets.UTF_8));
+
+        vertx = Vertx.vertx();
+        Router router = Router.router(vertx);
+        router.route(PATH).handler(new AsyncApiHandler(jsonDocument, yamlDocument));
+
+        CompletableFuture<HttpServer> server = new CompletableFuture<>();
+        vertx.createHttpServer()
+                .requestHandler(router)
+                .listen(0, result -> {
+                    if (result.succeeded()) {
+                        server.complete(result.result());
+                    } else {
+                        server.completeExceptionally(result.cause());
+                    }
+                });
+        port = server.get(10, TimeUnit.SECONDS)
+                .actualPort();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        CompletableFuture<Void> closed = new CompletableFuture<>();
+        vertx.close(result -> closed.complete(null));
+        closed.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testFormats() throws IOException {
+        HttpURLConnection yaml = request(PATH, null, null, null);
+        HttpURLConnection jsonByAccept = request(PATH, "application/json", null, null);
+        HttpURLConnection jsonByParameter = request(PATH + "?format=JSON", null, null, null);
+
+        Assert.assertEquals(200, yaml.getResponseCode());
+        Assert.assertEquals(YAML, read(yaml.getInputStream()));
+        Assert.assertEquals(yamlDocument.getEtag(null), yaml.getHeaderField("ETag"));
+        Assert.assertTrue(yaml.getHeaderField("Content-Type")
+                .startsWith("application/yaml"));
+
+        for (HttpURLConnection json : new HttpURLConnection[] { jsonByAccept, jsonByParameter }) {
+            Assert.assertEquals(200, json.getResponseCode());
+            Assert.assertEquals(JSON, read(json.getInputStream()));
+            Assert.assertEquals(jsonDocument.getEtag(null), json.getHeaderField("ETag"));
+            Assert.assertTrue(json.getHeaderField("Content-Type")
+                    .startsWith("application/json"));
+        }
+    }
+
+    @Test
+    public void testVary() throws IOException {
+        for (HttpURLConnection connection : new HttpURLConnection[] { request(PATH, null, null, null),
+                request(PATH, "application/json", "gzip", null),
+                request(PATH, null, null, yamlDocument.getEtag(null)) }) {
+            connection.getResponseCode();
+            Assert.assertEquals("Accept, Accept-Encoding", connection.getHeaderField("Vary"));
+            Assert.assertEquals("no-cache", connection.getHeaderField("Cache-Control"));
+        }
+    }
+
+    @Test
+    public void testGzip() throws IOException {
+        for (String acceptEncoding : new String[] { "gzip", "*", "br;q=1.0, gzip;q=0.5", "*;q=0, gzip" }) {
+            HttpURLConnection connection = request(PATH, null, acceptEncoding, null);
+
+            Assert.assertEquals(200, connection.getResponseCode());
+            Assert.assertEquals("gzip", connection.getHeaderField("Content-Encoding"));
+            Assert.assertEquals(yamlDocument.getEtag(AsyncApiDocumentContent.ENCODING_GZIP),
+                    connection.getHeaderField("ETag"));
+            Assert.assertEquals(YAML, read(new GZIPInputStream(connection.getInputStream())));
+        }
+    }
+
+    @Test
+    public void testIdentity() throws IOException {
+        for (String acceptEncoding : new String[] { null, "identity", "gzip;q=0", "*;q=0.0", "br", "*, gzip;q=0" }) {
+            HttpURLConnection connection = request(PATH, null, acceptEncoding, null);
+
+            Assert.assertEquals(200, connection.getResponseCode());
+            Assert.assertNull(connection.getHeaderField("Content-Encoding"));
+            Assert.assertEquals(yamlDocument.getEtag(null), connection.getHeaderField("ETag"));
+            Assert.assertEquals(YAML, read(connection.getInputStream()));
+        }
+    }
+
+    @Test
+    public void testNotModified() throws IOException {
+        String etag = yamlDocument.getEtag(null);
+        String gzipEtag = yamlDocument.getEtag(AsyncApiDocumentContent.ENCODING_GZIP);
+
+        HttpURLConnection notModified = request(PATH, null, null, etag);
+        Assert.assertEquals(304, notModified.getResponseCode());
+        Assert.assertEquals(etag, notModified.getHeaderField("ETag"));
+
+        Assert.assertEquals(304, request(PATH, null, "gzip", gzipEtag).getResponseCode());
+        Assert.assertEquals(304, request(PATH, null, "gzip", etag).getResponseCode());
+        Assert.assertEquals(304, request(PATH, null, null, "W/" + gzipEtag).getResponseCode());
+        Assert.assertEquals(304, request(PATH, null, null, "\"other\", " + etag).getResponseCode());
+        Assert.assertEquals(304, request(PATH, null, null, "*").getResponseCode());
+        Assert.assertEquals(200, request(PATH, null, null, "\"other\"").getResponseCode());
+        Assert.assertEquals(200, request(PATH, "application/json", null, etag).getResponseCode());
+    }
+
+    private HttpURLConnection request(String path, String accept, String acceptEncoding, String ifNoneMatch)
+            throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http", "localhost", port, path).openConnection();
+        if (accept != null) {
+            connection.setRequestProperty("Accept", accept);
+        }
+        if (acceptEncoding != null) {
+            connection.setRequestProperty("Accept-Encoding", acceptEncoding);
+        }
+        if (ifNoneMatch != null) {
+            connection.setRequestProperty("If-None-Match", ifNoneMatch);
+        }
+        return connection;
+    }
+
+    private static String read(InputStream stream) throws IOException {
+        try (InputStream in = stream) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                out.write(buffer, 0, read);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapiui.deployment;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Collects the ETags of the AsyncApi UI files and compresses them at build time, so that the static handler neither has
+ * to hash nor to compress files per request.
+ */
+final class AsyncApiUiAssets {
+
+    private static final List<String> COMPRESSIBLE_SUFFIXES = Arrays.asList(".html", ".js", ".mjs", ".css", ".json",
+            ".map", ".svg", ".txt", ".xml", ".yaml", ".yml", ".ico");
+
+    // Below this size the gzip header outweighs the savings
+    private static final int MIN_COMPRESSIBLE_SIZE = 256;
+
+    private final Map<String, String> etags = new HashMap<>();
+
+    private final Set<String> compressedFiles = new HashSet<>();
+
+    /**
+     * Adds a file.
+     *
+     * @param fileName name of the file relative to the final destination, separated by {@code /}
+     * @param content content of the file
+     * @return the gzip compressed content, or null if the file is not worth compressing
+     * @throws IOException Errors in compressing the content
+     */
+    byte[] add(String fileName, byte[] content) throws IOException {
+        etags.put(fileName, etag(content));
+
+        if (content.length < MIN_COMPRESSIBLE_SIZE || !isCompressible(fileName)) {
+            return null;
+        }
+
+        byte[] compressed = gzip(content);
+        if (compressed.length >= content.length) {
+            return null;
+        }
+        compressedFiles.add(fileName);
+        return compressed;
+    }
+
+    Map<String, String> getEtags() {
+        return Collections.unmodifiableMap(etags);
+    }
+
+    Set<String> getCompressedFiles() {
+        return Collections.unmodifiableSet(compressedFiles);
+    }
+
+    private static boolean isCompressible(String fileName) {
+        String lowerCase = fileName.toLowerCase(Locale.ROOT);
+        return COMPRESSIBLE_SUFFIXES.stream().anyMatch(lowerCase::endsWith);
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(content.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes) {
+            {
+                // Compressed once per build, so spend the time on the best ratio
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(content);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static String etag(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            StringBuilder etag = new StringBuilder("\"");
+            for (int i = 0; i < 16; i++) {
+                etag.append(String.format("%02x", digest[i]));
+            }
+            return etag.append('"').toString();
+        } catch (NoSuchAlgorithmException e) {
+            // Every implementation of the Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
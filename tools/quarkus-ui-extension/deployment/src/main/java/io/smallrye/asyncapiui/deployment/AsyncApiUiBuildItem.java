@@ -16,6 +16,9 @@
 
 package io.smallrye.asyncapiui.deployment;
 
+import java.util.Map;
+import java.util.Set;
+
 import io.quarkus.builder.item.SimpleBuildItem;
 
 public final class AsyncApiUiBuildItem extends SimpleBuildItem {
@@ -24,9 +27,16 @@ public final class AsyncApiUiBuildItem extends SimpleBuildItem {
 
     private final String asyncApiUiPath;
 
-    public AsyncApiUiBuildItem(String swaggerUiFinalDestination, String swaggerUiPath) {
+    private final Map<String, String> etags;
+
+    private final Set<String> compressedFiles;
+
+    public AsyncApiUiBuildItem(String swaggerUiFinalDestination, String swaggerUiPath, Map<String, String> etags,
+            Set<String> compressedFiles) {
         this.asyncApiUiFinalDestination = swaggerUiFinalDestination;
         this.asyncApiUiPath = swaggerUiPath;
+        this.etags = etags;
+        this.compressedFiles = compressedFiles;
     }
 
     public String getAsyncApiUiFinalDestination() {
@@ -36,4 +46,18 @@ public final class AsyncApiUiBuildItem extends SimpleBuildItem {
     public String getAsyncApiUiPath() {
         return asyncApiUiPath;
     }
+
+    /**
+     * @return the ETags of the files, by file name relative to the final destination
+     */
+    public Map<String, String> getEtags() {
+        return etags;
+    }
+
+    /**
+     * @return the names of the files with a gzip compressed variant, relative to the final destination
+     */
+    public Set<String> getCompressedFiles() {
+        return compressedFiles;
+    }
 }
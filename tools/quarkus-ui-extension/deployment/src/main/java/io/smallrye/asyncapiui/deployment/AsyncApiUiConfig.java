@@ -16,6 +16,9 @@
 
 package io.smallrye.asyncapiui.deployment;
 
+import java.util.Map;
+import java.util.Optional;
+
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigRoot;
 
@@ -37,4 +40,19 @@ public class AsyncApiUiConfig {
     @ConfigItem(defaultValue = "true")
     boolean alwaysInclude;
 
+    /**
+     * The URLs of further AsyncApi documents by name, e.g. of other services. If set, the UI lists the document of the
+     * application named {@code default} first, followed by these documents in the order of their names, and shows the
+     * selected one.
+     */
+    @ConfigItem
+    Map<String, String> urls;
+
+    /**
+     * The name of the document the UI shows first, {@code default} or a name of {@code urls}. By default the document
+     * of the application.
+     */
+    @ConfigItem
+    Optional<String> urlsPrimaryName;
+
 }
@@ -17,10 +17,12 @@
 package io.smallrye.asyncapiui.deployment;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -46,6 +48,7 @@ import io.smallrye.asyncapi.ui.IndexCreator;
 import io.smallrye.asyncapi.ui.Option;
 import io.smallrye.asyncapiui.runtime.AsyncApiUiRecorder;
 import io.smallrye.asyncapiui.runtime.AsyncApiUiRuntimeConfig;
+import io.smallrye.asyncapiui.runtime.AsyncApiUiStaticHandler;
 import io.vertx.core.Handler;
 import io.vertx.ext.web.RoutingContext;
 
@@ -125,8 +128,6 @@ public class AsyncApiUiProcessor {
                 WebJarUtil.updateFile(tempPath.resolve("index.html"),
                         generateIndexHtml(asyncApiPath, asyncapiUiPath, asyncApiUiConfig));
 
-                asyncapiUiBuildProducer.produce(new AsyncApiUiBuildItem(tempPath.toAbsolutePath()
-                        .toString(), nonApplicationRootPathBuildItem.adjustPath(asyncApiUiConfig.path)));
                 displayableEndpoints
                         .produce(new NotFoundPageDisplayableEndpointBuildItem(nonApplicationRootPathBuildItem.adjustPath(
                                 asyncApiUiConfig.path + "/"), "Async API UI"));
@@ -137,9 +138,15 @@ public class AsyncApiUiProcessor {
                     WebJarUtil.hotReloadBrandingChanges(curateOutcomeBuildItem, launchMode, artifact,
                             liveReloadBuildItem.getChangedResources());
                 }
+
+                AsyncApiUiAssets assets = compressForDevOrTest(tempPath);
+                asyncapiUiBuildProducer.produce(new AsyncApiUiBuildItem(tempPath.toAbsolutePath()
+                        .toString(), nonApplicationRootPathBuildItem.adjustPath(asyncApiUiConfig.path), assets.getEtags(),
+                        assets.getCompressedFiles()));
             } else {
                 Map<String, byte[]> files = WebJarUtil.copyResourcesForProduction(curateOutcomeBuildItem, artifact,
                         ASYNC_API_UI_WEBJAR_PREFIX);
+                AsyncApiUiAssets assets = new AsyncApiUiAssets();
                 for (Map.Entry<String, byte[]> file : files.entrySet()) {
                     String fileName = file.getKey();
                     // Make sure to only include the selected theme
@@ -149,13 +156,18 @@ public class AsyncApiUiProcessor {
                     } else {
                         content = file.getValue();
                     }
-                    fileName = ASYNC_API_UI_FINAL_DESTINATION + "/" + fileName;
-                    generatedResources.produce(new GeneratedResourceBuildItem(fileName, content));
-                    nativeImageResourceBuildItemBuildProducer.produce(new NativeImageResourceBuildItem(fileName));
-
+                    byte[] compressed = assets.add(fileName, content);
+                    if (compressed != null) {
+                        produceResource(generatedResources, nativeImageResourceBuildItemBuildProducer,
+                                ASYNC_API_UI_FINAL_DESTINATION + AsyncApiUiStaticHandler.COMPRESSED_SUFFIX + "/" + fileName,
+                                compressed);
+                    }
+                    produceResource(generatedResources, nativeImageResourceBuildItemBuildProducer,
+                            ASYNC_API_UI_FINAL_DESTINATION + "/" + fileName, content);
                 }
                 asyncapiUiBuildProducer.produce(new AsyncApiUiBuildItem(ASYNC_API_UI_FINAL_DESTINATION,
-                        nonApplicationRootPathBuildItem.adjustPath(asyncApiUiConfig.path)));
+                        nonApplicationRootPathBuildItem.adjustPath(asyncApiUiConfig.path), assets.getEtags(),
+                        assets.getCompressedFiles()));
             }
         }
     }
@@ -169,7 +181,8 @@ public class AsyncApiUiProcessor {
 
         if (shouldInclude(launchMode, asyncApiUiConfig)) {
             Handler<RoutingContext> handler = recorder.handler(finalDestinationBuildItem.getAsyncApiUiFinalDestination(),
-                    finalDestinationBuildItem.getAsyncApiUiPath(), runtimeConfig);
+                    finalDestinationBuildItem.getAsyncApiUiPath(), finalDestinationBuildItem.getEtags(),
+                    finalDestinationBuildItem.getCompressedFiles(), runtimeConfig);
 
             routes.produce(new RouteBuildItem.Builder().route(asyncApiUiConfig.path)
                     .handler(handler)
@@ -182,14 +195,50 @@ public class AsyncApiUiProcessor {
         }
     }
 
+    private void produceResource(BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResourceBuildItemBuildProducer, String fileName,
+            byte[] content) {
+        generatedResources.produce(new GeneratedResourceBuildItem(fileName, content));
+        nativeImageResourceBuildItemBuildProducer.produce(new NativeImageResourceBuildItem(fileName));
+    }
+
+    /**
+     * Compress the files copied for dev or test mode next to the copy, in the directory served to clients accepting
+     * gzip.
+     */
+    private AsyncApiUiAssets compressForDevOrTest(Path tempPath) throws IOException {
+        AsyncApiUiAssets assets = new AsyncApiUiAssets();
+        Path compressedPath = tempPath.resolveSibling(tempPath.getFileName() + AsyncApiUiStaticHandler.COMPRESSED_SUFFIX);
+
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(tempPath)) {
+            files = paths.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            Path relativePath = tempPath.relativize(file);
+            String fileName = relativePath.toString().replace(file.getFileSystem().getSeparator(), "/");
+            byte[] compressed = assets.add(fileName, Files.readAllBytes(file));
+            if (compressed != null) {
+                Path target = compressedPath.resolve(relativePath.toString());
+                Files.createDirectories(target.getParent());
+                Files.write(target, compressed);
+            }
+        }
+        return assets;
+    }
+
     private byte[] generateIndexHtml(String asyncApiPath, String swaggerUiPath, AsyncApiUiConfig swaggerUiConfig)
             throws IOException {
         Map<Option, String> options = new HashMap<>();
+        options.put(Option.url, asyncApiPath);
 
         Map<String, String> urlsMap = null;
-        options.put(Option.url, asyncApiPath);
+        if (swaggerUiConfig.urls != null && !swaggerUiConfig.urls.isEmpty()) {
+            // Listed after the document of the application
+            urlsMap = new TreeMap<>(swaggerUiConfig.urls);
+        }
 
-        return IndexCreator.createIndexHtml(urlsMap, null, options);
+        return IndexCreator.createIndexHtml(urlsMap, swaggerUiConfig.urlsPrimaryName.orElse(null), options);
     }
 
     private static boolean shouldInclude(LaunchModeBuildItem launchMode, AsyncApiUiConfig swaggerUiConfig) {
@@ -15,6 +15,9 @@
  */
 package io.smallrye.asyncapiui.runtime;
 
+import java.util.Map;
+import java.util.Set;
+
 import io.quarkus.runtime.annotations.Recorder;
 import io.vertx.core.Handler;
 import io.vertx.ext.web.RoutingContext;
@@ -23,9 +26,9 @@ import io.vertx.ext.web.RoutingContext;
 public class AsyncApiUiRecorder {
 
     public Handler<RoutingContext> handler(String swaggerUiFinalDestination, String swaggerUiPath,
-            AsyncApiUiRuntimeConfig runtimeConfig) {
+            Map<String, String> etags, Set<String> compressedFiles, AsyncApiUiRuntimeConfig runtimeConfig) {
         if (runtimeConfig.enable) {
-            return new AsyncApiUiStaticHandler(swaggerUiFinalDestination, swaggerUiPath);
+            return new AsyncApiUiStaticHandler(swaggerUiFinalDestination, swaggerUiPath, etags, compressedFiles);
         } else {
             return new AsyncApiUiNotFoundHandler();
         }
@@ -15,20 +15,57 @@
  */
 package io.smallrye.asyncapiui.runtime;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
 import io.vertx.core.Handler;
 import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.StaticHandler;
 
 /**
  * Handling static AsyncApi UI content
+ * <p>
+ * The files are served by a static handler created once, caching the file properties. Files whose name contains a
+ * content hash are cached by clients for a year, all other files are revalidated using the ETag computed at build time.
+ * Clients accepting gzip get the variant precompressed at build time, located under the same name below the
+ * {@link #COMPRESSED_SUFFIX compressed} destination.
  */
 public class AsyncApiUiStaticHandler implements Handler<RoutingContext> {
 
+    /**
+     * Suffix of the destination of the gzip compressed files.
+     */
+    public static final String COMPRESSED_SUFFIX = "-gzip";
+
+    private static final long HASHED_MAX_AGE_SECONDS = 365L * 24 * 60 * 60;
+
+    private static final String HASHED_CACHE_CONTROL = "public, max-age=" + HASHED_MAX_AGE_SECONDS + ", immutable";
+
+    private static final String REVALIDATE_CACHE_CONTROL = "no-cache";
+
+    private static final String INDEX_PAGE = "index.html";
+
+    private static final CharSequence VARY = HttpHeaders.createOptimized("vary");
+
+    // e.g. main.3f2a9c1b.js or chunk-5d41402abc4b2a76.css
+    private static final Pattern HASHED_FILE = Pattern.compile(".*[.-][0-9a-fA-F]{8,}\\.[^./]+");
+
     private String asyncApiUiFinalDestination;
 
     private String asyncapiUiPath;
 
+    private Map<String, String> etags = Collections.emptyMap();
+
+    private Set<String> compressedFiles = Collections.emptySet();
+
+    private volatile StaticHandler staticHandler;
+
+    private volatile StaticHandler compressedStaticHandler;
+
     public AsyncApiUiStaticHandler() {
     }
 
@@ -37,6 +74,13 @@ public class AsyncApiUiStaticHandler implements Handler<RoutingContext> {
         this.asyncapiUiPath = swaggerUiPath;
     }
 
+    public AsyncApiUiStaticHandler(String swaggerUiFinalDestination, String swaggerUiPath, Map<String, String> etags,
+            Set<String> compressedFiles) {
+        this(swaggerUiFinalDestination, swaggerUiPath);
+        this.etags = etags;
+        this.compressedFiles = compressedFiles;
+    }
+
     public String getAsyncApiUiFinalDestination() {
         return asyncApiUiFinalDestination;
     }
@@ -53,24 +97,111 @@ public class AsyncApiUiStaticHandler implements Handler<RoutingContext> {
         this.asyncapiUiPath = asyncapiUiPath;
     }
 
+    public Map<String, String> getEtags() {
+        return etags;
+    }
+
+    public void setEtags(Map<String, String> etags) {
+        this.etags = etags;
+    }
+
+    public Set<String> getCompressedFiles() {
+        return compressedFiles;
+    }
+
+    public void setCompressedFiles(Set<String> compressedFiles) {
+        this.compressedFiles = compressedFiles;
+    }
+
     @Override
     public void handle(RoutingContext event) {
-        StaticHandler staticHandler = StaticHandler.create()
-                .setAllowRootFileSystemAccess(true)
-                .setWebRoot(asyncApiUiFinalDestination)
-                .setDefaultContentEncoding("UTF-8");
-
         if (event.normalisedPath().length() == asyncapiUiPath.length()) {
             event.response().setStatusCode(302);
             event.response().headers().set(HttpHeaders.LOCATION, asyncapiUiPath + "/");
             event.response().end();
 
             return;
-        } else if (event.normalisedPath().length() == asyncapiUiPath.length() + 1) {
-            event.reroute(asyncapiUiPath + "/index.html");
+        }
+
+        String file = event.normalisedPath().substring(asyncapiUiPath.length() + 1);
+        if (file.isEmpty()) {
+            // Served as the index page by the static handler
+            file = INDEX_PAGE;
+        }
+        boolean compressed = compressedFiles.contains(file)
+                && HttpHeaderUtil.acceptsGzip(event.request().getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String etag = etags.get(file);
+        if (etag != null && compressed) {
+            etag = etag.substring(0, etag.length() - 1) + "-" + HttpHeaderUtil.ENCODING_GZIP + "\"";
+        }
+
+        if (etag != null && HttpHeaderUtil.matches(event.request().getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            HttpServerResponse response = event.response().setStatusCode(304);
+            setCacheHeaders(response, file, etag, compressed);
+            response.end();
             return;
         }
 
-        staticHandler.handle(event);
+        String finalFile = file;
+        String finalEtag = etag;
+        event.addHeadersEndHandler(v -> {
+            HttpServerResponse response = event.response();
+            int status = response.getStatusCode();
+            if (status == 200 || status == 206 || status == 304) {
+                // Replaces the cache control of the static handler
+                setCacheHeaders(response, finalFile, finalEtag, compressed);
+            }
+            if (compressed && (status == 200 || status == 206)) {
+                response.headers().set(HttpHeaders.CONTENT_ENCODING, HttpHeaderUtil.ENCODING_GZIP);
+            }
+        });
+
+        if (compressed) {
+            compressedStaticHandler().handle(event);
+        } else {
+            staticHandler().handle(event);
+        }
+    }
+
+    private void setCacheHeaders(HttpServerResponse response, String file, String etag, boolean compressed) {
+        response.headers().set(HttpHeaders.CACHE_CONTROL,
+                HASHED_FILE.matcher(file).matches() ? HASHED_CACHE_CONTROL : REVALIDATE_CACHE_CONTROL);
+        if (etag != null) {
+            response.headers().set(HttpHeaders.ETAG, etag);
+        }
+        if (compressedFiles.contains(file)) {
+            response.headers().set(VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+    }
+
+    private StaticHandler staticHandler() {
+        StaticHandler handler = staticHandler;
+        if (handler == null) {
+            // Concurrent requests may create another handler, either one can be used
+            handler = createStaticHandler(asyncApiUiFinalDestination);
+            staticHandler = handler;
+        }
+        return handler;
+    }
+
+    private StaticHandler compressedStaticHandler() {
+        StaticHandler handler = compressedStaticHandler;
+        if (handler == null) {
+            handler = createStaticHandler(asyncApiUiFinalDestination + COMPRESSED_SUFFIX);
+            compressedStaticHandler = handler;
+        }
+        return handler;
+    }
+
+    private static StaticHandler createStaticHandler(String webRoot) {
+        return StaticHandler.create()
+                .setAllowRootFileSystemAccess(true)
+                .setWebRoot(webRoot)
+                .setDefaultContentEncoding("UTF-8")
+                .setCachingEnabled(true)
+                // The files are generated at build time and only replaced together with this handler
+                .setFilesReadOnly(true)
+                .setIndexPage(INDEX_PAGE)
+                .setMaxAgeSeconds(HASHED_MAX_AGE_SECONDS);
     }
 }
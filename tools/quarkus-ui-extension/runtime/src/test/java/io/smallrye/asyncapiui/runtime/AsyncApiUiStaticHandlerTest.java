@@ -0,0 +1,206 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapiui.runtime;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.ext.web.Router;
+
+public class AsyncApiUiStaticHandlerTest {
+
+    private static final String PATH = "/asyncapi-ui";
+
+    private static final String INDEX = "<html>AsyncAPI UI</html>";
+
+    private static final String SCRIPT = "console.log('AsyncAPI UI');";
+
+    private static final String HASHED_SCRIPT = "main.3f2a9c1b.js";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private Vertx vertx;
+
+    private int port;
+
+    @Before
+    public void setUp() throws Exception {
+        Path destination = temporaryFolder.newFolder("asyncapi-ui").toPath();
+        Path compressedDestination = temporaryFolder.newFolder("asyncapi-ui" + AsyncApiUiStaticHandler.COMPRESSED_SUFFIX)
+                .toPath();
+        Files.write(destination.resolve("index.html"), INDEX.getBytes(StandardCharsets.UTF_8));
+        Files.write(compressedDestination.resolve("index.html"), gzip(INDEX));
+        Files.write(destination.resolve(HASHED_SCRIPT), SCRIPT.getBytes(StandardCharsets.UTF_8));
+
+        Map<String, String> etags = new HashMap<>();
+        etags.put("index.html", "\"index\"");
+        etags.put(HASHED_SCRIPT, "\"script\"");
+        Set<String> compressedFiles = new HashSet<>(Collections.singleton("index.html"));
+        AsyncApiUiStaticHandler handler = new AsyncApiUiStaticHandler(destination.toString(), PATH, etags,
+                compressedFiles);
+
+        vertx = Vertx.vertx();
+        Router router = Router.router(vertx);
+        router.route(PATH).handler(handler);
+        router.route(PATH + "/*").handler(handler);
+
+        CompletableFuture<HttpServer> server = new CompletableFuture<>();
+        vertx.createHttpServer()
+                .requestHandler(router)
+                .listen(0, result -> {
+                    if (result.succeeded()) {
+                        server.complete(result.result());
+                    } else {
+                        server.completeExceptionally(result.cause());
+                    }
+                });
+        port = server.get(10, TimeUnit.SECONDS)
+                .actualPort();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        CompletableFuture<Void> closed = new CompletableFuture<>();
+        vertx.close(result -> closed.complete(null));
+        closed.get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testRedirectToRoot() throws IOException {
+        HttpURLConnection connection = request(PATH, null, null);
+
+        Assert.assertEquals(302, connection.getResponseCode());
+        Assert.assertEquals(PATH + "/", connection.getHeaderField("Location"));
+    }
+
+    @Test
+    public void testRootServesIndexPage() throws IOException {
+        HttpURLConnection root = request(PATH + "/", null, null);
+        HttpURLConnection index = request(PATH + "/index.html", null, null);
+
+        for (HttpURLConnection connection : new HttpURLConnection[] { root, index }) {
+            Assert.assertEquals(200, connection.getResponseCode());
+            Assert.assertEquals(INDEX, read(connection.getInputStream()));
+            Assert.assertEquals("\"index\"", connection.getHeaderField("ETag"));
+            Assert.assertEquals("no-cache", connection.getHeaderField("Cache-Control"));
+            Assert.assertEquals("accept-encoding", connection.getHeaderField("Vary")
+                    .toLowerCase());
+            Assert.assertNull(connection.getHeaderField("Content-Encoding"));
+        }
+    }
+
+    @Test
+    public void testRootServesCompressedIndexPage() throws IOException {
+        for (String acceptEncoding : new String[] { "gzip", "*", "br;q=1.0, gzip;q=0.5", "*;q=0, gzip" }) {
+            HttpURLConnection connection = request(PATH + "/", acceptEncoding, null);
+
+            Assert.assertEquals(200, connection.getResponseCode());
+            Assert.assertEquals("gzip", connection.getHeaderField("Content-Encoding"));
+            Assert.assertEquals("\"index-gzip\"", connection.getHeaderField("ETag"));
+            Assert.assertEquals(INDEX, read(new GZIPInputStream(connection.getInputStream())));
+        }
+    }
+
+    @Test
+    public void testRefusedGzipServesIdentity() throws IOException {
+        for (String acceptEncoding : new String[] { "gzip;q=0", "*;q=0.0", "br", "*, gzip;q=0" }) {
+            HttpURLConnection connection = request(PATH + "/", acceptEncoding, null);
+
+            Assert.assertEquals(200, connection.getResponseCode());
+            Assert.assertNull(connection.getHeaderField("Content-Encoding"));
+            Assert.assertEquals(INDEX, read(connection.getInputStream()));
+        }
+    }
+
+    @Test
+    public void testNotModified() throws IOException {
+        Assert.assertEquals(304, request(PATH + "/", null, "\"index\"").getResponseCode());
+        Assert.assertEquals(304, request(PATH + "/", "gzip", "W/\"index-gzip\"").getResponseCode());
+        Assert.assertEquals(304, request(PATH + "/", null, "*").getResponseCode());
+        Assert.assertEquals(304, request(PATH + "/index.html", "*", "\"other\", \"index-gzip\"").getResponseCode());
+        Assert.assertEquals(200, request(PATH + "/", null, "\"other\"").getResponseCode());
+    }
+
+    @Test
+    public void testHashedFileIsImmutable() throws IOException {
+        HttpURLConnection connection = request(PATH + "/" + HASHED_SCRIPT, "gzip", null);
+
+        Assert.assertEquals(200, connection.getResponseCode());
+        Assert.assertEquals(SCRIPT, read(connection.getInputStream()));
+        Assert.assertEquals("\"script\"", connection.getHeaderField("ETag"));
+        Assert.assertTrue(connection.getHeaderField("Cache-Control")
+                .contains("immutable"));
+        Assert.assertNull(connection.getHeaderField("Content-Encoding"));
+    }
+
+    private HttpURLConnection request(String path, String acceptEncoding, String ifNoneMatch) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http", "localhost", port, path).openConnection();
+        connection.setInstanceFollowRedirects(false);
+        if (acceptEncoding != null) {
+            connection.setRequestProperty("Accept-Encoding", acceptEncoding);
+        }
+        if (ifNoneMatch != null) {
+            connection.setRequestProperty("If-None-Match", ifNoneMatch);
+        }
+        return connection;
+    }
+
+    private static String read(InputStream stream) throws IOException {
+        try (InputStream in = stream) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                out.write(buffer, 0, read);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static byte[] gzip(String content) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+}
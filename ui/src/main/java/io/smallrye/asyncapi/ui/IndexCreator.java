@@ -15,74 +15,124 @@
  */
 package io.smallrye.asyncapi.ui;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.StringWriter;
-import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 public class IndexCreator {
 
-    private static final String VAR_BEGIN = "${";
+    /**
+     * Name of the document of the application if further documents are listed.
+     */
+    public static final String DEFAULT_NAME = "default";
 
-    private static final String VAR_END = "}";
+    private static final String TEMPLATE = "template/index.html";
+
+    private static final char LINE_SEPARATOR = 0x2028;
+
+    private static final char PARAGRAPH_SEPARATOR = 0x2029;
+
+    private static volatile IndexTemplate template;
 
     private IndexCreator() {
     }
 
+    /**
+     * Creates the index page of the UI.
+     * <p>
+     * The document of the {@link Option#url} option is the document of the application. If further documents are
+     * given, the page lists the document of the application named {@link #DEFAULT_NAME} first, followed by the further
+     * documents, unless one of them has the same URL or name.
+     *
+     * @param urls further documents to choose from by name, in the order to list them, or null to only show the
+     *        document of the {@link Option#url} option
+     * @param urlsPrimaryName name of the document to show first, the first document if null
+     * @param options the values of the template options, an option mapped to null removes its lines
+     * @return the page encoded in UTF-8
+     * @throws IOException Errors in reading the template
+     */
     public static byte[] createIndexHtml(Map<String, String> urls, String urlsPrimaryName, Map<Option, String> options)
             throws IOException {
-        try (InputStream input = IndexCreator.class.getClassLoader()
-                .getResourceAsStream("template/index.html");
-                InputStreamReader streamreader = new InputStreamReader(input, StandardCharsets.UTF_8);
-                BufferedReader reader = new BufferedReader(streamreader);
-                StringWriter writer = new StringWriter()) {
-
-            String str;
-            while ((str = reader.readLine()) != null) {
-                str = replace(str, urls, urlsPrimaryName, options);
-                if (str != null) {
-                    writer.write(str + "\n");
-                }
+        Map<Option, String> values = new EnumMap<>(Option.class);
+        if (options != null) {
+            values.putAll(options);
+        }
+
+        if (urls != null && !urls.isEmpty()) {
+            Map<String, String> documents = new LinkedHashMap<>();
+            String url = values.get(Option.url);
+            if (url != null && !urls.containsKey(DEFAULT_NAME) && !urls.containsValue(url)) {
+                documents.put(DEFAULT_NAME, url);
             }
-            String result = writer.toString();
-            return result.getBytes(StandardCharsets.UTF_8);
+            documents.putAll(urls);
+
+            String primaryName = urlsPrimaryName != null && documents.containsKey(urlsPrimaryName) ? urlsPrimaryName
+                    : documents.keySet().iterator().next();
+            values.put(Option.url, documents.get(primaryName));
+            values.putIfAbsent(Option.urls, toJson(documents));
+            values.putIfAbsent(Option.urlsPrimaryName, toJson(primaryName));
+        } else {
+            values.putIfAbsent(Option.urls, "[]");
+            values.putIfAbsent(Option.urlsPrimaryName, "null");
         }
-    }
 
-    private static String replace(String line, Map<String, String> urls, String urlsPrimaryName, Map<Option, String> options) {
-        if (line.contains(VAR_BEGIN)) {
-            Option variableOption = getVariable(line);
-            if (variableOption != null) {
-                if (options != null && options.containsKey(variableOption)) {
-                    String replacement = options.get(variableOption);
+        return template().render(values);
+    }
 
-                    if (replacement == null) {
-                        // You want to remove this line
-                        return null;
-                    } else {
-                        // Some properties can be boolean or String, if String we need to add '
-                        replacement = replacement.trim();
+    private static IndexTemplate template() throws IOException {
+        IndexTemplate compiled = template;
+        if (compiled == null) {
+            // Concurrent callers may compile the template twice, both results are equal
+            compiled = IndexTemplate.compile(TEMPLATE);
+            template = compiled;
+        }
+        return compiled;
+    }
 
-                        line = line.replace(VAR_BEGIN + variableOption + VAR_END, replacement);
-                    }
-                }
-                // Check if there is more variables
-                return replace(line, urls, urlsPrimaryName, options);
+    /**
+     * @return the documents as JSON array of objects with name and url, safe to be embedded in a script element
+     */
+    private static String toJson(Map<String, String> urls) {
+        StringBuilder json = new StringBuilder("[");
+        for (Iterator<Map.Entry<String, String>> entries = urls.entrySet().iterator(); entries.hasNext();) {
+            Map.Entry<String, String> entry = entries.next();
+            json.append("{\"name\":").append(toJson(entry.getKey()))
+                    .append(",\"url\":").append(toJson(entry.getValue()))
+                    .append('}');
+            if (entries.hasNext()) {
+                json.append(',');
             }
         }
-        return line;
+        return json.append(']').toString();
     }
 
-    private static Option getVariable(String line) {
-        try {
-            String stringValue = line.substring(line.indexOf(VAR_BEGIN) + 2, line.indexOf(VAR_END));
-            return Option.valueOf(stringValue);
-        } catch (IllegalArgumentException iae) {
-            // Quitly fall through (maybe you want the var there ?)
-            return null;
+    private static String toJson(String value) {
+        if (value == null) {
+            return "null";
+        }
+
+        StringBuilder json = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                default:
+                    // Also escapes characters ending a script element or a JavaScript line
+                    if (c < 0x20 || c == '<' || c == '>' || c == '&' || c == LINE_SEPARATOR || c == PARAGRAPH_SEPARATOR) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                    break;
+            }
         }
+        return json.append('"').toString();
     }
 }
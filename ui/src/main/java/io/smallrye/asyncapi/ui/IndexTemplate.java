@@ -0,0 +1,235 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.ui;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A template compiled into lines of literal and placeholder segments.
+ * <p>
+ * A placeholder is written as <code>${option}</code>, with the name of an {@link Option}. It is replaced by the trimmed
+ * value of the option, escaped for HTML if the placeholder starts a quoted attribute value. A line is removed if any of
+ * its options is mapped to null, and a placeholder of an option that is not mapped is kept as it is. Instances are
+ * immutable and can be rendered concurrently.
+ */
+final class IndexTemplate {
+
+    private static final String VAR_BEGIN = "${";
+
+    private static final String VAR_END = "}";
+
+    private static final byte[] LINE_SEPARATOR = { '\n' };
+
+    private final List<Line> lines;
+
+    private final int literalLength;
+
+    private IndexTemplate(List<Line> lines) {
+        this.lines = lines;
+        int length = 0;
+        for (Line line : lines) {
+            for (Segment segment : line.segments) {
+                length += segment.literal != null ? segment.literal.length : 0;
+            }
+            length += LINE_SEPARATOR.length;
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Compiles a template read from the class path.
+     *
+     * @param resource name of the resource
+     * @return the compiled template
+     * @throws IOException Errors in reading the template
+     */
+    static IndexTemplate compile(String resource) throws IOException {
+        InputStream input = IndexTemplate.class.getClassLoader().getResourceAsStream(resource);
+        if (input == null) {
+            throw new IOException("Template not found: " + resource);
+        }
+
+        List<Line> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(compileLine(line));
+            }
+        }
+        return new IndexTemplate(Collections.unmodifiableList(lines));
+    }
+
+    private static Line compileLine(String line) {
+        List<Segment> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int position = 0;
+
+        while (position < line.length()) {
+            int begin = line.indexOf(VAR_BEGIN, position);
+            int end = begin < 0 ? -1 : line.indexOf(VAR_END, begin + VAR_BEGIN.length());
+            if (end < 0) {
+                break;
+            }
+
+            literal.append(line, position, begin);
+            Option option = option(line.substring(begin + VAR_BEGIN.length(), end));
+            if (option != null) {
+                if (literal.length() > 0) {
+                    segments.add(Segment.literal(literal.toString()));
+                    literal.setLength(0);
+                }
+                segments.add(Segment.placeholder(option, isAttributeValue(line, begin)));
+            } else {
+                // Not an option, maybe you want the var there
+                literal.append(line, begin, end + VAR_END.length());
+            }
+            position = end + VAR_END.length();
+        }
+
+        literal.append(line, position, line.length());
+        if (literal.length() > 0) {
+            segments.add(Segment.literal(literal.toString()));
+        }
+        return new Line(segments);
+    }
+
+    /**
+     * @return whether the placeholder at the given position starts a quoted attribute value
+     */
+    private static boolean isAttributeValue(String line, int begin) {
+        return line.startsWith("=\"", begin - 2) || line.startsWith("='", begin - 2);
+    }
+
+    private static Option option(String name) {
+        for (Option option : Option.values()) {
+            if (option.name().equals(name)) {
+                return option;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Renders the template.
+     *
+     * @param options the values of the placeholders
+     * @return the rendered template encoded in UTF-8
+     */
+    byte[] render(Map<Option, String> options) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(literalLength + 256);
+
+        for (Line line : lines) {
+            if (!line.isRemoved(options)) {
+                for (Segment segment : line.segments) {
+                    byte[] bytes = segment.literal;
+                    if (bytes == null) {
+                        String value = options.get(segment.option);
+                        if (value == null) {
+                            value = VAR_BEGIN + segment.option + VAR_END;
+                        } else if (segment.attribute) {
+                            value = escapeAttribute(value.trim());
+                        } else {
+                            value = value.trim();
+                        }
+                        bytes = value.getBytes(StandardCharsets.UTF_8);
+                    }
+                    out.write(bytes, 0, bytes.length);
+                }
+                out.write(LINE_SEPARATOR, 0, LINE_SEPARATOR.length);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static String escapeAttribute(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 16);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&':
+                    escaped.append("&amp;");
+                    break;
+                case '"':
+                    escaped.append("&quot;");
+                    break;
+                case '\'':
+                    escaped.append("&#39;");
+                    break;
+                case '<':
+                    escaped.append("&lt;");
+                    break;
+                case '>':
+                    escaped.append("&gt;");
+                    break;
+                default:
+                    escaped.append(c);
+                    break;
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static final class Line {
+
+        final List<Segment> segments;
+
+        Line(List<Segment> segments) {
+            this.segments = segments;
+        }
+
+        boolean isRemoved(Map<Option, String> options) {
+            for (Segment segment : segments) {
+                if (segment.option != null && options.containsKey(segment.option)
+                        && options.get(segment.option) == null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class Segment {
+
+        final byte[] literal;
+
+        final Option option;
+
+        final boolean attribute;
+
+        private Segment(byte[] literal, Option option, boolean attribute) {
+            this.literal = literal;
+            this.option = option;
+            this.attribute = attribute;
+        }
+
+        static Segment literal(String literal) {
+            return new Segment(literal.getBytes(StandardCharsets.UTF_8), null, false);
+        }
+
+        static Segment placeholder(Option option, boolean attribute) {
+            return new Segment(null, option, attribute);
+        }
+    }
+}
@@ -16,5 +16,7 @@
 package io.smallrye.asyncapi.ui;
 
 public enum Option {
-    url
+    url,
+    urls,
+    urlsPrimaryName
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) open knowledge GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+package io.smallrye.asyncapi.ui;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IndexCreatorTest {
+
+    private static final String URL = "/asyncapi";
+
+    @Test
+    public void testSingleUrl() throws IOException {
+        String html = createIndexHtml(null, null, URL);
+
+        Assert.assertTrue(html.contains("schemaUrl=\"/asyncapi\""));
+        Assert.assertTrue(html.contains("var urls = [];"));
+        Assert.assertTrue(html.contains("var primaryName = null;"));
+    }
+
+    @Test
+    public void testMultipleUrlsListDocumentOfApplicationFirst() throws IOException {
+        Map<String, String> urls = new TreeMap<>();
+        urls.put("b", "/b");
+        urls.put("a", "/a");
+
+        String html = createIndexHtml(urls, null, URL);
+
+        Assert.assertTrue(html.contains("schemaUrl=\"/asyncapi\""));
+        Assert.assertTrue(html.contains("var urls = [{\"name\":\"default\",\"url\":\"/asyncapi\"},"
+                + "{\"name\":\"a\",\"url\":\"/a\"},{\"name\":\"b\",\"url\":\"/b\"}];"));
+        Assert.assertTrue(html.contains("var primaryName = \"default\";"));
+    }
+
+    @Test
+    public void testMultipleUrlsWithPrimaryName() throws IOException {
+        Map<String, String> urls = new TreeMap<>();
+        urls.put("b", "/b");
+        urls.put("a", "/a");
+
+        String html = createIndexHtml(urls, "b", URL);
+
+        Assert.assertTrue(html.contains("schemaUrl=\"/b\""));
+        Assert.assertTrue(html.contains("{\"name\":\"default\",\"url\":\"/asyncapi\"}"));
+        Assert.assertTrue(html.contains("var primaryName = \"b\";"));
+    }
+
+    @Test
+    public void testMultipleUrlsContainingDocumentOfApplication() throws IOException {
+        Map<String, String> urls = new TreeMap<>();
+        urls.put("app", URL);
+        urls.put("other", "/other");
+
+        String html = createIndexHtml(urls, "unknown", URL);
+
+        Assert.assertTrue(html.contains("schemaUrl=\"/asyncapi\""));
+        Assert.assertTrue(html.contains("var urls = [{\"name\":\"app\",\"url\":\"/asyncapi\"},"
+                + "{\"name\":\"other\",\"url\":\"/other\"}];"));
+        Assert.assertTrue(html.contains("var primaryName = \"app\";"));
+    }
+
+    @Test
+    public void testUrlIsEscapedInAttribute() throws IOException {
+        String html = createIndexHtml(null, null, "/asyncapi?a=1&b=\"><script>'");
+
+        Assert.assertTrue(html.contains("schemaUrl=\"/asyncapi?a=1&amp;b=&quot;&gt;&lt;script&gt;&#39;\""));
+        Assert.assertFalse(html.contains("<script>'"));
+    }
+
+    private static String createIndexHtml(Map<String, String> urls, String urlsPrimaryName, String url)
+            throws IOException {
+        Map<Option, String> options = new EnumMap<>(Option.class);
+        options.put(Option.url, url);
+        return new String(IndexCreator.createIndexHtml(urls, urlsPrimaryName, options), StandardCharsets.UTF_8);
+    }
+}